@@ -0,0 +1,17 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Position of a status message in the keyset pagination of the latest status messages.
+ *
+ * @param startDate    the start date of the status message, or the empty string if it has none
+ * @param permissionId the permission ID of the status message
+ */
+public record LatestStatusCursor(
+        @JsonProperty String startDate,
+        @JsonProperty String permissionId
+) {}
@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Filters the latest status messages, null values match all status messages.
+ *
+ * @param country           the country as shown in the admin console, without the coding scheme prefix
+ * @param regionConnectorId the ID of the region connector
+ * @param status            the status of the permission request
+ */
+public record LatestStatusFilter(
+        @Nullable String country,
+        @Nullable String regionConnectorId,
+        @Nullable String status
+) {}
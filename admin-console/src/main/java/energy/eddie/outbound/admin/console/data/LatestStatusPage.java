@@ -0,0 +1,24 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * A page of the latest status messages.
+ *
+ * @param content        the status messages of the page
+ * @param next           the cursor to request the next page with, or null if this is the last page
+ * @param totalElements  the number of status messages matching the filter, or null if it was not requested
+ * @param totalEstimated if the number of status messages is estimated by the database
+ */
+public record LatestStatusPage(
+        @JsonProperty List<StatusMessageDTO> content,
+        @JsonProperty @Nullable LatestStatusCursor next,
+        @JsonProperty @Nullable Long totalElements,
+        @JsonProperty boolean totalEstimated
+) {}
@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import jakarta.annotation.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the latest status message of each permission request from the {@code latest_status} table, which is maintained
+ * by {@link StatusMessageRepository#saveWithLatestStatus(StatusMessage)}.
+ * Pages are read with keyset pagination ordered by start date and permission ID, newest first, so that reading a page
+ * takes the same time regardless of its position.
+ * Status messages without a start date are sorted last, by treating their start date as the empty string, which is
+ * smaller than any other start date.
+ * Each filter is backed by an index that continues with the start date and permission ID.
+ */
+@Repository
+public class LatestStatusRepository {
+    private static final String COLUMNS = """
+            permission_id, region_connector_id, data_need_id, country, dso, creation_date, start_date, end_date, status,
+            description, reason""";
+    /**
+     * The start date as used by the indexes, so that status messages without start date can be paginated as well.
+     */
+    private static final String START_DATE = "COALESCE(start_date, '')";
+    private static final Pattern ESTIMATED_ROWS = Pattern.compile("rows=(\\d+)");
+    private static final RowMapper<StatusMessage> ROW_MAPPER = (rs, rowNum) -> new StatusMessage(
+            rs.getString("permission_id"),
+            rs.getString("region_connector_id"),
+            rs.getString("data_need_id"),
+            rs.getString("country"),
+            rs.getString("dso"),
+            rs.getString("creation_date"),
+            rs.getString("start_date"),
+            rs.getString("end_date"),
+            rs.getString("status"),
+            rs.getString("description"),
+            rs.getString("reason")
+    );
+    private final JdbcTemplate jdbcTemplate;
+
+    public LatestStatusRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the latest status messages that match the filter, ordered by start date and permission ID descending.
+     *
+     * @param filter the filter, empty values match all status messages
+     * @param after  the start date and permission ID of the last status message of the previous page, or null for the
+     *               first page, the start date is empty if the status message has none
+     * @param limit  the maximum number of status messages
+     * @return the status messages of the page
+     */
+    public List<StatusMessage> findPage(LatestStatusFilter filter, @Nullable LatestStatusCursor after, int limit) {
+        var sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM admin_console.latest_status");
+        var args = new ArrayList<>();
+        var conditions = where(filter, args);
+        if (after != null) {
+            conditions.add("(" + START_DATE + ", permission_id) < (?, ?)");
+            args.add(after.startDate());
+            args.add(after.permissionId());
+        }
+        appendConditions(sql, conditions);
+        sql.append(" ORDER BY ").append(START_DATE).append(" DESC, permission_id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Counts the latest status messages that match the filter exactly, which requires reading all matching entries of
+     * the index of the filter.
+     */
+    public long count(LatestStatusFilter filter) {
+        var sql = new StringBuilder("SELECT count(*) FROM admin_console.latest_status");
+        var args = new ArrayList<>();
+        appendConditions(sql, where(filter, args));
+        var count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Estimates the number of latest status messages that match the filter from the statistics of the query planner,
+     * without reading the table.
+     */
+    public long estimateCount(LatestStatusFilter filter) {
+        var sql = new StringBuilder("EXPLAIN SELECT 1 FROM admin_console.latest_status");
+        var args = new ArrayList<>();
+        appendConditions(sql, where(filter, args));
+        var plan = jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray());
+        if (plan.isEmpty()) {
+            return 0;
+        }
+        var matcher = ESTIMATED_ROWS.matcher(plan.getFirst());
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static List<String> where(LatestStatusFilter filter, List<Object> args) {
+        var conditions = new ArrayList<String>();
+        if (filter.country() != null) {
+            // Countries are stored with the coding scheme prefix, for example NAT for Austria
+            conditions.add("country IN (?, ?)");
+            args.add(filter.country());
+            args.add("N" + filter.country());
+        }
+        if (filter.regionConnectorId() != null) {
+            conditions.add("region_connector_id = ?");
+            args.add(filter.regionConnectorId());
+        }
+        if (filter.status() != null) {
+            // The status of the permission request is stored in the description column
+            conditions.add("description = ?");
+            args.add(filter.status());
+        }
+        return conditions;
+    }
+
+    private static void appendConditions(StringBuilder sql, List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+}
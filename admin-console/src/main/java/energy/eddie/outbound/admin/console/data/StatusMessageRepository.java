@@ -6,38 +6,80 @@ package energy.eddie.outbound.admin.console.data;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * Stores all status messages, and maintains the latest status message of each permission request in the
+ * {@code latest_status} table, so that reading the current state of all permission requests does not have to aggregate
+ * all status messages.
+ * Queries that filter or paginate the latest status messages by start date are provided by the
+ * {@link LatestStatusRepository}.
+ */
 @Repository
 public interface StatusMessageRepository extends JpaRepository<StatusMessage, Long> {
     @Query(value = """
-        SELECT * FROM (
-            SELECT DISTINCT ON (permission_id) *
-            FROM admin_console.status_messages
-            ORDER BY permission_id, creation_date DESC, id DESC
-        ) AS latest_status_message ORDER BY creation_date DESC, id DESC;
+        SELECT status_message_id AS id, permission_id, region_connector_id, data_need_id, country, dso, creation_date,
+               start_date, end_date, status, description, reason
+        FROM admin_console.latest_status
+        ORDER BY creation_date DESC, status_message_id DESC;
     """, nativeQuery = true)
     List<StatusMessage> findLatestStatusMessageForAllPermissions();
 
     @Query(value = """
-        WITH latest_status_message AS (
-            SELECT DISTINCT ON (permission_id) *
-            FROM admin_console.status_messages
-            ORDER BY permission_id, creation_date DESC, id DESC
-        )
-        SELECT * FROM latest_status_message
-        ORDER BY creation_date DESC, id DESC;
+        SELECT status_message_id AS id, permission_id, region_connector_id, data_need_id, country, dso, creation_date,
+               start_date, end_date, status, description, reason
+        FROM admin_console.latest_status
+        ORDER BY creation_date DESC, status_message_id DESC
     """, countQuery = """
-        SELECT count(*) FROM (
-              SELECT DISTINCT ON (permission_id) *
-              FROM admin_console.status_messages
-              ORDER BY permission_id, creation_date DESC, id DESC
-        );
+        SELECT count(*) FROM admin_console.latest_status;
     """, nativeQuery = true)
     Page<StatusMessage> findLatestStatusMessageForPaginatedPermissions(Pageable pageable);
 
     List<StatusMessage> findByPermissionIdOrderByCreationDateDescIdDesc(String permissionId);
+
+    /**
+     * Replaces the latest status message of the permission request with the given status message, unless the latest
+     * status message was created after it.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO admin_console.latest_status (permission_id, status_message_id, region_connector_id, data_need_id,
+                                                 country, dso, creation_date, start_date, end_date, status,
+                                                 description, reason)
+        SELECT permission_id, id, region_connector_id, data_need_id, country, dso, creation_date, start_date, end_date,
+               status, description, reason
+        FROM admin_console.status_messages
+        WHERE id = :id
+        ON CONFLICT (permission_id) DO UPDATE
+            SET status_message_id   = EXCLUDED.status_message_id,
+                region_connector_id = EXCLUDED.region_connector_id,
+                data_need_id        = EXCLUDED.data_need_id,
+                country             = EXCLUDED.country,
+                dso                 = EXCLUDED.dso,
+                creation_date       = EXCLUDED.creation_date,
+                start_date          = EXCLUDED.start_date,
+                end_date            = EXCLUDED.end_date,
+                status              = EXCLUDED.status,
+                description         = EXCLUDED.description,
+                reason              = EXCLUDED.reason
+            WHERE (COALESCE(EXCLUDED.creation_date, ''), EXCLUDED.status_message_id)
+                      > (COALESCE(latest_status.creation_date, ''), latest_status.status_message_id)
+    """, nativeQuery = true)
+    void updateLatestStatus(@Param("id") long statusMessageId);
+
+    /**
+     * Saves the status message and updates the latest status of its permission request in the same transaction.
+     */
+    @Transactional
+    default StatusMessage saveWithLatestStatus(StatusMessage statusMessage) {
+        var saved = save(statusMessage);
+        updateLatestStatus(saved.getId());
+        return saved;
+    }
 }
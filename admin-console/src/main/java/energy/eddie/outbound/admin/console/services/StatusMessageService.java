@@ -38,7 +38,7 @@ public class StatusMessageService {
     void processMessage(PermissionEnvelope message) {
         try {
             StatusMessage statusMessage = createStatusMessage(message.getPermissionMarketDocument());
-            statusMessageRepository.save(statusMessage);
+            statusMessageRepository.saveWithLatestStatus(statusMessage);
             LOGGER.debug("Saved status message with MRID: {}", message.getPermissionMarketDocument().getMRID());
         } catch (Exception ex) {
             LOGGER.error("Error saving status message: {}", ex.getMessage(), ex);
@@ -4,11 +4,16 @@
 package energy.eddie.outbound.admin.console.web;
 
 import energy.eddie.cim.v0_82.pmd.StatusTypeList;
+import energy.eddie.outbound.admin.console.data.LatestStatusCursor;
+import energy.eddie.outbound.admin.console.data.LatestStatusFilter;
+import energy.eddie.outbound.admin.console.data.LatestStatusPage;
+import energy.eddie.outbound.admin.console.data.LatestStatusRepository;
 import energy.eddie.outbound.admin.console.data.StatusMessage;
 import energy.eddie.outbound.admin.console.data.StatusMessageDTO;
 import energy.eddie.outbound.admin.console.data.StatusMessageRepository;
 import energy.eddie.outbound.admin.console.services.RetransmissionAdminConsoleOutboundConnector;
 import energy.eddie.outbound.admin.console.services.TerminationAdminConsoleConnector;
+import jakarta.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -25,23 +30,28 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
 
 import static energy.eddie.outbound.admin.console.config.AdminConsoleSecurityConfig.ADMIN_CONSOLE_BASE_URL;
 
 @Controller
 public class HomeController {
 
+    private static final int MAX_PAGE_SIZE = 5000;
     private final StatusMessageRepository statusMessageRepository;
+    private final LatestStatusRepository latestStatusRepository;
     private final TerminationAdminConsoleConnector terminationConnector;
     private final RetransmissionAdminConsoleOutboundConnector retransmissionConnector;
 
     @Autowired
     public HomeController(
             StatusMessageRepository statusMessageRepository,
+            LatestStatusRepository latestStatusRepository,
             TerminationAdminConsoleConnector terminationConnector,
             RetransmissionAdminConsoleOutboundConnector retransmissionConnector
     ) {
         this.statusMessageRepository = statusMessageRepository;
+        this.latestStatusRepository = latestStatusRepository;
         this.terminationConnector = terminationConnector;
         this.retransmissionConnector = retransmissionConnector;
     }
@@ -61,6 +71,48 @@ public class HomeController {
                 .map(HomeController::dtoFromStatusMessage)));
     }
 
+    /**
+     * Returns the latest status messages ordered by start date and permission ID descending, using keyset pagination.
+     * The next page is requested with the start date and permission ID of the {@link LatestStatusPage#next() cursor}.
+     *
+     * @param count how the total number of matching status messages is determined, exact counts have to read all
+     *              matching entries of an index, estimated counts and no counts take constant time
+     */
+    @GetMapping(value = "/statusMessages", params = "limit")
+    public ResponseEntity<LatestStatusPage> statusMessagesKeyset(
+            @RequestParam int limit,
+            @RequestParam(required = false) @Nullable String afterStartDate,
+            @RequestParam(required = false) @Nullable String afterPermissionId,
+            @RequestParam(required = false) @Nullable String country,
+            @RequestParam(required = false) @Nullable String regionConnectorId,
+            @RequestParam(required = false) @Nullable String status,
+            @RequestParam(defaultValue = "ESTIMATED") CountMode count
+    ) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE || (afterStartDate == null) != (afterPermissionId == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var filter = new LatestStatusFilter(country, regionConnectorId, status);
+        var after = afterStartDate == null || afterPermissionId == null
+                ? null
+                : new LatestStatusCursor(afterStartDate, afterPermissionId);
+        var statusMessages = latestStatusRepository.findPage(filter, after, limit);
+        LatestStatusCursor next = null;
+        if (statusMessages.size() == limit) {
+            var last = statusMessages.getLast();
+            next = new LatestStatusCursor(Objects.requireNonNullElse(last.getStartDate(), ""),
+                                          last.getPermissionId());
+        }
+        Long total = switch (count) {
+            case EXACT -> latestStatusRepository.count(filter);
+            case ESTIMATED -> latestStatusRepository.estimateCount(filter);
+            case NONE -> null;
+        };
+        var content = statusMessages.stream()
+                                    .map(HomeController::dtoFromStatusMessage)
+                                    .toList();
+        return ResponseEntity.ok(new LatestStatusPage(content, next, total, count == CountMode.ESTIMATED));
+    }
+
     @GetMapping("/statusMessages/{permissionId}")
     public ResponseEntity<List<StatusMessageDTO>> getStatusMessages(@PathVariable String permissionId) {
         var statusMessages = statusMessageRepository.findByPermissionIdOrderByCreationDateDescIdDesc(permissionId);
@@ -148,4 +200,10 @@ public class HomeController {
                 cimStatus,
                 statusMessage.getReason());
     }
-}
\ No newline at end of file
+
+    public enum CountMode {
+        EXACT,
+        ESTIMATED,
+        NONE
+    }
+}
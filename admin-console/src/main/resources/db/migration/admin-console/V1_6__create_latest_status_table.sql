@@ -0,0 +1,48 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+-- Contains the latest status message of each permission request, maintained on insert by the status message service
+CREATE TABLE latest_status
+(
+    permission_id       VARCHAR(255) PRIMARY KEY,
+    status_message_id   INTEGER      NOT NULL,
+    region_connector_id VARCHAR(255),
+    data_need_id        VARCHAR(36),
+    country             VARCHAR(255),
+    dso                 VARCHAR(255),
+    creation_date       VARCHAR(255),
+    start_date          VARCHAR(255),
+    end_date            VARCHAR(255),
+    status              VARCHAR(255),
+    description         VARCHAR(36),
+    reason              TEXT
+);
+
+CREATE INDEX status_messages_permission_id_idx ON status_messages (permission_id, creation_date, id);
+
+INSERT INTO latest_status (permission_id, status_message_id, region_connector_id, data_need_id, country, dso,
+                           creation_date, start_date, end_date, status, description, reason)
+SELECT DISTINCT ON (permission_id) permission_id,
+                                   id,
+                                   region_connector_id,
+                                   data_need_id,
+                                   country,
+                                   dso,
+                                   creation_date,
+                                   start_date,
+                                   end_date,
+                                   status,
+                                   description,
+                                   reason
+FROM status_messages
+ORDER BY permission_id, COALESCE(creation_date, '') DESC, id DESC;
+
+-- Keyset pagination, optionally filtered by country, region connector or status
+CREATE INDEX latest_status_start_date_idx ON latest_status (start_date, permission_id);
+CREATE INDEX latest_status_country_start_date_idx ON latest_status (country, start_date, permission_id);
+CREATE INDEX latest_status_region_connector_start_date_idx ON latest_status (region_connector_id, start_date, permission_id);
+CREATE INDEX latest_status_description_start_date_idx ON latest_status (description, start_date, permission_id);
+-- Offset pagination ordered by the latest status message
+CREATE INDEX latest_status_creation_date_idx ON latest_status (creation_date, status_message_id);
+
+ANALYZE latest_status;
@@ -0,0 +1,13 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+-- Keyset pagination treats a missing start date as the empty string, so that status messages without one are sorted last
+DROP INDEX latest_status_start_date_idx;
+DROP INDEX latest_status_country_start_date_idx;
+DROP INDEX latest_status_region_connector_start_date_idx;
+DROP INDEX latest_status_description_start_date_idx;
+
+CREATE INDEX latest_status_start_date_idx ON latest_status (COALESCE(start_date, ''), permission_id);
+CREATE INDEX latest_status_country_start_date_idx ON latest_status (country, COALESCE(start_date, ''), permission_id);
+CREATE INDEX latest_status_region_connector_start_date_idx ON latest_status (region_connector_id, COALESCE(start_date, ''), permission_id);
+CREATE INDEX latest_status_description_start_date_idx ON latest_status (description, COALESCE(start_date, ''), permission_id);
@@ -0,0 +1,14 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+
+/**
+ * Configuration of the database tests, since the configuration of the admin console requires a web application.
+ */
+@SpringBootConfiguration
+@AutoConfigurationPackage
+class DataTestConfig {}
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DirtiesContext
+@Import(LatestStatusRepository.class)
+class LatestStatusRepositoryTest {
+    private static final LatestStatusFilter NO_FILTER = new LatestStatusFilter(null, null, null);
+    @SuppressWarnings("unused")
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer postgresqlContainer = new PostgreSQLContainer("postgres:15-alpine");
+
+    @Autowired
+    private StatusMessageRepository statusMessageRepository;
+    @Autowired
+    private LatestStatusRepository latestStatusRepository;
+
+    @BeforeEach
+    void setUp() {
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid1", "NAT", "2024-01-03T00:00:00+01:00"));
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid2", "NDK", "2024-01-02T00:00:00+01:00"));
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid3", "NAT", null));
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid4", "NAT", null));
+    }
+
+    @Test
+    void findPage_withoutCursor_returnsNewestStatusMessages() {
+        // When
+        var res = latestStatusRepository.findPage(NO_FILTER, null, 2);
+
+        // Then
+        assertEquals(List.of("pid1", "pid2"), permissionIds(res));
+    }
+
+    @Test
+    void findPage_afterStatusMessageWithStartDate_returnsStatusMessagesWithoutStartDateLast() {
+        // When
+        var res = latestStatusRepository.findPage(NO_FILTER,
+                                                  new LatestStatusCursor("2024-01-02T00:00:00+01:00", "pid2"),
+                                                  2);
+
+        // Then
+        assertEquals(List.of("pid4", "pid3"), permissionIds(res));
+    }
+
+    @Test
+    void findPage_afterStatusMessageWithoutStartDate_returnsRemainingStatusMessagesWithoutStartDate() {
+        // When
+        var res = latestStatusRepository.findPage(NO_FILTER, new LatestStatusCursor("", "pid4"), 2);
+
+        // Then
+        assertEquals(List.of("pid3"), permissionIds(res));
+    }
+
+    @Test
+    void findPage_withFilter_returnsMatchingStatusMessages() {
+        // Given
+        var filter = new LatestStatusFilter("AT", "rcId", "ACCEPTED");
+
+        // When
+        var res = latestStatusRepository.findPage(filter, new LatestStatusCursor("2024-01-03T00:00:00+01:00", "pid1"), 5);
+
+        // Then
+        assertEquals(List.of("pid4", "pid3"), permissionIds(res));
+    }
+
+    @Test
+    void count_withFilter_countsMatchingStatusMessages() {
+        // When
+        var res = latestStatusRepository.count(new LatestStatusFilter("AT", null, null));
+
+        // Then
+        assertEquals(3, res);
+    }
+
+    private static List<String> permissionIds(List<StatusMessage> statusMessages) {
+        return statusMessages.stream().map(StatusMessage::getPermissionId).toList();
+    }
+
+    private static StatusMessage statusMessage(String permissionId, String country, @Nullable String startDate) {
+        return new StatusMessage(permissionId,
+                                 "rcId",
+                                 "dnId",
+                                 country,
+                                 "dso",
+                                 "2024-01-01T00:00:00+01:00",
+                                 startDate,
+                                 null,
+                                 "A05",
+                                 "ACCEPTED",
+                                 null);
+    }
+}
@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.admin.console.data;
+
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DirtiesContext
+class StatusMessageRepositoryTest {
+    @SuppressWarnings("unused")
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer postgresqlContainer = new PostgreSQLContainer("postgres:15-alpine");
+
+    @Autowired
+    private StatusMessageRepository statusMessageRepository;
+
+    @Test
+    void saveWithLatestStatus_replacesLatestStatusOfPermissionRequest() {
+        // Given
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid", "2024-05-22T08:20:03+02:00", "VALIDATED"));
+
+        // When
+        var saved = statusMessageRepository.saveWithLatestStatus(
+                statusMessage("pid", "2024-05-23T08:20:03+02:00", "ACCEPTED")
+        );
+
+        // Then
+        var res = statusMessageRepository.findLatestStatusMessageForAllPermissions();
+        assertEquals(1, res.size());
+        assertAll(
+                () -> assertEquals(saved.getId(), res.getFirst().getId()),
+                () -> assertEquals("ACCEPTED", res.getFirst().getDescription())
+        );
+    }
+
+    @Test
+    void saveWithLatestStatus_withOlderStatusMessage_keepsLatestStatus() {
+        // Given
+        var latest = statusMessageRepository.saveWithLatestStatus(
+                statusMessage("pid", "2024-05-23T08:20:03+02:00", "ACCEPTED")
+        );
+
+        // When
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid", "2024-05-22T08:20:03+02:00", "VALIDATED"));
+
+        // Then
+        var res = statusMessageRepository.findLatestStatusMessageForAllPermissions();
+        assertEquals(List.of(latest.getId()), res.stream().map(StatusMessage::getId).toList());
+        assertEquals(2, statusMessageRepository.findByPermissionIdOrderByCreationDateDescIdDesc("pid").size());
+    }
+
+    @Test
+    void saveWithLatestStatus_withoutCreationDate_keepsLatestStatusPerPermissionRequest() {
+        // Given
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid1", null, "CREATED"));
+        statusMessageRepository.saveWithLatestStatus(statusMessage("pid2", "2024-05-22T08:20:03+02:00", "ACCEPTED"));
+
+        // When
+        var saved = statusMessageRepository.saveWithLatestStatus(statusMessage("pid1", null, "VALIDATED"));
+
+        // Then
+        var res = statusMessageRepository.findLatestStatusMessageForAllPermissions();
+        assertEquals(2, res.size());
+        var latestOfFirst = res.stream().filter(statusMessage -> statusMessage.getPermissionId().equals("pid1")).toList();
+        assertEquals(List.of(saved.getId()), latestOfFirst.stream().map(StatusMessage::getId).toList());
+    }
+
+    private static StatusMessage statusMessage(String permissionId, @Nullable String creationDate, String status) {
+        return new StatusMessage(permissionId,
+                                 "rcId",
+                                 "dnId",
+                                 "NAT",
+                                 "dso",
+                                 creationDate,
+                                 "2024-05-01T00:00:00+02:00",
+                                 "2024-05-31T00:00:00+02:00",
+                                 "A05",
+                                 status,
+                                 null);
+    }
+}
@@ -55,7 +55,7 @@ class StatusMessageServiceTest {
         statusMessageService.processMessage(pmd);
         // Then
         verify(statusMessageRepository)
-                .save(assertArg(message -> assertAll(
+                .saveWithLatestStatus(assertArg(message -> assertAll(
                         () -> assertEquals("mrid", message.getPermissionId()),
                         () -> assertEquals("NFR", message.getCountry()),
                         () -> assertEquals("Enedis", message.getDso()),
@@ -97,7 +97,7 @@ class StatusMessageServiceTest {
 
         // Then
         verify(statusMessageRepository)
-                .save(assertArg(message -> assertAll(
+                .saveWithLatestStatus(assertArg(message -> assertAll(
                         () -> assertEquals("mrid", message.getPermissionId()),
                         () -> assertEquals("Unknown", message.getCountry()),
                         () -> assertEquals("Aiida", message.getDso()),
@@ -3,6 +3,9 @@
 
 package energy.eddie.outbound.admin.console.web;
 
+import energy.eddie.outbound.admin.console.data.LatestStatusCursor;
+import energy.eddie.outbound.admin.console.data.LatestStatusFilter;
+import energy.eddie.outbound.admin.console.data.LatestStatusRepository;
 import energy.eddie.outbound.admin.console.data.StatusMessage;
 import energy.eddie.outbound.admin.console.data.StatusMessageDTO;
 import energy.eddie.outbound.admin.console.data.StatusMessageRepository;
@@ -76,6 +79,8 @@ class HomeControllerTest {
     @MockitoBean
     private StatusMessageRepository statusMessageRepository;
     @MockitoBean
+    private LatestStatusRepository latestStatusRepository;
+    @MockitoBean
     private TerminationAdminConsoleConnector terminationConnector;
     @MockitoBean
     private RetransmissionAdminConsoleOutboundConnector retransmissionConnector;
@@ -103,6 +108,91 @@ class HomeControllerTest {
         assertEquals(statusMessages.size(), result.size());
     }
 
+    @Test
+    void testGetStatusMessagesWithKeyset_returnsCursorOfLastStatusMessage() throws Exception {
+        // Given
+        var filter = new LatestStatusFilter("AT", null, "ACCEPTED");
+        var after = new LatestStatusCursor("2024-05-23T08:20:03+02:00", "otherPermissionId");
+        when(latestStatusRepository.findPage(filter, after, 2)).thenReturn(statusMessages);
+        when(latestStatusRepository.estimateCount(filter)).thenReturn(10L);
+
+        // When
+        mockMvc.perform(get("/statusMessages")
+                                .param("limit", "2")
+                                .param("afterStartDate", "2024-05-23T08:20:03+02:00")
+                                .param("afterPermissionId", "otherPermissionId")
+                                .param("country", "AT")
+                                .param("status", "ACCEPTED")
+                                .accept(MediaType.APPLICATION_JSON))
+               // Then
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content.length()").value(2))
+               .andExpect(jsonPath("$.next.startDate").value("2024-05-22T08:20:03+02:00"))
+               .andExpect(jsonPath("$.next.permissionId").value("testPermissionId"))
+               .andExpect(jsonPath("$.totalElements").value(10))
+               .andExpect(jsonPath("$.totalEstimated").value(true));
+        verify(latestStatusRepository, never()).count(any());
+    }
+
+    @Test
+    void testGetStatusMessagesWithKeyset_withoutStartDate_returnsCursorWithEmptyStartDate() throws Exception {
+        // Given
+        var filter = new LatestStatusFilter(null, null, null);
+        var statusMessage = new StatusMessage("testPermissionId",
+                                              "testRegionConnectorId",
+                                              "testDataNeedId",
+                                              "testCountry",
+                                              "testDso",
+                                              "2024-05-22T08:20:03+02:00",
+                                              null,
+                                              null,
+                                              "A05",
+                                              "CREATED",
+                                              null);
+        when(latestStatusRepository.findPage(filter, null, 1)).thenReturn(List.of(statusMessage));
+
+        // When
+        mockMvc.perform(get("/statusMessages")
+                                .param("limit", "1")
+                                .param("count", "NONE")
+                                .accept(MediaType.APPLICATION_JSON))
+               // Then
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.next.startDate").value(""))
+               .andExpect(jsonPath("$.next.permissionId").value("testPermissionId"));
+    }
+
+    @Test
+    void testGetStatusMessagesWithKeyset_onLastPage_returnsNoCursor() throws Exception {
+        // Given
+        var filter = new LatestStatusFilter(null, null, null);
+        when(latestStatusRepository.findPage(filter, null, 3)).thenReturn(statusMessages);
+        when(latestStatusRepository.count(filter)).thenReturn(2L);
+
+        // When
+        mockMvc.perform(get("/statusMessages")
+                                .param("limit", "3")
+                                .param("count", "EXACT")
+                                .accept(MediaType.APPLICATION_JSON))
+               // Then
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.next").doesNotExist())
+               .andExpect(jsonPath("$.totalElements").value(2))
+               .andExpect(jsonPath("$.totalEstimated").value(false));
+    }
+
+    @Test
+    void testGetStatusMessagesWithKeyset_withIncompleteCursor_returnsBadRequest() throws Exception {
+        // When
+        mockMvc.perform(get("/statusMessages")
+                                .param("limit", "3")
+                                .param("afterStartDate", "2024-05-23T08:20:03+02:00")
+                                .accept(MediaType.APPLICATION_JSON))
+               // Then
+               .andExpect(status().isBadRequest());
+        verify(latestStatusRepository, never()).findPage(any(), any(), eq(3));
+    }
+
     @Test
     void testGetStatusMessagesByPermissionId() throws Exception {
         // Given
@@ -15,14 +15,16 @@ import {
 } from '@/config'
 import type { AnyDataNeed, PermissionStatus } from '@/types'
 
-export type PageModel<Type> = {
+export type KeysetCursor = {
+  startDate: string
+  permissionId: string
+}
+
+export type KeysetPage<Type> = {
   content: Type[]
-  page: {
-    size: number
-    number: number
-    totalElements: number
-    totalPages: 1
-  }
+  next: KeysetCursor | null
+  totalElements: number | null
+  totalEstimated: boolean
 }
 
 export type StatusMessage = {
@@ -101,10 +103,15 @@ export async function getPermissions(): Promise<StatusMessage[]> {
 }
 
 export async function getPermissionsPaginated(
-  page: number,
-  size: number
-): Promise<PageModel<StatusMessage>> {
-  return await fetch(`${PERMISSIONS_API_URL}?page=${page}&size=${size}`).then((res) => res.json())
+  limit: number,
+  after?: KeysetCursor | null
+): Promise<KeysetPage<StatusMessage>> {
+  const params = new URLSearchParams({ limit: limit.toString() })
+  if (after) {
+    params.set('afterStartDate', after.startDate)
+    params.set('afterPermissionId', after.permissionId)
+  }
+  return await fetch(`${PERMISSIONS_API_URL}?${params}`).then((res) => res.json())
 }
 
 export async function getStatusMessages(permissionId: string): Promise<StatusMessage[]> {
@@ -10,6 +10,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     alias(libs.plugins.google.jib)
+    alias(libs.plugins.jmh)
 }
 
 group = "energy.eddie.aiida"
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.aggregator;
+
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
+import energy.eddie.aiida.models.datasource.interval.simulation.SimulationDataSource;
+import energy.eddie.aiida.models.record.AiidaRecord;
+import energy.eddie.aiida.models.record.AiidaRecordValue;
+import energy.eddie.aiida.repositories.AiidaRecordRepository;
+import energy.eddie.api.agnostic.aiida.AiidaAsset;
+import energy.eddie.api.agnostic.aiida.ObisCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.health.registry.DefaultHealthContributorRegistry;
+import org.springframework.scheduling.support.CronExpression;
+import reactor.core.Disposable;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static energy.eddie.api.agnostic.aiida.ObisCode.*;
+import static energy.eddie.api.agnostic.aiida.UnitOfMeasurement.KILO_WATT;
+import static energy.eddie.api.agnostic.aiida.UnitOfMeasurement.KILO_WATT_HOUR;
+
+/**
+ * Measures the cost of publishing a single record of one data source to a growing number of permissions.
+ * Run with {@code ./gradlew :aiida:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboundAggregatorBenchmark {
+    private static final UUID USER_ID = UUID.fromString("4211ea05-d4ab-48ff-8613-8f4791a56607");
+    private static final UUID DATA_SOURCE_ID = UUID.fromString("4211ea05-d4ab-48ff-8613-8f4791a56606");
+    private static final List<Set<ObisCode>> DATA_TAG_SETS = List.of(
+            Set.of(),
+            Set.of(POSITIVE_ACTIVE_ENERGY),
+            Set.of(POSITIVE_ACTIVE_ENERGY, NEGATIVE_ACTIVE_ENERGY)
+    );
+
+    @Param({"1", "100", "1000"})
+    public int permissions;
+
+    private final List<Disposable> subscriptions = new ArrayList<>();
+    private final AtomicLong received = new AtomicLong();
+    private OutboundAggregator aggregator;
+    private BenchmarkDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new BenchmarkDataSource();
+        aggregator = new OutboundAggregator(noOpRepository(),
+                                            new DefaultHealthContributorRegistry(),
+                                            new RecordPersistenceConfiguration(100, Duration.ofSeconds(1), 10_000, RecordPersistenceConfiguration.OverflowStrategy.DROP_OLDEST),
+                                            new SimpleMeterRegistry());
+
+        var schedule = CronExpression.parse("* * * * * *");
+        var expiration = Instant.now().plusSeconds(86_400);
+        for (int i = 0; i < permissions; i++) {
+            var flux = aggregator.getFilteredFlux(DATA_TAG_SETS.get(i % DATA_TAG_SETS.size()),
+                                                  AiidaAsset.SUBMETER,
+                                                  expiration,
+                                                  schedule,
+                                                  USER_ID,
+                                                  DATA_SOURCE_ID);
+            subscriptions.add(flux.subscribe(ignored -> received.incrementAndGet()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        subscriptions.forEach(Disposable::dispose);
+        aggregator.close();
+    }
+
+    @Benchmark
+    public void publishRecord() {
+        aggregator.publishRecordToCombinedFlux(new AiidaRecord(Instant.now(), dataSource, List.of(
+                new AiidaRecordValue("1-0:1.8.0", POSITIVE_ACTIVE_ENERGY, "50", KILO_WATT_HOUR, "50", KILO_WATT_HOUR),
+                new AiidaRecordValue("1-0:2.8.0", NEGATIVE_ACTIVE_ENERGY, "10", KILO_WATT_HOUR, "10", KILO_WATT_HOUR),
+                new AiidaRecordValue("1-0:1.7.0",
+                                     POSITIVE_ACTIVE_INSTANTANEOUS_POWER,
+                                     "2",
+                                     KILO_WATT,
+                                     "2",
+                                     KILO_WATT)
+        )));
+    }
+
+    private static AiidaRecordRepository noOpRepository() {
+        return (AiidaRecordRepository) Proxy.newProxyInstance(AiidaRecordRepository.class.getClassLoader(),
+                                                              new Class<?>[]{AiidaRecordRepository.class},
+                                                              (proxy, method, args) -> null);
+    }
+
+    private static class BenchmarkDataSource extends SimulationDataSource {
+        BenchmarkDataSource() {
+            this.id = DATA_SOURCE_ID;
+            this.userId = USER_ID;
+            this.asset = AiidaAsset.SUBMETER;
+            this.name = "benchmark";
+        }
+    }
+}
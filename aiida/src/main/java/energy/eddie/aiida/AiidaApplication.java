@@ -7,6 +7,8 @@ import energy.eddie.aiida.config.KeycloakConfiguration;
 import energy.eddie.aiida.config.MqttConfiguration;
 import energy.eddie.aiida.config.cleanup.CleanupConfiguration;
 import energy.eddie.aiida.config.datasource.it.SinapsiAlfaConfiguration;
+import energy.eddie.aiida.config.record.LatestRecordConfiguration;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -15,7 +17,9 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @EnableConfigurationProperties({
         CleanupConfiguration.class,
         KeycloakConfiguration.class,
+        LatestRecordConfiguration.class,
         MqttConfiguration.class,
+        RecordPersistenceConfiguration.class,
         SinapsiAlfaConfiguration.class
 })
 public class AiidaApplication {
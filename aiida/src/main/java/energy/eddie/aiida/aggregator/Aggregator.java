@@ -4,38 +4,87 @@
 package energy.eddie.aiida.aggregator;
 
 import energy.eddie.aiida.adapters.datasource.DataSourceAdapter;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import energy.eddie.aiida.models.datasource.DataSource;
 import energy.eddie.aiida.models.record.DataSourceRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.health.registry.HealthContributorRegistry;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Aggregator<T extends DataSourceRecord> implements AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Aggregator.class);
     private static final String HEALTH_REGISTRY_PREFIX = "DATA_SOURCE_";
+    private static final String METRIC_PREFIX = "aiida.records.persistence.";
     protected final List<DataSourceAdapter<? extends DataSource>> dataSourceAdapters;
     protected final HealthContributorRegistry healthContributorRegistry;
     private final Class<T> recordType;
+    private final Scheduler persistenceScheduler;
+    private final AtomicInteger queuedRecords = new AtomicInteger();
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter droppedRecordsCounter;
     protected Sinks.Many<DataSourceRecord> combinedRecordSink;
 
+    /**
+     * Records of the combined sink are written to the database in batches by a single writer thread.
+     * A batch is written as soon as it is full or when the flush interval of the oldest record in it has elapsed.
+     * Records that arrive faster than they can be written are queued up to the configured maximum, after which
+     * records are dropped according to the configured overflow strategy, so slow writes never block the data sources.
+     * Dropped records are still transmitted and served as latest records, but they are never written to the database.
+     */
     protected Aggregator(
             Class<T> recordType,
-            HealthContributorRegistry healthContributorRegistry
+            HealthContributorRegistry healthContributorRegistry,
+            RecordPersistenceConfiguration persistenceConfiguration,
+            MeterRegistry meterRegistry
     ) {
         this.recordType = recordType;
         this.healthContributorRegistry = healthContributorRegistry;
 
+        var type = recordType.getSimpleName();
+        persistenceScheduler = Schedulers.newSingle("record-writer-" + type);
+        meterRegistry.gauge(METRIC_PREFIX + "queue.size", List.of(Tag.of("type", type)), queuedRecords);
+        flushTimer = Timer.builder(METRIC_PREFIX + "flush")
+                          .description("Time it takes to write a batch of records to the database")
+                          .tag("type", type)
+                          .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + "batch.size")
+                                              .description("Number of records written to the database at once")
+                                              .tag("type", type)
+                                              .register(meterRegistry);
+        droppedRecordsCounter = Counter.builder(METRIC_PREFIX + "dropped")
+                                       .description("Records that were dropped because the write queue was full")
+                                       .tag("type", type)
+                                       .register(meterRegistry);
+
         combinedRecordSink = Sinks.many().multicast().directAllOrNothing();
         combinedRecordSink.asFlux()
                           .ofType(recordType)
-                          .publishOn(Schedulers.boundedElastic())
-                          .doOnNext(this::saveRecordToDatabase)
+                          .doOnNext(ignored -> queuedRecords.incrementAndGet())
+                          .onBackpressureBuffer(persistenceConfiguration.maxQueueSize(),
+                                                this::handleDroppedRecord,
+                                                persistenceConfiguration.overflowStrategy().bufferOverflowStrategy())
+                          .bufferTimeout(persistenceConfiguration.batchSize(),
+                                         persistenceConfiguration.flushInterval(),
+                                         persistenceScheduler,
+                                         true)
+                          .concatMap(batch -> Mono.fromRunnable(() -> persistBatch(batch))
+                                                  .subscribeOn(persistenceScheduler), 1)
                           .doOnError(this::handleCombinedSinkError)
+                          .doFinally(ignored -> persistenceScheduler.dispose())
                           .subscribe();
 
         dataSourceAdapters = new ArrayList<>();
@@ -89,7 +138,12 @@ public abstract class Aggregator<T extends DataSourceRecord> implements AutoClos
         }
     }
 
-    protected abstract void saveRecordToDatabase(T dataRecord);
+    /**
+     * Writes a batch of records to the database. Called sequentially from a single writer thread.
+     *
+     * @param dataRecords The records to save, never empty.
+     */
+    protected abstract void saveRecordsToDatabase(List<T> dataRecords);
 
     protected synchronized void publishRecordToCombinedFlux(T data) {
         var result = combinedRecordSink.tryEmitNext(data);
@@ -99,6 +153,24 @@ public abstract class Aggregator<T extends DataSourceRecord> implements AutoClos
         }
     }
 
+    private void persistBatch(List<T> batch) {
+        try {
+            flushTimer.record(() -> saveRecordsToDatabase(batch));
+            batchSizeSummary.record(batch.size());
+        } catch (RuntimeException e) {
+            LOGGER.error("Error while saving {} records to db", batch.size(), e);
+        } finally {
+            queuedRecords.addAndGet(-batch.size());
+        }
+    }
+
+    private void handleDroppedRecord(DataSourceRecord dataRecord) {
+        queuedRecords.decrementAndGet();
+        droppedRecordsCounter.increment();
+        LOGGER.warn("Dropped record of data source {} because the write queue is full",
+                    dataRecord.dataSource().id());
+    }
+
     protected void handleCombinedSinkError(Throwable throwable) {
         LOGGER.error("Error from combined sink", throwable);
     }
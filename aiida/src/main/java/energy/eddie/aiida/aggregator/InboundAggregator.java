@@ -5,15 +5,19 @@ package energy.eddie.aiida.aggregator;
 
 import energy.eddie.aiida.adapters.datasource.DataSourceAdapter;
 import energy.eddie.aiida.adapters.datasource.inbound.InboundAdapter;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import energy.eddie.aiida.models.datasource.DataSource;
 import energy.eddie.aiida.models.record.InboundRecord;
 import energy.eddie.aiida.repositories.InboundRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.health.registry.HealthContributorRegistry;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 @Component
 public class InboundAggregator extends Aggregator<InboundRecord> {
 
@@ -23,9 +27,11 @@ public class InboundAggregator extends Aggregator<InboundRecord> {
 
     public InboundAggregator(
             InboundRecordRepository inboundRecordRepository,
-            HealthContributorRegistry healthContributorRegistry
+            HealthContributorRegistry healthContributorRegistry,
+            RecordPersistenceConfiguration persistenceConfiguration,
+            MeterRegistry meterRegistry
     ) {
-        super(InboundRecord.class, healthContributorRegistry);
+        super(InboundRecord.class, healthContributorRegistry, persistenceConfiguration, meterRegistry);
         this.inboundRecordRepository = inboundRecordRepository;
     }
 
@@ -43,9 +49,9 @@ public class InboundAggregator extends Aggregator<InboundRecord> {
     }
 
     @Override
-    protected void saveRecordToDatabase(InboundRecord dataRecord) {
-        LOGGER.trace("Saving new inbound record to db");
-        inboundRecordRepository.save(dataRecord);
+    protected void saveRecordsToDatabase(List<InboundRecord> dataRecords) {
+        LOGGER.trace("Saving {} new inbound records to db", dataRecords.size());
+        inboundRecordRepository.saveAll(dataRecords);
     }
 
     public Flux<InboundRecord> inboundRecordFlux() {
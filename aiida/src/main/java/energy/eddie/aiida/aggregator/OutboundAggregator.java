@@ -5,24 +5,25 @@ package energy.eddie.aiida.aggregator;
 
 import energy.eddie.aiida.adapters.datasource.DataSourceAdapter;
 import energy.eddie.aiida.adapters.datasource.inbound.InboundAdapter;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import energy.eddie.aiida.models.datasource.DataSource;
 import energy.eddie.aiida.models.record.AiidaRecord;
 import energy.eddie.aiida.models.record.AiidaRecordValue;
 import energy.eddie.aiida.repositories.AiidaRecordRepository;
 import energy.eddie.api.agnostic.aiida.AiidaAsset;
 import energy.eddie.api.agnostic.aiida.ObisCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.health.registry.HealthContributorRegistry;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.support.CronExpression;
-import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,12 +36,17 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
     private static final Logger LOGGER = LoggerFactory.getLogger(OutboundAggregator.class);
 
     private final AiidaRecordRepository aiidaRecordRepository;
+    private final TransmissionTickScheduler transmissionTickScheduler = new TransmissionTickScheduler();
+    private final Map<RecordGroup, Flux<AiidaRecord>> recordFluxes = new ConcurrentHashMap<>();
+    private final Map<TaggedRecordGroup, Flux<AiidaRecord>> taggedRecordFluxes = new ConcurrentHashMap<>();
 
     public OutboundAggregator(
             AiidaRecordRepository aiidaRecordRepository,
-            HealthContributorRegistry healthContributorRegistry
+            HealthContributorRegistry healthContributorRegistry,
+            RecordPersistenceConfiguration persistenceConfiguration,
+            MeterRegistry meterRegistry
     ) {
-        super(AiidaRecord.class, healthContributorRegistry);
+        super(AiidaRecord.class, healthContributorRegistry, persistenceConfiguration, meterRegistry);
         this.aiidaRecordRepository = aiidaRecordRepository;
     }
 
@@ -58,12 +64,25 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
     }
 
     @Override
-    protected void saveRecordToDatabase(AiidaRecord dataRecord) {
-        LOGGER.trace("Saving new AIIDA record to db");
+    protected void saveRecordsToDatabase(List<AiidaRecord> dataRecords) {
+        LOGGER.trace("Saving {} new AIIDA records to db", dataRecords.size());
+        aiidaRecordRepository.insertAll(dataRecords);
+    }
+
+    @Override
+    protected void publishRecordToCombinedFlux(AiidaRecord dataRecord) {
+        // the back reference is used when merging values of records and must be set before the record is shared
         for (AiidaRecordValue value : dataRecord.aiidaRecordValues()) {
             value.setAiidaRecord(dataRecord);
         }
-        aiidaRecordRepository.save(dataRecord);
+        super.publishRecordToCombinedFlux(dataRecord);
+    }
+
+    /**
+     * Returns a Flux of all {@link AiidaRecord}s received from the outbound data sources.
+     */
+    public Flux<AiidaRecord> recordFlux() {
+        return combinedRecordSink.asFlux().ofType(AiidaRecord.class);
     }
 
     /**
@@ -71,6 +90,11 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
      * that is in the set {@code allowedCodes}.
      * All values must have a timestamp before {@code permissionExpirationTime}.
      * Additionally, the records are buffered and aggregated by the {@link CronExpression} {@code transmissionSchedule}.
+     * <p>
+     * Permissions for the same data source, asset and user share the validation of the records, and permissions that
+     * additionally request the same data tags share the filtered copy of each record.
+     * All permissions with the same transmission schedule share a single trigger of the {@link TransmissionTickScheduler},
+     * the aggregation and transmission of the buffered records run on a worker thread of each permission.
      *
      * @param allowedDataTags          Tags which should be included in the returned Flux.
      * @param allowedAsset             The asset that should be included in the returned Flux.
@@ -81,7 +105,6 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
      * {@code allowedCodes} set, a timestamp that is before {@code permissionExpirationTime} and that are aggregated
      * by the {@code transmissionSchedule}.
      */
-    @SuppressWarnings("FutureReturnValueIgnored")
     public Flux<AiidaRecord> getFilteredFlux(
             Set<ObisCode> allowedDataTags,
             AiidaAsset allowedAsset,
@@ -90,48 +113,61 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
             UUID userId,
             UUID dataSourceId
     ) {
-        var cronSink = Sinks.many().multicast().directAllOrNothing();
-        var cronTrigger = new CronTrigger(transmissionSchedule.toString());
-        var cronScheduler = new ThreadPoolTaskScheduler();
-
-        cronScheduler.initialize();
-        cronScheduler.schedule(() -> cronSink.tryEmitNext(true), cronTrigger);
-
-        var flux = combinedRecordSink.asFlux().doOnComplete(() -> {
-            cronScheduler.stop();
-            cronSink.tryEmitComplete();
-        });
-
-        return flux.ofType(AiidaRecord.class)
-                   .map(AiidaRecord::new)
-                   .filter(aiidaRecord -> isValidAiidaRecord(aiidaRecord,
-                                                             allowedAsset,
-                                                             permissionExpirationTime,
-                                                             userId,
-                                                             dataSourceId))
-                   .map(aiidaRecord -> filterAllowedDataTags(aiidaRecord, allowedDataTags))
-                   .buffer(cronSink.asFlux())
-                   .flatMapIterable(this::aggregateRecords)
-                   .onErrorContinue((err, obj) -> LOGGER.error("Error while filtering records for permission", err));
+        var recordGroup = new RecordGroup(dataSourceId, allowedAsset, userId);
+
+        return taggedRecordFlux(new TaggedRecordGroup(recordGroup, Set.copyOf(allowedDataTags)))
+                .filter(aiidaRecord -> isBeforeExpiration(aiidaRecord, permissionExpirationTime))
+                .buffer(transmissionTickScheduler.ticks(transmissionSchedule))
+                // The ticks of all permissions are emitted by a single thread, which must not wait for slow permissions
+                .publishOn(Schedulers.boundedElastic())
+                .flatMapIterable(this::aggregateRecords)
+                .onErrorContinue((err, obj) -> LOGGER.error("Error while filtering records for permission", err));
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        transmissionTickScheduler.close();
+    }
+
+    /**
+     * Returns the shared Flux of valid records for the group, the records are validated only once per group regardless
+     * of the number of subscribed permissions.
+     */
+    private Flux<AiidaRecord> recordFlux(RecordGroup recordGroup) {
+        return recordFluxes.computeIfAbsent(recordGroup,
+                                            group -> combinedRecordSink.asFlux()
+                                                                       .ofType(AiidaRecord.class)
+                                                                       .filter(aiidaRecord -> isValidAiidaRecord(
+                                                                               aiidaRecord,
+                                                                               group))
+                                                                       .share());
+    }
+
+    /**
+     * Returns the shared Flux of copied records of the group that only contain the allowed data tags, the records are
+     * copied and filtered only once per group and data tags regardless of the number of subscribed permissions.
+     */
+    private Flux<AiidaRecord> taggedRecordFlux(TaggedRecordGroup taggedRecordGroup) {
+        return taggedRecordFluxes.computeIfAbsent(taggedRecordGroup,
+                                                  group -> recordFlux(group.recordGroup())
+                                                          .map(AiidaRecord::new)
+                                                          .map(aiidaRecord -> filterAllowedDataTags(
+                                                                  aiidaRecord,
+                                                                  group.allowedDataTags()))
+                                                          .share());
     }
 
     private boolean isOutboundDataSourceAdapter(DataSourceAdapter<? extends DataSource> dataSourceAdapter) {
         return !(dataSourceAdapter instanceof InboundAdapter);
     }
 
-    private boolean isValidAiidaRecord(
-            AiidaRecord aiidaRecord,
-            AiidaAsset allowedAsset,
-            Instant expirationTime,
-            UUID userId,
-            UUID dataSourceId
-    ) {
+    private boolean isValidAiidaRecord(AiidaRecord aiidaRecord, RecordGroup recordGroup) {
         var dataSource = aiidaRecord.dataSource();
-        return isAllowedAsset(dataSource, allowedAsset) &&
+        return isAllowedAsset(dataSource, recordGroup.asset()) &&
                areAiidaRecordValuesValid(aiidaRecord.aiidaRecordValues()) &&
-               isBeforeExpiration(aiidaRecord, expirationTime) &&
-               isSameDataSource(dataSource, dataSourceId) &&
-               doesDataSourceBelongToCurrentUser(dataSource, userId);
+               isSameDataSource(dataSource, recordGroup.dataSourceId()) &&
+               doesDataSourceBelongToCurrentUser(dataSource, recordGroup.userId());
     }
 
     private boolean isAllowedAsset(DataSource dataSource, AiidaAsset allowedAsset) {
@@ -194,4 +230,8 @@ public class OutboundAggregator extends Aggregator<AiidaRecord> {
                 new ArrayList<>(mergedValues.values())
         );
     }
+
+    private record RecordGroup(UUID dataSourceId, AiidaAsset asset, UUID userId) {}
+
+    private record TaggedRecordGroup(RecordGroup recordGroup, Set<ObisCode> allowedDataTags) {}
 }
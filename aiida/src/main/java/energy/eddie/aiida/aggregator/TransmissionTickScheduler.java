@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.aggregator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.scheduling.support.CronTrigger;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives the transmission ticks of all permissions from a single scheduler thread.
+ * Permissions with an identical {@link CronExpression} share one trigger, which is only scheduled as long as at least
+ * one subscriber listens to it.
+ * Subscribers have to move their work off the scheduler thread, otherwise a slow subscriber delays the ticks of all
+ * other permissions.
+ */
+class TransmissionTickScheduler implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransmissionTickScheduler.class);
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final Map<String, Flux<Boolean>> ticksBySchedule = new ConcurrentHashMap<>();
+
+    TransmissionTickScheduler() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setThreadNamePrefix("transmission-tick-");
+        taskScheduler.initialize();
+    }
+
+    /**
+     * Returns a hot Flux that emits whenever the {@code transmissionSchedule} fires.
+     * All callers passing the same schedule share the underlying trigger.
+     *
+     * @param transmissionSchedule The schedule at which ticks should be emitted.
+     * @return A shared Flux of ticks for the schedule.
+     */
+    Flux<Boolean> ticks(CronExpression transmissionSchedule) {
+        return ticksBySchedule.computeIfAbsent(transmissionSchedule.toString(), this::createTicks);
+    }
+
+    /**
+     * Returns the number of distinct schedules that have been requested so far.
+     */
+    int scheduleCount() {
+        return ticksBySchedule.size();
+    }
+
+    @Override
+    public void close() {
+        LOGGER.info("Stopping transmission ticks for {} schedules", ticksBySchedule.size());
+        taskScheduler.shutdown();
+    }
+
+    private Flux<Boolean> createTicks(String transmissionSchedule) {
+        var cronTrigger = new CronTrigger(transmissionSchedule);
+        return Flux.<Boolean>create(sink -> {
+                       var future = taskScheduler.schedule(() -> sink.next(true), cronTrigger);
+                       sink.onDispose(() -> {
+                           if (future != null) {
+                               future.cancel(false);
+                           }
+                       });
+                   })
+                   .share();
+    }
+}
@@ -0,0 +1,15 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.config.record;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configures the in-memory cache of the latest records of each data source.
+ *
+ * @param cacheDepth Number of latest records kept in memory per data source, older records are read from the database.
+ */
+@ConfigurationProperties(prefix = "aiida.latest-record")
+public record LatestRecordConfiguration(@DefaultValue("50") int cacheDepth) {}
@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.config.record;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+import java.time.Duration;
+
+/**
+ * Configures how records received by the aggregators are written to the database.
+ *
+ * @param batchSize        Maximum number of records that are written in a single batch.
+ * @param flushInterval    Maximum time a record waits before an incomplete batch is written.
+ * @param maxQueueSize     Maximum number of records waiting to be written.
+ * @param overflowStrategy Which records are dropped if more than the maximum number of records are waiting to be
+ *                         written. Dropped records are still transmitted, but never written to the database.
+ */
+@ConfigurationProperties(prefix = "aiida.record-persistence")
+public record RecordPersistenceConfiguration(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("10000") int maxQueueSize,
+        @DefaultValue("DROP_OLDEST") OverflowStrategy overflowStrategy
+) {
+    public enum OverflowStrategy {
+        /**
+         * Drops the record that waited the longest, so that the newest records are written.
+         */
+        DROP_OLDEST(BufferOverflowStrategy.DROP_OLDEST),
+        /**
+         * Drops the newly received record, so that the records are written without gaps until the queue was full.
+         */
+        DROP_LATEST(BufferOverflowStrategy.DROP_LATEST);
+
+        private final BufferOverflowStrategy bufferOverflowStrategy;
+
+        OverflowStrategy(BufferOverflowStrategy bufferOverflowStrategy) {
+            this.bufferOverflowStrategy = bufferOverflowStrategy;
+        }
+
+        public BufferOverflowStrategy bufferOverflowStrategy() {
+            return bufferOverflowStrategy;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.repositories;
+
+import energy.eddie.aiida.models.record.AiidaRecord;
+
+import java.util.List;
+
+public interface AiidaRecordBatchRepository {
+    /**
+     * Inserts all records and their values using JDBC batch inserts within a single transaction.
+     *
+     * @param aiidaRecords The records to insert.
+     */
+    void insertAll(List<AiidaRecord> aiidaRecords);
+}
@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.repositories;
+
+import energy.eddie.aiida.models.record.AiidaRecord;
+import energy.eddie.aiida.models.record.AiidaRecordValue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AiidaRecordBatchRepositoryImpl implements AiidaRecordBatchRepository {
+    private static final String RESERVE_IDS = """
+            SELECT nextval(pg_get_serial_sequence('aiida_record', 'id'))
+            FROM generate_series(1, ?)
+            """;
+    private static final String INSERT_RECORD = """
+            INSERT INTO aiida_record (id, timestamp, data_source_id)
+            VALUES (?, ?, ?)
+            """;
+    private static final String INSERT_VALUE = """
+            INSERT INTO aiida_record_value (aiida_record_id, raw_tag, data_tag, raw_value, raw_unit_of_measurement,
+                                            value, unit_of_measurement)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AiidaRecordBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<AiidaRecord> aiidaRecords) {
+        if (aiidaRecords.isEmpty()) {
+            return;
+        }
+
+        // Reserve the IDs up front, so the values can reference their record without a round trip per record
+        var ids = jdbcTemplate.queryForList(RESERVE_IDS, Long.class, aiidaRecords.size());
+        var rows = new ArrayList<RecordRow>(aiidaRecords.size());
+        var values = new ArrayList<ValueRow>();
+        for (int i = 0; i < aiidaRecords.size(); i++) {
+            var row = new RecordRow(ids.get(i), aiidaRecords.get(i));
+            rows.add(row);
+            for (var value : row.aiidaRecord().aiidaRecordValues()) {
+                values.add(new ValueRow(row.id(), value));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_RECORD, rows, rows.size(), RecordRow::setParameters);
+        jdbcTemplate.batchUpdate(INSERT_VALUE, values, values.size(), ValueRow::setParameters);
+    }
+
+    private record RecordRow(long id, AiidaRecord aiidaRecord) {
+        static void setParameters(PreparedStatement ps, RecordRow row) throws SQLException {
+            ps.setLong(1, row.id());
+            ps.setTimestamp(2, Timestamp.from(row.aiidaRecord().timestamp()));
+            ps.setObject(3, row.aiidaRecord().dataSource().id());
+        }
+    }
+
+    private record ValueRow(long recordId, AiidaRecordValue value) {
+        static void setParameters(PreparedStatement ps, ValueRow row) throws SQLException {
+            var value = row.value();
+            ps.setLong(1, row.recordId());
+            ps.setString(2, value.rawTag());
+            ps.setString(3, value.dataTag().name());
+            ps.setString(4, value.rawValue());
+            ps.setString(5, value.rawUnitOfMeasurement().name());
+            ps.setString(6, value.value());
+            ps.setString(7, value.unitOfMeasurement().name());
+        }
+    }
+}
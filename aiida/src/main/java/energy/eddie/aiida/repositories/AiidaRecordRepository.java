@@ -16,7 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface AiidaRecordRepository extends JpaRepository<AiidaRecord, Long> {
+public interface AiidaRecordRepository extends JpaRepository<AiidaRecord, Long>, AiidaRecordBatchRepository {
     Optional<AiidaRecord> findFirstByDataSourceIdOrderByIdDesc(UUID dataSourceId);
     List<AiidaRecord> findByDataSourceIdOrderByTimestampDesc(UUID dataSourceId, Pageable pageable);
 
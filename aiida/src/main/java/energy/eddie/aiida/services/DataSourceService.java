@@ -32,6 +32,7 @@ import energy.eddie.aiida.publisher.AiidaEventPublisher;
 import energy.eddie.aiida.repositories.DataSourceRepository;
 import energy.eddie.aiida.services.secrets.SecretType;
 import energy.eddie.aiida.services.secrets.SecretsService;
+import energy.eddie.aiida.services.record.LatestAiidaRecordCache;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +63,7 @@ public class DataSourceService {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final SinapsiAlfaConfiguration sinapsiAlfaConfiguration;
     private final SecretsService secretsService;
+    private final LatestAiidaRecordCache latestAiidaRecordCache;
 
     @Autowired
     public DataSourceService(
@@ -75,7 +77,8 @@ public class DataSourceService {
             BCryptPasswordEncoder bCryptPasswordEncoder,
             SinapsiAlfaConfiguration sinapsiAlfaConfiguration,
             AiidaEventPublisher aiidaEventPublisher,
-            SecretsService secretsService
+            SecretsService secretsService,
+            LatestAiidaRecordCache latestAiidaRecordCache
     ) {
         this.applicationInformationService = applicationInformationService;
         this.repository = repository;
@@ -88,6 +91,7 @@ public class DataSourceService {
         this.sinapsiAlfaConfiguration = sinapsiAlfaConfiguration;
         this.aiidaEventPublisher = aiidaEventPublisher;
         this.secretsService = secretsService;
+        this.latestAiidaRecordCache = latestAiidaRecordCache;
     }
 
     @EventListener(ContextRefreshedEvent.class)
@@ -164,6 +168,7 @@ public class DataSourceService {
                               var dataSourceName = dataSource.name();
                               repository.delete(dataSource);
                               deleteDataSourceSecrets(dataSource);
+                              latestAiidaRecordCache.evict(dataSourceId);
                               LOGGER.info("Deleted data source {} ({})", dataSourceName, dataSourceId);
                           },
                           () -> LOGGER.warn("Tried to delete data source ({}) but it could not found be found.",
@@ -176,6 +181,7 @@ public class DataSourceService {
                                    .orElseThrow(() -> new DataSourceNotFoundException(dto.id()));
 
         dataSource.update(dto);
+        latestAiidaRecordCache.update(dataSource);
 
         findDataSourceAdapter(dataSource.id()).ifPresentOrElse(
                 adapter -> updateDataSourceAdapterState(
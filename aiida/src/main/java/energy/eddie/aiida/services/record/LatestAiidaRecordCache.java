@@ -0,0 +1,228 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.services.record;
+
+import energy.eddie.aiida.aggregator.OutboundAggregator;
+import energy.eddie.aiida.config.record.LatestRecordConfiguration;
+import energy.eddie.aiida.dtos.record.LatestDataSourceRecordDto;
+import energy.eddie.aiida.models.datasource.DataSource;
+import energy.eddie.aiida.models.record.AiidaRecord;
+import energy.eddie.aiida.models.record.AiidaRecordValue;
+import energy.eddie.aiida.repositories.AiidaRecordRepository;
+import energy.eddie.aiida.repositories.DataSourceRepository;
+import energy.eddie.api.agnostic.aiida.AiidaAsset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the latest records of each data source in memory, so polling the latest records does not hit the database.
+ * The cache is fed by the {@link OutboundAggregator} and warmed from the database before the data sources are started.
+ * Only requests for more records than the cache holds have to fall back to the database.
+ * Like the database, the cache orders the records by their timestamp and returns the current name and asset of the data
+ * source. If a record cannot be cached, the cache stops answering requests it cannot answer correctly anymore.
+ */
+@Component
+public class LatestAiidaRecordCache implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatestAiidaRecordCache.class);
+    private final Map<UUID, RecordBuffer> buffers = new ConcurrentHashMap<>();
+    private final AiidaRecordRepository aiidaRecordRepository;
+    private final DataSourceRepository dataSourceRepository;
+    private final int depth;
+    private final Disposable subscription;
+    // false once the record flux terminated, since the cache cannot know about newer records afterward
+    private volatile boolean receiving = true;
+
+    public LatestAiidaRecordCache(
+            OutboundAggregator outboundAggregator,
+            AiidaRecordRepository aiidaRecordRepository,
+            DataSourceRepository dataSourceRepository,
+            LatestRecordConfiguration configuration
+    ) {
+        this.aiidaRecordRepository = aiidaRecordRepository;
+        this.dataSourceRepository = dataSourceRepository;
+        this.depth = configuration.cacheDepth();
+        this.subscription = outboundAggregator.recordFlux()
+                                              .filter(aiidaRecord -> !aiidaRecord.aiidaRecordValues().isEmpty())
+                                              .subscribe(this::add, this::onRecordFluxError);
+    }
+
+    public static LatestDataSourceRecordDto toLatestDto(AiidaRecord aiidaRecord) {
+        var dataSource = aiidaRecord.dataSource();
+
+        return new LatestDataSourceRecordDto(aiidaRecord.timestamp(),
+                                             dataSource.name(),
+                                             dataSource.asset(),
+                                             dataSource.id(),
+                                             aiidaRecord.aiidaRecordValues()
+                                                        .stream()
+                                                        .map(AiidaRecordValue::toDto)
+                                                        .toList());
+    }
+
+    /**
+     * Loads the latest records of all data sources from the database.
+     * Runs before the data sources are started, so the cache does not miss records that arrive during warm up.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        for (var dataSource : dataSourceRepository.findAll()) {
+            var latestRecords = aiidaRecordRepository.findByDataSourceIdOrderByTimestampDesc(dataSource.id(),
+                                                                                             Pageable.ofSize(depth));
+            var history = latestRecords.stream().map(LatestAiidaRecordCache::toLatestDto).toList();
+            var complete = latestRecords.size() < depth;
+            // Records that arrived before the warm up are newer than the history, so the history is appended to them
+            buffers.computeIfAbsent(dataSource.id(), id -> new RecordBuffer(depth, true, dataSource))
+                   .addHistory(history, complete);
+        }
+
+        LOGGER.info("Warmed latest record cache for {} data sources", buffers.size());
+    }
+
+    /**
+     * Returns the latest records of the data source ordered from newest to oldest, if the cache can answer the request.
+     *
+     * @param dataSourceId The ID of the data source.
+     * @param amount       The number of records that are requested.
+     * @return The latest records or an empty {@link Optional} if the database has to be queried.
+     */
+    public Optional<List<LatestDataSourceRecordDto>> latest(UUID dataSourceId, int amount) {
+        var buffer = buffers.get(dataSourceId);
+        return buffer == null || !receiving ? Optional.empty() : buffer.latest(amount);
+    }
+
+    /**
+     * Updates the name and asset of a data source, which are returned with its cached records.
+     *
+     * @param dataSource The updated data source.
+     */
+    public void update(DataSource dataSource) {
+        var buffer = buffers.get(dataSource.id());
+        if (buffer != null) {
+            buffer.describe(dataSource);
+        }
+    }
+
+    /**
+     * Removes the records of a deleted data source from the cache.
+     *
+     * @param dataSourceId The ID of the deleted data source.
+     */
+    public void evict(UUID dataSourceId) {
+        buffers.remove(dataSourceId);
+    }
+
+    @Override
+    public void close() {
+        subscription.dispose();
+    }
+
+    private void add(AiidaRecord aiidaRecord) {
+        var dataSource = aiidaRecord.dataSource();
+        try {
+            // Data sources that were not known during warm up have no history in the database
+            buffers.computeIfAbsent(dataSource.id(), id -> new RecordBuffer(depth, true, dataSource))
+                   .add(toLatestDto(aiidaRecord));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not cache record of data source {}, reading its latest records from the database",
+                        dataSource.id(),
+                        e);
+            // The record is missing from the cache, so only records that arrive afterward can be served from memory
+            buffers.put(dataSource.id(), new RecordBuffer(depth, false, dataSource));
+        }
+    }
+
+    private void onRecordFluxError(Throwable error) {
+        LOGGER.error("Stopped caching the latest records, reading them from the database from now on", error);
+        receiving = false;
+    }
+
+    private static final class RecordBuffer {
+        // ordered from newest to oldest
+        private static final Comparator<LatestDataSourceRecordDto> NEWEST_FIRST =
+                Comparator.comparing(LatestDataSourceRecordDto::timestamp).reversed();
+        private final List<LatestDataSourceRecordDto> records;
+        private final int depth;
+        // true as long as the buffer contains every record of the data source
+        private boolean complete;
+        private String name;
+        private AiidaAsset asset;
+
+        private RecordBuffer(int depth, boolean complete, DataSource dataSource) {
+            this.records = new ArrayList<>(depth + 1);
+            this.depth = depth;
+            this.complete = complete;
+            this.name = dataSource.name();
+            this.asset = dataSource.asset();
+        }
+
+        private synchronized void add(LatestDataSourceRecordDto dataRecord) {
+            // records usually arrive in order, so the insertion point is searched from the newest record
+            var index = 0;
+            while (index < records.size() && NEWEST_FIRST.compare(records.get(index), dataRecord) < 0) {
+                index++;
+            }
+            records.add(index, dataRecord);
+            if (records.size() > depth) {
+                records.removeLast();
+                complete = false;
+            }
+        }
+
+        /**
+         * Appends older records behind the records of the buffer.
+         *
+         * @param history  Records from the database ordered from newest to oldest.
+         * @param complete Whether the history contains every record of the data source.
+         */
+        private synchronized void addHistory(List<LatestDataSourceRecordDto> history, boolean complete) {
+            var oldest = records.isEmpty() ? null : records.getLast();
+            var remaining = history.stream()
+                                   // the database may already contain records that were added to the buffer
+                                   .filter(dataRecord -> oldest == null || dataRecord.timestamp()
+                                                                                     .isBefore(oldest.timestamp()))
+                                   .iterator();
+            while (remaining.hasNext() && records.size() < depth) {
+                records.addLast(remaining.next());
+            }
+            this.complete = this.complete && complete && !remaining.hasNext();
+        }
+
+        private synchronized void describe(DataSource dataSource) {
+            this.name = dataSource.name();
+            this.asset = dataSource.asset();
+        }
+
+        private synchronized Optional<List<LatestDataSourceRecordDto>> latest(int amount) {
+            if (records.size() < amount && !complete) {
+                return Optional.empty();
+            }
+            return Optional.of(records.stream()
+                                      .limit(amount)
+                                      .map(dataRecord -> new LatestDataSourceRecordDto(dataRecord.timestamp(),
+                                                                                       name,
+                                                                                       asset,
+                                                                                       dataRecord.dataSourceId(),
+                                                                                       dataRecord.aiidaRecordValues()))
+                                      .toList());
+        }
+    }
+}
@@ -14,8 +14,6 @@ import energy.eddie.aiida.errors.permission.PermissionNotFoundException;
 import energy.eddie.aiida.errors.record.InboundRecordNotFoundException;
 import energy.eddie.aiida.errors.record.LatestAiidaRecordNotFoundException;
 import energy.eddie.aiida.errors.record.UnsupportedInboundRecordTransformationException;
-import energy.eddie.aiida.models.record.AiidaRecord;
-import energy.eddie.aiida.models.record.AiidaRecordValue;
 import energy.eddie.aiida.models.record.PermissionLatestRecordMap;
 import energy.eddie.aiida.repositories.AiidaRecordRepository;
 import org.slf4j.Logger;
@@ -34,19 +32,30 @@ public class LatestRecordService {
     private final AiidaRecordRepository aiidaRecordRepository;
     private final PermissionLatestRecordMap permissionLatestRecordMap;
     private final InboundRecordService inboundRecordService;
+    private final LatestAiidaRecordCache latestAiidaRecordCache;
 
     @Autowired
     public LatestRecordService(
             AiidaRecordRepository aiidaRecordRepository,
             PermissionLatestRecordMap permissionLatestRecordMap,
-            InboundRecordService inboundRecordService
+            InboundRecordService inboundRecordService,
+            LatestAiidaRecordCache latestAiidaRecordCache
     ) {
         this.aiidaRecordRepository = aiidaRecordRepository;
         this.permissionLatestRecordMap = permissionLatestRecordMap;
         this.inboundRecordService = inboundRecordService;
+        this.latestAiidaRecordCache = latestAiidaRecordCache;
     }
 
     public LatestDataSourceRecordDto latestDataSourceRecord(UUID dataSourceId) throws LatestAiidaRecordNotFoundException {
+        var cachedRecords = latestAiidaRecordCache.latest(dataSourceId, 1);
+        if (cachedRecords.isPresent()) {
+            return cachedRecords.get()
+                                .stream()
+                                .findFirst()
+                                .orElseThrow(() -> new LatestAiidaRecordNotFoundException(dataSourceId));
+        }
+
         var aiidaRecord = aiidaRecordRepository.findFirstByDataSourceIdOrderByIdDesc(dataSourceId)
                                                .orElseThrow(() -> new LatestAiidaRecordNotFoundException(dataSourceId));
 
@@ -54,13 +63,21 @@ public class LatestRecordService {
                     aiidaRecord.timestamp(),
                     dataSourceId);
 
-        return recordToLatestDto(aiidaRecord);
+        return LatestAiidaRecordCache.toLatestDto(aiidaRecord);
     }
 
     public List<LatestDataSourceRecordDto> latestDataSourceRecords(
             UUID dataSourceId,
             int amount
     ) throws LatestAiidaRecordNotFoundException {
+        var cachedRecords = latestAiidaRecordCache.latest(dataSourceId, amount);
+        if (cachedRecords.isPresent()) {
+            if (cachedRecords.get().isEmpty()) {
+                throw new LatestAiidaRecordNotFoundException(dataSourceId);
+            }
+            return cachedRecords.get();
+        }
+
         var aiidaRecords = aiidaRecordRepository.findByDataSourceIdOrderByTimestampDesc(dataSourceId,
                                                                                         Pageable.ofSize(amount));
         if (aiidaRecords.isEmpty()) {
@@ -74,7 +91,7 @@ public class LatestRecordService {
 
         return aiidaRecords
                 .stream()
-                .map(this::recordToLatestDto)
+                .map(LatestAiidaRecordCache::toLatestDto)
                 .toList();
     }
 
@@ -113,17 +130,4 @@ public class LatestRecordService {
                 inboundRecord.payload()
         );
     }
-
-    private LatestDataSourceRecordDto recordToLatestDto(AiidaRecord aiidaRecord) {
-        var dataSource = aiidaRecord.dataSource();
-
-        return new LatestDataSourceRecordDto(aiidaRecord.timestamp(),
-                                             dataSource.name(),
-                                             dataSource.asset(),
-                                             dataSource.id(),
-                                             aiidaRecord.aiidaRecordValues()
-                                                        .stream()
-                                                        .map(AiidaRecordValue::toDto)
-                                                        .toList());
-    }
 }
@@ -4,11 +4,13 @@
 package energy.eddie.aiida.aggregator;
 
 import energy.eddie.aiida.adapters.datasource.inbound.InboundAdapter;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import energy.eddie.aiida.models.datasource.mqtt.inbound.InboundDataSource;
 import energy.eddie.aiida.models.record.DataSourceRecord;
 import energy.eddie.aiida.models.record.InboundRecord;
 import energy.eddie.aiida.repositories.InboundRecordRepository;
 import energy.eddie.api.agnostic.aiida.AiidaSchema;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,10 +20,11 @@ import org.springframework.boot.health.registry.DefaultHealthContributorRegistry
 import org.springframework.boot.health.registry.HealthContributorRegistry;
 import reactor.test.publisher.TestPublisher;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +42,10 @@ class InboundAggregatorTest {
     @BeforeEach
     void setUp() {
         when(inboundDataSource.id()).thenReturn(DATA_SOURCE_ID);
-        aggregator = new InboundAggregator(mockInboundRecordRepository, healthContributorRegistry);
+        aggregator = new InboundAggregator(mockInboundRecordRepository,
+                                           healthContributorRegistry,
+                                           new RecordPersistenceConfiguration(100, Duration.ofMillis(100), 100, RecordPersistenceConfiguration.OverflowStrategy.DROP_OLDEST),
+                                           new SimpleMeterRegistry());
     }
 
     @Test
@@ -59,6 +65,6 @@ class InboundAggregatorTest {
         inboundPublisher.complete();
 
         verify(inboundAdapter, times(1)).start();
-        verify(mockInboundRecordRepository, timeout(1000)).save(any(InboundRecord.class));
+        verify(mockInboundRecordRepository, timeout(1000)).saveAll(List.of(inboundRecord));
     }
 }
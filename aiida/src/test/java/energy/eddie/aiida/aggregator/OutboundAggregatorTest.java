@@ -4,6 +4,7 @@
 package energy.eddie.aiida.aggregator;
 
 import energy.eddie.aiida.adapters.datasource.simulation.SimulationAdapter;
+import energy.eddie.aiida.config.record.RecordPersistenceConfiguration;
 import energy.eddie.aiida.models.datasource.interval.simulation.SimulationDataSource;
 import energy.eddie.aiida.models.record.AiidaRecord;
 import energy.eddie.aiida.models.record.AiidaRecordValue;
@@ -12,6 +13,7 @@ import energy.eddie.aiida.repositories.AiidaRecordRepository;
 import energy.eddie.aiida.utils.TestUtils;
 import energy.eddie.api.agnostic.aiida.AiidaAsset;
 import energy.eddie.api.agnostic.aiida.ObisCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import nl.altindag.log.LogCaptor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +50,8 @@ class OutboundAggregatorTest {
     private static final UUID DATA_SOURCE_ID_1 = UUID.fromString("4211ea05-d4ab-48ff-8613-8f4791a56606");
     private static final UUID DATA_SOURCE_ID_2 = UUID.fromString("5211ea05-d4ab-48ff-8613-8f4791a56606");
     private static final UUID USER_ID = UUID.fromString("4211ea05-d4ab-48ff-8613-8f4791a56607");
+    private static final RecordPersistenceConfiguration PERSISTENCE_CONFIGURATION =
+            new RecordPersistenceConfiguration(2, Duration.ofMillis(100), 100, RecordPersistenceConfiguration.OverflowStrategy.DROP_OLDEST);
     @Mock
     private SimulationDataSource dataSource1;
     @Mock
@@ -123,7 +127,10 @@ class OutboundAggregatorTest {
         expiration = start.plusSeconds(300_000);
         transmissionSchedule = CronExpression.parse("* * * * * *");
 
-        aggregator = new OutboundAggregator(mockAiidaRecordRepository, healthContributorRegistry);
+        aggregator = new OutboundAggregator(mockAiidaRecordRepository,
+                                            healthContributorRegistry,
+                                            PERSISTENCE_CONFIGURATION,
+                                            new SimpleMeterRegistry());
     }
 
     @AfterEach
@@ -230,6 +237,37 @@ class OutboundAggregatorTest {
         stepVerifier.verify(Duration.ofSeconds(2));
     }
 
+    @Test
+    void getFilteredFlux_slowPermission_doesNotDelayOtherPermissions() {
+        TestPublisher<DataSourceRecord> publisher = TestPublisher.create();
+        when(mockAdapter1.start()).thenReturn(publisher.flux());
+        aggregator.addNewDataSourceAdapter(mockAdapter1);
+        var slowSubscription = aggregator.getFilteredFlux(wantedCodes,
+                                                          wantedAsset,
+                                                          expiration,
+                                                          transmissionSchedule,
+                                                          USER_ID,
+                                                          DATA_SOURCE_ID_1)
+                                         .subscribe(ignored -> sleep(Duration.ofSeconds(5)));
+
+        StepVerifier stepVerifier = StepVerifier.create(aggregator.getFilteredFlux(wantedCodes,
+                                                                                   wantedAsset,
+                                                                                   expiration,
+                                                                                   transmissionSchedule,
+                                                                                   USER_ID,
+                                                                                   DATA_SOURCE_ID_1))
+                                                .expectNextMatches(aiidaRecord -> containsExpectedAiidaRecordValue(
+                                                        aiidaRecord,
+                                                        wanted.aiidaRecordValues().getFirst()))
+                                                .thenCancel()
+                                                .verifyLater();
+
+        publisher.next(wanted);
+
+        stepVerifier.verify(Duration.ofSeconds(2));
+        slowSubscription.dispose();
+    }
+
 
     @Test
     void getFilteredFlux_mergeRecordsByRawTag() {
@@ -307,7 +345,35 @@ class OutboundAggregatorTest {
         publisher2.flux().blockLast(Duration.of(200, ChronoUnit.MILLIS));
 
         await().atMost(Duration.ofSeconds(1))
-               .untilAsserted(() -> verify(mockAiidaRecordRepository, times(2)).save(any(AiidaRecord.class)));
+               .untilAsserted(() -> verify(mockAiidaRecordRepository).insertAll(List.of(wanted, wanted)));
+    }
+
+    @Test
+    void givenIncompleteBatch_isSavedAfterFlushInterval() {
+        TestPublisher<DataSourceRecord> publisher = TestPublisher.create();
+        when(mockAdapter1.start()).thenReturn(publisher.flux());
+
+        aggregator.addNewDataSourceAdapter(mockAdapter1);
+
+        publisher.next(wanted);
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> verify(mockAiidaRecordRepository).insertAll(List.of(wanted)));
+    }
+
+    @Test
+    void givenErrorWhileSaving_laterBatchesAreStillSaved() {
+        TestPublisher<DataSourceRecord> publisher = TestPublisher.create();
+        when(mockAdapter1.start()).thenReturn(publisher.flux());
+        doThrow(new RuntimeException("expected")).doNothing().when(mockAiidaRecordRepository).insertAll(anyList());
+
+        aggregator.addNewDataSourceAdapter(mockAdapter1);
+
+        publisher.next(unwanted1, unwanted2);
+        publisher.next(wanted, wanted);
+
+        await().atMost(Duration.ofSeconds(1))
+               .untilAsserted(() -> verify(mockAiidaRecordRepository).insertAll(List.of(wanted, wanted)));
     }
 
     /**
@@ -426,4 +492,12 @@ class OutboundAggregatorTest {
                                        && aiidaRecordValue.rawValue().equals(expectedValue.rawValue())
                                        && actual.timestamp().isBefore(expiration));
     }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
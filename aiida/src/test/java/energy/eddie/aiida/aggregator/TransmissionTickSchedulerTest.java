@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.aggregator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.CronExpression;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TransmissionTickSchedulerTest {
+    private final TransmissionTickScheduler scheduler = new TransmissionTickScheduler();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void givenSameSchedule_ticks_returnsSharedFlux() {
+        var first = scheduler.ticks(CronExpression.parse("* * * * * *"));
+        var second = scheduler.ticks(CronExpression.parse("* * * * * *"));
+        scheduler.ticks(CronExpression.parse("*/5 * * * * *"));
+
+        assertSame(first, second);
+        assertEquals(2, scheduler.scheduleCount());
+    }
+
+    @Test
+    void givenMultipleSubscribers_ticks_emitsToAllSubscribers() {
+        var ticks = scheduler.ticks(CronExpression.parse("* * * * * *"));
+
+        var first = StepVerifier.create(ticks.take(2)).expectNext(true, true).expectComplete().verifyLater();
+        var second = StepVerifier.create(ticks.take(1)).expectNext(true).expectComplete().verifyLater();
+
+        first.verify(Duration.ofSeconds(4));
+        second.verify(Duration.ofSeconds(4));
+    }
+}
@@ -188,6 +188,35 @@ class AiidaRecordRepositoryIntegrationTest {
         assertEquals("Hello Test", second.aiidaRecordValues().getFirst().value());
     }
 
+    @Test
+    void insertAll_persistsRecordsWithValues() {
+        Instant now = Instant.now();
+        AiidaRecord intRecord = new AiidaRecord(now, dataSource, List.of(
+                new AiidaRecordValue("1-0:1.8.0",
+                                     POSITIVE_ACTIVE_ENERGY,
+                                     "237",
+                                     UnitOfMeasurement.KILO_WATT_HOUR,
+                                     "237",
+                                     UnitOfMeasurement.KILO_WATT_HOUR)));
+        AiidaRecord stringRecord = new AiidaRecord(now.plusSeconds(1), dataSource, List.of(
+                new AiidaRecordValue("0-0:C.1.0",
+                                     METER_SERIAL,
+                                     "Hello Test",
+                                     UnitOfMeasurement.NONE,
+                                     "Hello Test",
+                                     UnitOfMeasurement.NONE)));
+
+        repository.insertAll(List.of(intRecord, stringRecord));
+
+        var latest = repository.findByDataSourceIdOrderByTimestampDesc(dataSource.id(), Pageable.ofSize(2));
+
+        assertEquals(2, latest.size());
+        assertEquals(METER_SERIAL, latest.getFirst().aiidaRecordValues().getFirst().dataTag());
+        assertEquals("Hello Test", latest.getFirst().aiidaRecordValues().getFirst().value());
+        assertEquals(POSITIVE_ACTIVE_ENERGY, latest.get(1).aiidaRecordValues().getFirst().dataTag());
+        assertEquals("237", latest.get(1).aiidaRecordValues().getFirst().value());
+    }
+
     @Test
     void givenMicroTeleinfoStandardModeRecord_sanitizeNullValue_persistsProperly() {
         var standardModeJson = """
@@ -31,6 +31,7 @@ import energy.eddie.aiida.models.permission.Permission;
 import energy.eddie.aiida.models.permission.dataneed.AiidaLocalDataNeed;
 import energy.eddie.aiida.publisher.AiidaEventPublisher;
 import energy.eddie.aiida.repositories.DataSourceRepository;
+import energy.eddie.aiida.services.record.LatestAiidaRecordCache;
 import energy.eddie.aiida.services.secrets.SecretsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,6 +85,8 @@ class DataSourceServiceTest {
     private AiidaEventPublisher aiidaEventPublisher;
     @Mock
     private SecretsService secretsService;
+    @Mock
+    private LatestAiidaRecordCache latestAiidaRecordCache;
 
     @InjectMocks
     private DataSourceService dataSourceService;
@@ -183,6 +186,7 @@ class DataSourceServiceTest {
         verify(repository).findById(DATA_SOURCE_ID);
         verify(aiidaEventPublisher).publishEvent(any(DataSourceDeletionEvent.class));
         verify(repository).delete(any(DataSource.class));
+        verify(latestAiidaRecordCache).evict(DATA_SOURCE_ID);
     }
 
     @Test
@@ -227,6 +231,7 @@ class DataSourceServiceTest {
         dataSourceService.updateDataSource(dataSourceDto);
 
         verify(mqttOutboundDataSource).update(dataSourceDto);
+        verify(latestAiidaRecordCache).update(mqttOutboundDataSource);
     }
 
     @Test
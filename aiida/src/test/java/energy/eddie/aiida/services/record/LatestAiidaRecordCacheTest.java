@@ -0,0 +1,198 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.aiida.services.record;
+
+import energy.eddie.aiida.aggregator.OutboundAggregator;
+import energy.eddie.aiida.config.record.LatestRecordConfiguration;
+import energy.eddie.aiida.models.datasource.DataSource;
+import energy.eddie.aiida.models.record.AiidaRecord;
+import energy.eddie.aiida.models.record.AiidaRecordValue;
+import energy.eddie.aiida.repositories.AiidaRecordRepository;
+import energy.eddie.aiida.repositories.DataSourceRepository;
+import energy.eddie.api.agnostic.aiida.AiidaAsset;
+import energy.eddie.api.agnostic.aiida.ObisCode;
+import energy.eddie.api.agnostic.aiida.UnitOfMeasurement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LatestAiidaRecordCacheTest {
+    private static final UUID DATA_SOURCE_ID = UUID.fromString("4211ea05-d4ab-48ff-8613-8f4791a56606");
+    private static final Instant TIMESTAMP = Instant.parse("2026-01-15T10:30:00Z");
+    private final TestPublisher<AiidaRecord> publisher = TestPublisher.create();
+    @Mock
+    private OutboundAggregator aggregator;
+    @Mock
+    private AiidaRecordRepository aiidaRecordRepository;
+    @Mock
+    private DataSourceRepository dataSourceRepository;
+    @Mock
+    private DataSource dataSource;
+    private LatestAiidaRecordCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(dataSource.id()).thenReturn(DATA_SOURCE_ID);
+        lenient().when(dataSource.name()).thenReturn("datasource");
+        lenient().when(dataSource.asset()).thenReturn(AiidaAsset.SUBMETER);
+        when(aggregator.recordFlux()).thenReturn(publisher.flux());
+
+        cache = new LatestAiidaRecordCache(aggregator,
+                                           aiidaRecordRepository,
+                                           dataSourceRepository,
+                                           new LatestRecordConfiguration(2));
+    }
+
+    @Test
+    void givenUnknownDataSource_latest_returnsEmpty() {
+        assertTrue(cache.latest(DATA_SOURCE_ID, 1).isEmpty());
+    }
+
+    @Test
+    void givenNewRecords_latest_returnsNewestFirst() {
+        publisher.next(aiidaRecord(TIMESTAMP), aiidaRecord(TIMESTAMP.plusSeconds(1)));
+
+        var latest = cache.latest(DATA_SOURCE_ID, 2).orElseThrow();
+
+        assertEquals(2, latest.size());
+        assertEquals(TIMESTAMP.plusSeconds(1), latest.getFirst().timestamp());
+        assertEquals(TIMESTAMP, latest.get(1).timestamp());
+    }
+
+    @Test
+    void givenMoreRecordsThanDepth_latest_fallsBackForDeeperHistory() {
+        publisher.next(aiidaRecord(TIMESTAMP),
+                       aiidaRecord(TIMESTAMP.plusSeconds(1)),
+                       aiidaRecord(TIMESTAMP.plusSeconds(2)));
+
+        assertEquals(TIMESTAMP.plusSeconds(2), cache.latest(DATA_SOURCE_ID, 1).orElseThrow().getFirst().timestamp());
+        assertEquals(2, cache.latest(DATA_SOURCE_ID, 2).orElseThrow().size());
+        assertTrue(cache.latest(DATA_SOURCE_ID, 3).isEmpty());
+    }
+
+    @Test
+    void givenRecordsInDatabase_warmUp_loadsLatestRecords() {
+        when(dataSourceRepository.findAll()).thenReturn(List.of(dataSource));
+        when(aiidaRecordRepository.findByDataSourceIdOrderByTimestampDesc(DATA_SOURCE_ID, Pageable.ofSize(2)))
+                .thenReturn(List.of(aiidaRecord(TIMESTAMP)));
+
+        cache.warmUp();
+
+        // the database holds fewer records than the depth, so the cache knows the whole history
+        var latest = cache.latest(DATA_SOURCE_ID, 2).orElseThrow();
+        assertEquals(1, latest.size());
+        assertEquals(TIMESTAMP, latest.getFirst().timestamp());
+    }
+
+    @Test
+    void givenRecordBeforeWarmUp_warmUp_keepsHistoryBehindRecord() {
+        when(dataSourceRepository.findAll()).thenReturn(List.of(dataSource));
+        when(aiidaRecordRepository.findByDataSourceIdOrderByTimestampDesc(DATA_SOURCE_ID, Pageable.ofSize(2)))
+                .thenReturn(List.of(aiidaRecord(TIMESTAMP.plusSeconds(2)),
+                                    aiidaRecord(TIMESTAMP.plusSeconds(1))));
+        publisher.next(aiidaRecord(TIMESTAMP.plusSeconds(2)));
+
+        cache.warmUp();
+
+        // the record that was already persisted is not added twice and the database holds more records than the depth
+        var latest = cache.latest(DATA_SOURCE_ID, 2).orElseThrow();
+        assertEquals(2, latest.size());
+        assertEquals(TIMESTAMP.plusSeconds(2), latest.getFirst().timestamp());
+        assertEquals(TIMESTAMP.plusSeconds(1), latest.get(1).timestamp());
+        assertTrue(cache.latest(DATA_SOURCE_ID, 3).isEmpty());
+    }
+
+    @Test
+    void givenDeletedDataSource_latest_returnsEmpty() {
+        publisher.next(aiidaRecord(TIMESTAMP));
+
+        cache.evict(DATA_SOURCE_ID);
+
+        assertTrue(cache.latest(DATA_SOURCE_ID, 1).isEmpty());
+    }
+
+    @Test
+    void givenRecordsOutOfOrder_latest_returnsNewestFirst() {
+        publisher.next(aiidaRecord(TIMESTAMP.plusSeconds(1)), aiidaRecord(TIMESTAMP));
+
+        var latest = cache.latest(DATA_SOURCE_ID, 2).orElseThrow();
+
+        assertEquals(TIMESTAMP.plusSeconds(1), latest.getFirst().timestamp());
+        assertEquals(TIMESTAMP, latest.get(1).timestamp());
+    }
+
+    @Test
+    void givenOlderRecordThanDepth_latest_fallsBackForDeeperHistory() {
+        publisher.next(aiidaRecord(TIMESTAMP.plusSeconds(1)),
+                       aiidaRecord(TIMESTAMP.plusSeconds(2)),
+                       aiidaRecord(TIMESTAMP));
+
+        var latest = cache.latest(DATA_SOURCE_ID, 2).orElseThrow();
+
+        assertEquals(TIMESTAMP.plusSeconds(2), latest.getFirst().timestamp());
+        assertEquals(TIMESTAMP.plusSeconds(1), latest.get(1).timestamp());
+        assertTrue(cache.latest(DATA_SOURCE_ID, 3).isEmpty());
+    }
+
+    @Test
+    void givenUpdatedDataSource_latest_returnsCurrentName() {
+        publisher.next(aiidaRecord(TIMESTAMP));
+        var updated = mock(DataSource.class);
+        when(updated.id()).thenReturn(DATA_SOURCE_ID);
+        when(updated.name()).thenReturn("renamed");
+        when(updated.asset()).thenReturn(AiidaAsset.CONNECTION_AGREEMENT_POINT);
+
+        cache.update(updated);
+
+        var latest = cache.latest(DATA_SOURCE_ID, 1).orElseThrow().getFirst();
+        assertEquals("renamed", latest.name());
+        assertEquals(AiidaAsset.CONNECTION_AGREEMENT_POINT, latest.asset());
+    }
+
+    @Test
+    void givenRecordThatCannotBeCached_latest_fallsBackUntilNewerRecordsArrive() {
+        var value = mock(AiidaRecordValue.class);
+        when(value.toDto()).thenThrow(new IllegalStateException());
+        publisher.next(aiidaRecord(TIMESTAMP),
+                       new AiidaRecord(TIMESTAMP.plusSeconds(1), dataSource, List.of(value)));
+
+        assertTrue(cache.latest(DATA_SOURCE_ID, 1).isEmpty());
+
+        publisher.next(aiidaRecord(TIMESTAMP.plusSeconds(2)));
+
+        assertEquals(TIMESTAMP.plusSeconds(2), cache.latest(DATA_SOURCE_ID, 1).orElseThrow().getFirst().timestamp());
+        assertTrue(cache.latest(DATA_SOURCE_ID, 2).isEmpty());
+    }
+
+    @Test
+    void givenFailedRecordFlux_latest_returnsEmpty() {
+        publisher.next(aiidaRecord(TIMESTAMP));
+
+        publisher.error(new IllegalStateException());
+
+        assertTrue(cache.latest(DATA_SOURCE_ID, 1).isEmpty());
+    }
+
+    private AiidaRecord aiidaRecord(Instant timestamp) {
+        return new AiidaRecord(timestamp, dataSource, List.of(
+                new AiidaRecordValue("1-0:1.8.0",
+                                     ObisCode.POSITIVE_ACTIVE_ENERGY,
+                                     "10",
+                                     UnitOfMeasurement.KILO_WATT_HOUR,
+                                     "10",
+                                     UnitOfMeasurement.KILO_WATT_HOUR)));
+    }
+}
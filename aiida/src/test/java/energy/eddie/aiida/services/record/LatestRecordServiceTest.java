@@ -50,6 +50,8 @@ class LatestRecordServiceTest {
     private PermissionLatestRecordMap permissionLatestRecordMap;
     @Mock
     private InboundRecordService inboundRecordService;
+    @Mock
+    private LatestAiidaRecordCache latestAiidaRecordCache;
 
     @InjectMocks
     private LatestRecordService aiidaRecordService;
@@ -91,6 +93,31 @@ class LatestRecordServiceTest {
         assertEquals(value.toDto(), result.aiidaRecordValues().getFirst());
     }
 
+    @Test
+    void latestAiidaRecord_shouldReturnCachedRecord_whenCached() throws LatestAiidaRecordNotFoundException {
+        // Given
+        var cached = new LatestDataSourceRecordDto(TIMESTAMP, "datasource", AiidaAsset.SUBMETER, DATA_SOURCE_ID, List.of());
+        when(latestAiidaRecordCache.latest(DATA_SOURCE_ID, 1)).thenReturn(Optional.of(List.of(cached)));
+
+        // When
+        var result = aiidaRecordService.latestDataSourceRecord(DATA_SOURCE_ID);
+
+        // Then
+        assertEquals(cached, result);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void latestAiidaRecords_shouldThrow_whenCacheKnowsNoRecords() {
+        // Given
+        when(latestAiidaRecordCache.latest(DATA_SOURCE_ID, 3)).thenReturn(Optional.of(List.of()));
+
+        // When, Then
+        assertThrows(LatestAiidaRecordNotFoundException.class,
+                     () -> aiidaRecordService.latestDataSourceRecords(DATA_SOURCE_ID, 3));
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void latestAiidaRecord_shouldThrow_whenRecordNotFound() {
         when(repository.findFirstByDataSourceIdOrderByIdDesc(DATA_SOURCE_ID))
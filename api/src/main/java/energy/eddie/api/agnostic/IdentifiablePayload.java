@@ -1,9 +1,10 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.api.agnostic;
 
 import energy.eddie.api.agnostic.process.model.PermissionRequest;
+import jakarta.annotation.Nullable;
 
 /**
  * Interface for all the classes that have a permission request and a payload, such as IdentifiableMeterReading.
@@ -15,4 +16,15 @@ public interface IdentifiablePayload<P extends PermissionRequest, R> {
     P permissionRequest();
 
     R payload();
+
+    /**
+     * The payload as it was received from the metering data administrator or permission administrator, so that raw
+     * data messages can forward it instead of serializing the payload again.
+     *
+     * @return the original payload, or null if it is not available
+     */
+    @Nullable
+    default RawPayload rawPayload() {
+        return null;
+    }
 }
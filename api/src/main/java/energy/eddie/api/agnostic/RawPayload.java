@@ -0,0 +1,66 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.api.agnostic;
+
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * A payload as it was received from the metering data administrator or permission administrator, before it was
+ * deserialized.
+ * The body is not copied, it must not be modified after it was passed to this class.
+ */
+public final class RawPayload {
+    private final byte[] body;
+    @Nullable
+    private final String contentType;
+
+    /**
+     * @param body        the body of the response
+     * @param contentType the media type of the body, for example {@code application/json}, or null if it is unknown
+     */
+    public RawPayload(byte[] body, @Nullable String contentType) {
+        this.body = body;
+        this.contentType = contentType;
+    }
+
+    @SuppressWarnings("java:S2384") // Not copied on purpose, the body can be large
+    public byte[] body() {
+        return body;
+    }
+
+    @Nullable
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Checks if the body is JSON, like {@code application/json} or {@code application/problem+json}.
+     *
+     * @return true if the content type denotes JSON
+     */
+    public boolean isJson() {
+        if (contentType == null) {
+            return false;
+        }
+        var mediaType = contentType.toLowerCase(Locale.ROOT);
+        var parameters = mediaType.indexOf(';');
+        if (parameters >= 0) {
+            mediaType = mediaType.substring(0, parameters);
+        }
+        mediaType = mediaType.strip();
+        return mediaType.equals("application/json") || mediaType.endsWith("+json");
+    }
+
+    /**
+     * Decodes the body, JSON is always encoded as UTF-8.
+     *
+     * @return the body as string
+     */
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
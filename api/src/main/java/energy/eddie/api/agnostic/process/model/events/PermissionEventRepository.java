@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.api.agnostic.process.model.events;
@@ -15,6 +15,16 @@ public interface PermissionEventRepository {
      * @return the saved permissionEvent.
      */
     PermissionEvent saveAndFlush(PermissionEvent permissionEvent);
+
+    /**
+     * Saves a {@link PermissionEvent} without flushing the changes, they are flushed at the latest when the surrounding
+     * transaction is committed.
+     *
+     * @param permissionEvent permissionEvent to be saved. Must not be null.
+     * @return the saved permissionEvent.
+     */
+    PermissionEvent save(PermissionEvent permissionEvent);
+
     /**
      * Returns a list of two {@link PermissionEvent} representing the latest and previous permission events.
      *
@@ -0,0 +1,26 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.api.agnostic.process.model.persistence;
+
+import energy.eddie.api.agnostic.process.model.PermissionRequest;
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+
+import java.util.List;
+
+/**
+ * A {@link StatusPermissionRequestRepository} that can read the permission requests with a status in pages, so that
+ * not all of them have to be loaded at once.
+ */
+public interface PagedStatusPermissionRequestRepository<T extends PermissionRequest> extends StatusPermissionRequestRepository<T> {
+    /**
+     * Reads a page of the permission requests with the status ordered by their permission ID.
+     *
+     * @param status            the status of the permission requests
+     * @param afterPermissionId only permission requests with a greater permission ID are returned, the empty string for
+     *                          the first page
+     * @param limit             the maximum number of permission requests
+     * @return the page of permission requests
+     */
+    List<T> findPageByStatus(PermissionProcessStatus status, String afterPermissionId, int limit);
+}
@@ -13,7 +13,8 @@ import java.util.*
 fun Project.configureJavaCompileWithErrorProne(packageName: String) {
     tasks.withType<JavaCompile>().configureEach {
         options.errorprone.disableWarningsInGeneratedCode.set(true)
-        if (!name.lowercase(Locale.getDefault()).contains("test")) {
+        val taskName = name.lowercase(Locale.getDefault())
+        if (!taskName.contains("test") && !taskName.contains("jmh")) {
             options.errorprone {
                 check("NullAway", CheckSeverity.ERROR)
                 option("NullAway:AnnotatedPackages", packageName)
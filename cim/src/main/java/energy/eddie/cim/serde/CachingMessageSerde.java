@@ -0,0 +1,38 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.cim.serde;
+
+import java.util.List;
+
+/**
+ * A {@link MessageSerde} that looks up serialized messages in a {@link SerializedPayloadCache} before serializing them
+ * using the delegate.
+ * Deserialization is not cached.
+ */
+public class CachingMessageSerde implements MessageSerde {
+    private final MessageSerde delegate;
+    private final String format;
+    private final SerializedPayloadCache cache;
+
+    public CachingMessageSerde(MessageSerde delegate, String format, SerializedPayloadCache cache) {
+        this.delegate = delegate;
+        this.format = format;
+        this.cache = cache;
+    }
+
+    @Override
+    public byte[] serialize(Object message) throws SerializationException {
+        return cache.serialize(message, format, delegate);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] message, Class<T> messageType) throws DeserializationException {
+        return delegate.deserialize(message, messageType);
+    }
+
+    @Override
+    public <T> List<T> deserializeList(byte[] message, Class<T> elementType) throws DeserializationException {
+        return delegate.deserializeList(message, elementType);
+    }
+}
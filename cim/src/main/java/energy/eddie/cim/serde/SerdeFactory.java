@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.cim.serde;
@@ -25,4 +25,17 @@ public interface SerdeFactory {
      * @throws SerdeInitializationException if initialization of the {@link MessageSerde} instance has failed or the requested format is not supported.
      */
     MessageSerde create(String format) throws SerdeInitializationException;
+
+    /**
+     * Creates an instance of a {@link MessageSerde} that supports the given format and shares serialized messages with
+     * all other serdes created with the same cache.
+     *
+     * @param format message format which should be serialized/deserialized
+     * @param cache  the cache for serialized messages
+     * @return an instance of the {@link MessageSerde} for the given format.
+     * @throws SerdeInitializationException if initialization of the {@link MessageSerde} instance has failed or the requested format is not supported.
+     */
+    default MessageSerde create(String format, SerializedPayloadCache cache) throws SerdeInitializationException {
+        return new CachingMessageSerde(create(format), format, cache);
+    }
 }
@@ -0,0 +1,106 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.cim.serde;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the serialized form of messages per format, so that a message that is sent by multiple outbound connectors
+ * is serialized only once per format.
+ * Messages are compared by identity and are only weakly referenced, so the cached payloads are dropped as soon as no
+ * connector holds the message anymore.
+ * The returned byte arrays are shared between all callers and must not be modified.
+ */
+public class SerializedPayloadCache {
+    private final Map<IdentityKey, Map<String, byte[]>> payloads = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the cached payload of the message for the format, or serializes the message using the serde.
+     *
+     * @param message the message to be serialized
+     * @param format  the format of the serde, serdes with the same format must produce the same payload
+     * @param serde   the serde used if the message was not serialized to the format yet
+     * @return the serialized message
+     * @throws SerializationException if the serialization failed
+     */
+    public byte[] serialize(Object message, String format, MessageSerde serde) throws SerializationException {
+        expungeCollectedMessages();
+        var formats = payloads.get(new IdentityKey(message, null));
+        if (formats == null) {
+            formats = payloads.computeIfAbsent(new IdentityKey(message, collected),
+                                               key -> new ConcurrentHashMap<>(2));
+        }
+        try {
+            return formats.computeIfAbsent(format, key -> serializeUnchecked(message, serde));
+        } catch (UncheckedSerializationException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The number of messages with cached payloads, including messages that are not referenced anymore, but were not
+     * removed yet.
+     */
+    public int size() {
+        expungeCollectedMessages();
+        return payloads.size();
+    }
+
+    private void expungeCollectedMessages() {
+        for (var ref = collected.poll(); ref != null; ref = collected.poll()) {
+            payloads.remove(ref);
+        }
+    }
+
+    private static byte[] serializeUnchecked(Object message, MessageSerde serde) {
+        try {
+            return serde.serialize(message);
+        } catch (SerializationException e) {
+            throw new UncheckedSerializationException(e);
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey other)) {
+                return false;
+            }
+            var referent = get();
+            return referent != null && referent == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class UncheckedSerializationException extends RuntimeException {
+        private UncheckedSerializationException(SerializationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SerializationException getCause() {
+            return (SerializationException) super.getCause();
+        }
+    }
+}
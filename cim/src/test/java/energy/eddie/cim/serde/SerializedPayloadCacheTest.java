@@ -0,0 +1,94 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.cim.serde;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedPayloadCacheTest {
+    private final SerializedPayloadCache cache = new SerializedPayloadCache();
+
+    @Test
+    void testSerialize_serializesMessageOncePerFormat() throws SerializationException {
+        // Given
+        var json = new CountingSerde("json");
+        var xml = new CountingSerde("xml");
+        var message = List.of("message");
+
+        // When
+        var first = cache.serialize(message, "json", json);
+        var second = new CachingMessageSerde(json, "json", cache).serialize(message);
+        var third = cache.serialize(message, "xml", xml);
+
+        // Then
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals("json", new String(first, StandardCharsets.UTF_8)),
+                () -> assertEquals("xml", new String(third, StandardCharsets.UTF_8)),
+                () -> assertEquals(1, json.invocations.get()),
+                () -> assertEquals(1, xml.invocations.get())
+        );
+    }
+
+    @Test
+    void testSerialize_comparesMessagesByIdentity() throws SerializationException {
+        // Given
+        var serde = new CountingSerde("json");
+
+        // When
+        cache.serialize(new StringBuilder("message").toString(), "json", serde);
+        cache.serialize(new StringBuilder("message").toString(), "json", serde);
+
+        // Then
+        assertEquals(2, serde.invocations.get());
+    }
+
+    @Test
+    void testSerialize_doesNotCacheFailures() throws SerializationException {
+        // Given
+        var message = new Object();
+        var failing = new CountingSerde(null);
+        var serde = new CountingSerde("json");
+
+        // When
+        assertThrows(SerializationException.class, () -> cache.serialize(message, "json", failing));
+        var res = cache.serialize(message, "json", serde);
+
+        // Then
+        assertEquals("json", new String(res, StandardCharsets.UTF_8));
+    }
+
+    private static final class CountingSerde implements MessageSerde {
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final String payload;
+
+        private CountingSerde(String payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public byte[] serialize(Object message) throws SerializationException {
+            invocations.incrementAndGet();
+            if (payload == null) {
+                throw new SerializationException(new IllegalStateException("Cannot serialize"));
+            }
+            return payload.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> T deserialize(byte[] message, Class<T> messageType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> List<T> deserializeList(byte[] message, Class<T> elementType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2023-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2023-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 import energy.eddie.configureJavaCompileWithErrorProne
@@ -9,6 +9,7 @@ plugins {
     id("energy.eddie.pnpm-build")
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
 }
 
 group = "energy.eddie"
@@ -69,6 +70,7 @@ dependencies {
     testImplementation(libs.testcontainers.junit)
     testImplementation(libs.junit.mockito)
     testImplementation(libs.reactor.test)
+    testImplementation(libs.opentelemetry.sdk.testing)
     testRuntimeOnly(libs.junit.platform.launcher)
     testRuntimeOnly(libs.h2database)
 }
@@ -0,0 +1,88 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.core.converters;
+
+import energy.eddie.cim.v0_82.vhd.*;
+import energy.eddie.core.converters.calculations.EnergyToPowerCalculation;
+import energy.eddie.core.converters.calculations.PowerToEnergyCalculation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a validated historical data market document with consumption and production data in
+ * 15-minute resolution, for one day and one year of data.
+ * Run with {@code ./gradlew :core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeasurementConverterBenchmark {
+    private static final String RESOLUTION = "PT15M";
+
+    @Param({"96", "35040"})
+    public int pointsPerSeries;
+
+    private final MeasurementConverter converter = new MeasurementConverter(List.of(new EnergyToPowerCalculation(),
+                                                                                    new PowerToEnergyCalculation()));
+    private List<TimeSeriesComplexType> timeSeries;
+    private ValidatedHistoricalDataEnvelope envelope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timeSeries = List.of(
+                timeSeries(UnitOfMeasureTypeList.KILOWATT_HOUR, DirectionTypeList.DOWN),
+                timeSeries(UnitOfMeasureTypeList.KILOWATT_HOUR, DirectionTypeList.UP)
+        );
+        envelope = new ValidatedHistoricalDataEnvelope()
+                .withValidatedHistoricalDataMarketDocument(
+                        new ValidatedHistoricalDataMarketDocumentComplexType()
+                                .withTimeSeriesList(new ValidatedHistoricalDataMarketDocumentComplexType.TimeSeriesList())
+                );
+    }
+
+    /**
+     * The converter appends the converted time series to the document, so the original time series are restored
+     * before every conversion.
+     */
+    @Setup(Level.Invocation)
+    public void resetDocument() {
+        var list = envelope.getValidatedHistoricalDataMarketDocument().getTimeSeriesList().getTimeSeries();
+        list.clear();
+        list.addAll(timeSeries);
+    }
+
+    @Benchmark
+    public ValidatedHistoricalDataEnvelope convert() {
+        return converter.convert(envelope);
+    }
+
+    private TimeSeriesComplexType timeSeries(UnitOfMeasureTypeList unit, DirectionTypeList direction) {
+        var points = new ArrayList<PointComplexType>(pointsPerSeries);
+        for (int i = 1; i <= pointsPerSeries; i++) {
+            points.add(new PointComplexType()
+                               .withPosition(String.valueOf(i))
+                               .withEnergyQuantityQuantity(BigDecimal.valueOf(i % 400, 3))
+                               .withEnergyQuantityQuality(QualityTypeList.AS_PROVIDED));
+        }
+        return new TimeSeriesComplexType()
+                .withMRID("mrid-" + direction.value())
+                .withEnergyMeasurementUnitName(unit)
+                .withFlowDirectionDirection(direction)
+                .withSeriesPeriodList(
+                        new TimeSeriesComplexType.SeriesPeriodList()
+                                .withSeriesPeriods(
+                                        new SeriesPeriodComplexType()
+                                                .withResolution(RESOLUTION)
+                                                .withPointList(new SeriesPeriodComplexType.PointList().withPoints(points))
+                                )
+                );
+    }
+}
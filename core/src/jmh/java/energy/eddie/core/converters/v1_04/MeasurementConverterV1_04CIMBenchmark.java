@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.core.converters.v1_04;
+
+import energy.eddie.cim.v1_04.StandardDirectionTypeList;
+import energy.eddie.cim.v1_04.StandardQualityTypeList;
+import energy.eddie.cim.v1_04.StandardUnitOfMeasureTypeList;
+import energy.eddie.cim.v1_04.vhd.*;
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.datatype.DatatypeFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a validated historical data market document with consumption and production data in
+ * 15-minute resolution, for one day and one year of data.
+ * Run with {@code ./gradlew :core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("java:S101")
+public class MeasurementConverterV1_04CIMBenchmark {
+    @Param({"96", "35040"})
+    public int pointsPerSeries;
+
+    private final MeasurementConverterV1_04CIM converter = new MeasurementConverterV1_04CIM(
+            List.of(new EnergyToPowerCalculation(), new PowerToEnergyCalculation())
+    );
+    private List<TimeSeries> timeSeries;
+    private VHDEnvelope envelope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timeSeries = List.of(
+                timeSeries(StandardDirectionTypeList.DOWN),
+                timeSeries(StandardDirectionTypeList.UP)
+        );
+        envelope = new VHDEnvelope().withMarketDocument(new VHDMarketDocument());
+    }
+
+    /**
+     * The converter appends the converted time series to the document, so the original time series are restored
+     * before every conversion.
+     */
+    @Setup(Level.Invocation)
+    public void resetDocument() {
+        var list = envelope.getMarketDocument().getTimeSeries();
+        list.clear();
+        list.addAll(timeSeries);
+    }
+
+    @Benchmark
+    public VHDEnvelope convert() {
+        return converter.convert(envelope);
+    }
+
+    private TimeSeries timeSeries(StandardDirectionTypeList direction) {
+        var points = new ArrayList<Point>(pointsPerSeries);
+        for (int i = 1; i <= pointsPerSeries; i++) {
+            points.add(new Point()
+                               .withPosition(i)
+                               .withEnergyQuantityQuantity(BigDecimal.valueOf(i % 400, 3))
+                               .withEnergyQuantityQuality(StandardQualityTypeList.AS_PROVIDED.value()));
+        }
+        return new TimeSeries()
+                .withEnergyMeasurementUnitName(StandardUnitOfMeasureTypeList.KILOWATT_HOUR.value())
+                .withFlowDirectionDirection(direction.value())
+                .withPeriods(
+                        new SeriesPeriod()
+                                .withResolution(DatatypeFactory.newDefaultInstance().newDuration("PT15M"))
+                                .withPoints(points)
+                );
+    }
+}
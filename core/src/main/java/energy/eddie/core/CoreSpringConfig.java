@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2023-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2023-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core;
@@ -8,7 +8,9 @@ import energy.eddie.OpenApiDocs;
 import energy.eddie.api.cim.config.CommonInformationModelConfiguration;
 import energy.eddie.api.cim.config.PlainCommonInformationModelConfiguration;
 import energy.eddie.api.utils.Shared;
+import energy.eddie.cim.serde.SerializedPayloadCache;
 import energy.eddie.cim.v0_82.vhd.CodingSchemeTypeList;
+import energy.eddie.core.services.MessageStreamConfiguration;
 import energy.eddie.dataneeds.DataNeedsSpringConfig;
 import energy.eddie.regionconnector.shared.timeout.TimeoutConfiguration;
 import energy.eddie.spring.OutboundConnectorRegistrationBeanPostProcessor;
@@ -27,6 +29,7 @@ import org.springdoc.webmvc.core.configuration.SpringDocWebMvcConfiguration;
 import org.springdoc.webmvc.ui.SwaggerConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
@@ -54,6 +57,7 @@ import static energy.eddie.spring.RegionConnectorRegistrationBeanPostProcessor.e
                 SpringDocConfigProperties.class,
         }
 )
+@EnableConfigurationProperties(MessageStreamConfiguration.class)
 public class CoreSpringConfig implements WebMvcConfigurer {
     public static final String DATA_NEEDS_URL_MAPPING_PREFIX = "/data-needs";
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreSpringConfig.class);
@@ -162,4 +166,13 @@ public class CoreSpringConfig implements WebMvcConfigurer {
     ) {
         return new PlainCommonInformationModelConfiguration(CodingSchemeTypeList.fromValue(codingScheme), fallbackId);
     }
+
+    /**
+     * Shared with the outbound connectors, so that each message of the {@link energy.eddie.core.services.MessageStreamHub}
+     * is serialized at most once per format, regardless of how many outbound connectors send it.
+     */
+    @Bean
+    public SerializedPayloadCache serializedPayloadCache() {
+        return new SerializedPayloadCache();
+    }
 }
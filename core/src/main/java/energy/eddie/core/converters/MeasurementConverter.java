@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters;
@@ -11,11 +11,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * A component that can convert the measurement of a validated historical data market document.
+ * The units of the document are collected once, and each converted time series is built in a single pass over its
+ * points, so that large documents do not produce more intermediate objects than the converted points themselves.
  */
 @Component
 public class MeasurementConverter {
@@ -30,7 +34,6 @@ public class MeasurementConverter {
     public ValidatedHistoricalDataEnvelope convert(ValidatedHistoricalDataEnvelope convertee) {
         LOGGER.info("Applying converters to validated historical data market document");
         var doc = convertee.getValidatedHistoricalDataMarketDocument();
-        var convertedTimeSeries = new ArrayList<TimeSeriesComplexType>();
         if (doc.getTimeSeriesList() == null) {
             LOGGER.atWarn()
                   .addArgument(() -> convertee.getMessageDocumentHeader()
@@ -39,21 +42,35 @@ public class MeasurementConverter {
                   .log("TimeSeries list is null for permission request {}");
             return convertee;
         }
+        var timeSeriesList = doc.getTimeSeriesList().getTimeSeries();
+        var units = unitsOf(timeSeriesList);
+        var convertedTimeSeries = new ArrayList<TimeSeriesComplexType>();
         for (var calculation : calculations) {
-            if (doesNotContainTargetUnit(calculation, doc)) {
-                convert(doc, convertedTimeSeries, calculation);
+            if (doesNotContainTargetUnit(calculation, units)) {
+                convert(timeSeriesList, convertedTimeSeries, calculation);
             }
         }
-        doc.getTimeSeriesList().withTimeSeries(convertedTimeSeries);
+        timeSeriesList.addAll(convertedTimeSeries);
         return convertee;
     }
 
-    private boolean doesNotContainTargetUnit(
+    private static Set<UnitOfMeasureTypeList> unitsOf(List<TimeSeriesComplexType> timeSeriesList) {
+        var units = EnumSet.noneOf(UnitOfMeasureTypeList.class);
+        for (var timeSeries : timeSeriesList) {
+            var unit = timeSeries.getEnergyMeasurementUnitName();
+            if (unit != null) {
+                units.add(unit);
+            }
+        }
+        return units;
+    }
+
+    private static boolean doesNotContainTargetUnit(
             MeasurementCalculation calculation,
-            ValidatedHistoricalDataMarketDocumentComplexType convertee
+            Set<UnitOfMeasureTypeList> units
     ) {
-        for (var timeSeries : convertee.getTimeSeriesList().getTimeSeries()) {
-            if (calculation.isTargetUnit(timeSeries.getEnergyMeasurementUnitName())) {
+        for (var unit : units) {
+            if (calculation.isTargetUnit(unit)) {
                 return false;
             }
         }
@@ -61,11 +78,11 @@ public class MeasurementConverter {
     }
 
     private void convert(
-            ValidatedHistoricalDataMarketDocumentComplexType convertee,
+            List<TimeSeriesComplexType> timeSeriesList,
             List<TimeSeriesComplexType> convertedTimeSeries,
             MeasurementCalculation calculation
     ) {
-        for (var timeSeries : convertee.getTimeSeriesList().getTimeSeries()) {
+        for (var timeSeries : timeSeriesList) {
             var oldUnit = timeSeries.getEnergyMeasurementUnitName();
             ScaledUnit scaledUnit;
             try {
@@ -76,16 +93,16 @@ public class MeasurementConverter {
             var converted = clone(timeSeries)
                     .withEnergyMeasurementUnitName(scaledUnit.unit())
                     .withProduct(scaledUnit.energyProduct());
-            var seriesPeriods = new ArrayList<SeriesPeriodComplexType>();
-            for (var seriesPeriod : timeSeries.getSeriesPeriodList().getSeriesPeriods()) {
-                var resolution = seriesPeriod.getResolution();
-                var points = new ArrayList<PointComplexType>();
-                for (var point : seriesPeriod.getPointList().getPoints()) {
-                    var measurement = point.getEnergyQuantityQuantity();
-                    var newMeasurement = calculation.convert(measurement, resolution, scaledUnit.scale());
-                    points.add(
+            var periods = timeSeries.getSeriesPeriodList().getSeriesPeriods();
+            var seriesPeriods = new ArrayList<SeriesPeriodComplexType>(periods.size());
+            for (var seriesPeriod : periods) {
+                var converter = calculation.converter(seriesPeriod.getResolution(), scaledUnit.scale());
+                var points = seriesPeriod.getPointList().getPoints();
+                var convertedPoints = new ArrayList<PointComplexType>(points.size());
+                for (var point : points) {
+                    convertedPoints.add(
                             new PointComplexType()
-                                    .withEnergyQuantityQuantity(newMeasurement)
+                                    .withEnergyQuantityQuantity(converter.apply(point.getEnergyQuantityQuantity()))
                                     .withEnergyQuantityQuality(QualityTypeList.ADJUSTED)
                                     .withPosition(point.getPosition())
                     );
@@ -94,7 +111,7 @@ public class MeasurementConverter {
                         clone(seriesPeriod)
                                 .withPointList(
                                         new SeriesPeriodComplexType.PointList()
-                                                .withPoints(points)
+                                                .withPoints(convertedPoints)
                                 )
                 );
             }
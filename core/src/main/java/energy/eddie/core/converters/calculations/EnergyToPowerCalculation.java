@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.calculations;
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.function.UnaryOperator;
 
 @ConditionalOnProperty(prefix = "eddie.converters", name = "power", havingValue = "true")
 @Component
@@ -29,12 +30,13 @@ public class EnergyToPowerCalculation implements MeasurementCalculation {
      */
     @Override
     public BigDecimal convert(BigDecimal value, String resolution, BigDecimal scale) {
-        var granularity = BigDecimal.valueOf(Granularity.valueOf(resolution).minutes())
-                                    .setScale(1, RoundingMode.HALF_UP)
-                                    .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
-        return value
-                .setScale(1, RoundingMode.HALF_UP)
-                .divide(granularity, RoundingMode.HALF_UP);
+        return converter(resolution, scale).apply(value);
+    }
+
+    @Override
+    public UnaryOperator<BigDecimal> converter(String resolution, BigDecimal scale) {
+        var granularity = granularity(resolution);
+        return value -> value.setScale(1, RoundingMode.HALF_UP).divide(granularity, RoundingMode.HALF_UP);
     }
 
     @Override
@@ -58,4 +60,10 @@ public class EnergyToPowerCalculation implements MeasurementCalculation {
     public boolean isTargetUnit(UnitOfMeasureTypeList unit) {
         return UnitConstants.powerUnits.contains(unit);
     }
+
+    private static BigDecimal granularity(String resolution) {
+        return BigDecimal.valueOf(Granularity.valueOf(resolution).minutes())
+                         .setScale(1, RoundingMode.HALF_UP)
+                         .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
+    }
 }
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.calculations;
@@ -7,10 +7,23 @@ import energy.eddie.cim.v0_82.vhd.UnitOfMeasureTypeList;
 import energy.eddie.core.converters.UnsupportedUnitException;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 public interface MeasurementCalculation {
     BigDecimal convert(BigDecimal value, String resolution, BigDecimal scale);
 
+    /**
+     * Creates a conversion for all values of one series period.
+     * Factors that only depend on the resolution and scale are computed once instead of for every value.
+     *
+     * @param resolution the resolution of the series period
+     * @param scale      the scale that should be used for the calculation
+     * @return a function that converts a single value, equivalent to {@link #convert(BigDecimal, String, BigDecimal)}
+     */
+    default UnaryOperator<BigDecimal> converter(String resolution, BigDecimal scale) {
+        return value -> convert(value, resolution, scale);
+    }
+
     ScaledUnit scaledUnit(UnitOfMeasureTypeList unit) throws UnsupportedUnitException;
 
     boolean isTargetUnit(UnitOfMeasureTypeList unit);
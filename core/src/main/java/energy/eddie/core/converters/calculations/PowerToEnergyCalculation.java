@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.calculations;
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.function.UnaryOperator;
 
 @ConditionalOnProperty(prefix = "eddie.converters", name = "energy", havingValue = "true")
 @Component
@@ -32,13 +33,16 @@ public class PowerToEnergyCalculation implements MeasurementCalculation {
      */
     @Override
     public BigDecimal convert(BigDecimal value, String resolution, BigDecimal scale) {
-        var granularity = BigDecimal.valueOf(Granularity.valueOf(resolution).minutes())
-                                    .setScale(1, RoundingMode.HALF_UP)
-                                    .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
-        return value
-                .setScale(1, RoundingMode.HALF_UP)
-                .multiply(scale)
-                .multiply(granularity);
+        return converter(resolution, scale).apply(value);
+    }
+
+    /**
+     * The product of the scale and the granularity is computed once, since multiplying {@link BigDecimal}s is exact.
+     */
+    @Override
+    public UnaryOperator<BigDecimal> converter(String resolution, BigDecimal scale) {
+        var factor = scale.multiply(granularity(resolution));
+        return value -> value.setScale(1, RoundingMode.HALF_UP).multiply(factor);
     }
 
     @Override
@@ -72,4 +76,10 @@ public class PowerToEnergyCalculation implements MeasurementCalculation {
     public boolean isTargetUnit(UnitOfMeasureTypeList unit) {
         return UnitConstants.energyUnits.contains(unit);
     }
+
+    private static BigDecimal granularity(String resolution) {
+        return BigDecimal.valueOf(Granularity.valueOf(resolution).minutes())
+                         .setScale(1, RoundingMode.HALF_UP)
+                         .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
+    }
 }
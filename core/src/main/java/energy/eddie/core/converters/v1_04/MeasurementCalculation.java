@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.v1_04;
@@ -8,10 +8,19 @@ import energy.eddie.core.converters.UnsupportedUnitException;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.function.UnaryOperator;
 
 interface MeasurementCalculation {
     BigDecimal convert(BigDecimal value, Duration resolution, BigDecimal scale);
 
+    /**
+     * Creates a conversion for all values of one series period.
+     * Factors that only depend on the resolution and scale are computed once instead of for every value.
+     */
+    default UnaryOperator<BigDecimal> converter(Duration resolution, BigDecimal scale) {
+        return value -> convert(value, resolution, scale);
+    }
+
     ScaledUnit scaledUnit(StandardUnitOfMeasureTypeList unit) throws UnsupportedUnitException;
 
     boolean isTargetUnit(StandardUnitOfMeasureTypeList unit);
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.v1_04;
@@ -11,12 +11,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import javax.xml.datatype.DatatypeConstants;
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @SuppressWarnings("java:S101") // Names shouldn't contain underscores, but this is required to not have bean name clashes with the other MeasurementConverter
@@ -32,57 +36,68 @@ public class MeasurementConverterV1_04CIM {
 
     public VHDEnvelope convert(VHDEnvelope convertee) {
         LOGGER.info("Applying converters to validated historical data market document");
+        if (newCalculations.isEmpty()) {
+            return convertee;
+        }
         var doc = convertee.getMarketDocument();
+        var timeSeriesList = doc.getTimeSeries();
+        var units = new ArrayList<StandardUnitOfMeasureTypeList>(timeSeriesList.size());
+        for (var timeSeries : timeSeriesList) {
+            units.add(StandardUnitOfMeasureTypeList.fromValue(timeSeries.getEnergyMeasurementUnitName()));
+        }
+        var presentUnits = EnumSet.noneOf(StandardUnitOfMeasureTypeList.class);
+        presentUnits.addAll(units);
         var convertedTimeSeries = new ArrayList<TimeSeries>();
         for (var calculation : newCalculations) {
-            if (doesNotContainTargetUnit(calculation, doc)) {
-                convertedTimeSeries.addAll(convert(doc, calculation));
+            if (doesNotContainTargetUnit(calculation, presentUnits)) {
+                convert(timeSeriesList, units, calculation, convertedTimeSeries);
             }
         }
-        doc.withTimeSeries(convertedTimeSeries);
+        timeSeriesList.addAll(convertedTimeSeries);
         return convertee;
     }
 
-    private boolean doesNotContainTargetUnit(
+    private static boolean doesNotContainTargetUnit(
             MeasurementCalculation calculation,
-            VHDMarketDocument convertee
+            Set<StandardUnitOfMeasureTypeList> units
     ) {
-        for (var timeSeries : convertee.getTimeSeries()) {
-            if (calculation.isTargetUnit(StandardUnitOfMeasureTypeList.fromValue(timeSeries.getEnergyMeasurementUnitName()))) {
+        for (var unit : units) {
+            if (calculation.isTargetUnit(unit)) {
                 return false;
             }
         }
         return true;
     }
 
-    private List<TimeSeries> convert(
-            VHDMarketDocument convertee,
-            MeasurementCalculation calculation
+    private static void convert(
+            List<TimeSeries> timeSeriesList,
+            List<StandardUnitOfMeasureTypeList> units,
+            MeasurementCalculation calculation,
+            List<TimeSeries> convertedTimeSeries
     ) {
-        var convertedTimeSeries = new ArrayList<TimeSeries>();
-        for (var timeSeries : convertee.getTimeSeries()) {
-            var oldUnit = timeSeries.getEnergyMeasurementUnitName();
+        for (int i = 0; i < timeSeriesList.size(); i++) {
+            var timeSeries = timeSeriesList.get(i);
             ScaledUnit scaledUnit;
             try {
-                scaledUnit = calculation.scaledUnit(StandardUnitOfMeasureTypeList.fromValue(oldUnit));
+                scaledUnit = calculation.scaledUnit(units.get(i));
             } catch (UnsupportedUnitException e) {
                 continue;
             }
-            var seriesPeriods = new ArrayList<SeriesPeriod>();
-            for (var seriesPeriod : timeSeries.getPeriods()) {
-                var resolution = toJavaDuration(seriesPeriod.getResolution());
-                var points = new ArrayList<Point>();
-                for (var point : seriesPeriod.getPoints()) {
-                    var measurement = point.getEnergyQuantityQuantity();
-                    var newMeasurement = calculation.convert(measurement, resolution, scaledUnit.scale());
-                    points.add(
+            var periods = timeSeries.getPeriods();
+            var seriesPeriods = new ArrayList<SeriesPeriod>(periods.size());
+            for (var seriesPeriod : periods) {
+                var converter = calculation.converter(toJavaDuration(seriesPeriod.getResolution()), scaledUnit.scale());
+                var points = seriesPeriod.getPoints();
+                var convertedPoints = new ArrayList<Point>(points.size());
+                for (var point : points) {
+                    convertedPoints.add(
                             new Point()
-                                    .withEnergyQuantityQuantity(newMeasurement)
+                                    .withEnergyQuantityQuantity(converter.apply(point.getEnergyQuantityQuantity()))
                                     .withEnergyQuantityQuality(StandardQualityTypeList.ADJUSTED.value())
                                     .withPosition(point.getPosition())
                     );
                 }
-                seriesPeriods.add(clone(seriesPeriod).withPoints(points));
+                seriesPeriods.add(clone(seriesPeriod).withPoints(convertedPoints));
             }
             convertedTimeSeries.add(
                     clone(timeSeries)
@@ -91,10 +106,21 @@ public class MeasurementConverterV1_04CIM {
                             .withPeriods(seriesPeriods)
             );
         }
-        return convertedTimeSeries;
     }
 
-    private static Duration toJavaDuration(javax.xml.datatype.Duration oldRes) {
+    static Duration toJavaDuration(javax.xml.datatype.Duration oldRes) {
+        if (oldRes.getYears() == 0 && oldRes.getMonths() == 0) {
+            if (hasFractionalSeconds(oldRes)) {
+                // getSeconds() truncates fractional seconds, the ISO-8601 representation keeps them
+                return Duration.parse(oldRes.toString());
+            }
+            // Without years and months the length does not depend on the start, so no calendar is needed
+            var duration = Duration.ofDays(oldRes.getDays())
+                                   .plusHours(oldRes.getHours())
+                                   .plusMinutes(oldRes.getMinutes())
+                                   .plusSeconds(oldRes.getSeconds());
+            return oldRes.getSign() < 0 ? duration.negated() : duration;
+        }
         var now = Instant.now(Clock.systemUTC());
         GregorianCalendar calendar = GregorianCalendar.from(java.time.ZonedDateTime.ofInstant(now,
                                                                                               java.time.ZoneOffset.UTC));
@@ -104,6 +130,11 @@ public class MeasurementConverterV1_04CIM {
         return Duration.between(now, future);
     }
 
+    private static boolean hasFractionalSeconds(javax.xml.datatype.Duration duration) {
+        var seconds = (BigDecimal) duration.getField(DatatypeConstants.SECONDS);
+        return seconds != null && seconds.stripTrailingZeros().scale() > 0;
+    }
+
     private static TimeSeries clone(TimeSeries source) {
         return new TimeSeries()
                 .withVersion(source.getVersion())
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.v1_04;
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
+import java.util.function.UnaryOperator;
 
 import static energy.eddie.cim.v1_04.StandardEnergyProductTypeList.ACTIVE_ENERGY;
 import static energy.eddie.cim.v1_04.StandardEnergyProductTypeList.REACTIVE_ENERGY;
@@ -36,13 +37,16 @@ class PowerToEnergyCalculation implements MeasurementCalculation {
      */
     @Override
     public BigDecimal convert(BigDecimal value, Duration resolution, BigDecimal scale) {
-        var granularity = BigDecimal.valueOf(resolution.toMinutes())
-                                    .setScale(1, RoundingMode.HALF_UP)
-                                    .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
-        return value
-                .setScale(1, RoundingMode.HALF_UP)
-                .multiply(scale)
-                .multiply(granularity);
+        return converter(resolution, scale).apply(value);
+    }
+
+    /**
+     * The product of the scale and the granularity is computed once, since multiplying {@link BigDecimal}s is exact.
+     */
+    @Override
+    public UnaryOperator<BigDecimal> converter(Duration resolution, BigDecimal scale) {
+        var factor = scale.multiply(granularity(resolution));
+        return value -> value.setScale(1, RoundingMode.HALF_UP).multiply(factor);
     }
 
     @Override
@@ -67,4 +71,10 @@ class PowerToEnergyCalculation implements MeasurementCalculation {
     public boolean isTargetUnit(StandardUnitOfMeasureTypeList unit) {
         return UnitConstants.ENERGY_UNITS.contains(unit);
     }
+
+    private static BigDecimal granularity(Duration resolution) {
+        return BigDecimal.valueOf(resolution.toMinutes())
+                         .setScale(1, RoundingMode.HALF_UP)
+                         .divide(UnitConstants.MINUTES_IN_HOUR, RoundingMode.HALF_UP);
+    }
 }
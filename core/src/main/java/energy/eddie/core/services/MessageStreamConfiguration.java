@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.core.services;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Configures the buffers of the {@link MessageStreamHub}.
+ * The buffer size and overflow strategy can be overridden per message type, using the simple class name of the message
+ * type as key, for example {@code eddie.message-streams.buffer-sizes.ConnectionStatusMessage=5000}.
+ *
+ * @param bufferSize         Maximum number of messages buffered for each receiver of a message type.
+ * @param overflowStrategy   What happens if the buffer of a receiver is full.
+ * @param warningInterval    Minimum time between two warnings about dropped or delayed messages of a message type.
+ * @param bufferSizes        Buffer sizes per message type.
+ * @param overflowStrategies Overflow strategies per message type.
+ */
+@ConfigurationProperties(prefix = "eddie.message-streams")
+public record MessageStreamConfiguration(
+        @DefaultValue("1024") int bufferSize,
+        @DefaultValue("BLOCK") OverflowStrategy overflowStrategy,
+        @DefaultValue("PT10S") Duration warningInterval,
+        @DefaultValue Map<String, Integer> bufferSizes,
+        @DefaultValue Map<String, OverflowStrategy> overflowStrategies
+) {
+    public MessageStreamConfiguration {
+        var caseInsensitiveBufferSizes = new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveBufferSizes.putAll(bufferSizes);
+        bufferSizes = caseInsensitiveBufferSizes;
+        var caseInsensitiveOverflowStrategies = new TreeMap<String, OverflowStrategy>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveOverflowStrategies.putAll(overflowStrategies);
+        overflowStrategies = caseInsensitiveOverflowStrategies;
+    }
+
+    public int bufferSizeOf(Class<?> messageType) {
+        return bufferSizes.getOrDefault(messageType.getSimpleName(), bufferSize);
+    }
+
+    public OverflowStrategy overflowStrategyOf(Class<?> messageType) {
+        return overflowStrategies.getOrDefault(messageType.getSimpleName(), overflowStrategy);
+    }
+
+    public enum OverflowStrategy {
+        /**
+         * Stops requesting messages from the providers until the slowest receiver has free buffer space again, no
+         * message is lost.
+         * Message types without receivers only buffer messages for the first receiver and drop them once the buffer
+         * is full, so that their providers are not stalled.
+         */
+        BLOCK,
+        /**
+         * Drops the oldest buffered message of the receiver, so that slow receivers only ever see recent messages.
+         * Only suitable for message types where losing messages is acceptable.
+         */
+        DROP_OLDEST,
+        /**
+         * Drops the new message for the receiver whose buffer is full.
+         * Only suitable for message types where losing messages is acceptable.
+         */
+        DROP_LATEST
+    }
+}
@@ -3,14 +3,29 @@
 
 package energy.eddie.core.services;
 
+import energy.eddie.core.services.MessageStreamConfiguration.OverflowStrategy;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -19,44 +34,217 @@ import java.util.function.Supplier;
  * class uses Reactor's {@link Sinks.Many} and {@link Flux} to facilitate reactive
  * communication. Each message type is mapped to a corresponding stream sink, allowing
  * multiple providers and receivers to interact concurrently.
+ * <p>
+ * Every receiver consumes its messages on its own worker from a bounded buffer. What happens if that buffer is full is
+ * configured by the {@link OverflowStrategy} of the message type. By default, no more messages are requested from the
+ * providers until the slowest receiver catches up, so that no message is lost. Message types that opt in to dropping
+ * messages cannot be stalled by a slow receiver, every dropped message is reported in the metrics and logged.
+ * Providers of a message type without receivers are never stalled, messages are buffered until the first receiver
+ * subscribes and dropped once that buffer is full.
  */
 @Component
 public class MessageStreamHub implements AutoCloseable {
-    private final Map<Class<?>, Sinks.Many<Object>> sinksByType = new HashMap<>();
-    private final Map<Class<?>, List<Consumer<Flux<?>>>> receiversByType = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageStreamHub.class);
+    private static final AttributeKey<String> MESSAGE_TYPE = AttributeKey.stringKey("message_type");
+    private static final AttributeKey<String> RECEIVER = AttributeKey.stringKey("receiver");
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+    private static final int RECEIVER_PREFETCH = 32;
+    private static final Duration RETRY_PAUSE = Duration.ofMillis(10);
+    private static final Duration BUSY_LOOPING = Duration.ofMillis(10);
+    private final Map<Class<?>, MessageChannel<?>> channelsByType = new ConcurrentHashMap<>();
+    private final MessageStreamConfiguration config;
+    private final LongCounter emitted;
+    private final LongCounter emissionFailures;
+    private final LongCounter dropped;
+    private final ObservableLongGauge buffered;
+    private final ObservableLongGauge receiverBuffered;
 
-    @SuppressWarnings("unchecked")
-    public synchronized <T> void registerProvider(Class<T> messageType, Supplier<Flux<T>> provider) {
-        var isPresent = sinksByType.containsKey(messageType);
-        var sink = (Sinks.Many<T>) sinksByType.computeIfAbsent(
-                messageType,
-                key -> Sinks.many().multicast().onBackpressureBuffer()
-        );
+    public MessageStreamHub(
+            MessageStreamConfiguration config,
+            @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") OpenTelemetry openTelemetry
+    ) {
+        this.config = config;
+        var meter = openTelemetry.getMeter(MessageStreamHub.class.getName());
+        this.emitted = meter.counterBuilder("eddie_message_stream_emitted")
+                            .setDescription("Messages emitted by providers per message type")
+                            .build();
+        this.emissionFailures = meter.counterBuilder("eddie_message_stream_emission_failures")
+                                     .setDescription("Messages that could not be emitted per message type and result")
+                                     .build();
+        this.dropped = meter.counterBuilder("eddie_message_stream_dropped")
+                            .setDescription("Messages dropped because the buffer of a receiver was full")
+                            .build();
+        this.buffered = meter.gaugeBuilder("eddie_message_stream_buffered")
+                             .setDescription("Messages buffered per message type that were not requested by any receiver yet")
+                             .ofLongs()
+                             .buildWithCallback(this::recordBuffered);
+        this.receiverBuffered = meter.gaugeBuilder("eddie_message_stream_receiver_buffered")
+                                     .setDescription("Messages buffered per message type and receiver")
+                                     .ofLongs()
+                                     .buildWithCallback(this::recordReceiverBuffered);
+    }
 
-        provider.get().subscribe(sink::tryEmitNext);
+    public <T> void registerProvider(Class<T> messageType, Supplier<Flux<T>> provider) {
+        var channel = channelOf(messageType);
+        provider.get()
+                .concatMap(channel::emit)
+                .subscribe();
+    }
 
-        var receivers = receiversByType.get(messageType);
-        if (receivers != null && !isPresent) {
-            for (var receiver : receivers) {
-                receiver.accept(sink.asFlux());
-            }
+    public <T> void registerReceiver(Class<T> messageType, Consumer<Flux<?>> receiver) {
+        var channel = channelOf(messageType);
+        receiver.accept(channel.receiverFlux("receiver-" + channel.receiverIds.getAndIncrement()));
+    }
+
+    /**
+     * Registers a receiver, whose buffer is reported in the metrics under the given name.
+     */
+    public <T> void registerReceiver(Class<T> messageType, String receiverName, Consumer<Flux<?>> receiver) {
+        receiver.accept(channelOf(messageType).receiverFlux(receiverName));
+    }
+
+    @Override
+    public void close() {
+        for (var channel : channelsByType.values()) {
+            channel.sink.tryEmitComplete();
         }
+        buffered.close();
+        receiverBuffered.close();
     }
 
     @SuppressWarnings("unchecked")
-    public synchronized <T> void registerReceiver(Class<T> messageType, Consumer<Flux<?>> receiver) {
-        receiversByType.computeIfAbsent(messageType, key -> new ArrayList<>()).add(receiver);
+    private <T> MessageChannel<T> channelOf(Class<T> messageType) {
+        return (MessageChannel<T>) channelsByType.computeIfAbsent(messageType, MessageChannel::new);
+    }
 
-        var sink = (Sinks.Many<T>) sinksByType.get(messageType);
-        if (sink != null) {
-            receiver.accept(sink.asFlux());
+    private void recordBuffered(ObservableLongMeasurement measurement) {
+        for (var channel : channelsByType.values()) {
+            var size = channel.sink.scan(Scannable.Attr.BUFFERED);
+            measurement.record(size == null ? 0 : size, channel.attributes);
         }
     }
 
-    @Override
-    public void close() {
-        for (var sink : sinksByType.values()) {
-            sink.tryEmitComplete();
+    private void recordReceiverBuffered(ObservableLongMeasurement measurement) {
+        for (var channel : channelsByType.values()) {
+            for (var entry : channel.receiverBuffers.entrySet()) {
+                measurement.record(entry.getValue().get(),
+                                   channel.attributes.toBuilder().put(RECEIVER, entry.getKey()).build());
+            }
+        }
+    }
+
+    private final class MessageChannel<T> {
+        private final String messageType;
+        private final Attributes attributes;
+        private final int bufferSize;
+        private final OverflowStrategy overflowStrategy;
+        private final long warningIntervalNanos;
+        /**
+         * Buffers messages until the first receiver subscribes, afterward the receivers buffer their messages
+         * themselves, except for {@link OverflowStrategy#BLOCK}, where this buffer is used to apply backpressure.
+         */
+        private final Sinks.Many<T> sink;
+        private final Map<String, AtomicLong> receiverBuffers = new ConcurrentHashMap<>();
+        private final AtomicInteger receiverIds = new AtomicInteger();
+        private final AtomicLong nextWarning = new AtomicLong(System.nanoTime());
+        private final AtomicLong suppressedWarnings = new AtomicLong();
+
+        private MessageChannel(Class<?> messageType) {
+            this.messageType = messageType.getSimpleName();
+            this.attributes = Attributes.of(MESSAGE_TYPE, this.messageType);
+            this.bufferSize = config.bufferSizeOf(messageType);
+            this.overflowStrategy = config.overflowStrategyOf(messageType);
+            this.warningIntervalNanos = config.warningInterval().toNanos();
+            this.sink = Sinks.many().multicast().onBackpressureBuffer(bufferSize, false);
+        }
+
+        /**
+         * Emits a message to all receivers.
+         * If the message cannot be emitted right away, because a receiver does not keep up, the returned mono only
+         * completes once it was emitted, so that no further messages are requested from the provider in the meantime.
+         * The emission is retried on a timer instead of parking the thread of the provider, which is often an event
+         * loop.
+         */
+        private Mono<Void> emit(T message) {
+            if (tryEmit(message)) {
+                return Mono.empty();
+            }
+            return Mono.delay(RETRY_PAUSE)
+                       .map(ignored -> tryEmit(message))
+                       .filter(Boolean::booleanValue)
+                       .repeatWhenEmpty(repeats -> repeats)
+                       .then();
+        }
+
+        /**
+         * Tries to emit a message once.
+         *
+         * @return false if the emission should be retried later
+         */
+        private boolean tryEmit(T message) {
+            var result = sink.tryEmitNext(message);
+            if (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                // Another provider is emitting at the same time
+                var handler = Sinks.EmitFailureHandler.busyLooping(BUSY_LOOPING);
+                while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED
+                       && handler.onEmitFailure(SignalType.ON_NEXT, result)) {
+                    result = sink.tryEmitNext(message);
+                }
+            }
+            if (result.isSuccess()) {
+                emitted.add(1, attributes);
+                return true;
+            }
+            if (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                return false;
+            }
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW && overflowStrategy == OverflowStrategy.BLOCK) {
+                if (sink.currentSubscriberCount() > 0) {
+                    warn("Receivers do not keep up with the providers, waiting for free buffer space");
+                    return false;
+                }
+                // Without receivers, nobody would ever free the buffer, which would stall the provider for good
+                emissionFailures.add(1, attributes.toBuilder().put(RESULT, result.name()).build());
+                warn("Dropped a message, because there are no receivers and the buffer is full");
+                return true;
+            }
+            emissionFailures.add(1, attributes.toBuilder().put(RESULT, result.name()).build());
+            warn("Could not emit message: " + result);
+            return true;
+        }
+
+        private Flux<T> receiverFlux(String receiverName) {
+            var receiverAttributes = attributes.toBuilder().put(RECEIVER, receiverName).build();
+            var size = receiverBuffers.computeIfAbsent(receiverName, key -> new AtomicLong());
+            var flux = sink.asFlux().doOnNext(ignored -> size.incrementAndGet());
+            if (overflowStrategy != OverflowStrategy.BLOCK) {
+                var strategy = overflowStrategy == OverflowStrategy.DROP_OLDEST
+                        ? BufferOverflowStrategy.DROP_OLDEST
+                        : BufferOverflowStrategy.DROP_LATEST;
+                flux = flux.onBackpressureBuffer(bufferSize, ignored -> {
+                               size.decrementAndGet();
+                               dropped.add(1, receiverAttributes);
+                               warn("Dropped a message for receiver " + receiverName + ", because its buffer is full");
+                           }, strategy);
+            }
+            return flux.publishOn(Schedulers.boundedElastic(), RECEIVER_PREFETCH)
+                       .doOnNext(ignored -> size.decrementAndGet());
+        }
+
+        /**
+         * Logs a warning at most once per warning interval, counting the warnings suppressed in between.
+         */
+        private void warn(String reason) {
+            var now = System.nanoTime();
+            var next = nextWarning.get();
+            if (now - next < 0 || !nextWarning.compareAndSet(next, now + warningIntervalNanos)) {
+                suppressedWarnings.incrementAndGet();
+                return;
+            }
+            LOGGER.warn("{} for message type {}, suppressed {} similar warnings since the last warning",
+                        reason,
+                        messageType,
+                        suppressedWarnings.getAndSet(0));
         }
     }
-}
\ No newline at end of file
+}
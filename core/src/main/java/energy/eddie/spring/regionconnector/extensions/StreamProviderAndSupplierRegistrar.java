@@ -110,7 +110,8 @@ public class StreamProviderAndSupplierRegistrar implements SmartInitializingSing
             Object bean,
             Method method
     ) {
-        hub.registerReceiver((Class) messageType, messages -> {
+        var receiverName = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        hub.registerReceiver((Class) messageType, receiverName, messages -> {
             try {
                 method.invoke(bean, messages);
             } catch (ReflectiveOperationException e) {
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.calculations;
@@ -139,4 +139,19 @@ class PowerToEnergyCalculationTest {
         // Then
         assertNotEquals(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP), res);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("testConverts_powerToEnergy")
+    void testConverter_equalsConvert(int powerInt, String resolution, int ignored) {
+        // Given
+        var power = BigDecimal.valueOf(powerInt);
+        var calculation = new PowerToEnergyCalculation();
+        var expected = calculation.convert(power, resolution, BigDecimal.valueOf(1, 3));
+
+        // When
+        var res = calculation.converter(resolution, BigDecimal.valueOf(1, 3)).apply(power);
+
+        // Then
+        assertEquals(expected, res);
+    }
+}
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.core.converters.v1_04;
@@ -117,4 +117,72 @@ class MeasurementConverterCIMv09108Test {
         var timeSeries = resVhd.getTimeSeries().getFirst();
         assertEquals(1, timeSeries.getPeriods().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testConvert_convertsEveryPointWithTheResolutionOfItsPeriod() {
+        // Given
+        var resolution30Min = DatatypeFactory.newDefaultInstance().newDuration("PT30M");
+        var resolution1D = DatatypeFactory.newDefaultInstance().newDuration("P1D");
+        var vhd = new VHDMarketDocument()
+                .withTimeSeries(
+                        new TimeSeries()
+                                .withEnergyMeasurementUnitName(StandardUnitOfMeasureTypeList.KILOWATT_HOUR.value())
+                                .withPeriods(
+                                        new SeriesPeriod()
+                                                .withResolution(resolution30Min)
+                                                .withPoints(
+                                                        new Point().withPosition(1)
+                                                                   .withEnergyQuantityQuantity(BigDecimal.valueOf(5)),
+                                                        new Point().withPosition(2)
+                                                                   .withEnergyQuantityQuantity(BigDecimal.valueOf(10))
+                                                ),
+                                        new SeriesPeriod()
+                                                .withResolution(resolution1D)
+                                                .withPoints(
+                                                        new Point().withPosition(1)
+                                                                   .withEnergyQuantityQuantity(BigDecimal.valueOf(48))
+                                                )
+                                )
+                );
+        var envelope = new VHDEnvelope().withMarketDocument(vhd);
+        var converter = new MeasurementConverterV1_04CIM(List.of(new EnergyToPowerCalculation()));
+
+        // When
+        var res = converter.convert(envelope);
+
+        // Then
+        var periods = res.getMarketDocument().getTimeSeries().getLast().getPeriods();
+        assertAll(
+                () -> assertEquals(new BigDecimal("10.0"),
+                                   periods.getFirst().getPoints().getFirst().getEnergyQuantityQuantity()),
+                () -> assertEquals(new BigDecimal("20.0"),
+                                   periods.getFirst().getPoints().getLast().getEnergyQuantityQuantity()),
+                () -> assertEquals(new BigDecimal("2.0"),
+                                   periods.getLast().getPoints().getFirst().getEnergyQuantityQuantity())
+        );
+    }
+
+    @Test
+    void testToJavaDuration_keepsFractionalSeconds() {
+        // Given
+        var resolution = DatatypeFactory.newDefaultInstance().newDuration("PT1M0.5S");
+
+        // When
+        var res = MeasurementConverterV1_04CIM.toJavaDuration(resolution);
+
+        // Then
+        assertEquals(Duration.ofSeconds(60, 500_000_000), res);
+    }
+
+    @Test
+    void testToJavaDuration_withWholeSeconds_returnsExactDuration() {
+        // Given
+        var resolution = DatatypeFactory.newDefaultInstance().newDuration("P1DT15M30S");
+
+        // When
+        var res = MeasurementConverterV1_04CIM.toJavaDuration(resolution);
+
+        // Then
+        assertEquals(Duration.ofDays(1).plusMinutes(15).plusSeconds(30), res);
+    }
+}
@@ -3,11 +3,16 @@
 
 package energy.eddie.core.services;
 
+import energy.eddie.core.services.MessageStreamConfiguration.OverflowStrategy;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -15,14 +20,23 @@ import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.TestPublisher;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MessageStreamHubTest {
-    @InjectMocks
-    private MessageStreamHub messageStreamHub;
+    private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+    private final MessageStreamHub messageStreamHub = hub(1024, OverflowStrategy.BLOCK);
     @Captor
     private ArgumentCaptor<Flux<Integer>> fluxCaptor;
     @Mock
@@ -196,4 +210,192 @@ class MessageStreamHubTest {
                     .then(messageStreamHub::close)
                     .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSlowReceiverDoesNotStallOtherReceivers() throws InterruptedException {
+        // Given
+        var hub = hub(2, OverflowStrategy.DROP_OLDEST);
+        var release = new CountDownLatch(1);
+        var fastDone = new CountDownLatch(100);
+        List<Object> fastReceived = new CopyOnWriteArrayList<>();
+        hub.registerReceiver(Integer.class, "slow", flux -> flux.subscribe(ignored -> awaitQuietly(release)));
+        hub.registerReceiver(Integer.class, "fast", flux -> flux.subscribe(message -> {
+            fastReceived.add(message);
+            fastDone.countDown();
+        }));
+        TestPublisher<Integer> publisher = TestPublisher.create();
+        hub.registerProvider(Integer.class, publisher::flux);
+
+        // When
+        IntStream.range(0, 100).forEach(publisher::next);
+
+        // Then
+        var completed = fastDone.await(5, TimeUnit.SECONDS);
+        release.countDown();
+        assertAll(
+                () -> assertTrue(completed),
+                () -> assertEquals(IntStream.range(0, 100).boxed().toList(), fastReceived),
+                () -> assertTrue(counter("eddie_message_stream_dropped", "slow") > 0),
+                () -> assertEquals(0, counter("eddie_message_stream_dropped", "fast")),
+                () -> assertEquals(100, counter("eddie_message_stream_emitted", null))
+        );
+    }
+
+    @Test
+    void testConcurrentProvidersEmitAllMessages() throws InterruptedException {
+        // Given
+        var received = new CountDownLatch(1000);
+        messageStreamHub.registerReceiver(Integer.class, flux -> flux.subscribe(ignored -> received.countDown()));
+        TestPublisher<Integer> publisher1 = TestPublisher.create();
+        TestPublisher<Integer> publisher2 = TestPublisher.create();
+        messageStreamHub.registerProvider(Integer.class, publisher1::flux);
+        messageStreamHub.registerProvider(Integer.class, publisher2::flux);
+
+        // When
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            executor.submit(() -> IntStream.range(0, 500).forEach(publisher1::next));
+            executor.submit(() -> IntStream.range(500, 1000).forEach(publisher2::next));
+        }
+
+        // Then
+        assertAll(
+                () -> assertTrue(received.await(5, TimeUnit.SECONDS)),
+                () -> assertEquals(0, counter("eddie_message_stream_emission_failures", null))
+        );
+    }
+
+    @Test
+    void testBlockingStrategyWaitsForReceiverWithoutLosingMessages() throws InterruptedException {
+        // Given
+        var hub = hub(2, OverflowStrategy.BLOCK);
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(100);
+        List<Object> received = new CopyOnWriteArrayList<>();
+        hub.registerReceiver(Integer.class, flux -> flux.subscribe(message -> {
+            awaitQuietly(release);
+            received.add(message);
+            done.countDown();
+        }));
+        hub.registerProvider(Integer.class, () -> Flux.range(0, 100));
+
+        // When
+        release.countDown();
+
+        // Then
+        var completed = done.await(5, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertTrue(completed),
+                () -> assertEquals(IntStream.range(0, 100).boxed().toList(), received),
+                () -> assertEquals(0, counter("eddie_message_stream_emission_failures", null))
+        );
+    }
+
+    @Test
+    void testBlockingStrategyWithoutReceivers_doesNotStallProvider() {
+        // Given
+        var hub = hub(2, OverflowStrategy.BLOCK);
+        TestPublisher<Integer> publisher = TestPublisher.create();
+        hub.registerProvider(Integer.class, publisher::flux);
+
+        // When
+        publisher.next(1, 2, 3, 4);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, counter("eddie_message_stream_emitted", null)),
+                () -> assertEquals(2, counter("eddie_message_stream_emission_failures", null))
+        );
+    }
+
+    @Test
+    void testBlockingStrategyWithoutReceivers_keepsBufferedMessagesForFirstReceiver() {
+        // Given
+        var hub = hub(2, OverflowStrategy.BLOCK);
+        TestPublisher<Integer> publisher = TestPublisher.create();
+        hub.registerProvider(Integer.class, publisher::flux);
+        publisher.next(1, 2, 3);
+
+        // When
+        hub.registerReceiver(Integer.class, consumer);
+
+        // Then
+        verify(consumer).accept(fluxCaptor.capture());
+        StepVerifier.create(fluxCaptor.getValue().take(3))
+                    .expectNext(1, 2)
+                    .then(() -> publisher.next(4))
+                    .expectNext(4)
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testDroppingStrategyReportsDroppedMessages() {
+        // Given
+        var hub = hub(2, OverflowStrategy.DROP_LATEST);
+        TestPublisher<Integer> publisher = TestPublisher.create();
+        hub.registerProvider(Integer.class, publisher::flux);
+
+        // When
+        publisher.next(1, 2, 3);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, counter("eddie_message_stream_emitted", null)),
+                () -> assertEquals(1, counter("eddie_message_stream_emission_failures", null))
+        );
+    }
+
+    @Test
+    void testConcurrentReceiversGetDistinctNames() {
+        // Given
+        var hub = hub(2, OverflowStrategy.BLOCK);
+
+        // When
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 20)
+                     .forEach(i -> executor.submit(() -> hub.registerReceiver(Integer.class, flux -> flux.subscribe())));
+        }
+
+        // Then
+        var receivers = reader.collectAllMetrics()
+                              .stream()
+                              .filter(metric -> metric.getName().equals("eddie_message_stream_receiver_buffered"))
+                              .flatMap(metric -> metric.getLongGaugeData().getPoints().stream())
+                              .map(point -> point.getAttributes().get(AttributeKey.stringKey("receiver")))
+                              .distinct()
+                              .count();
+        assertEquals(20, receivers);
+    }
+
+    private MessageStreamHub hub(int bufferSize, OverflowStrategy overflowStrategy) {
+        return new MessageStreamHub(
+                new MessageStreamConfiguration(bufferSize,
+                                               overflowStrategy,
+                                               Duration.ofSeconds(10),
+                                               Map.of(),
+                                               Map.of()),
+                OpenTelemetrySdk.builder()
+                                .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+                                .build()
+        );
+    }
+
+    private long counter(String name, String receiver) {
+        return reader.collectAllMetrics()
+                     .stream()
+                     .filter(metric -> metric.getName().equals(name))
+                     .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+                     .filter(point -> receiver == null
+                                      || receiver.equals(point.getAttributes().get(AttributeKey.stringKey("receiver"))))
+                     .mapToLong(LongPointData::getValue)
+                     .sum();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,8 +6,11 @@ package energy.eddie.core.web;
 import energy.eddie.cim.agnostic.ConnectionStatusMessage;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.core.security.JwtIssuerFilter;
+import energy.eddie.core.services.MessageStreamConfiguration;
+import energy.eddie.core.services.MessageStreamConfiguration.OverflowStrategy;
 import energy.eddie.core.services.MessageStreamHub;
 import energy.eddie.spring.regionconnector.extensions.StreamProviderAndSupplierRegistrar;
+import io.opentelemetry.api.OpenTelemetry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -22,6 +25,9 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.TestPublisher;
 
+import java.time.Duration;
+import java.util.Map;
+
 @WebFluxTest(
         value = ConnectionStatusMessageController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtIssuerFilter.class)
@@ -78,7 +84,10 @@ class ConnectionStatusMessageControllerTest {
     static class TestConfig {
         @Bean
         MessageStreamHub messageStreamHub() {
-            return new MessageStreamHub();
+            return new MessageStreamHub(
+                    new MessageStreamConfiguration(1024, OverflowStrategy.BLOCK, Duration.ofSeconds(10), Map.of(), Map.of()),
+                    OpenTelemetry.noop()
+            );
         }
 
         @Bean
@@ -93,7 +93,7 @@ class StreamProviderAndSupplierRegistrarTest {
         registrar.afterSingletonsInstantiated();
 
         // Then
-        verify(messageStreamHub).registerReceiver(typeCaptor.capture(), consumerCaptor.capture());
+        verify(messageStreamHub).registerReceiver(typeCaptor.capture(), anyString(), consumerCaptor.capture());
 
         assertEquals(String.class, typeCaptor.getValue());
     }
@@ -1,12 +1,14 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.dataneeds.services;
 
 import energy.eddie.dataneeds.needs.DataNeed;
 import energy.eddie.dataneeds.needs.TimeframedDataNeed;
+import energy.eddie.dataneeds.needs.aiida.AiidaDataNeed;
 import energy.eddie.dataneeds.persistence.DataNeedsNameAndIdProjection;
 import energy.eddie.dataneeds.persistence.DataNeedsRepository;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.hibernate.Hibernate;
 import org.hibernate.proxy.HibernateProxy;
@@ -14,20 +16,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DataNeedService that reads data needs from the database.
+ * Data needs that were looked up by their ID are kept in memory, since they are read for every permission request and
+ * every calculation of a region connector.
+ * The cached data needs are evicted whenever a data need is created, enabled, disabled or deleted via this service.
+ * Lookups by ID only start a transaction if the data need is not cached yet.
+ */
 @Component
 @ConditionalOnProperty(value = "eddie.data-needs-config.data-need-source", havingValue = "DATABASE")
 @Transactional(value = Transactional.TxType.REQUIRED)
 public class DataNeedsDbService implements DataNeedsService {
     private static final Logger LOGGER = LoggerFactory.getLogger(DataNeedsDbService.class);
     private final DataNeedsRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<String, DataNeed> cache = new ConcurrentHashMap<>();
+    private long generation = 0;
 
-    public DataNeedsDbService(DataNeedsRepository repository) {
+    public DataNeedsDbService(DataNeedsRepository repository, PlatformTransactionManager transactionManager) {
         this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         LOGGER.info("Initialized database data needs service.");
     }
 
@@ -58,13 +78,38 @@ public class DataNeedsDbService implements DataNeedsService {
     }
 
     @Override
+    @Transactional(value = Transactional.TxType.SUPPORTS)
     public Optional<DataNeed> findById(String id) {
-        return repository.findById(id).map(DataNeedsDbService::initializeAndUnproxy);
+        var cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadedAt;
+        synchronized (cache) {
+            loadedAt = generation;
+        }
+        // The collections of the data need have to be initialized in the transaction it is loaded in
+        var dataNeed = Optional.ofNullable(readOnlyTransaction.execute(
+                status -> repository.findById(id)
+                                    .map(DataNeedsDbService::initializeAndUnproxy)
+                                    .map(DataNeedsDbService::initializeCollections)
+                                    .orElse(null)
+        ));
+        dataNeed.ifPresent(found -> {
+            synchronized (cache) {
+                // Do not cache the data need, if it was changed while it was loaded
+                if (loadedAt == generation) {
+                    cache.putIfAbsent(id, found);
+                }
+            }
+        });
+        return dataNeed;
     }
 
     @Override
+    @Transactional(value = Transactional.TxType.SUPPORTS)
     public DataNeed getById(String id) {
-        return initializeAndUnproxy(repository.getReferenceById(id));
+        return findById(id).orElseThrow(EntityNotFoundException::new);
     }
 
     /**
@@ -75,6 +120,7 @@ public class DataNeedsDbService implements DataNeedsService {
      */
     public void enableOrDisableDataNeed(String id, boolean isEnabled) {
         repository.setEnabledById(id, isEnabled);
+        evictCache();
     }
 
     /**
@@ -92,7 +138,9 @@ public class DataNeedsDbService implements DataNeedsService {
 
         LOGGER.info("Saving new data need with ID '{}'", newDataNeed.id());
 
-        return initializeAndUnproxy(repository.save(newDataNeed));
+        var saved = initializeAndUnproxy(repository.save(newDataNeed));
+        evictCache();
+        return saved;
     }
 
     /**
@@ -113,5 +161,41 @@ public class DataNeedsDbService implements DataNeedsService {
               .addArgument(() -> UUID.fromString(id))
               .log("Deleting data need with ID {}");
         repository.deleteById(id);
+        evictCache();
+    }
+
+    /**
+     * Initializes the lazily loaded collections of the data need, so that it can be used after the transaction it was
+     * loaded in ended.
+     */
+    private static DataNeed initializeCollections(DataNeed dataNeed) {
+        dataNeed.regionConnectorFilter().ifPresent(filter -> Hibernate.initialize(filter.regionConnectorIds()));
+        if (dataNeed instanceof AiidaDataNeed aiidaDataNeed) {
+            Hibernate.initialize(aiidaDataNeed.dataTags());
+        }
+        return dataNeed;
+    }
+
+    /**
+     * Evicts the cached data needs now and, if a transaction is active, after it completed.
+     * Otherwise, a concurrent lookup could cache the data need as it was before the transaction was committed.
+     */
+    private void evictCache() {
+        clearCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clearCache();
+                }
+            });
+        }
+    }
+
+    private void clearCache() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+        }
     }
 }
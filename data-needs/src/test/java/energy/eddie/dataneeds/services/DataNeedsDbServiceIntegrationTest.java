@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.dataneeds.services;
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
@@ -32,6 +33,8 @@ class DataNeedsDbServiceIntegrationTest {
     private static final PostgreSQLContainer postgresqlContainer = new PostgreSQLContainer("postgres:15-alpine");
     @Autowired
     private DataNeedsRepository repository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     public static DataNeed createDataNeed() {
         return new AccountingPointDataNeed("ac", "desc", "purpose", "https://localhost", true, null);
@@ -40,7 +43,7 @@ class DataNeedsDbServiceIntegrationTest {
     @Test
     void testGetDataNeedIdsAndNames_returnsUnproxiedImplementation() {
         // Given
-        var service = new DataNeedsDbService(repository);
+        var service = new DataNeedsDbService(repository, transactionManager);
         repository.save(createDataNeed());
 
         // When
@@ -53,7 +56,7 @@ class DataNeedsDbServiceIntegrationTest {
     @Test
     void testFindById_returnsUnproxiedImplementation() {
         // Given
-        var service = new DataNeedsDbService(repository);
+        var service = new DataNeedsDbService(repository, transactionManager);
         var dn = repository.save(createDataNeed());
 
         // When
@@ -66,7 +69,7 @@ class DataNeedsDbServiceIntegrationTest {
     @Test
     void testGetById_returnsUnproxiedImplementation() {
         // Given
-        var service = new DataNeedsDbService(repository);
+        var service = new DataNeedsDbService(repository, transactionManager);
         var dn = repository.save(createDataNeed());
 
         // When
@@ -79,7 +82,7 @@ class DataNeedsDbServiceIntegrationTest {
     @Test
     void testSaveNewDataNeed_returnsUnproxiedImplementation() {
         // Given
-        var service = new DataNeedsDbService(repository);
+        var service = new DataNeedsDbService(repository, transactionManager);
 
         // When
         var res = service.saveNewDataNeed(createDataNeed());
@@ -91,7 +94,7 @@ class DataNeedsDbServiceIntegrationTest {
     @Test
     void testFindAll_returnsUnproxiedImplementation() {
         // Given
-        var service = new DataNeedsDbService(repository);
+        var service = new DataNeedsDbService(repository, transactionManager);
         repository.save(createDataNeed());
 
         // When
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.dataneeds.services;
@@ -8,12 +8,14 @@ import energy.eddie.dataneeds.needs.DataNeed;
 import energy.eddie.dataneeds.needs.ValidatedHistoricalDataDataNeed;
 import energy.eddie.dataneeds.persistence.DataNeedsNameAndIdProjection;
 import energy.eddie.dataneeds.persistence.DataNeedsRepository;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
@@ -36,6 +38,8 @@ class DataNeedsDbServiceTest {
                                                   .build();
     @Mock
     private DataNeedsRepository mockRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     @InjectMocks
     private DataNeedsDbService service;
     private DataNeed exampleVhd;
@@ -109,6 +113,76 @@ class DataNeedsDbServiceTest {
         assertTrue(((RelativeDuration) vhd.duration()).stickyStartCalendarUnit().isEmpty());
     }
 
+    @Test
+    void givenExistingId_findById_readsDataNeedOnlyOnce() {
+        // Given
+        String id = "123";
+        when(mockRepository.findById(id)).thenReturn(Optional.of(exampleVhd));
+
+        // When
+        service.findById(id);
+        var res = service.findById(id);
+
+        // Then
+        assertEquals(Optional.of(exampleVhd), res);
+        verify(mockRepository).findById(id);
+    }
+
+    @Test
+    void givenCachedDataNeed_findById_doesNotStartTransaction() {
+        // Given
+        String id = "123";
+        when(mockRepository.findById(id)).thenReturn(Optional.of(exampleVhd));
+        service.findById(id);
+
+        // When
+        service.findById(id);
+
+        // Then
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void givenCachedDataNeed_enableOrDisableDataNeed_evictsDataNeed() {
+        // Given
+        String id = "123";
+        when(mockRepository.findById(id)).thenReturn(Optional.of(exampleVhd));
+        service.findById(id);
+
+        // When
+        service.enableOrDisableDataNeed(id, false);
+        service.findById(id);
+
+        // Then
+        verify(mockRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void givenCachedDataNeed_deleteById_evictsDataNeed() {
+        // Given
+        String id = "123";
+        when(mockRepository.findById(id))
+                .thenReturn(Optional.of(exampleVhd))
+                .thenReturn(Optional.empty());
+        service.findById(id);
+
+        // When
+        service.deleteById(id);
+        var res = service.findById(id);
+
+        // Then
+        assertTrue(res.isEmpty());
+    }
+
+    @Test
+    void givenNonExistingId_getById_throws() {
+        // Given
+        when(mockRepository.findById("nonExisting")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> service.getById("nonExisting"));
+    }
+
     @Test
     void givenDataNeed_saveNewDataNeed_callsRepository_andSetsId() {
         // Given
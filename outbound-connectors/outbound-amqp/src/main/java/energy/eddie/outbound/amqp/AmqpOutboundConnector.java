@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.amqp;
@@ -10,7 +10,9 @@ import energy.eddie.api.agnostic.outbound.OutboundConnector;
 import energy.eddie.cim.serde.MessageSerde;
 import energy.eddie.cim.serde.SerdeFactory;
 import energy.eddie.cim.serde.SerdeInitializationException;
+import energy.eddie.cim.serde.SerializedPayloadCache;
 import energy.eddie.outbound.shared.TopicConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -43,7 +45,13 @@ public class AmqpOutboundConnector {
     }
 
     @Bean
-    public MessageSerde serde(@Value("${outbound-connector.amqp.format:json}") String format) throws SerdeInitializationException {
-        return SerdeFactory.getInstance().create(format);
+    public MessageSerde serde(
+            @Value("${outbound-connector.amqp.format:json}") String format,
+            ObjectProvider<SerializedPayloadCache> cache
+    ) throws SerdeInitializationException {
+        var payloadCache = cache.getIfAvailable();
+        return payloadCache == null
+                ? SerdeFactory.getInstance().create(format)
+                : SerdeFactory.getInstance().create(format, payloadCache);
     }
 }
@@ -9,6 +9,7 @@ import energy.eddie.cim.agnostic.PermissionCommand;
 import energy.eddie.cim.serde.MessageSerde;
 import energy.eddie.cim.serde.SerdeFactory;
 import energy.eddie.cim.serde.SerdeInitializationException;
+import energy.eddie.cim.serde.SerializedPayloadCache;
 import energy.eddie.cim.v0_82.pmd.PermissionEnvelope;
 import energy.eddie.cim.v0_91_08.RTREnvelope;
 import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
@@ -17,6 +18,7 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -46,8 +48,14 @@ public class KafkaOutboundConnector {
     }
 
     @Bean
-    public MessageSerde serde(@Value("${outbound-connector.kafka.format:json}") String format) throws SerdeInitializationException {
-        return SerdeFactory.getInstance().create(format);
+    public MessageSerde serde(
+            @Value("${outbound-connector.kafka.format:json}") String format,
+            ObjectProvider<SerializedPayloadCache> cache
+    ) throws SerdeInitializationException {
+        var payloadCache = cache.getIfAvailable();
+        return payloadCache == null
+                ? SerdeFactory.getInstance().create(format)
+                : SerdeFactory.getInstance().create(format, payloadCache);
     }
 
     @Bean
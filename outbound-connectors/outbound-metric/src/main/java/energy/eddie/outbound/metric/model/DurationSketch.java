@@ -0,0 +1,163 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.metric.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A mergeable quantile sketch for durations in milliseconds, based on DDSketch.
+ * Durations are counted in logarithmically sized buckets, so that every quantile is estimated with a relative error of
+ * at most {@link #RELATIVE_ACCURACY}, while the size of the sketch only depends on the range of the durations and not
+ * on their number.
+ * Durations of up to a year need less than 1300 buckets.
+ * Durations below one millisecond are counted separately and estimated as zero.
+ * <p>
+ * Not thread-safe.
+ */
+public final class DurationSketch {
+    public static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte FORMAT_VERSION = 1;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount = 0;
+    private long count = 0;
+
+    /**
+     * Restores a sketch from its {@link #toBytes() serialized form}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a serialized sketch
+     */
+    public static DurationSketch fromBytes(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        var sketch = new DurationSketch();
+        try {
+            var version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown duration sketch format version " + version);
+            }
+            sketch.zeroCount = readVarLong(buffer);
+            sketch.count = sketch.zeroCount;
+            var index = 0;
+            while (buffer.hasRemaining()) {
+                index += zigZagDecode(readVarLong(buffer));
+                var bucketCount = readVarLong(buffer);
+                sketch.buckets.put(index, bucketCount);
+                sketch.count += bucketCount;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated duration sketch", e);
+        }
+        return sketch;
+    }
+
+    public void add(double durationMilliseconds) {
+        if (durationMilliseconds < 1) {
+            zeroCount++;
+        } else {
+            buckets.merge(indexOf(durationMilliseconds), 1L, Long::sum);
+        }
+        count++;
+    }
+
+    /**
+     * Adds all durations counted by the other sketch to this sketch.
+     */
+    public void merge(DurationSketch other) {
+        for (var bucket : other.buckets.entrySet()) {
+            buckets.merge(bucket.getKey(), bucket.getValue(), Long::sum);
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Estimates the quantile of the added durations.
+     *
+     * @param quantile the quantile between 0 and 1, for example 0.5 for the median
+     * @return the estimated duration in milliseconds, or 0 if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile has to be between 0 and 1, but was " + quantile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        var rank = (long) (quantile * (count - 1));
+        var seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (var bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    /**
+     * Serializes the sketch, bucket indices are delta encoded and all numbers are written as variable length integers.
+     */
+    public byte[] toBytes() {
+        var out = new ByteArrayOutputStream(8 + buckets.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, zeroCount);
+        var previous = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            writeVarLong(out, zigZagEncode(bucket.getKey() - (long) previous));
+            writeVarLong(out, bucket.getValue());
+            previous = bucket.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    private static double valueOf(int index) {
+        // The value in the middle of the bucket in terms of relative error
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int zigZagDecode(long value) {
+        return (int) ((value >>> 1) ^ -(value & 1));
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        var remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (var shift = 0; shift < 64; shift += 7) {
+            var b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer in duration sketch");
+    }
+}
@@ -1,6 +0,0 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
-// SPDX-License-Identifier: Apache-2.0
-
-package energy.eddie.outbound.metric.model;
-
-public record MeanCountRecord(double mean, int count) {}
\ No newline at end of file
@@ -0,0 +1,39 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.metric.model;
+
+import energy.eddie.cim.agnostic.DataSourceInformation;
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+
+/**
+ * Identifies the permission request metric of a status, which is the unique key of a
+ * {@link PermissionRequestMetricsModel}.
+ */
+public record MetricKey(
+        PermissionProcessStatus status,
+        String dataNeedType,
+        String permissionAdministratorId,
+        String regionConnectorId,
+        String countryCode
+) {
+    public static MetricKey of(
+            PermissionProcessStatus status,
+            String dataNeedType,
+            DataSourceInformation dataSourceInformation
+    ) {
+        return new MetricKey(status,
+                             dataNeedType,
+                             dataSourceInformation.permissionAdministratorId(),
+                             dataSourceInformation.regionConnectorId(),
+                             dataSourceInformation.countryCode());
+    }
+
+    public static MetricKey of(PermissionRequestMetricsModel model) {
+        return new MetricKey(model.getPermissionRequestStatus(),
+                             model.getDataNeedType(),
+                             model.getPermissionAdministratorId(),
+                             model.getRegionConnectorId(),
+                             model.getCountryCode());
+    }
+}
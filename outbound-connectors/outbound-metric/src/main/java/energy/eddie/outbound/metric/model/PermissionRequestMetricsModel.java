@@ -5,6 +5,7 @@ package energy.eddie.outbound.metric.model;
 
 import energy.eddie.cim.agnostic.DataSourceInformation;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 
 @Entity
@@ -50,6 +51,9 @@ public class PermissionRequestMetricsModel {
     @Column(name = "country_code", nullable = false, updatable = false)
     private String countryCode;
 
+    @Column(name = "sketch")
+    private byte[] sketch;
+
     public PermissionRequestMetricsModel(
             double mean,
             double median,
@@ -84,6 +88,24 @@ public class PermissionRequestMetricsModel {
         this.countryCode = dataSourceInformation.countryCode();
     }
 
+    public PermissionRequestMetricsModel(
+            MetricKey key,
+            double mean,
+            double median,
+            int count,
+            byte[] sketch
+    ) {
+        this.mean = mean;
+        this.median = median;
+        this.permissionRequestCount = count;
+        this.sketch = sketch;
+        this.permissionRequestStatus = key.status();
+        this.dataNeedType = key.dataNeedType();
+        this.permissionAdministratorId = key.permissionAdministratorId();
+        this.regionConnectorId = key.regionConnectorId();
+        this.countryCode = key.countryCode();
+    }
+
     protected PermissionRequestMetricsModel() {}
 
     public Long getId() {
@@ -102,6 +124,15 @@ public class PermissionRequestMetricsModel {
         return permissionRequestCount;
     }
 
+    /**
+     * The {@link DurationSketch serialized sketch} of the durations, or null if the metric was created before
+     * durations were sketched.
+     */
+    @Nullable
+    public byte[] getSketch() {
+        return sketch;
+    }
+
     public PermissionProcessStatus getPermissionRequestStatus() {
         return permissionRequestStatus;
     }
@@ -33,14 +33,16 @@ public interface PermissionRequestMetricsRepository extends JpaRepository<Permis
     @Transactional
     @Query(value = """
             INSERT INTO metric.permission_request_metrics (mean, median, permission_request_count, permission_request_status,
-                data_need_type, permission_administrator_id, region_connector_id, country_code)
+                data_need_type, permission_administrator_id, region_connector_id, country_code, sketch)
                     VALUES (:#{#model.mean}, :#{#model.median}, :#{#model.permissionRequestCount}, :#{#model.permissionRequestStatus.name()},
-                        :#{#model.dataNeedType}, :#{#model.permissionAdministratorId}, :#{#model.regionConnectorId}, :#{#model.countryCode})
+                        :#{#model.dataNeedType}, :#{#model.permissionAdministratorId}, :#{#model.regionConnectorId}, :#{#model.countryCode},
+                        :#{#model.sketch})
                     ON CONFLICT (permission_request_status, data_need_type, permission_administrator_id, region_connector_id, country_code)
                     DO UPDATE SET
                         mean = excluded.mean,
                         median = excluded.median,
-                        permission_request_count = excluded.permission_request_count
+                        permission_request_count = excluded.permission_request_count,
+                        sketch = excluded.sketch
             """, nativeQuery = true)
     void upsertPermissionRequestMetric(@Param("model") PermissionRequestMetricsModel model);
 }
@@ -3,27 +3,44 @@
 
 package energy.eddie.outbound.metric.repositories;
 
-import energy.eddie.cim.agnostic.DataSourceInformation;
+import energy.eddie.outbound.metric.model.PermissionRequestMetricsModel;
 import energy.eddie.outbound.metric.model.PermissionRequestStatusDurationModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * Durations of permission request statuses recorded before the durations were aggregated in
+ * {@link energy.eddie.outbound.metric.model.DurationSketch duration sketches}.
+ * The durations are only read once to create the sketch of their metric and removed afterward.
+ */
 @Repository
 public interface PermissionRequestStatusDurationRepository extends JpaRepository<PermissionRequestStatusDurationModel, Long> {
     @Query(value = """
-        SELECT percentile_cont(0.5) WITHIN GROUP (ORDER BY duration_milliseconds)
+        SELECT duration_milliseconds
         FROM metric.permission_request_status_duration
-        WHERE permission_request_status = :status AND
-              data_need_type = :dataNeedType AND
-                      region_connector_id = :#{#dsi.regionConnectorId()} AND
-                      permission_administrator_id = :#{#dsi.permissionAdministratorId()} AND
-                      country_code = :#{#dsi.countryCode()}
+        WHERE permission_request_status = :#{#model.permissionRequestStatus.name()} AND
+              data_need_type = :#{#model.dataNeedType} AND
+              region_connector_id = :#{#model.regionConnectorId} AND
+              permission_administrator_id = :#{#model.permissionAdministratorId} AND
+              country_code = :#{#model.countryCode}
+        """, nativeQuery = true)
+    List<Long> findDurationMillisecondsOfMetric(@Param("model") PermissionRequestMetricsModel model);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM metric.permission_request_status_duration
+        WHERE permission_request_status = :#{#model.permissionRequestStatus.name()} AND
+              data_need_type = :#{#model.dataNeedType} AND
+              region_connector_id = :#{#model.regionConnectorId} AND
+              permission_administrator_id = :#{#model.permissionAdministratorId} AND
+              country_code = :#{#model.countryCode}
         """, nativeQuery = true)
-    double getMedianDurationMilliseconds(
-            @Param("status") String status,
-            @Param("dataNeedType") String dataNeedType,
-            @Param("dsi") DataSourceInformation dsi
-    );
+    int deleteDurationsOfMetric(@Param("model") PermissionRequestMetricsModel model);
 }
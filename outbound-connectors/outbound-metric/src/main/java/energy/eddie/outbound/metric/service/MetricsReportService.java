@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.metric.service;
@@ -22,15 +22,18 @@ public class MetricsReportService {
     private static final Logger LOGGER = LoggerFactory.getLogger(MetricsReportService.class);
 
     private final PermissionRequestMetricsRepository metricsRepository;
+    private final PermissionRequestMetricsService metricsService;
     private final MetricOutboundConnectorConfiguration config;
     private final MetricsReportBuilder reportBuilder;
     private final WebClient webClient;
 
     public MetricsReportService(PermissionRequestMetricsRepository metricsRepository,
+                                PermissionRequestMetricsService metricsService,
                                 MetricOutboundConnectorConfiguration config,
                                 MetricsReportBuilder reportBuilder,
                                 WebClient webClient) {
         this.metricsRepository = metricsRepository;
+        this.metricsService = metricsService;
         this.config = config;
         this.reportBuilder = reportBuilder;
         this.webClient = webClient;
@@ -38,6 +41,7 @@ public class MetricsReportService {
 
     @Scheduled(cron = "${outbound-connector.metric.interval:0 0 */12 * * *}")
     void generateAndSendReport() {
+        metricsService.flush();
         List<PermissionRequestMetricsModel> rows = metricsRepository.findAll();
         PermissionRequestMetrics report = reportBuilder.createMetricsReport(rows, config.eddieId());
 
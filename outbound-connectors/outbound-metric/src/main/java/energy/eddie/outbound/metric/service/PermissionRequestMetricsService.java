@@ -10,25 +10,41 @@ import energy.eddie.cim.agnostic.ConnectionStatusMessage;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.outbound.metric.connectors.AgnosticConnector;
-import energy.eddie.outbound.metric.model.MeanCountRecord;
+import energy.eddie.outbound.metric.model.DurationSketch;
+import energy.eddie.outbound.metric.model.MetricKey;
 import energy.eddie.outbound.metric.model.PermissionRequestMetricsModel;
-import energy.eddie.outbound.metric.model.PermissionRequestStatusDurationModel;
 import energy.eddie.outbound.metric.repositories.PermissionRequestMetricsRepository;
 import energy.eddie.outbound.metric.repositories.PermissionRequestStatusDurationRepository;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates the durations of permission request statuses per {@link MetricKey metric}.
+ * The mean, count and a {@link DurationSketch} of each metric are kept in memory, so that a status change only updates
+ * its metric in constant time.
+ * Changed metrics are persisted periodically, before each report and on shutdown.
+ */
 @Service
 public class PermissionRequestMetricsService {
-
+    private static final Logger LOGGER = LoggerFactory.getLogger(PermissionRequestMetricsService.class);
     private final PermissionRequestMetricsRepository metricsRepository;
     private final PermissionRequestStatusDurationRepository statusDurationRepository;
     private final DataNeedsService dataNeedsService;
     private final PermissionEventRepositories repositories;
+    private final Map<MetricKey, MetricState> metrics = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
 
     public PermissionRequestMetricsService(
             AgnosticConnector connector,
@@ -71,49 +87,78 @@ public class PermissionRequestMetricsService {
                                             .toMillis();
         PermissionProcessStatus prevEventStatus = prevPermissionEvent.status();
         String dataNeedType = dataNeedsService.getById(csm.dataNeedId()).type();
-        PermissionRequestStatusDurationModel prStatusDuration = new PermissionRequestStatusDurationModel(
-                permissionId,
-                prevEventStatus,
-                durationMilliseconds,
-                dataNeedType,
-                csm.dataSourceInformation()
-        );
-        statusDurationRepository.save(prStatusDuration);
-        Optional<PermissionRequestMetricsModel> prMetrics = metricsRepository.getPermissionRequestMetrics(
-                prevEventStatus,
-                dataNeedType,
-                csm.dataSourceInformation()
-        );
+        var key = MetricKey.of(prevEventStatus, dataNeedType, csm.dataSourceInformation());
+        loadedMetrics().computeIfAbsent(key, ignored -> new MetricState(new DurationSketch(), 0, 0))
+                       .add(durationMilliseconds);
+    }
 
-        MeanCountRecord newMeanAndCount = getNewMeanAndCount(prMetrics, durationMilliseconds);
-        double median = statusDurationRepository.getMedianDurationMilliseconds(
-                prevEventStatus.name(),
-                dataNeedType,
-                csm.dataSourceInformation()
-        );
+    /**
+     * Persists all metrics that changed since they were persisted last.
+     */
+    @Scheduled(fixedDelayString = "${outbound-connector.metric.flush-interval:PT1M}")
+    public void flush() {
+        for (var entry : loadedMetrics().entrySet()) {
+            var state = entry.getValue();
+            var model = state.takeChanges(entry.getKey());
+            if (model == null) {
+                continue;
+            }
+            try {
+                metricsRepository.upsertPermissionRequestMetric(model);
+            } catch (DataAccessException e) {
+                LOGGER.warn("Could not persist permission request metric {}", entry.getKey(), e);
+                state.markChanged();
+            }
+        }
+    }
 
-        metricsRepository.upsertPermissionRequestMetric(
-                new PermissionRequestMetricsModel(
-                        newMeanAndCount.mean(),
-                        median,
-                        newMeanAndCount.count(),
-                        prevEventStatus,
-                        dataNeedType,
-                        csm.dataSourceInformation()
-                )
-        );
+    @PreDestroy
+    void persistOnShutdown() {
+        flush();
     }
 
-    private MeanCountRecord getNewMeanAndCount(
-            Optional<PermissionRequestMetricsModel> prMetrics,
-            long durationMilliseconds
-    ) {
-        int currentCount = prMetrics.map(PermissionRequestMetricsModel::getPermissionRequestCount).orElse(0);
-        int newCount = currentCount + 1;
-        double currentMean = prMetrics.map(PermissionRequestMetricsModel::getMean).orElse(0.0);
-        double newMean = ((currentMean * currentCount) + durationMilliseconds) / newCount;
+    private Map<MetricKey, MetricState> loadedMetrics() {
+        if (!loaded) {
+            loadMetrics();
+        }
+        return metrics;
+    }
+
+    private synchronized void loadMetrics() {
+        if (loaded) {
+            return;
+        }
+        for (var model : metricsRepository.findAll()) {
+            var key = MetricKey.of(model);
+            var serializedSketch = model.getSketch();
+            if (serializedSketch != null) {
+                var sketch = DurationSketch.fromBytes(serializedSketch);
+                metrics.put(key, new MetricState(sketch, model.getMean(), model.getPermissionRequestCount()));
+            } else {
+                metrics.put(key, sketchLegacyDurations(key, model));
+            }
+        }
+        loaded = true;
+    }
 
-        return new MeanCountRecord(newMean, newCount);
+    /**
+     * Creates the sketch of a metric that was persisted before durations were sketched from its raw durations.
+     * The raw durations are deleted as soon as the sketch is persisted.
+     */
+    private MetricState sketchLegacyDurations(MetricKey key, PermissionRequestMetricsModel model) {
+        var sketch = new DurationSketch();
+        for (var duration : statusDurationRepository.findDurationMillisecondsOfMetric(model)) {
+            sketch.add(duration);
+        }
+        var state = new MetricState(sketch, model.getMean(), model.getPermissionRequestCount());
+        state.markChanged();
+        var sketched = state.takeChanges(key);
+        if (sketched != null) {
+            metricsRepository.upsertPermissionRequestMetric(sketched);
+            var deleted = statusDurationRepository.deleteDurationsOfMetric(model);
+            LOGGER.info("Sketched {} durations of permission request metric {}", deleted, key);
+        }
+        return state;
     }
 
     private List<PermissionEvent> getCurrentAndPreviousPermissionEvents(
@@ -134,4 +179,37 @@ public class PermissionRequestMetricsService {
 
         return List.of();
     }
+
+    private static final class MetricState {
+        private final DurationSketch sketch;
+        private double mean;
+        private int count;
+        private boolean changed = false;
+
+        private MetricState(DurationSketch sketch, double mean, int count) {
+            this.sketch = sketch;
+            this.mean = mean;
+            this.count = count;
+        }
+
+        private synchronized void add(long durationMilliseconds) {
+            count++;
+            mean += (durationMilliseconds - mean) / count;
+            sketch.add(durationMilliseconds);
+            changed = true;
+        }
+
+        @Nullable
+        private synchronized PermissionRequestMetricsModel takeChanges(MetricKey key) {
+            if (!changed) {
+                return null;
+            }
+            changed = false;
+            return new PermissionRequestMetricsModel(key, mean, sketch.quantile(0.5), count, sketch.toBytes());
+        }
+
+        private synchronized void markChanged() {
+            changed = true;
+        }
+    }
 }
@@ -0,0 +1,7 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+-- Serialized quantile sketch of the durations, which replaces the median over the raw durations.
+-- Metrics without a sketch are sketched from their raw durations on startup, which are deleted afterward.
+ALTER TABLE metric.permission_request_metrics
+    ADD COLUMN sketch BYTEA;
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.metric.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationSketchTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.1, 0.5, 0.9, 0.99, 1})
+    void quantile_isWithinRelativeAccuracy(double quantile) {
+        // Given
+        var random = new Random(42);
+        var durations = new long[10_000];
+        var sketch = new DurationSketch();
+        for (var i = 0; i < durations.length; i++) {
+            durations[i] = 1 + (long) Math.exp(random.nextDouble() * 20);
+            sketch.add(durations[i]);
+        }
+        Arrays.sort(durations);
+        var expected = durations[(int) (quantile * (durations.length - 1))];
+
+        // When
+        var res = sketch.quantile(quantile);
+
+        // Then
+        assertEquals(expected, res, expected * DurationSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void quantile_ofEmptySketch_returnsZero() {
+        // Given
+        var sketch = new DurationSketch();
+
+        // When
+        var res = sketch.quantile(0.5);
+
+        // Then
+        assertEquals(0, res);
+    }
+
+    @Test
+    void quantile_withDurationsBelowOneMillisecond_returnsZero() {
+        // Given
+        var sketch = new DurationSketch();
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(1000);
+
+        // When
+        var res = sketch.quantile(0.5);
+
+        // Then
+        assertEquals(0, res);
+    }
+
+    @Test
+    void merge_countsDurationsOfBothSketches() {
+        // Given
+        var first = new DurationSketch();
+        var second = new DurationSketch();
+        for (var i = 1; i <= 50; i++) {
+            first.add(i);
+            second.add(i + 50.0);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertAll(
+                () -> assertEquals(100, first.count()),
+                () -> assertEquals(50, first.quantile(0.5), 50 * DurationSketch.RELATIVE_ACCURACY)
+        );
+    }
+
+    @Test
+    void fromBytes_restoresSerializedSketch() {
+        // Given
+        var sketch = new DurationSketch();
+        sketch.add(0);
+        sketch.add(3);
+        sketch.add(1_000);
+        sketch.add(86_400_000);
+
+        // When
+        var bytes = sketch.toBytes();
+        var res = DurationSketch.fromBytes(bytes);
+
+        // Then
+        assertAll(
+                () -> assertEquals(sketch.count(), res.count()),
+                () -> assertEquals(sketch.quantile(0.25), res.quantile(0.25)),
+                () -> assertEquals(sketch.quantile(0.5), res.quantile(0.5)),
+                () -> assertEquals(sketch.quantile(1), res.quantile(1)),
+                () -> assertArrayEquals(bytes, res.toBytes())
+        );
+    }
+
+    @Test
+    void fromBytes_withUnknownVersion_throws() {
+        // Given
+        var bytes = new byte[]{2, 0};
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DurationSketch.fromBytes(bytes));
+    }
+}
@@ -5,6 +5,8 @@ package energy.eddie.outbound.metric.repositories;
 
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.cim.agnostic.SimpleDataSourceInformation;
+import energy.eddie.outbound.metric.model.DurationSketch;
+import energy.eddie.outbound.metric.model.MetricKey;
 import energy.eddie.outbound.metric.model.PermissionRequestMetricsModel;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -139,4 +141,34 @@ class PermissionRequestMetricsRepositoryTest {
         // Then
         assertThat(permissionRequestMetricsRepository.findAll()).hasSize(2);
     }
+
+    @Test
+    void upsertPermissionRequestMetric_persistsSketch() {
+        // Given
+        var dsi = new SimpleDataSourceInformation("CC", "rcId", "mdaId", "paId");
+        var sketch = new DurationSketch();
+        sketch.add(95);
+        sketch.add(100);
+
+        // When
+        permissionRequestMetricsRepository.upsertPermissionRequestMetric(
+                new PermissionRequestMetricsModel(
+                        MetricKey.of(PermissionProcessStatus.VALIDATED, "dnType", dsi),
+                        97.5,
+                        95,
+                        2,
+                        sketch.toBytes()
+                )
+        );
+
+        // Then
+        var res = permissionRequestMetricsRepository.getPermissionRequestMetrics(
+                PermissionProcessStatus.VALIDATED,
+                "dnType",
+                dsi
+        );
+        assertThat(res).hasValueSatisfying(
+                metric -> assertThat(metric.getSketch()).isEqualTo(sketch.toBytes())
+        );
+    }
 }
@@ -5,6 +5,7 @@ package energy.eddie.outbound.metric.repositories;
 
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.cim.agnostic.SimpleDataSourceInformation;
+import energy.eddie.outbound.metric.model.PermissionRequestMetricsModel;
 import energy.eddie.outbound.metric.model.PermissionRequestStatusDurationModel;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,8 +36,11 @@ class PermissionRequestStatusDurationRepositoryTest {
     @Autowired
     private PermissionRequestStatusDurationRepository prStatusDurationRepository;
 
+    @Autowired
+    private PermissionRequestMetricsRepository prMetricsRepository;
+
     @Test
-    void getMedianDurationTest() {
+    void findAndDeleteDurationsOfMetricTest() {
         // Given
         var dsi = new SimpleDataSourceInformation("CC", "rcId", "mdaId", "paId");
         List<PermissionRequestStatusDurationModel> prStatusDurations = new ArrayList<>();
@@ -44,13 +48,23 @@ class PermissionRequestStatusDurationRepositoryTest {
                                                                        98, "dnId", dsi));
         prStatusDurations.add(new PermissionRequestStatusDurationModel("pid2", PermissionProcessStatus.CREATED,
                                                                        100, "dnId", dsi));
+        prStatusDurations.add(new PermissionRequestStatusDurationModel("pid3", PermissionProcessStatus.VALIDATED,
+                                                                       200, "dnId", dsi));
         prStatusDurationRepository.saveAll(prStatusDurations);
+        var metric = prMetricsRepository.save(new PermissionRequestMetricsModel(99, 99, 2,
+                                                                                PermissionProcessStatus.CREATED,
+                                                                                "dnId", dsi));
 
         // When
-        double median = prStatusDurationRepository.getMedianDurationMilliseconds(PermissionProcessStatus.CREATED.name(),
-                                                                                 "dnId", dsi);
+        var durations = prStatusDurationRepository.findDurationMillisecondsOfMetric(metric);
+        var deleted = prStatusDurationRepository.deleteDurationsOfMetric(metric);
 
         // Then
-        assertThat(median).isEqualTo(99.0);
+        assertThat(durations).containsExactlyInAnyOrder(98L, 100L);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(prStatusDurationRepository.findAll())
+                .singleElement()
+                .extracting(PermissionRequestStatusDurationModel::getStatus)
+                .isEqualTo(PermissionProcessStatus.VALIDATED);
     }
 }
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.metric.service;
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +33,9 @@ class MetricsReportServiceTest {
     @Mock
     private PermissionRequestMetricsRepository metricsRepository;
 
+    @Mock
+    private PermissionRequestMetricsService metricsService;
+
     @SuppressWarnings("unused")
     @Mock
     private MetricOutboundConnectorConfiguration config;
@@ -52,7 +56,7 @@ class MetricsReportServiceTest {
                 .baseUrl(mockWebServer.url("/").toString())
                 .build();
 
-        service = new MetricsReportService(metricsRepository, config, reportBuilder, webClient);
+        service = new MetricsReportService(metricsRepository, metricsService, config, reportBuilder, webClient);
 
         when(config.endpoint()).thenReturn(mockWebServer.url("/metadata-sharing").uri());
 
@@ -93,5 +97,6 @@ class MetricsReportServiceTest {
 
         assertNotNull(sentReport);
         assertEquals(eddieId, sentReport.getEddieId());
+        verify(metricsService).flush();
     }
 }
@@ -13,7 +13,9 @@ import energy.eddie.cim.agnostic.SimpleDataSourceInformation;
 import energy.eddie.dataneeds.needs.DataNeed;
 import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.outbound.metric.connectors.AgnosticConnector;
-import energy.eddie.outbound.metric.model.PermissionRequestStatusDurationModel;
+import energy.eddie.outbound.metric.model.DurationSketch;
+import energy.eddie.outbound.metric.model.MetricKey;
+import energy.eddie.outbound.metric.model.PermissionRequestMetricsModel;
 import energy.eddie.outbound.metric.repositories.PermissionRequestMetricsRepository;
 import energy.eddie.outbound.metric.repositories.PermissionRequestStatusDurationRepository;
 import energy.eddie.outbound.shared.testing.MockPermissionEvent;
@@ -30,6 +32,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,11 +85,6 @@ class PermissionRequestMetricsServiceTest {
         when(dataNeed.type()).thenReturn("dnType");
         when(dataNeedsService.getById("dnId")).thenReturn(dataNeed);
 
-        when(metricsRepository.getPermissionRequestMetrics(any(), any(), any()))
-                .thenReturn(Optional.empty());
-        when(statusDurationRepository.getMedianDurationMilliseconds(any(), any(), any()))
-                .thenReturn(100.0);
-
         TestPublisher<ConnectionStatusMessage> csmPublisher = TestPublisher.create();
         when(agnosticConnector.getConnectionStatusMessageStream()).thenReturn(csmPublisher.flux());
         PermissionRequestMetricsService service = new PermissionRequestMetricsService(
@@ -99,16 +97,85 @@ class PermissionRequestMetricsServiceTest {
 
         // When
         service.upsertMetric(csm);
+        service.flush();
 
         // Then
-        verify(statusDurationRepository).save(any(PermissionRequestStatusDurationModel.class));
         verify(metricsRepository).upsertPermissionRequestMetric(assertArg(pr -> assertAll(
-                                                                        () -> assertEquals(100.0, pr.getMedian()),
+                                                                        () -> assertEquals(pr.getMean(), pr.getMedian(), pr.getMean() * DurationSketch.RELATIVE_ACCURACY),
                                                                         () -> assertEquals(1, pr.getPermissionRequestCount()),
                                                                         () -> assertEquals(PermissionProcessStatus.CREATED, pr.getPermissionRequestStatus()),
-                                                                        () -> assertEquals("dnType", pr.getDataNeedType())
+                                                                        () -> assertEquals("dnType", pr.getDataNeedType()),
+                                                                        () -> assertNotNull(pr.getSketch())
                                                                 ))
         );
+        verifyNoInteractions(statusDurationRepository);
+    }
+
+    @Test
+    void flush_persistsOnlyChangedMetrics() {
+        // Given
+        var sketch = new DurationSketch();
+        sketch.add(100);
+        var model = new PermissionRequestMetricsModel(
+                MetricKey.of(PermissionProcessStatus.CREATED, "dnType", dataSourceInformation),
+                100,
+                100,
+                1,
+                sketch.toBytes()
+        );
+        when(metricsRepository.findAll()).thenReturn(List.of(model));
+        TestPublisher<ConnectionStatusMessage> csmPublisher = TestPublisher.create();
+        when(agnosticConnector.getConnectionStatusMessageStream()).thenReturn(csmPublisher.flux());
+        PermissionRequestMetricsService service = new PermissionRequestMetricsService(
+                agnosticConnector,
+                metricsRepository,
+                statusDurationRepository,
+                dataNeedsService,
+                repositories
+        );
+
+        // When
+        service.flush();
+
+        // Then
+        verify(metricsRepository, never()).upsertPermissionRequestMetric(any());
+        verifyNoInteractions(statusDurationRepository);
+    }
+
+    @Test
+    void flush_sketchesDurationsOfMetricsWithoutSketch() {
+        // Given
+        var model = new PermissionRequestMetricsModel(
+                99,
+                99,
+                2,
+                PermissionProcessStatus.CREATED,
+                "dnType",
+                dataSourceInformation
+        );
+        when(metricsRepository.findAll()).thenReturn(List.of(model));
+        when(statusDurationRepository.findDurationMillisecondsOfMetric(model)).thenReturn(List.of(98L, 100L));
+        TestPublisher<ConnectionStatusMessage> csmPublisher = TestPublisher.create();
+        when(agnosticConnector.getConnectionStatusMessageStream()).thenReturn(csmPublisher.flux());
+        PermissionRequestMetricsService service = new PermissionRequestMetricsService(
+                agnosticConnector,
+                metricsRepository,
+                statusDurationRepository,
+                dataNeedsService,
+                repositories
+        );
+
+        // When
+        service.flush();
+
+        // Then
+        verify(metricsRepository).upsertPermissionRequestMetric(assertArg(pr -> assertAll(
+                () -> assertEquals(99, pr.getMean()),
+                () -> assertEquals(98, pr.getMedian(), 98 * DurationSketch.RELATIVE_ACCURACY),
+                () -> assertEquals(2, pr.getPermissionRequestCount()),
+                () -> assertEquals(2, DurationSketch.fromBytes(pr.getSketch()).count())
+        )));
+        verify(statusDurationRepository).deleteDurationsOfMetric(model);
     }
 
     @Test
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 import energy.eddie.configureJavaCompileWithErrorProne
@@ -37,6 +37,7 @@ dependencies {
     implementation(libs.jackson.jakarta.xmlbind.annotations)
     implementation(libs.jackson.dataformat.xml)
     implementation(libs.reactor.core)
+    implementation(libs.opentelemetry.sdk.metrics)
     runtimeOnly(libs.slf4j.simple)
     runtimeOnly(libs.jaxb.runtime)
 
@@ -50,6 +51,7 @@ dependencies {
     testImplementation(libs.junit.mockito)
     testImplementation(libs.testcontainers.postgresql)
     testImplementation(libs.testcontainers.junit)
+    testImplementation(libs.opentelemetry.sdk.testing)
 
     testRuntimeOnly(libs.junit.platform.launcher)
     testRuntimeOnly(libs.spring.boot.starter.flyway)
@@ -3,6 +3,7 @@
 
 package energy.eddie.outbound.rest;
 
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
@@ -18,7 +19,7 @@ import tools.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
 import java.util.List;
 
 @Configuration
-@EnableConfigurationProperties(RestOutboundConnectorConfiguration.class)
+@EnableConfigurationProperties({RestOutboundConnectorConfiguration.class, PersistenceConfiguration.class})
 public class RestOutboundBeanConfig {
     @Bean
     @Primary
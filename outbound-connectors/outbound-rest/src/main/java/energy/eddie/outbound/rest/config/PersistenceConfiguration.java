@@ -0,0 +1,50 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+import java.time.Duration;
+
+/**
+ * Configuration of how documents are written to and removed from the database.
+ *
+ * @param batchSize         Maximum number of documents that are inserted in one batch.
+ * @param flushInterval     Maximum time a document waits until its batch is inserted.
+ * @param bufferSize        Maximum number of documents waiting to be inserted per document type.
+ * @param dropPolicy        Which documents are dropped if the buffer is full.
+ * @param deletionChunkSize Maximum number of documents that are deleted in one transaction by the retention removal.
+ */
+@ConfigurationProperties(prefix = "outbound-connector.rest.persistence")
+public record PersistenceConfiguration(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("10000") int bufferSize,
+        @DefaultValue("DROP_OLDEST") DropPolicy dropPolicy,
+        @DefaultValue("5000") int deletionChunkSize
+) {
+    public enum DropPolicy {
+        /**
+         * Drops the document that waited the longest, so that the newest documents are available.
+         */
+        DROP_OLDEST(BufferOverflowStrategy.DROP_OLDEST),
+        /**
+         * Drops the newly received document, so that the documents are available without gaps until the buffer was
+         * full.
+         */
+        DROP_LATEST(BufferOverflowStrategy.DROP_LATEST);
+
+        private final BufferOverflowStrategy overflowStrategy;
+
+        DropPolicy(BufferOverflowStrategy overflowStrategy) {
+            this.overflowStrategy = overflowStrategy;
+        }
+
+        public BufferOverflowStrategy overflowStrategy() {
+            return overflowStrategy;
+        }
+    }
+}
@@ -1,12 +1,22 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import java.time.Duration;
 
+/**
+ * Configuration of the REST outbound connector.
+ *
+ * @param retentionTime How long documents are kept in the database.
+ * @param maxPageSize   The maximum and default number of documents returned by a single request to a query endpoint.
+ */
 @ConfigurationProperties(prefix = "outbound-connector.rest")
-public record RestOutboundConnectorConfiguration(Duration retentionTime) {
+public record RestOutboundConnectorConfiguration(
+        Duration retentionTime,
+        @DefaultValue("1000") int maxPageSize
+) {
 }
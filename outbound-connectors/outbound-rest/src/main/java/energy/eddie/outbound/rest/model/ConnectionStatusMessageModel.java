@@ -20,7 +20,6 @@ public class ConnectionStatusMessageModel implements ModelWithJsonPayload<Connec
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final ConnectionStatusMessage payload;
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -51,6 +50,16 @@ public class ConnectionStatusMessageModel implements ModelWithJsonPayload<Connec
         return payload;
     }
 
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
+
     @Override
     public int hashCode() {
         int result = Objects.hashCode(insertedAt);
@@ -1,8 +1,9 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.model;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,4 +18,12 @@ public interface ModelWithJsonPayload<T> {
     }
 
     T payload();
+
+    Long id();
+
+    /**
+     * The time the document was inserted into the database, together with the {@link #id()} it defines the order in
+     * which documents are returned by the query endpoints.
+     */
+    ZonedDateTime insertedAt();
 }
@@ -16,14 +16,12 @@ import java.util.Objects;
 @SuppressWarnings("NullAway")
 public class OpaqueEnvelopeModel implements ModelWithJsonPayload<OpaqueEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final OpaqueEnvelope payload;
 
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,6 +45,16 @@ public class OpaqueEnvelopeModel implements ModelWithJsonPayload<OpaqueEnvelope>
         return payload;
     }
 
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
+
     @Override
     public int hashCode() {
         int result = Objects.hashCode(insertedAt);
@@ -15,12 +15,10 @@ import java.time.ZonedDateTime;
 @SuppressWarnings("NullAway")
 public class RawDataMessageModel implements ModelWithJsonPayload<RawDataMessage> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final RawDataMessage payload;
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,4 +46,14 @@ public class RawDataMessageModel implements ModelWithJsonPayload<RawDataMessage>
     public RawDataMessage payload() {
         return payload;
     }
+
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
 }
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.model.cim.v0_82;
@@ -16,12 +16,10 @@ import java.time.ZonedDateTime;
 @SuppressWarnings("NullAway")
 public class AccountingPointDataMarketDocumentModel implements ModelWithJsonPayload<AccountingPointEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final AccountingPointEnvelope payload;
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,4 +45,14 @@ public class AccountingPointDataMarketDocumentModel implements ModelWithJsonPayl
     public AccountingPointEnvelope payload() {
         return payload;
     }
+
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
 }
@@ -16,12 +16,10 @@ import java.time.ZonedDateTime;
 @SuppressWarnings("NullAway")
 public class NearRealTimeDataMarketDocumentModel implements ModelWithJsonPayload<RTDEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final RTDEnvelope payload;
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,4 +45,14 @@ public class NearRealTimeDataMarketDocumentModel implements ModelWithJsonPayload
     public RTDEnvelope payload() {
         return payload;
     }
+
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
 }
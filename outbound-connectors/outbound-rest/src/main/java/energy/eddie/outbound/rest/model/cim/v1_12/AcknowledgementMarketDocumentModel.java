@@ -16,12 +16,10 @@ import java.time.ZonedDateTime;
 @SuppressWarnings("NullAway")
 public class AcknowledgementMarketDocumentModel implements ModelWithJsonPayload<AcknowledgementEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final AcknowledgementEnvelope payload;
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,4 +45,14 @@ public class AcknowledgementMarketDocumentModel implements ModelWithJsonPayload<
     public AcknowledgementEnvelope payload() {
         return payload;
     }
+
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
 }
@@ -17,14 +17,12 @@ import java.util.Objects;
 @SuppressWarnings("NullAway")
 public class MinMaxEnvelopeMarketDocumentModel implements ModelWithJsonPayload<RECMMOEEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final RECMMOEEnvelope payload;
 
-    @SuppressWarnings("unused")
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,6 +46,16 @@ public class MinMaxEnvelopeMarketDocumentModel implements ModelWithJsonPayload<R
         return payload;
     }
 
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
+
     @Override
     public int hashCode() {
         int result = Objects.hashCode(insertedAt);
@@ -16,14 +16,12 @@ import java.time.ZonedDateTime;
 @SuppressWarnings("NullAway")
 public class RequestPermissionMarketDocumentModel implements ModelWithJsonPayload<RequestPermissionEnvelope> {
     @Column(name = "inserted_at", nullable = false, insertable = false, updatable = false)
-    @SuppressWarnings("unused")
     private final ZonedDateTime insertedAt;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private final RequestPermissionEnvelope payload;
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @SuppressWarnings("unused")
     private Long id;
 
     public RequestPermissionMarketDocumentModel(
@@ -47,4 +45,14 @@ public class RequestPermissionMarketDocumentModel implements ModelWithJsonPayloa
     public RequestPermissionEnvelope payload() {
         return payload;
     }
+
+    @Override
+    public Long id() {
+        return id;
+    }
+
+    @Override
+    public ZonedDateTime insertedAt() {
+        return insertedAt;
+    }
 }
@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Writes and removes documents of all document tables in bulk, bypassing the entity manager.
+ * All document tables share the same structure of {@code id}, {@code inserted_at} and {@code payload}.
+ */
+@Repository
+public class DocumentBatchRepository {
+    private static final String INSERT = "INSERT INTO %s (payload) VALUES (?::jsonb)";
+    private static final String DELETE_OLDEST = """
+            WITH to_delete AS (
+                SELECT id
+                FROM %1$s
+                WHERE inserted_at <= ?
+                ORDER BY inserted_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            DELETE FROM %1$s
+            WHERE id IN (SELECT id FROM to_delete)
+            """;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DocumentBatchRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Inserts the payloads with one JDBC batch in a single transaction.
+     * The payloads are serialized with the {@link ObjectMapper} bean, which is also the JSON format mapper of
+     * hibernate, see {@link PersistenceConfig}.
+     */
+    @Transactional
+    public void insertAll(DocumentTable table, List<?> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT.formatted(table.qualifiedName()),
+                                 payloads,
+                                 payloads.size(),
+                                 (ps, payload) -> ps.setString(1, objectMapper.writeValueAsString(payload)));
+    }
+
+    /**
+     * Deletes up to {@code limit} of the oldest documents inserted before the threshold.
+     * Rows that are locked by another transaction are skipped, so the deletion never waits for concurrent deletions.
+     *
+     * @return the number of deleted documents
+     */
+    @Transactional
+    public int deleteOldestInsertedBefore(DocumentTable table, ZonedDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_OLDEST.formatted(table.qualifiedName()),
+                                   threshold.toOffsetDateTime(),
+                                   limit);
+    }
+}
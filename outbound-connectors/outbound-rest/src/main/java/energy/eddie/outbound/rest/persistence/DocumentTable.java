@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.persistence;
+
+import jakarta.persistence.Table;
+
+/**
+ * The table a document model is mapped to, used by the {@link DocumentBatchRepository}.
+ */
+public record DocumentTable(String schema, String name) {
+    public static DocumentTable of(Class<?> model) {
+        var table = model.getAnnotation(Table.class);
+        if (table == null) {
+            throw new IllegalArgumentException(model.getName() + " is not mapped to a table");
+        }
+        return new DocumentTable(table.schema(), table.name());
+    }
+
+    public String qualifiedName() {
+        return schema + "." + name;
+    }
+}
@@ -0,0 +1,35 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.persistence.specifications;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Keyset pagination over the insertion order of documents, which is defined by {@code (inserted_at, id)}.
+ */
+public class KeysetSpecification {
+    public static final Sort INSERTION_ORDER = Sort.by("insertedAt", "id");
+
+    private KeysetSpecification() {
+        // Utility Class
+    }
+
+    /**
+     * Selects all documents that come after the given document in the {@link #INSERTION_ORDER}.
+     * The redundant lower bound on the insertion time allows the database to start the scan of the
+     * {@code (inserted_at, id)} index at the given document.
+     */
+    public static <T> PredicateSpecification<T> after(ZonedDateTime insertedAt, long id) {
+        return (root, query) -> query.and(
+                query.greaterThanOrEqualTo(root.get("insertedAt"), insertedAt),
+                query.or(
+                        query.greaterThan(root.get("insertedAt"), insertedAt),
+                        query.greaterThan(root.<Long>get("id"), id)
+                )
+        );
+    }
+}
@@ -1,36 +1,66 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.tasks;
 
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
-import energy.eddie.outbound.rest.persistence.specifications.InsertionTimeSpecification;
+import energy.eddie.outbound.rest.persistence.DocumentBatchRepository;
+import energy.eddie.outbound.rest.persistence.DocumentTable;
+import io.opentelemetry.api.common.Attributes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
+/**
+ * Removes documents that are older than the retention time.
+ * The documents are deleted in chunks, each in its own short transaction, so that the table is never locked as a whole.
+ */
 public class DeletionTask<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(DeletionTask.class);
-    private final JpaSpecificationExecutor<T> repository;
+    private final DocumentTable table;
+    private final Attributes attributes;
+    private final DocumentBatchRepository repository;
     private final RestOutboundConnectorConfiguration restConfig;
+    private final int chunkSize;
+    private final PersistenceMetrics metrics;
 
     public DeletionTask(
-            JpaSpecificationExecutor<T> repository,
-            RestOutboundConnectorConfiguration restConfig
+            Class<T> model,
+            DocumentBatchRepository repository,
+            RestOutboundConnectorConfiguration restConfig,
+            PersistenceConfiguration persistenceConfig,
+            PersistenceMetrics metrics
     ) {
+        this.table = DocumentTable.of(model);
+        this.attributes = PersistenceMetrics.attributesOf(table);
         this.repository = repository;
         this.restConfig = restConfig;
+        this.chunkSize = persistenceConfig.deletionChunkSize();
+        this.metrics = metrics;
     }
 
     @Scheduled(cron = "${outbound-connector.rest.retention-removal:0 0 * * * *}")
     public void delete() {
         var timestamp = ZonedDateTime.now(ZoneOffset.UTC).minus(restConfig.retentionTime());
-        LOGGER.debug("Deleting all records inserted before {}", timestamp);
-        var where = InsertionTimeSpecification.<T>insertedBeforeEquals(timestamp);
-        repository.delete(where);
+        LOGGER.debug("Deleting all records of {} inserted before {}", table.name(), timestamp);
+        var start = System.nanoTime();
+        var total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = repository.deleteOldestInsertedBefore(table, timestamp, chunkSize);
+                total += deleted;
+                metrics.deleted(attributes, deleted);
+            } while (deleted == chunkSize);
+        } catch (DataAccessException e) {
+            LOGGER.error("Deletion of records of {} aborted after deleting {} records", table.name(), total, e);
+        }
+        metrics.deletionDuration(attributes, System.nanoTime() - start);
+        LOGGER.debug("Deleted {} records of {} inserted before {}", total, table.name(), timestamp);
     }
 }
@@ -1,30 +1,97 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.tasks;
 
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
+import energy.eddie.outbound.rest.persistence.DocumentBatchRepository;
+import energy.eddie.outbound.rest.persistence.DocumentTable;
+import io.opentelemetry.api.common.Attributes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.jpa.repository.JpaRepository;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.function.Function;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-public class InsertionTask<T1, T2 extends ModelWithJsonPayload<T1>> {
+/**
+ * Inserts the documents of a stream into the table of the model.
+ * Documents are collected into batches, which are inserted once they are full or the flush interval elapsed.
+ * The batches are inserted off the emitting thread; while the database is busy, documents wait in a bounded buffer.
+ * If that buffer is full, documents are dropped according to the {@link PersistenceConfiguration.DropPolicy} instead
+ * of blocking the emitter.
+ * A batch that cannot be inserted is dropped as well, the following batches are inserted regardless.
+ */
+public class InsertionTask<T1, T2 extends ModelWithJsonPayload<T1>> implements AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(InsertionTask.class);
-    private final JpaRepository<T2, Long> repository;
-    private final Function<T1, T2> converter;
+    private final DocumentTable table;
+    private final Attributes attributes;
+    private final DocumentBatchRepository repository;
+    private final PersistenceMetrics metrics;
+    private final Disposable subscription;
 
-    public InsertionTask(Flux<T1> flux, JpaRepository<T2, Long> repository, Function<T1, T2> converter) {
+    public InsertionTask(
+            Flux<T1> flux,
+            Class<T2> model,
+            DocumentBatchRepository repository,
+            PersistenceConfiguration config,
+            PersistenceMetrics metrics
+    ) {
+        this.table = DocumentTable.of(model);
+        this.attributes = PersistenceMetrics.attributesOf(table);
         this.repository = repository;
-        this.converter = converter;
-        flux.subscribe(this::insert);
+        this.metrics = metrics;
+        this.subscription = flux.map(Received::new)
+                                .onBackpressureBuffer(config.bufferSize(),
+                                                      this::drop,
+                                                      config.dropPolicy().overflowStrategy())
+                                .bufferTimeout(config.batchSize(), config.flushInterval(), true)
+                                .concatMap(batch -> Mono.fromRunnable(() -> insert(batch))
+                                                        .subscribeOn(Schedulers.boundedElastic()), 1)
+                                .subscribe(ignored -> {},
+                                           e -> LOGGER.error("Stopped inserting documents into {}", table.name(), e));
     }
 
-    public void insert(T1 payload) {
-        LOGGER.debug("Inserting {}", payload.getClass().getSimpleName());
-        var model = converter.apply(payload);
-        repository.save(model);
+    @Override
+    public void close() {
+        subscription.dispose();
+    }
+
+    private void insert(List<Received<T1>> batch) {
+        LOGGER.debug("Inserting {} documents into {}", batch.size(), table.name());
+        var payloads = new ArrayList<T1>(batch.size());
+        for (var received : batch) {
+            payloads.add(received.payload());
+        }
+        try {
+            repository.insertAll(table, payloads);
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not insert {} documents into {}", batch.size(), table.name(), e);
+            metrics.dropped(attributes, batch.size());
+            return;
+        }
+        var now = System.nanoTime();
+        metrics.inserted(attributes, batch.size());
+        for (var received : batch) {
+            metrics.insertionLag(attributes, now - received.receivedAt());
+        }
+    }
+
+    private void drop(Received<T1> received) {
+        LOGGER.warn("Insertion buffer of {} is full, dropping document received {} ms ago",
+                    table.name(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - received.receivedAt()));
+        metrics.dropped(attributes, 1);
+    }
+
+    private record Received<T>(T payload, long receivedAt) {
+        private Received(T payload) {
+            this(payload, System.nanoTime());
+        }
     }
 }
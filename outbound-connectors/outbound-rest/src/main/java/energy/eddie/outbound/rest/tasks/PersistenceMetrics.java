@@ -0,0 +1,80 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.tasks;
+
+import energy.eddie.outbound.rest.persistence.DocumentTable;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and lag of the {@link InsertionTask}s and {@link DeletionTask}s, by document table.
+ */
+@Component
+public class PersistenceMetrics {
+    private static final AttributeKey<String> TABLE = AttributeKey.stringKey("table");
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private final LongCounter inserted;
+    private final LongCounter dropped;
+    private final LongCounter deleted;
+    private final DoubleHistogram insertionLag;
+    private final LongHistogram batchSize;
+    private final DoubleHistogram deletionDuration;
+
+    public PersistenceMetrics(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") OpenTelemetry openTelemetry) {
+        var meter = openTelemetry.getMeter(PersistenceMetrics.class.getName());
+        this.inserted = meter.counterBuilder("rest_outbound_documents_inserted")
+                             .setDescription("The amount of documents inserted into the database")
+                             .build();
+        this.dropped = meter.counterBuilder("rest_outbound_documents_dropped")
+                            .setDescription("The amount of documents that could not be inserted into the database")
+                            .build();
+        this.deleted = meter.counterBuilder("rest_outbound_documents_deleted")
+                            .setDescription("The amount of documents deleted by the retention removal")
+                            .build();
+        this.insertionLag = meter.histogramBuilder("rest_outbound_insertion_lag")
+                                 .setDescription("The time between receiving a document and committing it to the database")
+                                 .setUnit("ms")
+                                 .build();
+        this.batchSize = meter.histogramBuilder("rest_outbound_insertion_batch_size")
+                              .setDescription("The amount of documents inserted in one batch")
+                              .ofLongs()
+                              .build();
+        this.deletionDuration = meter.histogramBuilder("rest_outbound_deletion_duration")
+                                     .setDescription("The time one run of the retention removal took")
+                                     .setUnit("ms")
+                                     .build();
+    }
+
+    static Attributes attributesOf(DocumentTable table) {
+        return Attributes.of(TABLE, table.name());
+    }
+
+    void inserted(Attributes table, int count) {
+        inserted.add(count, table);
+        batchSize.record(count, table);
+    }
+
+    void insertionLag(Attributes table, long nanos) {
+        insertionLag.record(nanos / NANOS_PER_MILLI, table);
+    }
+
+    void dropped(Attributes table, int count) {
+        dropped.add(count, table);
+    }
+
+    void deleted(Attributes table, int count) {
+        deleted.add(count, table);
+    }
+
+    void deletionDuration(Attributes table, long nanos) {
+        deletionDuration.record(nanos / NANOS_PER_MILLI, table);
+    }
+}
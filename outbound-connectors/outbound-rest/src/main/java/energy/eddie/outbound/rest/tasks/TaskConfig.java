@@ -14,9 +14,11 @@ import energy.eddie.cim.v1_12.ack.AcknowledgementEnvelope;
 import energy.eddie.cim.v1_12.esr.ESRDMDEnvelope;
 import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
 import energy.eddie.cim.v1_12.rpmd.RequestPermissionEnvelope;
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
 import energy.eddie.outbound.rest.connectors.AgnosticConnector;
 import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
+import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
 import energy.eddie.outbound.rest.model.OpaqueEnvelopeModel;
 import energy.eddie.outbound.rest.model.RawDataMessageModel;
 import energy.eddie.outbound.rest.model.cim.v0_82.AccountingPointDataMarketDocumentModel;
@@ -27,255 +29,204 @@ import energy.eddie.outbound.rest.model.cim.v1_12.AcknowledgementMarketDocumentM
 import energy.eddie.outbound.rest.model.cim.v1_12.EnergySharingReferenceDataMarketDocumentModel;
 import energy.eddie.outbound.rest.model.cim.v1_12.MinMaxEnvelopeMarketDocumentModel;
 import energy.eddie.outbound.rest.model.cim.v1_12.RequestPermissionMarketDocumentModel;
-import energy.eddie.outbound.rest.persistence.ConnectionStatusMessageRepository;
-import energy.eddie.outbound.rest.persistence.OpaqueEnvelopeRepository;
-import energy.eddie.outbound.rest.persistence.RawDataMessageRepository;
-import energy.eddie.outbound.rest.persistence.cim.v0_82.AccountingPointDataMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v0_82.PermissionMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v0_82.ValidatedHistoricalDataMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_04.ValidatedHistoricalDataMarketDocumentV1_04Repository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.AcknowledgementMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.EnergySharingReferenceDataMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.MinMaxEnvelopeMarketDocumentRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.RequestPermissionMarketDocumentRepository;
+import energy.eddie.outbound.rest.persistence.DocumentBatchRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import reactor.core.publisher.Flux;
 
 @Configuration
 @EnableScheduling
 public class TaskConfig {
-    @Bean
-    DeletionTask<ValidatedHistoricalDataMarketDocumentModel> vhdDeletionTask(
-            ValidatedHistoricalDataMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
+    private final DocumentBatchRepository repository;
+    private final RestOutboundConnectorConfiguration restConfig;
+    private final PersistenceConfiguration persistenceConfig;
+    private final PersistenceMetrics metrics;
+
+    public TaskConfig(
+            DocumentBatchRepository repository,
+            RestOutboundConnectorConfiguration restConfig,
+            PersistenceConfiguration persistenceConfig,
+            PersistenceMetrics metrics
     ) {
-        return new DeletionTask<>(repository, config);
+        this.repository = repository;
+        this.restConfig = restConfig;
+        this.persistenceConfig = persistenceConfig;
+        this.metrics = metrics;
+    }
+
+    @Bean
+    DeletionTask<ValidatedHistoricalDataMarketDocumentModel> vhdDeletionTask() {
+        return deletionTask(ValidatedHistoricalDataMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<ValidatedHistoricalDataEnvelope, ValidatedHistoricalDataMarketDocumentModel> vhdInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector,
-            ValidatedHistoricalDataMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getHistoricalDataMarketDocumentStream(),
-                                   repository,
-                                   ValidatedHistoricalDataMarketDocumentModel::new);
+        return insertionTask(cimConnector.getHistoricalDataMarketDocumentStream(),
+                             ValidatedHistoricalDataMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel> rtdV104DeletionTask(
-            energy.eddie.outbound.rest.persistence.cim.v1_04.NearRealTimeDataMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel> rtdV104DeletionTask() {
+        return deletionTask(energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<energy.eddie.cim.v1_04.rtd.RTDEnvelope, energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel> rtdV104InsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_04.CimConnector cimConnector,
-            energy.eddie.outbound.rest.persistence.cim.v1_04.NearRealTimeDataMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_04.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getNearRealTimeDataMarketDocumentStream(),
-                                   repository,
-                                   energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel::new);
+        return insertionTask(cimConnector.getNearRealTimeDataMarketDocumentStream(),
+                             energy.eddie.outbound.rest.model.cim.v1_04.NearRealTimeDataMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel> rtdV112DeletionTask(
-            energy.eddie.outbound.rest.persistence.cim.v1_12.NearRealTimeDataMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel> rtdV112DeletionTask() {
+        return deletionTask(energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<energy.eddie.cim.v1_12.rtd.RTDEnvelope, energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel> rtdV112InsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector,
-            energy.eddie.outbound.rest.persistence.cim.v1_12.NearRealTimeDataMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getNearRealTimeDataMarketDocumentStream(),
-                                   repository,
-                                   energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel::new);
+        return insertionTask(cimConnector.getNearRealTimeDataMarketDocumentStream(),
+                             energy.eddie.outbound.rest.model.cim.v1_12.NearRealTimeDataMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<AcknowledgementMarketDocumentModel> ackDeletionTask(
-            AcknowledgementMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<AcknowledgementMarketDocumentModel> ackDeletionTask() {
+        return deletionTask(AcknowledgementMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<AcknowledgementEnvelope, AcknowledgementMarketDocumentModel> ackInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector,
-            AcknowledgementMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getAcknowledgementMarketDocumentStream(),
-                                   repository,
-                                   AcknowledgementMarketDocumentModel::new);
+        return insertionTask(cimConnector.getAcknowledgementMarketDocumentStream(),
+                             AcknowledgementMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<PermissionMarketDocumentModel> pmdDeletionTask(
-            PermissionMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<PermissionMarketDocumentModel> pmdDeletionTask() {
+        return deletionTask(PermissionMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<PermissionEnvelope, PermissionMarketDocumentModel> pmdInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector,
-            PermissionMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getPermissionMarketDocumentStream(),
-                                   repository,
-                                   PermissionMarketDocumentModel::new);
+        return insertionTask(cimConnector.getPermissionMarketDocumentStream(), PermissionMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<AccountingPointDataMarketDocumentModel> apDeletionTask(
-            AccountingPointDataMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<AccountingPointDataMarketDocumentModel> apDeletionTask() {
+        return deletionTask(AccountingPointDataMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<AccountingPointEnvelope, AccountingPointDataMarketDocumentModel> apInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector,
-            AccountingPointDataMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v0_82.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getAccountingPointDataMarketDocumentStream(),
-                                   repository,
-                                   AccountingPointDataMarketDocumentModel::new);
+        return insertionTask(cimConnector.getAccountingPointDataMarketDocumentStream(),
+                             AccountingPointDataMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<ValidatedHistoricalDataMarketDocumentModelV1_04> vhdV104DeletionTask(
-            ValidatedHistoricalDataMarketDocumentV1_04Repository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<ValidatedHistoricalDataMarketDocumentModelV1_04> vhdV104DeletionTask() {
+        return deletionTask(ValidatedHistoricalDataMarketDocumentModelV1_04.class);
     }
 
     @Bean
     InsertionTask<VHDEnvelope, ValidatedHistoricalDataMarketDocumentModelV1_04> vhdV104InsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_04.CimConnector cimConnector,
-            ValidatedHistoricalDataMarketDocumentV1_04Repository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_04.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getValidatedHistoricalDataMarketDocumentStream(),
-                                   repository,
-                                   ValidatedHistoricalDataMarketDocumentModelV1_04::new);
+        return insertionTask(cimConnector.getValidatedHistoricalDataMarketDocumentStream(),
+                             ValidatedHistoricalDataMarketDocumentModelV1_04.class);
     }
 
     @Bean
-    DeletionTask<EnergySharingReferenceDataMarketDocumentModel> esrdmdEnvelopeDeletionTask(
-            EnergySharingReferenceDataMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<EnergySharingReferenceDataMarketDocumentModel> esrdmdEnvelopeDeletionTask() {
+        return deletionTask(EnergySharingReferenceDataMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<ESRDMDEnvelope, EnergySharingReferenceDataMarketDocumentModel> esrdmdEnvelopeInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector,
-            EnergySharingReferenceDataMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getEnergySharingReferenceDataMarketDocumentStream(),
-                                   repository,
-                                   EnergySharingReferenceDataMarketDocumentModel::new);
+        return insertionTask(cimConnector.getEnergySharingReferenceDataMarketDocumentStream(),
+                             EnergySharingReferenceDataMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<MinMaxEnvelopeMarketDocumentModel> minMaxEnvelopeDeletionTask(
-            MinMaxEnvelopeMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<MinMaxEnvelopeMarketDocumentModel> minMaxEnvelopeDeletionTask() {
+        return deletionTask(MinMaxEnvelopeMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<RECMMOEEnvelope, MinMaxEnvelopeMarketDocumentModel> minMaxEnvelopeInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector,
-            MinMaxEnvelopeMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector
     ) {
-        return new InsertionTask<>(cimConnector.getForwardedMinMaxEnvelopeStream(),
-                                   repository,
-                                   MinMaxEnvelopeMarketDocumentModel::new);
+        return insertionTask(cimConnector.getForwardedMinMaxEnvelopeStream(), MinMaxEnvelopeMarketDocumentModel.class);
     }
 
     @Bean
-    DeletionTask<ConnectionStatusMessageModel> csmDeletionTask(
-            ConnectionStatusMessageRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<ConnectionStatusMessageModel> csmDeletionTask() {
+        return deletionTask(ConnectionStatusMessageModel.class);
     }
 
     @Bean
     InsertionTask<ConnectionStatusMessage, ConnectionStatusMessageModel> csmInsertionTask(
-            AgnosticConnector agnosticConnector,
-            ConnectionStatusMessageRepository repository
+            AgnosticConnector agnosticConnector
     ) {
-        return new InsertionTask<>(agnosticConnector.getConnectionStatusMessageStream(),
-                                   repository,
-                                   ConnectionStatusMessageModel::new);
+        return insertionTask(agnosticConnector.getConnectionStatusMessageStream(), ConnectionStatusMessageModel.class);
     }
 
     @Bean
-    DeletionTask<OpaqueEnvelopeModel> opaqueEnvelopeDeletionTask(
-            OpaqueEnvelopeRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<OpaqueEnvelopeModel> opaqueEnvelopeDeletionTask() {
+        return deletionTask(OpaqueEnvelopeModel.class);
     }
 
     @Bean
     InsertionTask<OpaqueEnvelope, OpaqueEnvelopeModel> opaqueEnvelopeInsertionTask(
-            AgnosticConnector agnosticConnector,
-            OpaqueEnvelopeRepository repository
+            AgnosticConnector agnosticConnector
     ) {
-        return new InsertionTask<>(agnosticConnector.getForwardedOpaqueEnvelopeStream(),
-                                   repository,
-                                   OpaqueEnvelopeModel::new);
+        return insertionTask(agnosticConnector.getForwardedOpaqueEnvelopeStream(), OpaqueEnvelopeModel.class);
     }
 
     @Bean
-    DeletionTask<RawDataMessageModel> rdmDeletionTask(
-            RawDataMessageRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<RawDataMessageModel> rdmDeletionTask() {
+        return deletionTask(RawDataMessageModel.class);
     }
 
     @Bean
     InsertionTask<RawDataMessage, RawDataMessageModel> rdmInsertionTask(
-            AgnosticConnector agnosticConnector,
-            RawDataMessageRepository repository
+            AgnosticConnector agnosticConnector
     ) {
-        return new InsertionTask<>(agnosticConnector.getRawDataMessageStream(),
-                                   repository,
-                                   RawDataMessageModel::new);
+        return insertionTask(agnosticConnector.getRawDataMessageStream(), RawDataMessageModel.class);
     }
 
     @Bean
-    DeletionTask<RequestPermissionMarketDocumentModel> rpmdDeletionTask(
-            RequestPermissionMarketDocumentRepository repository,
-            RestOutboundConnectorConfiguration config
-    ) {
-        return new DeletionTask<>(repository, config);
+    DeletionTask<RequestPermissionMarketDocumentModel> rpmdDeletionTask() {
+        return deletionTask(RequestPermissionMarketDocumentModel.class);
     }
 
     @Bean
     InsertionTask<RequestPermissionEnvelope, RequestPermissionMarketDocumentModel> rpmdInsertionTask(
-            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector,
-            RequestPermissionMarketDocumentRepository repository
+            energy.eddie.outbound.rest.connectors.cim.v1_12.CimConnector cimConnector
+    ) {
+        return insertionTask(cimConnector.getRequestPermissionMarketDocumentStream(),
+                             RequestPermissionMarketDocumentModel.class);
+    }
+
+    private <T> DeletionTask<T> deletionTask(Class<T> model) {
+        return new DeletionTask<>(model, repository, restConfig, persistenceConfig, metrics);
+    }
+
+    private <T1, T2 extends ModelWithJsonPayload<T1>> InsertionTask<T1, T2> insertionTask(
+            Flux<T1> flux,
+            Class<T2> model
     ) {
-        return new InsertionTask<>(cimConnector.getRequestPermissionMarketDocumentStream(),
-                                   repository,
-                                   RequestPermissionMarketDocumentModel::new);
+        return new InsertionTask<>(flux, model, repository, persistenceConfig, metrics);
     }
 }
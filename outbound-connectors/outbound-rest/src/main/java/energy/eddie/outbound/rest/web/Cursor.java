@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.web;
+
+import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque position of a document in the insertion order, used to request the next page of a query endpoint.
+ */
+record Cursor(ZonedDateTime insertedAt, long id) {
+    private static final String DELIMITER = "/";
+
+    static Cursor of(ModelWithJsonPayload<?> model) {
+        return new Cursor(model.insertedAt(), model.id());
+    }
+
+    static Cursor decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var delimiter = decoded.lastIndexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new IllegalArgumentException("Cursor is malformed: " + cursor);
+            }
+            var insertedAt = Instant.parse(decoded.substring(0, delimiter));
+            var id = Long.parseLong(decoded.substring(delimiter + 1));
+            return new Cursor(ZonedDateTime.ofInstant(insertedAt, ZoneOffset.UTC), id);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Cursor is malformed: " + cursor, e);
+        }
+    }
+
+    String encode() {
+        var raw = insertedAt.toInstant() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,12 +3,12 @@
 
 package energy.eddie.outbound.rest.web;
 
-import energy.eddie.cim.serde.SerdeInitializationException;
-import energy.eddie.cim.serde.SerializationException;
-import energy.eddie.cim.serde.XmlMessageSerde;
+import energy.eddie.cim.serde.*;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -24,7 +24,15 @@ public class EventStream {
     public static final MediaType EVENT_STREAM_XML = MediaType.parseMediaType(EVENT_STREAM_XML_VALUE);
     private static final String X_ACCEL_BUFFERING = "X-Accel-Buffering";
     private static final Logger LOGGER = LoggerFactory.getLogger(EventStream.class);
-    private final XmlMessageSerde serde;
+    private final MessageSerde serde;
+
+    @Autowired
+    public EventStream(ObjectProvider<SerializedPayloadCache> cache) throws SerdeInitializationException {
+        var payloadCache = cache.getIfAvailable();
+        this.serde = payloadCache == null
+                ? new XmlMessageSerde()
+                : new CachingMessageSerde(new XmlMessageSerde(), "xml", payloadCache);
+    }
 
     public EventStream() throws SerdeInitializationException {
         this.serde = new XmlMessageSerde();
@@ -0,0 +1,83 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.web;
+
+import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
+import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
+import energy.eddie.outbound.rest.persistence.specifications.KeysetSpecification;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static energy.eddie.outbound.rest.model.ModelWithJsonPayload.payloadsOf;
+
+/**
+ * Answers the query endpoints page by page, using keyset pagination over the insertion order of the documents.
+ * If there are more documents than fit into a page, the cursor for the next page is returned in the
+ * {@value #NEXT_CURSOR_HEADER} header, which can be passed as the {@code cursor} query parameter of the next request.
+ */
+@Component
+public class KeysetPager {
+    public static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+    private final int maxPageSize;
+
+    public KeysetPager(RestOutboundConnectorConfiguration configuration) {
+        this.maxPageSize = configuration.maxPageSize();
+    }
+
+    /**
+     * Queries one page of documents.
+     *
+     * @param repository    the repository holding the documents
+     * @param specification the filter of the query
+     * @param limit         the requested page size, is capped at the configured maximum page size
+     * @param cursor        the cursor returned by the previous page, if any
+     * @param body          creates the response body from the payloads of the page
+     * @return the response containing the page
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public <M extends ModelWithJsonPayload<P>, P, B> ResponseEntity<B> page(
+            JpaSpecificationExecutor<M> repository,
+            PredicateSpecification<M> specification,
+            Optional<Integer> limit,
+            Optional<String> cursor,
+            Function<List<P>, B> body
+    ) {
+        var pageSize = Math.clamp(limit.orElse(maxPageSize), 1, maxPageSize);
+        var query = cursor.map(KeysetPager::decode)
+                          .map(c -> PredicateSpecification.allOf(List.of(
+                                  specification,
+                                  KeysetSpecification.<M>after(c.insertedAt(), c.id())
+                          )))
+                          .orElse(specification);
+        // Fetch one more document than requested to find out whether there is a next page
+        List<M> models = repository.findBy(Specification.where(query),
+                                           q -> q.sortBy(KeysetSpecification.INSERTION_ORDER)
+                                                 .limit(pageSize + 1)
+                                                 .all());
+
+        var response = ResponseEntity.ok();
+        if (models.size() > pageSize) {
+            models = models.subList(0, pageSize);
+            response.header(NEXT_CURSOR_HEADER, Cursor.of(models.getLast()).encode());
+        }
+        return response.body(body.apply(payloadsOf(models)));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            return Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+}
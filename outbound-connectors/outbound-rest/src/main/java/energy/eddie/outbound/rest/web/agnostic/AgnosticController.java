@@ -12,7 +12,6 @@ import energy.eddie.outbound.rest.dto.ConnectionStatusMessages;
 import energy.eddie.outbound.rest.dto.OpaqueEnvelopes;
 import energy.eddie.outbound.rest.dto.RawDataMessages;
 import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
-import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
 import energy.eddie.outbound.rest.model.OpaqueEnvelopeModel;
 import energy.eddie.outbound.rest.model.RawDataMessageModel;
 import energy.eddie.outbound.rest.persistence.ConnectionStatusMessageRepository;
@@ -21,6 +20,7 @@ import energy.eddie.outbound.rest.persistence.RawDataMessageRepository;
 import energy.eddie.outbound.rest.persistence.specifications.InsertionTimeSpecification;
 import energy.eddie.outbound.rest.persistence.specifications.JsonPathSpecification;
 import energy.eddie.outbound.rest.web.EventStream;
+import energy.eddie.outbound.rest.web.KeysetPager;
 import energy.eddie.outbound.shared.TopicStructure;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
@@ -44,19 +44,22 @@ public class AgnosticController implements AgnosticSwagger {
     private final RawDataMessageRepository rawDataRepository;
     private final OpaqueEnvelopeRepository opaqueEnvelopeRepository;
     private final EventStream eventStream;
+    private final KeysetPager keysetPager;
 
     public AgnosticController(
             AgnosticConnector agnosticConnector,
             ConnectionStatusMessageRepository csmRepository,
             RawDataMessageRepository rawDataRepository,
             OpaqueEnvelopeRepository opaqueEnvelopeRepository,
-            EventStream eventStream
+            EventStream eventStream,
+            KeysetPager keysetPager
     ) {
         this.agnosticConnector = agnosticConnector;
         this.csmRepository = csmRepository;
         this.rawDataRepository = rawDataRepository;
         this.opaqueEnvelopeRepository = opaqueEnvelopeRepository;
         this.eventStream = eventStream;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -80,7 +83,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<@Valid @Pattern(regexp = "[A-Z]{2}") String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<ConnectionStatusMessageModel> specification = buildQuery(permissionId,
                                                                                         connectionId,
@@ -89,9 +94,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                         regionConnectorId,
                                                                                         from,
                                                                                         to);
-        var all = csmRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(new ConnectionStatusMessages(messages));
+        return keysetPager.page(csmRepository, specification, limit, cursor, ConnectionStatusMessages::new);
     }
 
     @Override
@@ -103,7 +106,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<@Valid @Pattern(regexp = "[A-Z]{2}") String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<ConnectionStatusMessageModel> specification = buildQuery(permissionId,
                                                                                         connectionId,
@@ -112,9 +117,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                         regionConnectorId,
                                                                                         from,
                                                                                         to);
-        var all = csmRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(messages);
+        return keysetPager.page(csmRepository, specification, limit, cursor, messages -> messages);
     }
 
     @Override
@@ -138,7 +141,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<RawDataMessageModel> specification = buildQuery(permissionId,
                                                                                connectionId,
@@ -147,9 +152,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                regionConnectorId,
                                                                                from,
                                                                                to);
-        var all = rawDataRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(new RawDataMessages(messages));
+        return keysetPager.page(rawDataRepository, specification, limit, cursor, RawDataMessages::new);
     }
 
     @Override
@@ -161,7 +164,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<RawDataMessageModel> specification = buildQuery(permissionId,
                                                                                connectionId,
@@ -170,9 +175,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                regionConnectorId,
                                                                                from,
                                                                                to);
-        var all = rawDataRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(messages);
+        return keysetPager.page(rawDataRepository, specification, limit, cursor, messages -> messages);
     }
 
     @Override
@@ -195,7 +198,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<String> dataNeedId,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<OpaqueEnvelopeModel> specification = buildQuery(permissionId,
                                                                                connectionId,
@@ -203,9 +208,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                regionConnectorId,
                                                                                from,
                                                                                to);
-        var all = opaqueEnvelopeRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(new OpaqueEnvelopes(messages));
+        return keysetPager.page(opaqueEnvelopeRepository, specification, limit, cursor, OpaqueEnvelopes::new);
     }
 
     @Override
@@ -216,7 +219,9 @@ public class AgnosticController implements AgnosticSwagger {
             @RequestParam(required = false) Optional<String> dataNeedId,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<OpaqueEnvelopeModel> specification = buildQuery(permissionId,
                                                                                connectionId,
@@ -224,9 +229,7 @@ public class AgnosticController implements AgnosticSwagger {
                                                                                regionConnectorId,
                                                                                from,
                                                                                to);
-        var all = opaqueEnvelopeRepository.findAll(specification);
-        var messages = ModelWithJsonPayload.payloadsOf(all);
-        return ResponseEntity.ok().body(messages);
+        return keysetPager.page(opaqueEnvelopeRepository, specification, limit, cursor, messages -> messages);
     }
 
     @Override
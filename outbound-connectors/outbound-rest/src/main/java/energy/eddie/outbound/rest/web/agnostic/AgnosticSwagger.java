@@ -161,6 +161,18 @@ public interface AgnosticSwagger {
                             description = "Filters the ConnectionStatusMessages by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of ConnectionStatusMessages in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the ConnectionStatusMessages after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<ConnectionStatusMessages> connectionStatusMessages(
@@ -170,7 +182,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<@jakarta.validation.Valid @jakarta.validation.constraints.Pattern(regexp = "[A-Z]{2}") String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -249,6 +263,18 @@ public interface AgnosticSwagger {
                             description = "Filters the ConnectionStatusMessages by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of ConnectionStatusMessages in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the ConnectionStatusMessages after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<List<ConnectionStatusMessage>> connectionStatusMessagesJson(
@@ -258,7 +284,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<@Valid @Pattern(regexp = "[A-Z]{2}") String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -404,6 +432,18 @@ public interface AgnosticSwagger {
                             description = "Filters the RawDataMessages by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of RawDataMessages in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the RawDataMessages after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<RawDataMessages> rawDataMessages(
@@ -413,7 +453,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -488,6 +530,18 @@ public interface AgnosticSwagger {
                             description = "Filters the RawDataMessages by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of RawDataMessages in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the RawDataMessages after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<List<RawDataMessage>> rawDataMessagesJSON(
@@ -497,7 +551,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -619,6 +675,18 @@ public interface AgnosticSwagger {
                             description = "Filters the OpaqueEnvelopes by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of OpaqueEnvelopes in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the OpaqueEnvelopes after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<OpaqueEnvelopes> opaqueEnvelopes(
@@ -627,7 +695,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<String> dataNeedId,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -690,6 +760,18 @@ public interface AgnosticSwagger {
                             description = "Filters the OpaqueEnvelopes by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of OpaqueEnvelopes in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the OpaqueEnvelopes after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<List<OpaqueEnvelope>> opaqueEnvelopesJson(
@@ -698,7 +780,9 @@ public interface AgnosticSwagger {
             @RequestParam(required = false) Optional<String> dataNeedId,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
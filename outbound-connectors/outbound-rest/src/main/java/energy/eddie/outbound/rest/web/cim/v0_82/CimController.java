@@ -18,6 +18,7 @@ import energy.eddie.outbound.rest.persistence.cim.v0_82.PermissionMarketDocument
 import energy.eddie.outbound.rest.persistence.cim.v0_82.ValidatedHistoricalDataMarketDocumentRepository;
 import energy.eddie.outbound.rest.persistence.specifications.CimSpecification;
 import energy.eddie.outbound.rest.web.EventStream;
+import energy.eddie.outbound.rest.web.KeysetPager;
 import energy.eddie.outbound.shared.TopicStructure;
 import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.http.MediaType;
@@ -28,7 +29,6 @@ import reactor.core.publisher.Flux;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 
-import static energy.eddie.outbound.rest.model.ModelWithJsonPayload.payloadsOf;
 import static energy.eddie.outbound.rest.web.EventStream.EVENT_STREAM_XML_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
@@ -41,19 +41,22 @@ public class CimController implements CimSwagger {
     private final PermissionMarketDocumentRepository pmdRepository;
     private final AccountingPointDataMarketDocumentRepository apRepository;
     private final EventStream eventStream;
+    private final KeysetPager keysetPager;
 
     public CimController(
             CimConnector cimConnector,
             ValidatedHistoricalDataMarketDocumentRepository vhdRepository,
             PermissionMarketDocumentRepository pmdRepository,
             AccountingPointDataMarketDocumentRepository apRepository,
-            EventStream eventStream
+            EventStream eventStream,
+            KeysetPager keysetPager
     ) {
         this.cimConnector = cimConnector;
         this.vhdRepository = vhdRepository;
         this.pmdRepository = pmdRepository;
         this.apRepository = apRepository;
         this.eventStream = eventStream;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -77,7 +80,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<ValidatedHistoricalDataMarketDocumentModel> specification = CimSpecification.buildQueryForV0_82(
                 permissionId,
@@ -88,10 +93,11 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = vhdRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new ValidatedHistoricalDataMarketDocuments(messages));
+        return keysetPager.page(vhdRepository,
+                                specification,
+                                limit,
+                                cursor,
+                                ValidatedHistoricalDataMarketDocuments::new);
     }
 
     @Override
@@ -115,7 +121,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<PermissionMarketDocumentModel> specification = CimSpecification.buildQueryForV0_82(
                 permissionId,
@@ -126,10 +134,7 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = pmdRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new PermissionMarketDocuments(messages));
+        return keysetPager.page(pmdRepository, specification, limit, cursor, PermissionMarketDocuments::new);
     }
 
     @Override
@@ -153,7 +158,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<AccountingPointDataMarketDocumentModel> specification = CimSpecification.buildQueryForV0_82(
                 permissionId,
@@ -164,10 +171,7 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = apRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new AccountingPointDataMarketDocuments(messages));
+        return keysetPager.page(apRepository, specification, limit, cursor, AccountingPointDataMarketDocuments::new);
     }
 
     @Override
@@ -406,6 +406,18 @@ public interface CimSwagger {
                             description = "Filters the validated historical data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of validated historical data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the validated historical data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<ValidatedHistoricalDataMarketDocuments> validatedHistoricalDataMd(
@@ -415,7 +427,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
 
@@ -690,6 +704,18 @@ public interface CimSwagger {
                             description = "Filters the permission market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of permission market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the permission market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<PermissionMarketDocuments> permissionMd(
@@ -699,7 +725,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -1072,6 +1100,18 @@ public interface CimSwagger {
                             description = "Filters the accounting point data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of accounting point data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the accounting point data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<AccountingPointDataMarketDocuments> accountingPointDataMd(
@@ -1081,7 +1121,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
 
@@ -14,6 +14,7 @@ import energy.eddie.outbound.rest.persistence.cim.v1_04.NearRealTimeDataMarketDo
 import energy.eddie.outbound.rest.persistence.cim.v1_04.ValidatedHistoricalDataMarketDocumentV1_04Repository;
 import energy.eddie.outbound.rest.persistence.specifications.CimSpecification;
 import energy.eddie.outbound.rest.web.EventStream;
+import energy.eddie.outbound.rest.web.KeysetPager;
 import energy.eddie.outbound.shared.TopicStructure;
 import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.http.MediaType;
@@ -27,7 +28,6 @@ import reactor.core.publisher.Flux;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 
-import static energy.eddie.outbound.rest.model.ModelWithJsonPayload.payloadsOf;
 import static energy.eddie.outbound.rest.web.EventStream.EVENT_STREAM_XML_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
@@ -40,17 +40,20 @@ public class CimController implements CimSwagger {
     private final ValidatedHistoricalDataMarketDocumentV1_04Repository vhdRepository;
     private final NearRealTimeDataMarketDocumentRepository rtdRepository;
     private final EventStream eventStream;
+    private final KeysetPager keysetPager;
 
     public CimController(
             CimConnector cimConnector,
             ValidatedHistoricalDataMarketDocumentV1_04Repository vhdRepository,
             NearRealTimeDataMarketDocumentRepository rtdRepository,
-            EventStream eventStream
+            EventStream eventStream,
+            KeysetPager keysetPager
     ) {
         this.cimConnector = cimConnector;
         this.vhdRepository = vhdRepository;
         this.rtdRepository = rtdRepository;
         this.eventStream = eventStream;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -74,7 +77,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<ValidatedHistoricalDataMarketDocumentModelV1_04> specification = CimSpecification.buildQueryForV1_04(
                 permissionId,
@@ -85,10 +90,11 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = vhdRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new ValidatedHistoricalDataMarketDocumentsV1_04(messages));
+        return keysetPager.page(vhdRepository,
+                                specification,
+                                limit,
+                                cursor,
+                                ValidatedHistoricalDataMarketDocumentsV1_04::new);
     }
 
     @Override
@@ -112,7 +118,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<NearRealTimeDataMarketDocumentModel> specification = CimSpecification.buildQueryForV1_04(
                 permissionId,
@@ -123,9 +131,6 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = rtdRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new NearRealTimeDataMarketDocuments(messages));
+        return keysetPager.page(rtdRepository, specification, limit, cursor, NearRealTimeDataMarketDocuments::new);
     }
 }
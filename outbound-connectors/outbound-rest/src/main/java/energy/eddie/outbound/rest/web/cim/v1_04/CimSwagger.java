@@ -365,6 +365,18 @@ public interface CimSwagger {
                             description = "Filters the validated historical data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of validated historical data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the validated historical data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<ValidatedHistoricalDataMarketDocumentsV1_04> validatedHistoricalDataMd(
@@ -374,7 +386,9 @@ public interface CimSwagger {
             Optional<String> countryCode,
             Optional<String> regionConnectorId,
             Optional<ZonedDateTime> from,
-            Optional<ZonedDateTime> to
+            Optional<ZonedDateTime> to,
+            Optional<Integer> limit,
+            Optional<String> cursor
     );
 
 
@@ -595,6 +609,18 @@ public interface CimSwagger {
                             description = "Filters the near real-time data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of near real-time data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the near real-time data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<NearRealTimeDataMarketDocuments> nearRealTimeDataMd(
@@ -604,6 +630,8 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 }
@@ -14,6 +14,7 @@ import energy.eddie.outbound.rest.model.cim.v1_12.*;
 import energy.eddie.outbound.rest.persistence.cim.v1_12.*;
 import energy.eddie.outbound.rest.persistence.specifications.CimSpecification;
 import energy.eddie.outbound.rest.web.EventStream;
+import energy.eddie.outbound.rest.web.KeysetPager;
 import energy.eddie.outbound.shared.TopicStructure;
 import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.http.MediaType;
@@ -24,7 +25,6 @@ import reactor.core.publisher.Flux;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 
-import static energy.eddie.outbound.rest.model.ModelWithJsonPayload.payloadsOf;
 import static energy.eddie.outbound.rest.web.EventStream.EVENT_STREAM_XML_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
@@ -40,6 +40,7 @@ public class CimController implements CimSwagger {
     private final MinMaxEnvelopeMarketDocumentRepository minMaxRepository;
     private final RequestPermissionMarketDocumentRepository requestPermissionMarketDocumentRepository;
     private final EventStream eventStream;
+    private final KeysetPager keysetPager;
 
     public CimController(
             CimConnector cimConnector,
@@ -48,7 +49,8 @@ public class CimController implements CimSwagger {
             EnergySharingReferenceDataMarketDocumentRepository esrRepository,
             MinMaxEnvelopeMarketDocumentRepository minMaxRepository,
             RequestPermissionMarketDocumentRepository requestPermissionMarketDocumentRepository,
-            EventStream eventStream
+            EventStream eventStream,
+            KeysetPager keysetPager
     ) {
         this.cimConnector = cimConnector;
         this.rtdRepository = rtdRepository;
@@ -57,6 +59,7 @@ public class CimController implements CimSwagger {
         this.minMaxRepository = minMaxRepository;
         this.requestPermissionMarketDocumentRepository = requestPermissionMarketDocumentRepository;
         this.eventStream = eventStream;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -80,7 +83,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<NearRealTimeDataMarketDocumentModel> specification = CimSpecification.buildQueryForV1_12(
                 permissionId,
@@ -91,10 +96,7 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = rtdRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new NearRealTimeDataMarketDocuments(messages));
+        return keysetPager.page(rtdRepository, specification, limit, cursor, NearRealTimeDataMarketDocuments::new);
     }
 
     @Override
@@ -118,7 +120,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<AcknowledgementMarketDocumentModel> specification = CimSpecification.buildQueryForV1_12(
                 permissionId,
@@ -129,10 +133,7 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = ackRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new AcknowledgementMarketDocuments(messages));
+        return keysetPager.page(ackRepository, specification, limit, cursor, AcknowledgementMarketDocuments::new);
     }
 
     @Override
@@ -164,7 +165,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<MinMaxEnvelopeMarketDocumentModel> specification = CimSpecification.buildQueryForV1_12(
                 permissionId,
@@ -175,10 +178,7 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = minMaxRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new MinMaxEnvelopeMarketDocuments(messages));
+        return keysetPager.page(minMaxRepository, specification, limit, cursor, MinMaxEnvelopeMarketDocuments::new);
     }
 
 
@@ -203,7 +203,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<EnergySharingReferenceDataMarketDocumentModel> specification = CimSpecification.buildQueryForV1_12(
                 permissionId,
@@ -214,10 +216,11 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = esrRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new EnergySharingReferenceDataMarketDocuments(messages));
+        return keysetPager.page(esrRepository,
+                                specification,
+                                limit,
+                                cursor,
+                                EnergySharingReferenceDataMarketDocuments::new);
     }
 
     @Override
@@ -241,7 +244,9 @@ public class CimController implements CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     ) {
         PredicateSpecification<RequestPermissionMarketDocumentModel> specification = CimSpecification.buildQueryForV1_12(
                 permissionId,
@@ -252,9 +257,10 @@ public class CimController implements CimSwagger {
                 from,
                 to
         );
-        var all = requestPermissionMarketDocumentRepository.findAll(specification);
-        var messages = payloadsOf(all);
-        return ResponseEntity.ok()
-                             .body(new RequestPermissionMarketDocuments(messages));
+        return keysetPager.page(requestPermissionMarketDocumentRepository,
+                                specification,
+                                limit,
+                                cursor,
+                                RequestPermissionMarketDocuments::new);
     }
 }
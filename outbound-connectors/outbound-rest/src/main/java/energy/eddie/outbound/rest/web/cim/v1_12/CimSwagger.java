@@ -275,6 +275,18 @@ public interface CimSwagger {
                             description = "Filters the near real-time data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of near real-time data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the near real-time data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<NearRealTimeDataMarketDocuments> nearRealTimeDataMd(
@@ -284,7 +296,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -571,6 +585,18 @@ public interface CimSwagger {
                             description = "Filters the acknowledgement market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of acknowledgement market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the acknowledgement market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<AcknowledgementMarketDocuments> acknowledgementMd(
@@ -580,7 +606,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -1072,6 +1100,18 @@ public interface CimSwagger {
                             description = "Filters the min-max envelope market documents forwarded to the eligible party by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of min-max envelope market documents forwarded to the eligible party in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the min-max envelope market documents forwarded to the eligible party after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<MinMaxEnvelopeMarketDocuments> minMaxEnvelopeMd(
@@ -1081,7 +1121,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
     @Operation(
@@ -1321,6 +1363,18 @@ public interface CimSwagger {
                             description = "Filters the energy sharing reference data market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of energy sharing reference data market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the energy sharing reference data market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<EnergySharingReferenceDataMarketDocuments> energySharingReferenceDataMd(
@@ -1330,7 +1384,9 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 
 
@@ -1611,6 +1667,18 @@ public interface CimSwagger {
                             description = "Filters the request permission market documents by the time they were received",
                             schema = @Schema(implementation = ZonedDateTime.class)
                     ),
+                    @Parameter(
+                            name = "limit",
+                            in = ParameterIn.QUERY,
+                            description = "Maximum number of request permission market documents in the response, is capped at the configured maximum page size",
+                            schema = @Schema(implementation = Integer.class, minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            in = ParameterIn.QUERY,
+                            description = "Returns the request permission market documents after the previous page, use the value of the Next-Cursor response header of the previous page",
+                            schema = @Schema(implementation = String.class)
+                    ),
             }
     )
     ResponseEntity<RequestPermissionMarketDocuments> requestPermissionMd(
@@ -1620,6 +1688,8 @@ public interface CimSwagger {
             @RequestParam(required = false) Optional<String> countryCode,
             @RequestParam(required = false) Optional<String> regionConnectorId,
             @RequestParam(required = false) Optional<ZonedDateTime> from,
-            @RequestParam(required = false) Optional<ZonedDateTime> to
+            @RequestParam(required = false) Optional<ZonedDateTime> to,
+            @RequestParam(required = false) Optional<Integer> limit,
+            @RequestParam(required = false) Optional<String> cursor
     );
 }
@@ -0,0 +1,74 @@
+-- flyway:executeInTransaction=false
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+-- Keyset pagination of the query endpoints orders by (inserted_at, id).
+-- The filters of the query endpoints use jsonb_extract_path_text(payload, ...), so the expression indexes have to
+-- use exactly the same paths as the specifications.
+-- Country and region connector are not indexed, since they only have a few distinct values.
+-- The indexes are built concurrently, so inserting documents is not blocked while they are built. This requires running
+-- the migration outside a transaction. If it fails, the indexes that were already built are kept and the migration can
+-- be repeated after dropping the invalid index, see pg_index.indisvalid.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS csm_insertion_order_idx ON rest.connection_status_message (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS csm_permission_id_idx ON rest.connection_status_message (jsonb_extract_path_text(payload, 'permissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS csm_connection_id_idx ON rest.connection_status_message (jsonb_extract_path_text(payload, 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS csm_data_need_id_idx ON rest.connection_status_message (jsonb_extract_path_text(payload, 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rdm_insertion_order_idx ON rest.raw_data_message (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rdm_permission_id_idx ON rest.raw_data_message (jsonb_extract_path_text(payload, 'permissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rdm_connection_id_idx ON rest.raw_data_message (jsonb_extract_path_text(payload, 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rdm_data_need_id_idx ON rest.raw_data_message (jsonb_extract_path_text(payload, 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS oe_insertion_order_idx ON rest.opaque_envelope (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS oe_permission_id_idx ON rest.opaque_envelope (jsonb_extract_path_text(payload, 'permissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS oe_connection_id_idx ON rest.opaque_envelope (jsonb_extract_path_text(payload, 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS oe_data_need_id_idx ON rest.opaque_envelope (jsonb_extract_path_text(payload, 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_insertion_order_idx ON rest.validated_historical_data_marked_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_permission_id_idx ON rest.validated_historical_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'permissionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_connection_id_idx ON rest.validated_historical_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'connectionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_data_need_id_idx ON rest.validated_historical_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'dataNeedid'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pmd_insertion_order_idx ON rest.permission_market_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pmd_permission_id_idx ON rest.permission_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'permissionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pmd_connection_id_idx ON rest.permission_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'connectionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS pmd_data_need_id_idx ON rest.permission_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'dataNeedid'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS apd_insertion_order_idx ON rest.accounting_point_data_market_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS apd_permission_id_idx ON rest.accounting_point_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'permissionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS apd_connection_id_idx ON rest.accounting_point_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'connectionid'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS apd_data_need_id_idx ON rest.accounting_point_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MessageDocumentHeader_MetaInformation', 'dataNeedid'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_v1_04_insertion_order_idx ON rest.validated_historical_data_marked_document_v1_04 (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_v1_04_permission_id_idx ON rest.validated_historical_data_marked_document_v1_04 (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.permissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_v1_04_connection_id_idx ON rest.validated_historical_data_marked_document_v1_04 (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS vhd_v1_04_data_need_id_idx ON rest.validated_historical_data_marked_document_v1_04 (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_insertion_order_idx ON rest.near_real_time_data_marked_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_04_permission_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.permissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_04_connection_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_04_data_need_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'messageDocumentHeader.metaInformation.dataNeedId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_12_permission_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'requestPermissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_12_connection_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rtd_v1_12_data_need_id_idx ON rest.near_real_time_data_marked_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ack_insertion_order_idx ON rest.acknowledgement_market_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ack_permission_id_idx ON rest.acknowledgement_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'requestPermissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ack_connection_id_idx ON rest.acknowledgement_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ack_data_need_id_idx ON rest.acknowledgement_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS esr_insertion_order_idx ON rest.energy_sharing_reference_data_market_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS esr_permission_id_idx ON rest.energy_sharing_reference_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'requestPermissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS esr_connection_id_idx ON rest.energy_sharing_reference_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS esr_data_need_id_idx ON rest.energy_sharing_reference_data_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rpmd_insertion_order_idx ON rest.request_permission_market_document_v1_12 (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rpmd_permission_id_idx ON rest.request_permission_market_document_v1_12 (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'requestPermissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rpmd_connection_id_idx ON rest.request_permission_market_document_v1_12 (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rpmd_data_need_id_idx ON rest.request_permission_market_document_v1_12 (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'dataNeedId'));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS mme_insertion_order_idx ON rest.min_max_envelope_market_document (inserted_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS mme_permission_id_idx ON rest.min_max_envelope_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'requestPermissionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS mme_connection_id_idx ON rest.min_max_envelope_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'connectionId'));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS mme_data_need_id_idx ON rest.min_max_envelope_market_document (jsonb_extract_path_text(payload, 'MessageDocumentHeader', 'MetaInformation', 'dataNeedId'));
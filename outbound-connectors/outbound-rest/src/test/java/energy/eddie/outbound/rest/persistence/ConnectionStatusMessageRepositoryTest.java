@@ -10,12 +10,16 @@ import energy.eddie.outbound.rest.TestDataSourceInformation;
 import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
 import energy.eddie.outbound.rest.persistence.specifications.InsertionTimeSpecification;
 import energy.eddie.outbound.rest.persistence.specifications.JsonPathSpecification;
+import energy.eddie.outbound.rest.persistence.specifications.KeysetSpecification;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.annotation.DirtiesContext;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -39,6 +43,8 @@ class ConnectionStatusMessageRepositoryTest {
     private static final PostgreSQLContainer postgresqlContainer = new PostgreSQLContainer("postgres:15-alpine");
     @Autowired
     private ConnectionStatusMessageRepository connectionStatusMessageRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     void specificationForJsonPath_returnsCorrectConnectionStatusMessage() {
@@ -178,4 +184,42 @@ class ConnectionStatusMessageRepositoryTest {
         // Then
         assertThat(res).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void keysetSpecification_returnsConnectionStatusMessagesAfterCursor() {
+        // Given
+        var payload = new ConnectionStatusMessage(
+                "cid",
+                "pid",
+                "dnid",
+                new TestDataSourceInformation(
+                        "at",
+                        "at-eda",
+                        "eda",
+                        "eda"
+                ),
+                PermissionProcessStatus.ACCEPTED
+        );
+        for (int i = 0; i < 3; i++) {
+            connectionStatusMessageRepository.save(new ConnectionStatusMessageModel(payload));
+        }
+        // Reload the messages to get the insertion time set by the database
+        entityManager.flush();
+        entityManager.clear();
+        var all = connectionStatusMessageRepository.findBy(
+                Specification.where(PredicateSpecification.<ConnectionStatusMessageModel>allOf(List.of())),
+                q -> q.sortBy(KeysetSpecification.INSERTION_ORDER).all()
+        );
+        var first = all.getFirst();
+        var spec = KeysetSpecification.<ConnectionStatusMessageModel>after(first.insertedAt(), first.id());
+
+        // When
+        var res = connectionStatusMessageRepository.findBy(
+                Specification.where(spec),
+                q -> q.sortBy(KeysetSpecification.INSERTION_ORDER).all()
+        );
+
+        // Then
+        assertThat(res).containsExactlyElementsOf(all.subList(1, 3));
+    }
+}
@@ -0,0 +1,156 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.persistence;
+
+import energy.eddie.cim.agnostic.ConnectionStatusMessage;
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import energy.eddie.cim.v1_04.vhd.VHDEnvelope;
+import energy.eddie.outbound.rest.RestTestConfig;
+import energy.eddie.outbound.rest.TestDataSourceInformation;
+import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
+import energy.eddie.outbound.rest.model.ModelWithJsonPayload;
+import energy.eddie.outbound.rest.model.cim.v1_04.ValidatedHistoricalDataMarketDocumentModelV1_04;
+import energy.eddie.outbound.rest.persistence.cim.v1_04.ValidatedHistoricalDataMarketDocumentV1_04Repository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest()
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@DirtiesContext
+@Import({PersistenceConfig.class, RestTestConfig.class, DocumentBatchRepository.class})
+class DocumentBatchRepositoryTest {
+    @SuppressWarnings("unused")
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer postgresqlContainer = new PostgreSQLContainer("postgres:15-alpine");
+    private static final DocumentTable TABLE = DocumentTable.of(ConnectionStatusMessageModel.class);
+    @Autowired
+    private DocumentBatchRepository documentBatchRepository;
+    @Autowired
+    private ConnectionStatusMessageRepository connectionStatusMessageRepository;
+    @Autowired
+    private ValidatedHistoricalDataMarketDocumentV1_04Repository vhdRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertAll_insertsReadableDocuments() {
+        // Given
+        var payloads = List.of(statusMessage("pid"), statusMessage("other-pid"));
+
+        // When
+        documentBatchRepository.insertAll(TABLE, payloads);
+
+        // Then
+        var res = ModelWithJsonPayload.payloadsOf(connectionStatusMessageRepository.findAll());
+        assertThat(res)
+                .extracting(ConnectionStatusMessage::permissionId)
+                .containsExactlyInAnyOrder("pid", "other-pid");
+    }
+
+    @Test
+    void insertAll_withCimEnvelope_writesSameJsonAsHibernate() {
+        // Given
+        var table = DocumentTable.of(ValidatedHistoricalDataMarketDocumentModelV1_04.class);
+        var creationDateTime = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        var payload = new VHDEnvelope()
+                .withMessageDocumentHeaderCreationDateTime(creationDateTime)
+                .withMessageDocumentHeaderMetaInformationPermissionId("pid")
+                .withMessageDocumentHeaderMetaInformationConnectionId("cid")
+                .withMessageDocumentHeaderMetaInformationDataNeedId("dnid")
+                .withMessageDocumentHeaderMetaInformationRegionConnector("at-eda");
+        vhdRepository.saveAndFlush(new ValidatedHistoricalDataMarketDocumentModelV1_04(payload));
+
+        // When
+        documentBatchRepository.insertAll(table, List.of(payload));
+
+        // Then
+        var distinctPayloads = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT payload) FROM " + table.qualifiedName(),
+                Integer.class
+        );
+        var res = ModelWithJsonPayload.payloadsOf(vhdRepository.findAll());
+        assertAll(
+                () -> assertEquals(1, distinctPayloads),
+                () -> assertThat(res)
+                        .extracting(VHDEnvelope::getMessageDocumentHeaderMetaInformationPermissionId,
+                                    VHDEnvelope::getMessageDocumentHeaderMetaInformationConnectionId,
+                                    VHDEnvelope::getMessageDocumentHeaderMetaInformationDataNeedId,
+                                    VHDEnvelope::getMessageDocumentHeaderMetaInformationRegionConnector,
+                                    envelope -> envelope.getMessageDocumentHeaderCreationDateTime().toInstant())
+                        .containsExactly(tuple("pid", "cid", "dnid", "at-eda", creationDateTime.toInstant()),
+                                         tuple("pid", "cid", "dnid", "at-eda", creationDateTime.toInstant()))
+        );
+    }
+
+    @Test
+    void deleteOldestInsertedBefore_deletesAtMostLimit() {
+        // Given
+        documentBatchRepository.insertAll(TABLE, List.of(statusMessage("pid"),
+                                                         statusMessage("pid"),
+                                                         statusMessage("pid")));
+        var threshold = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+
+        // When
+        var first = documentBatchRepository.deleteOldestInsertedBefore(TABLE, threshold, 2);
+        var second = documentBatchRepository.deleteOldestInsertedBefore(TABLE, threshold, 2);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, first),
+                () -> assertEquals(1, second),
+                () -> assertThat(connectionStatusMessageRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    void deleteOldestInsertedBefore_keepsNewerDocuments() {
+        // Given
+        documentBatchRepository.insertAll(TABLE, List.of(statusMessage("pid")));
+        var threshold = ZonedDateTime.now(ZoneOffset.UTC).minusHours(1);
+
+        // When
+        var res = documentBatchRepository.deleteOldestInsertedBefore(TABLE, threshold, 10);
+
+        // Then
+        assertAll(
+                () -> assertEquals(0, res),
+                () -> assertThat(connectionStatusMessageRepository.findAll()).hasSize(1)
+        );
+    }
+
+    private static ConnectionStatusMessage statusMessage(String permissionId) {
+        return new ConnectionStatusMessage(
+                "cid",
+                permissionId,
+                "dnid",
+                new TestDataSourceInformation(
+                        "at",
+                        "at-eda",
+                        "eda",
+                        "eda"
+                ),
+                PermissionProcessStatus.ACCEPTED
+        );
+    }
+}
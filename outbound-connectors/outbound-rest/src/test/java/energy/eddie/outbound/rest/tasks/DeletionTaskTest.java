@@ -1,69 +1,110 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.outbound.rest.tasks;
 
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
 import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
 import energy.eddie.outbound.rest.model.OpaqueEnvelopeModel;
 import energy.eddie.outbound.rest.model.cim.v1_12.MinMaxEnvelopeMarketDocumentModel;
-import energy.eddie.outbound.rest.persistence.ConnectionStatusMessageRepository;
-import energy.eddie.outbound.rest.persistence.OpaqueEnvelopeRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.MinMaxEnvelopeMarketDocumentRepository;
+import energy.eddie.outbound.rest.persistence.DocumentBatchRepository;
+import energy.eddie.outbound.rest.persistence.DocumentTable;
+import io.opentelemetry.api.OpenTelemetry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.time.Duration;
 
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DeletionTaskTest {
-    private final RestOutboundConnectorConfiguration config = new RestOutboundConnectorConfiguration(Duration.ZERO);
+    private final RestOutboundConnectorConfiguration config = new RestOutboundConnectorConfiguration(Duration.ZERO, 1000);
+    private final PersistenceConfiguration persistenceConfig = new PersistenceConfiguration(500,
+                                                                                           Duration.ofSeconds(1),
+                                                                                           1000,
+                                                                                           PersistenceConfiguration.DropPolicy.DROP_OLDEST,
+                                                                                           10);
+    private final PersistenceMetrics metrics = new PersistenceMetrics(OpenTelemetry.noop());
     @Mock
-    private ConnectionStatusMessageRepository csmRepository;
-    @Mock
-    private OpaqueEnvelopeRepository opaqueRepository;
-    @Mock
-    private MinMaxEnvelopeMarketDocumentRepository minMaxRepository;
+    private DocumentBatchRepository repository;
 
     @Test
     void deleteConnectionStatusMessages_deletes() {
         // Given
-        var task = new DeletionTask<>(csmRepository, config);
+        var task = new DeletionTask<>(ConnectionStatusMessageModel.class, repository, config, persistenceConfig, metrics);
 
         // When
         task.delete();
 
         // Then
-        verify(csmRepository).delete(ArgumentMatchers.<PredicateSpecification<ConnectionStatusMessageModel>>any());
+        verify(repository).deleteOldestInsertedBefore(eq(DocumentTable.of(ConnectionStatusMessageModel.class)),
+                                                      any(),
+                                                      eq(10));
     }
 
     @Test
     void deleteOpaqueEnvelopes_deletes() {
         // Given
-        var task = new DeletionTask<>(opaqueRepository, config);
+        var task = new DeletionTask<>(OpaqueEnvelopeModel.class, repository, config, persistenceConfig, metrics);
 
         // When
         task.delete();
 
         // Then
-        verify(opaqueRepository).delete(ArgumentMatchers.<PredicateSpecification<OpaqueEnvelopeModel>>any());
+        verify(repository).deleteOldestInsertedBefore(eq(DocumentTable.of(OpaqueEnvelopeModel.class)), any(), eq(10));
     }
 
     @Test
     void deleteMinMaxEnvelopes_deletes() {
         // Given
-        var task = new DeletionTask<>(minMaxRepository, config);
+        var task = new DeletionTask<>(MinMaxEnvelopeMarketDocumentModel.class,
+                                      repository,
+                                      config,
+                                      persistenceConfig,
+                                      metrics);
 
         // When
         task.delete();
 
         // Then
-        verify(minMaxRepository).delete(ArgumentMatchers.<PredicateSpecification<MinMaxEnvelopeMarketDocumentModel>>any());
+        verify(repository).deleteOldestInsertedBefore(eq(DocumentTable.of(MinMaxEnvelopeMarketDocumentModel.class)),
+                                                      any(),
+                                                      eq(10));
+    }
+
+    @Test
+    void delete_deletesChunksUntilChunkIsNotFull() {
+        // Given
+        when(repository.deleteOldestInsertedBefore(any(), any(), eq(10))).thenReturn(10, 10, 3);
+        var task = new DeletionTask<>(ConnectionStatusMessageModel.class, repository, config, persistenceConfig, metrics);
+
+        // When
+        task.delete();
+
+        // Then
+        verify(repository, times(3)).deleteOldestInsertedBefore(any(), any(), eq(10));
+    }
+
+    @Test
+    void delete_withDatabaseError_stops() {
+        // Given
+        when(repository.deleteOldestInsertedBefore(any(), any(), eq(10)))
+                .thenReturn(10)
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        var task = new DeletionTask<>(ConnectionStatusMessageModel.class, repository, config, persistenceConfig, metrics);
+
+        // When
+        assertDoesNotThrow(task::delete);
+
+        // Then
+        verify(repository, times(2)).deleteOldestInsertedBefore(any(), any(), eq(10));
     }
-}
\ No newline at end of file
+}
@@ -9,31 +9,52 @@ import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.cim.v1_12.recmmoe.MessageDocumentHeader;
 import energy.eddie.cim.v1_12.recmmoe.MetaInformation;
 import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
+import energy.eddie.outbound.rest.config.PersistenceConfiguration;
 import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
 import energy.eddie.outbound.rest.model.OpaqueEnvelopeModel;
 import energy.eddie.outbound.rest.model.cim.v1_12.MinMaxEnvelopeMarketDocumentModel;
-import energy.eddie.outbound.rest.persistence.ConnectionStatusMessageRepository;
-import energy.eddie.outbound.rest.persistence.OpaqueEnvelopeRepository;
-import energy.eddie.outbound.rest.persistence.cim.v1_12.MinMaxEnvelopeMarketDocumentRepository;
+import energy.eddie.outbound.rest.persistence.DocumentBatchRepository;
+import energy.eddie.outbound.rest.persistence.DocumentTable;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class InsertionTaskTest {
+    private static final PersistenceConfiguration CONFIG = new PersistenceConfiguration(
+            2,
+            Duration.ofMillis(50),
+            10,
+            PersistenceConfiguration.DropPolicy.DROP_OLDEST,
+            1000
+    );
+    private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+    private final PersistenceMetrics metrics = new PersistenceMetrics(
+            OpenTelemetrySdk.builder()
+                            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+                            .build()
+    );
     @Mock
-    private ConnectionStatusMessageRepository csmRepository;
-    @Mock
-    private OpaqueEnvelopeRepository opaqueEnvelopeRepository;
-    @Mock
-    private MinMaxEnvelopeMarketDocumentRepository minMaxRepository;
+    private DocumentBatchRepository repository;
 
     @Test
     void insertsConnectionStatusMessages() {
@@ -41,10 +62,10 @@ class InsertionTaskTest {
         var csm = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.CREATED);
 
         // When
-        new InsertionTask<>(Flux.just(csm), csmRepository, ConnectionStatusMessageModel::new);
+        new InsertionTask<>(Flux.just(csm), ConnectionStatusMessageModel.class, repository, CONFIG, metrics);
 
         // Then
-        verify(csmRepository).save(new ConnectionStatusMessageModel(csm));
+        verify(repository, timeout(1000)).insertAll(DocumentTable.of(ConnectionStatusMessageModel.class), List.of(csm));
     }
 
     @Test
@@ -59,10 +80,10 @@ class InsertionTaskTest {
                                           "{}");
 
         // When
-        new InsertionTask<>(Flux.just(envelope), opaqueEnvelopeRepository, OpaqueEnvelopeModel::new);
+        new InsertionTask<>(Flux.just(envelope), OpaqueEnvelopeModel.class, repository, CONFIG, metrics);
 
         // Then
-        verify(opaqueEnvelopeRepository).save(new OpaqueEnvelopeModel(envelope));
+        verify(repository, timeout(1000)).insertAll(DocumentTable.of(OpaqueEnvelopeModel.class), List.of(envelope));
     }
 
     @Test
@@ -80,9 +101,101 @@ class InsertionTaskTest {
                 );
 
         // When
-        new InsertionTask<>(Flux.just(envelope), minMaxRepository, MinMaxEnvelopeMarketDocumentModel::new);
+        new InsertionTask<>(Flux.just(envelope), MinMaxEnvelopeMarketDocumentModel.class, repository, CONFIG, metrics);
+
+        // Then
+        verify(repository, timeout(1000))
+                .insertAll(DocumentTable.of(MinMaxEnvelopeMarketDocumentModel.class), List.of(envelope));
+    }
+
+    @Test
+    void insertsDocumentsInBatches() {
+        // Given
+        var first = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.CREATED);
+        var second = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.VALIDATED);
+        var third = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.ACCEPTED);
+        var table = DocumentTable.of(ConnectionStatusMessageModel.class);
+
+        // When
+        new InsertionTask<>(Flux.just(first, second, third),
+                            ConnectionStatusMessageModel.class,
+                            repository,
+                            CONFIG,
+                            metrics);
 
         // Then
-        verify(minMaxRepository).save(new MinMaxEnvelopeMarketDocumentModel(envelope));
+        verify(repository, timeout(1000)).insertAll(table, List.of(first, second));
+        verify(repository, timeout(1000)).insertAll(table, List.of(third));
+        verify(repository, after(100).times(2)).insertAll(any(), anyList());
+        assertEquals(3, counter("rest_outbound_documents_inserted"));
+    }
+
+    @Test
+    void insertsPartialBatchAfterFlushInterval() {
+        // Given
+        Sinks.Many<ConnectionStatusMessage> sink = Sinks.many().multicast().onBackpressureBuffer();
+        var csm = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.CREATED);
+        try (var ignored = new InsertionTask<>(sink.asFlux(),
+                                               ConnectionStatusMessageModel.class,
+                                               repository,
+                                               CONFIG,
+                                               metrics)) {
+            // When
+            sink.tryEmitNext(csm);
+
+            // Then
+            verify(repository, timeout(1000))
+                    .insertAll(DocumentTable.of(ConnectionStatusMessageModel.class), List.of(csm));
+        }
+    }
+
+    @Test
+    void failedInsert_countsDroppedDocuments() {
+        // Given
+        var csm = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.CREATED);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(repository).insertAll(any(), anyList());
+
+        // When
+        new InsertionTask<>(Flux.just(csm), ConnectionStatusMessageModel.class, repository, CONFIG, metrics);
+
+        // Then
+        verify(repository, timeout(1000)).insertAll(any(), anyList());
+        verify(repository, after(100).times(1)).insertAll(any(), anyList());
+        assertEquals(1, counter("rest_outbound_documents_dropped"));
+    }
+
+    @Test
+    void failedSerialization_continuesWithNextBatch() {
+        // Given
+        var first = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.CREATED);
+        var second = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.VALIDATED);
+        var third = new ConnectionStatusMessage("cid", "pid", "dnid", null, PermissionProcessStatus.ACCEPTED);
+        var table = DocumentTable.of(ConnectionStatusMessageModel.class);
+        doThrow(new IllegalStateException("not serializable"))
+                .when(repository).insertAll(table, List.of(first, second));
+
+        // When
+        new InsertionTask<>(Flux.just(first, second, third),
+                            ConnectionStatusMessageModel.class,
+                            repository,
+                            CONFIG,
+                            metrics);
+
+        // Then
+        verify(repository, timeout(1000)).insertAll(table, List.of(third));
+        assertEquals(2, counter("rest_outbound_documents_dropped"));
+        assertEquals(1, counter("rest_outbound_documents_inserted"));
+    }
+
+    private long counter(String name) {
+        return reader.collectAllMetrics()
+                     .stream()
+                     .filter(metric -> metric.getName().equals(name))
+                     .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+                     .filter(point -> "connection_status_message".equals(point.getAttributes()
+                                                                              .get(AttributeKey.stringKey("table"))))
+                     .mapToLong(LongPointData::getValue)
+                     .sum();
     }
-}
\ No newline at end of file
+}
@@ -20,7 +20,7 @@ import org.springframework.boot.security.autoconfigure.web.reactive.ReactiveWebS
 import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -103,7 +103,7 @@ class AgnosticControllerTest {
     @Test
     void connectionStatusMessage_returnsMessages() {
         var msg = new ConnectionStatusMessageModel(statusMessage(PermissionProcessStatus.CREATED));
-        given(csmRepository.findAll(ArgumentMatchers.<PredicateSpecification<ConnectionStatusMessageModel>>any()))
+        given(csmRepository.findBy(ArgumentMatchers.<Specification<ConnectionStatusMessageModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -153,7 +153,7 @@ class AgnosticControllerTest {
     void rawDataMessage_returnsMessages() {
         var message = new RawDataMessage("pid", "cid", "dnid", null, ZonedDateTime.now(ZoneOffset.UTC), "{}");
         var msg = new RawDataMessageModel(message);
-        given(rawDataRepository.findAll(ArgumentMatchers.<PredicateSpecification<RawDataMessageModel>>any()))
+        given(rawDataRepository.findBy(ArgumentMatchers.<Specification<RawDataMessageModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -209,7 +209,7 @@ class AgnosticControllerTest {
     void opaqueEnvelope_returnsMessages() {
         var message = new OpaqueEnvelope("pid", "cid", "dnid", "rid", "mid", ZonedDateTime.now(ZoneOffset.UTC), "{}");
         var msg = new OpaqueEnvelopeModel(message);
-        given(opaqueEnvelopeRepository.findAll(ArgumentMatchers.<PredicateSpecification<OpaqueEnvelopeModel>>any()))
+        given(opaqueEnvelopeRepository.findBy(ArgumentMatchers.<Specification<OpaqueEnvelopeModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
         var result = webTestClient.get()
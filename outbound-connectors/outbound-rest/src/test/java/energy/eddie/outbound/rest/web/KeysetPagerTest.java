@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.outbound.rest.web;
+
+import energy.eddie.cim.agnostic.ConnectionStatusMessage;
+import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
+import energy.eddie.outbound.rest.model.ConnectionStatusMessageModel;
+import energy.eddie.outbound.rest.persistence.ConnectionStatusMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetPagerTest {
+    private static final ZonedDateTime INSERTED_AT = ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private final KeysetPager pager = new KeysetPager(new RestOutboundConnectorConfiguration(Duration.ZERO, 2));
+    @Mock
+    private ConnectionStatusMessageRepository repository;
+
+    @Test
+    void page_withMoreDocumentsThanPageSize_returnsCursorOfLastDocument() {
+        // Given
+        var first = model(1L);
+        var second = model(2L);
+        var third = model(3L);
+        given(repository.findBy(ArgumentMatchers.<Specification<ConnectionStatusMessageModel>>any(),
+                                ArgumentMatchers.any()))
+                .willReturn(List.of(first, second, third));
+
+        // When
+        var res = pager.page(repository, allDocuments(), Optional.empty(), Optional.empty(), Function.identity());
+
+        // Then
+        var cursor = res.getHeaders().getFirst(KeysetPager.NEXT_CURSOR_HEADER);
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, res.getStatusCode()),
+                () -> assertEquals(List.of(first.payload(), second.payload()), res.getBody()),
+                () -> assertNotNull(cursor),
+                () -> assertEquals(new Cursor(INSERTED_AT, 2L), Cursor.decode(cursor))
+        );
+    }
+
+    @Test
+    void page_withLastPage_returnsNoCursor() {
+        // Given
+        var first = model(1L);
+        given(repository.findBy(ArgumentMatchers.<Specification<ConnectionStatusMessageModel>>any(),
+                                ArgumentMatchers.any()))
+                .willReturn(List.of(first));
+
+        // When
+        var res = pager.page(repository,
+                             allDocuments(),
+                             Optional.of(5),
+                             Optional.of(new Cursor(INSERTED_AT, 0L).encode()),
+                             Function.identity());
+
+        // Then
+        assertAll(
+                () -> assertEquals(List.of(first.payload()), res.getBody()),
+                () -> assertFalse(res.getHeaders().containsHeader(KeysetPager.NEXT_CURSOR_HEADER))
+        );
+    }
+
+    @Test
+    void page_withInvalidCursor_throwsBadRequest() {
+        // Given
+        var cursor = Optional.of("not-a-cursor");
+        var specification = allDocuments();
+        var limit = Optional.<Integer>empty();
+
+        // When
+        var ex = assertThrows(ResponseStatusException.class,
+                              () -> pager.page(repository, specification, limit, cursor, Function.identity()));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    private static PredicateSpecification<ConnectionStatusMessageModel> allDocuments() {
+        return PredicateSpecification.allOf(List.of());
+    }
+
+    private static ConnectionStatusMessageModel model(long id) {
+        var model = mock(ConnectionStatusMessageModel.class);
+        var payload = mock(ConnectionStatusMessage.class);
+        // Not every document of a page is converted to a cursor
+        lenient().when(model.payload()).thenReturn(payload);
+        lenient().when(model.id()).thenReturn(id);
+        lenient().when(model.insertedAt()).thenReturn(INSERTED_AT);
+        return model;
+    }
+}
@@ -4,11 +4,14 @@
 package energy.eddie.outbound.rest.web;
 
 import energy.eddie.cim.serde.SerdeInitializationException;
+import energy.eddie.outbound.rest.config.RestOutboundConnectorConfiguration;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
 import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
 
+import java.time.Duration;
+
 @TestConfiguration
 public class WebTestConfig {
     @Bean
@@ -20,4 +23,9 @@ public class WebTestConfig {
     public EventStream eventStream() throws SerdeInitializationException {
         return new EventStream();
     }
+
+    @Bean
+    public KeysetPager keysetPager() {
+        return new KeysetPager(new RestOutboundConnectorConfiguration(Duration.ofHours(48), 1000));
+    }
 }
@@ -72,7 +72,7 @@ class CimControllerTest {
     @Test
     void validatedHistoricalDataMd_returnsDocuments() {
         var msg = new ValidatedHistoricalDataMarketDocumentModel(new ValidatedHistoricalDataEnvelope());
-        given(vhdRepository.findAll(ArgumentMatchers.<Specification<ValidatedHistoricalDataMarketDocumentModel>>any()))
+        given(vhdRepository.findBy(ArgumentMatchers.<Specification<ValidatedHistoricalDataMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -116,7 +116,7 @@ class CimControllerTest {
     @Test
     void permissionMd_returnsDocuments() {
         var msg = new PermissionMarketDocumentModel(new PermissionEnvelope());
-        given(pmdRepository.findAll(ArgumentMatchers.<Specification<PermissionMarketDocumentModel>>any()))
+        given(pmdRepository.findBy(ArgumentMatchers.<Specification<PermissionMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -160,7 +160,7 @@ class CimControllerTest {
     @Test
     void accountingPointDataMd_returnsDocuments() {
         var msg = new AccountingPointDataMarketDocumentModel(new AccountingPointEnvelope());
-        given(apRepository.findAll(ArgumentMatchers.<Specification<AccountingPointDataMarketDocumentModel>>any()))
+        given(apRepository.findBy(ArgumentMatchers.<Specification<AccountingPointDataMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
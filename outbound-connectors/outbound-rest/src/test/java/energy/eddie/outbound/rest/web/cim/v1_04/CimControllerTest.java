@@ -67,7 +67,7 @@ class CimControllerTest {
     @Test
     void validatedHistoricalDataMd_returnsDocuments() {
         var msg = new ValidatedHistoricalDataMarketDocumentModelV1_04(new VHDEnvelope());
-        given(vhdRepository.findAll(ArgumentMatchers.<Specification<ValidatedHistoricalDataMarketDocumentModelV1_04>>any()))
+        given(vhdRepository.findBy(ArgumentMatchers.<Specification<ValidatedHistoricalDataMarketDocumentModelV1_04>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -111,7 +111,7 @@ class CimControllerTest {
     @Test
     void nearRealTimeDataMd_returnsDocuments() {
         var msg = new NearRealTimeDataMarketDocumentModel(new RTDEnvelope());
-        given(rtdRepository.findAll(ArgumentMatchers.<Specification<NearRealTimeDataMarketDocumentModel>>any()))
+        given(rtdRepository.findBy(ArgumentMatchers.<Specification<NearRealTimeDataMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -76,7 +76,7 @@ class CimControllerTest {
     @Test
     void nearRealTimeDataMd_returnsDocuments() {
         var msg = new NearRealTimeDataMarketDocumentModel(new RTDEnvelope());
-        given(rtdRepository.findAll(ArgumentMatchers.<Specification<NearRealTimeDataMarketDocumentModel>>any()))
+        given(rtdRepository.findBy(ArgumentMatchers.<Specification<NearRealTimeDataMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -120,7 +120,7 @@ class CimControllerTest {
     @Test
     void acknowledgementMd_returnsDocuments() {
         var msg = new AcknowledgementMarketDocumentModel(new AcknowledgementEnvelope());
-        given(ackRepository.findAll(ArgumentMatchers.<Specification<AcknowledgementMarketDocumentModel>>any()))
+        given(ackRepository.findBy(ArgumentMatchers.<Specification<AcknowledgementMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -176,7 +176,7 @@ class CimControllerTest {
     @Test
     void minMaxEnvelopeMd_returnsDocuments() {
         var msg = new MinMaxEnvelopeMarketDocumentModel(new RECMMOEEnvelope());
-        given(minMaxRepository.findAll(ArgumentMatchers.<Specification<MinMaxEnvelopeMarketDocumentModel>>any()))
+        given(minMaxRepository.findBy(ArgumentMatchers.<Specification<MinMaxEnvelopeMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
         var result = webTestClient.get()
@@ -196,7 +196,7 @@ class CimControllerTest {
     @Test
     void minMaxEnvelopeMd_returnsXmlDocuments() {
         var msg = new MinMaxEnvelopeMarketDocumentModel(new RECMMOEEnvelope());
-        given(minMaxRepository.findAll(ArgumentMatchers.<Specification<MinMaxEnvelopeMarketDocumentModel>>any()))
+        given(minMaxRepository.findBy(ArgumentMatchers.<Specification<MinMaxEnvelopeMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
         var result = webTestClient.get()
@@ -243,7 +243,7 @@ class CimControllerTest {
     @Test
     void energySharingReferenceDataMd_returnsDocuments() {
         var msg = new EnergySharingReferenceDataMarketDocumentModel(new ESRDMDEnvelope());
-        given(esrRepository.findAll(ArgumentMatchers.<Specification<EnergySharingReferenceDataMarketDocumentModel>>any()))
+        given(esrRepository.findBy(ArgumentMatchers.<Specification<EnergySharingReferenceDataMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
@@ -287,7 +287,7 @@ class CimControllerTest {
     @Test
     void requestPermissionMd_returnsDocuments() {
         var msg = new RequestPermissionMarketDocumentModel(new RequestPermissionEnvelope());
-        given(rpmdRepository.findAll(ArgumentMatchers.<Specification<RequestPermissionMarketDocumentModel>>any()))
+        given(rpmdRepository.findBy(ArgumentMatchers.<Specification<RequestPermissionMarketDocumentModel>>any(), ArgumentMatchers.any()))
                 .willReturn(List.of(msg));
 
 
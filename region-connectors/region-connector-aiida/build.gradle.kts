@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2023-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2023-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 import energy.eddie.configureJavaCompileWithErrorProne
@@ -32,6 +32,8 @@ dependencies {
     implementation(libs.reactor.core)
     implementation(libs.eclipse.paho.mqttv5.client)
     implementation(libs.jackson.jakarta.xmlbind.annotations)
+    implementation(libs.caffeine)
+    implementation(libs.opentelemetry.sdk.metrics)
 
     testImplementation(libs.junit.jupiter)
     testImplementation(libs.junit.mockito)
@@ -44,6 +46,7 @@ dependencies {
     testImplementation(libs.testcontainers.junit)
     testImplementation(libs.spring.boot.testcontainers)
     testImplementation(libs.hakky.logcaptor)
+    testImplementation(libs.opentelemetry.sdk.testing)
 
     testRuntimeOnly(libs.junit.platform.launcher)
     testRuntimeOnly(libs.postgresql)
@@ -14,8 +14,10 @@ import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
 import energy.eddie.dataneeds.rules.DataNeedRuleSet;
 import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.regionconnector.aiida.config.AiidaConfiguration;
+import energy.eddie.regionconnector.aiida.config.MqttIngestionConfiguration;
 import energy.eddie.regionconnector.aiida.data.needs.AiidaEnergyDataTimeframeStrategy;
 import energy.eddie.regionconnector.aiida.mqtt.callback.MqttConnectCallback;
+import energy.eddie.regionconnector.aiida.mqtt.callback.MqttIngestionPipeline;
 import energy.eddie.regionconnector.aiida.mqtt.callback.MqttMessageCallback;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.AiidaMessageProcessorRegistry;
 import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
@@ -27,12 +29,14 @@ import energy.eddie.regionconnector.shared.cim.v0_82.TransmissionScheduleProvide
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
 import energy.eddie.regionconnector.shared.services.data.needs.DataNeedCalculationServiceImpl;
 import energy.eddie.regionconnector.shared.services.data.needs.calculation.strategies.PermissionEndIsEnergyDataEndStrategy;
 import energy.eddie.regionconnector.shared.utils.ObjectMapperConfig;
 import energy.eddie.regionconnector.shared.utils.PasswordGenerator;
+import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.paho.mqttv5.client.MqttAsyncClient;
 import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 import org.eclipse.paho.mqttv5.client.persist.MqttDefaultFilePersistence;
@@ -42,8 +46,10 @@ import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomize
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Sinks;
 import tools.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
 
@@ -55,7 +61,7 @@ import static energy.eddie.regionconnector.aiida.AiidaRegionConnectorMetadata.MQ
 import static energy.eddie.regionconnector.aiida.AiidaRegionConnectorMetadata.REGION_CONNECTOR_ZONE_ID;
 
 @Configuration
-@EnableConfigurationProperties(AiidaConfiguration.class)
+@EnableConfigurationProperties({AiidaConfiguration.class, MqttIngestionConfiguration.class})
 @Import(ObjectMapperConfig.class)
 public class AiidaBeanConfig {
     @Bean
@@ -110,8 +116,24 @@ public class AiidaBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, AiidaPermissionEventRepository repository) {
-        return new Outbox(eventBus, repository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "aiida",
+                                               "aiida_permission_request_view",
+                                               "aiida_permission_request_view_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            AiidaPermissionEventRepository repository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, repository, permissionRequestProjection);
     }
 
     @Bean
@@ -205,8 +227,19 @@ public class AiidaBeanConfig {
     }
 
     @Bean
-    public MqttMessageCallback mqttMessageCallback(AiidaMessageProcessorRegistry messageProcessorRegistry) {
-        return new MqttMessageCallback(messageProcessorRegistry);
+    public MqttIngestionPipeline mqttIngestionPipeline(
+            MqttIngestionConfiguration configuration,
+            @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") OpenTelemetry openTelemetry
+    ) {
+        return new MqttIngestionPipeline(configuration, openTelemetry);
+    }
+
+    @Bean
+    public MqttMessageCallback mqttMessageCallback(
+            AiidaMessageProcessorRegistry messageProcessorRegistry,
+            MqttIngestionPipeline ingestionPipeline
+    ) {
+        return new MqttMessageCallback(messageProcessorRegistry, ingestionPipeline);
     }
 
     @Bean
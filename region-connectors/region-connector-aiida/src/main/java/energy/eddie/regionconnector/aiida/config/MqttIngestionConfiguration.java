@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.aiida.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the stage that processes incoming MQTT messages.
+ *
+ * @param workers        Number of worker threads, messages are partitioned by permission ID across them. {@code 0} uses
+ *                       the number of available processors.
+ * @param queueDepth     Maximum number of messages that may wait for processing per worker.
+ * @param overflowPolicy What to do with a message when the queue of its worker is full.
+ */
+@ConfigurationProperties("region-connector.aiida.mqtt.ingestion")
+public record MqttIngestionConfiguration(
+        @DefaultValue("0") int workers,
+        @DefaultValue("1000") int queueDepth,
+        @DefaultValue("BLOCK") OverflowPolicy overflowPolicy
+) {
+    public int effectiveWorkers() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Blocks the MQTT client until the worker has capacity again, which applies backpressure to the broker.
+         */
+        BLOCK,
+        /**
+         * Discards the incoming message.
+         */
+        DROP_NEWEST,
+        /**
+         * Discards the oldest message waiting in the queue of the worker.
+         */
+        DROP_OLDEST
+    }
+}
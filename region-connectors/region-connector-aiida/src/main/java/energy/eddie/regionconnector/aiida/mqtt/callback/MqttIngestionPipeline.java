@@ -0,0 +1,167 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.aiida.mqtt.callback;
+
+import energy.eddie.regionconnector.aiida.config.MqttIngestionConfiguration;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands incoming MQTT messages off from the MQTT client thread to a fixed number of workers.
+ * Messages are partitioned by permission ID, so that all messages of one permission are processed by the same worker
+ * in the order they arrived, while messages of different permissions are processed in parallel.
+ */
+public class MqttIngestionPipeline implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MqttIngestionPipeline.class);
+    private static final AttributeKey<String> PROCESSOR = AttributeKey.stringKey("processor");
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+    private static final Attributes PROCESSED = Attributes.of(RESULT, "processed");
+    private static final Attributes DROPPED = Attributes.of(RESULT, "dropped");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final MqttIngestionConfiguration.OverflowPolicy overflowPolicy;
+    private final List<Worker> workers;
+    private final LongCounter messages;
+    private final DoubleHistogram lag;
+    private final DoubleHistogram processingDuration;
+    private final ObservableLongGauge queueSize;
+
+    public MqttIngestionPipeline(MqttIngestionConfiguration configuration, OpenTelemetry openTelemetry) {
+        this.overflowPolicy = configuration.overflowPolicy();
+        var meter = openTelemetry.getMeter(MqttIngestionPipeline.class.getName());
+        this.messages = meter.counterBuilder("aiida_mqtt_ingestion_messages")
+                             .setDescription("The amount of MQTT messages that were processed or dropped")
+                             .build();
+        this.lag = meter.histogramBuilder("aiida_mqtt_ingestion_lag")
+                        .setDescription("The time MQTT messages waited for a worker")
+                        .setUnit("ms")
+                        .build();
+        this.processingDuration = meter.histogramBuilder("aiida_mqtt_message_processing_duration")
+                                       .setDescription("The time it took to process an MQTT message, by processor")
+                                       .setUnit("ms")
+                                       .build();
+        var workerCount = configuration.effectiveWorkers();
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            var worker = new Worker(i, configuration.queueDepth());
+            workers.add(worker);
+            worker.start();
+        }
+        this.queueSize = meter.gaugeBuilder("aiida_mqtt_ingestion_queue_size")
+                              .setDescription("The amount of MQTT messages waiting for a worker")
+                              .ofLongs()
+                              .buildWithCallback(measurement -> measurement.record(queuedMessages()));
+        LOGGER.info("Started {} MQTT ingestion workers with a queue depth of {} and overflow policy {}",
+                    workerCount,
+                    configuration.queueDepth(),
+                    overflowPolicy);
+    }
+
+    /**
+     * Queues a message for processing by the worker responsible for the permission.
+     *
+     * @param permissionId the permission the message belongs to, used to select the worker
+     * @param processor    the name of the processor, used to tag the processing duration
+     * @param task         the processing of the message
+     */
+    public void submit(String permissionId, String processor, Runnable task) {
+        var worker = workers.get(Math.floorMod(permissionId.hashCode(), workers.size()));
+        worker.enqueue(new Task(processor, task, System.nanoTime()));
+    }
+
+    @Override
+    public void close() {
+        queueSize.close();
+        workers.forEach(Worker::interrupt);
+    }
+
+    private long queuedMessages() {
+        long sum = 0;
+        for (var worker : workers) {
+            sum += worker.queue.size();
+        }
+        return sum;
+    }
+
+    private record Task(String processor, Runnable runnable, long enqueuedAt) {}
+
+    private class Worker extends Thread {
+        private final BlockingQueue<Task> queue;
+
+        private Worker(int index, int queueDepth) {
+            super("mqtt-ingestion-" + index);
+            setDaemon(true);
+            this.queue = new ArrayBlockingQueue<>(queueDepth);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                try {
+                    process(queue.take());
+                } catch (InterruptedException e) {
+                    interrupt();
+                }
+            }
+        }
+
+        private void enqueue(Task task) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    try {
+                        queue.put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        drop(task);
+                    }
+                }
+                case DROP_NEWEST -> {
+                    if (!queue.offer(task)) {
+                        drop(task);
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(task)) {
+                        var oldest = queue.poll();
+                        if (oldest != null) {
+                            drop(oldest);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void process(Task task) {
+            var start = System.nanoTime();
+            lag.record((start - task.enqueuedAt()) / NANOS_PER_MILLI);
+            try {
+                task.runnable().run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error while processing MQTT message for processor {}", task.processor(), e);
+            }
+            processingDuration.record((System.nanoTime() - start) / NANOS_PER_MILLI,
+                                      Attributes.of(PROCESSOR, task.processor()));
+            messages.add(1, PROCESSED);
+        }
+
+        private void drop(Task task) {
+            LOGGER.warn("MQTT ingestion queue of {} is full, dropping message for processor {} that was queued {} ms ago",
+                        getName(),
+                        task.processor(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.enqueuedAt()));
+            messages.add(1, DROPPED);
+        }
+    }
+}
@@ -5,7 +5,9 @@ package energy.eddie.regionconnector.aiida.mqtt.callback;
 
 import energy.eddie.regionconnector.aiida.exceptions.AiidaMessageProcessorRegistryException;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
+import energy.eddie.regionconnector.aiida.mqtt.message.processor.AiidaMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.AiidaMessageProcessorRegistry;
+import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopic;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.client.IMqttToken;
 import org.eclipse.paho.mqttv5.client.MqttCallback;
@@ -18,14 +20,21 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
+/**
+ * Receives all MQTT messages and hands them off to the {@link MqttIngestionPipeline}, so that the MQTT client thread is
+ * not blocked by the processing of single messages.
+ */
 public class MqttMessageCallback implements MqttCallback {
     private static final Logger LOGGER = LoggerFactory.getLogger(MqttMessageCallback.class);
     private final AiidaMessageProcessorRegistry messageProcessorRegistry;
+    private final MqttIngestionPipeline ingestionPipeline;
 
     public MqttMessageCallback(
-            AiidaMessageProcessorRegistry messageProcessorRegistry
+            AiidaMessageProcessorRegistry messageProcessorRegistry,
+            MqttIngestionPipeline ingestionPipeline
     ) {
         this.messageProcessorRegistry = messageProcessorRegistry;
+        this.ingestionPipeline = ingestionPipeline;
     }
 
     @Override
@@ -42,9 +51,9 @@ public class MqttMessageCallback implements MqttCallback {
     public void messageArrived(String topic, MqttMessage message) {
         try {
             var messageProcessor = messageProcessorRegistry.processorFor(topic);
-            messageProcessor.processMessage(message);
-        } catch (IOException | PermissionNotFoundException | PermissionInvalidException exception) {
-            LOGGER.error("Could not process MQTT message on topic {}", topic, exception);
+            ingestionPipeline.submit(MqttTopic.permissionIdOf(topic),
+                                     messageProcessor.forTopicPath(),
+                                     () -> process(messageProcessor, topic, message));
         } catch (AiidaMessageProcessorRegistryException exception) {
             LOGGER.debug("Received MQTT message, but no processor is registered, ignoring message", exception);
         }
@@ -64,4 +73,12 @@ public class MqttMessageCallback implements MqttCallback {
     public void authPacketArrived(int reasonCode, MqttProperties properties) {
         // Not needed, as no advanced authentication is required
     }
+
+    private static void process(AiidaMessageProcessor messageProcessor, String topic, MqttMessage message) {
+        try {
+            messageProcessor.processMessage(message);
+        } catch (IOException | PermissionNotFoundException | PermissionInvalidException exception) {
+            LOGGER.error("Could not process MQTT message on topic {}", topic, exception);
+        }
+    }
 }
@@ -17,13 +17,16 @@ import java.util.Map;
 public class AiidaMessageProcessorRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(AiidaMessageProcessorRegistry.class);
 
-    private final Map<String, AiidaMessageProcessor> messageProcessors = new HashMap<>();
+    // Immutable, so that the MQTT ingestion workers can look up processors concurrently without synchronization
+    private final Map<String, AiidaMessageProcessor> messageProcessors;
 
     public AiidaMessageProcessorRegistry(List<AiidaMessageProcessor> aiidaMessageProcessors) {
+        var processors = new HashMap<String, AiidaMessageProcessor>();
         for (AiidaMessageProcessor aiidaMessageProcessor : aiidaMessageProcessors) {
             var topicSuffix = aiidaMessageProcessor.forTopicPath();
-            messageProcessors.putIfAbsent(topicSuffix, aiidaMessageProcessor);
+            processors.putIfAbsent(topicSuffix, aiidaMessageProcessor);
         }
+        messageProcessors = Map.copyOf(processors);
 
         LOGGER.debug("Registered {} formatters", messageProcessors.size());
     }
@@ -31,8 +34,9 @@ public class AiidaMessageProcessorRegistry {
     public AiidaMessageProcessor processorFor(String topic) throws AiidaMessageProcessorRegistryException {
         var topicSuffix = extractTopicSuffix(topic);
 
-        if (messageProcessors.containsKey(topicSuffix)) {
-            return messageProcessors.get(topicSuffix);
+        var messageProcessor = messageProcessors.get(topicSuffix);
+        if (messageProcessor != null) {
+            return messageProcessor;
         }
 
         throw new AiidaMessageProcessorRegistryException(topic);
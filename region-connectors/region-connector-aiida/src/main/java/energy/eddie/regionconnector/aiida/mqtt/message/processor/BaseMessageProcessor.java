@@ -6,31 +6,34 @@ package energy.eddie.regionconnector.aiida.mqtt.message.processor;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Sinks;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 
 public abstract class BaseMessageProcessor implements AiidaMessageProcessor {
+    private static final Duration EMIT_RETRY_DURATION = Duration.ofSeconds(1);
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     protected final ObjectMapper objectMapper;
-    private final AiidaPermissionRequestViewRepository permissionRequestViewRepository;
+    private final AiidaPermissionRequestCache permissionRequestCache;
 
-    protected BaseMessageProcessor(AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+    protected BaseMessageProcessor(AiidaPermissionRequestCache permissionRequestCache,
                                    ObjectMapper objectMapper
     ) {
-        this.permissionRequestViewRepository = permissionRequestViewRepository;
+        this.permissionRequestCache = permissionRequestCache;
         this.objectMapper = objectMapper;
     }
 
     protected final AiidaPermissionRequest getAndValidatePermissionRequest(
             String permissionId
     ) throws PermissionNotFoundException, PermissionInvalidException {
-        var permissionRequest = permissionRequestViewRepository
+        var permissionRequest = permissionRequestCache
                 .findByPermissionId(permissionId)
                 .orElseThrow(() -> new PermissionNotFoundException(permissionId));
 
@@ -39,6 +42,22 @@ public abstract class BaseMessageProcessor implements AiidaMessageProcessor {
         return permissionRequest;
     }
 
+    /**
+     * Emits a message to a sink, retrying while another MQTT ingestion worker emits to the same sink concurrently.
+     * Other failures are logged, as the message cannot be delivered anyway.
+     */
+    protected final <T> void emit(Sinks.Many<T> sink, T message) {
+        var deadline = System.nanoTime() + EMIT_RETRY_DURATION.toNanos();
+        Sinks.EmitResult result;
+        do {
+            result = sink.tryEmitNext(message);
+        } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED && System.nanoTime() < deadline);
+
+        if (result.isFailure()) {
+            logger.debug("Could not emit message, because of {}", result);
+        }
+    }
+
     private void validatePermissionRequest(AiidaPermissionRequest permissionRequest) throws PermissionInvalidException {
         validateStatus(permissionRequest);
         validateTimespan(permissionRequest);
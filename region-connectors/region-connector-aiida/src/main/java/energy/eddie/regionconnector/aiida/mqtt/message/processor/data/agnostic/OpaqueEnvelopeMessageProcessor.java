@@ -8,7 +8,7 @@ import energy.eddie.cim.agnostic.OpaqueEnvelope;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
@@ -20,11 +20,11 @@ public class OpaqueEnvelopeMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<OpaqueEnvelope> opaqueEnvelopeSink;
 
     public OpaqueEnvelopeMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<OpaqueEnvelope> opaqueEnvelopeSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.opaqueEnvelopeSink = opaqueEnvelopeSink;
     }
 
@@ -35,7 +35,7 @@ public class OpaqueEnvelopeMessageProcessor extends BaseMessageProcessor {
         getAndValidatePermissionRequest(permissionId);
 
         logger.debug("Received opaque envelope for permission {}", permissionId);
-        opaqueEnvelopeSink.tryEmitNext(opaqueEnvelope);
+        emit(opaqueEnvelopeSink, opaqueEnvelope);
     }
 
     @Override
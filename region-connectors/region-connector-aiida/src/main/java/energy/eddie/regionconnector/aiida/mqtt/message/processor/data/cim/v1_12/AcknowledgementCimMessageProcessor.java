@@ -8,7 +8,7 @@ import energy.eddie.cim.v1_12.ack.AcknowledgementEnvelope;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
@@ -20,11 +20,11 @@ public class AcknowledgementCimMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<AcknowledgementEnvelope> acknowledgementCimSink;
 
     public AcknowledgementCimMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<AcknowledgementEnvelope> acknowledgementCimSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.acknowledgementCimSink = acknowledgementCimSink;
     }
 
@@ -39,7 +39,7 @@ public class AcknowledgementCimMessageProcessor extends BaseMessageProcessor {
         logger.debug("Received acknowledgement market document for permission {} and final customer {}",
                     permissionId,
                     metaInformation.getFinalCustomerId());
-        acknowledgementCimSink.tryEmitNext(acknowledgementEnvelope);
+        emit(acknowledgementCimSink, acknowledgementEnvelope);
     }
 
     @Override
@@ -8,7 +8,7 @@ import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
@@ -20,11 +20,11 @@ public class MinMaxEnvelopeCimMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<RECMMOEEnvelope> minMaxEnvelopeSink;
 
     public MinMaxEnvelopeCimMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<RECMMOEEnvelope> minMaxEnvelopeSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.minMaxEnvelopeSink = minMaxEnvelopeSink;
     }
 
@@ -39,7 +39,7 @@ public class MinMaxEnvelopeCimMessageProcessor extends BaseMessageProcessor {
         logger.debug("Received min-max envelope for permission {} and final customer {}",
                      permissionId,
                      metaInformation.getFinalCustomerId());
-        minMaxEnvelopeSink.tryEmitNext(minMaxEnvelope);
+        emit(minMaxEnvelopeSink, minMaxEnvelope);
     }
 
     @Override
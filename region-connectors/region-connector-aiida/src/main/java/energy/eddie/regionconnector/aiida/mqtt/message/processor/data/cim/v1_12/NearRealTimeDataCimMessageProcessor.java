@@ -8,7 +8,7 @@ import energy.eddie.cim.v1_12.rtd.RTDEnvelope;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
@@ -20,11 +20,11 @@ public class NearRealTimeDataCimMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<RTDEnvelope> nearRealTimeDataSink;
 
     public NearRealTimeDataCimMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<RTDEnvelope> nearRealTimeDataSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.nearRealTimeDataSink = nearRealTimeDataSink;
     }
 
@@ -39,7 +39,7 @@ public class NearRealTimeDataCimMessageProcessor extends BaseMessageProcessor {
         logger.debug("Received near real-time data market document for permission {} and final customer {}",
                      permissionId,
                      metaInformation.getFinalCustomerId());
-        nearRealTimeDataSink.tryEmitNext(nearRealTimeDataEnvelope);
+        emit(nearRealTimeDataSink, nearRealTimeDataEnvelope);
     }
 
     @Override
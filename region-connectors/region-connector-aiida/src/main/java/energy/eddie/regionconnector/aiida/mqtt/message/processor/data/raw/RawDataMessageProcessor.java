@@ -10,7 +10,7 @@ import energy.eddie.cim.agnostic.RawDataMessage;
 import energy.eddie.regionconnector.aiida.exceptions.PermissionInvalidException;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import energy.eddie.regionconnector.shared.exceptions.PermissionNotFoundException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
@@ -24,11 +24,11 @@ public class RawDataMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<RawDataMessage> rawDataMessageSink;
 
     public RawDataMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<RawDataMessage> rawDataMessageSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.rawDataMessageSink = rawDataMessageSink;
     }
 
@@ -49,7 +49,7 @@ public class RawDataMessageProcessor extends BaseMessageProcessor {
         logger.debug("Received RawDataMessage for permission {} and AIIDA {}",
                     permissionId,
                     permissionRequest.aiidaId());
-        rawDataMessageSink.tryEmitNext(rawDataMessage);
+        emit(rawDataMessageSink, rawDataMessage);
     }
 
     @Override
@@ -6,7 +6,7 @@ package energy.eddie.regionconnector.aiida.mqtt.message.processor.status;
 import energy.eddie.api.agnostic.aiida.AiidaConnectionStatusMessageDto;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.BaseMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Sinks;
@@ -17,11 +17,11 @@ public class StatusMessageProcessor extends BaseMessageProcessor {
     private final Sinks.Many<AiidaConnectionStatusMessageDto> statusSink;
 
     public StatusMessageProcessor(
-            AiidaPermissionRequestViewRepository permissionRequestViewRepository,
+            AiidaPermissionRequestCache permissionRequestCache,
             ObjectMapper objectMapper,
             Sinks.Many<AiidaConnectionStatusMessageDto> statusSink
     ) {
-        super(permissionRequestViewRepository, objectMapper);
+        super(permissionRequestCache, objectMapper);
         this.statusSink = statusSink;
     }
 
@@ -33,7 +33,7 @@ public class StatusMessageProcessor extends BaseMessageProcessor {
         logger.debug("Received connection status message for permission {} with status {}",
                     permissionId,
                     statusMessage.status());
-        statusSink.tryEmitNext(statusMessage);
+        emit(statusSink, statusMessage);
     }
 
     @Override
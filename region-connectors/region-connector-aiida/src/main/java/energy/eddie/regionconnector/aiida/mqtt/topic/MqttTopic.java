@@ -22,6 +22,14 @@ public record MqttTopic(
         return new MqttTopic(DEFAULT_PREFIX, permissionId, topicType);
     }
 
+    /**
+     * Extracts the permission ID from a topic that starts with the {@link #DEFAULT_PREFIX}.
+     */
+    public static String permissionIdOf(String topic) {
+        var start = MESSAGE_VERSION_LENGTH + DELIMITER_LENGTH;
+        return topic.substring(start, start + PERMISSION_ID_LENGTH);
+    }
+
     public String eddieTopic() {
         return buildTopic(MqttAction.PUBLISH);
     }
@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.aiida.permission.request.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
+import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of the {@link AiidaPermissionRequestViewRepository}, used to validate incoming MQTT
+ * messages without a database round trip.
+ * An entry is invalidated as soon as a permission event for its permission is emitted on the {@link EventBus}.
+ * If the event is emitted inside a transaction, the entry is invalidated again after the commit, so that a concurrent
+ * read of the not yet committed view cannot keep a stale entry alive.
+ * Permission requests that were loaded while an invalidation happened are not cached.
+ * Entries additionally expire after a fixed time as a safety net.
+ */
+@Component
+public class AiidaPermissionRequestCache implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AiidaPermissionRequestCache.class);
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+    private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+    private static final Attributes HIT = Attributes.of(RESULT, "hit");
+    private static final Attributes MISS = Attributes.of(RESULT, "miss");
+    private final AiidaPermissionRequestViewRepository repository;
+    private final Cache<String, AiidaPermissionRequest> cache = Caffeine.newBuilder()
+                                                                        .maximumSize(MAXIMUM_SIZE)
+                                                                        .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                                                                        .build();
+    private final LongCounter lookups;
+    private final Disposable invalidations;
+    private long generation = 0;
+
+    public AiidaPermissionRequestCache(
+            AiidaPermissionRequestViewRepository repository,
+            EventBus eventBus,
+            @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") OpenTelemetry openTelemetry
+    ) {
+        this.repository = repository;
+        this.lookups = openTelemetry.getMeter(AiidaPermissionRequestCache.class.getName())
+                                    .counterBuilder("aiida_permission_request_cache_lookups")
+                                    .setDescription("The amount of permission request lookups for MQTT messages, by result (hit or miss)")
+                                    .build();
+        this.invalidations = eventBus.filteredFlux(PermissionEvent.class)
+                                     .map(PermissionEvent::permissionId)
+                                     .subscribe(this::invalidate);
+    }
+
+    /**
+     * Returns the permission request from the cache, or loads it from the database if it is not cached yet.
+     * Unknown permission requests are not cached.
+     *
+     * @param permissionId the ID of the permission request
+     * @return the permission request, or an empty optional if it does not exist
+     */
+    public Optional<AiidaPermissionRequest> findByPermissionId(String permissionId) {
+        var cached = cache.getIfPresent(permissionId);
+        if (cached != null) {
+            lookups.add(1, HIT);
+            return Optional.of(cached);
+        }
+        lookups.add(1, MISS);
+        long loadedAt;
+        synchronized (cache) {
+            loadedAt = generation;
+        }
+        var permissionRequest = repository.findByPermissionId(permissionId);
+        permissionRequest.ifPresent(request -> {
+            synchronized (cache) {
+                // Do not cache the permission request, if it was changed while it was loaded
+                if (loadedAt == generation) {
+                    cache.put(permissionId, request);
+                }
+            }
+        });
+        return permissionRequest;
+    }
+
+    @Override
+    public void close() {
+        invalidations.dispose();
+    }
+
+    private void invalidate(String permissionId) {
+        LOGGER.trace("Invalidating cached permission request {}", permissionId);
+        evict(permissionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(permissionId);
+                }
+            });
+        }
+    }
+
+    private void evict(String permissionId) {
+        synchronized (cache) {
+            generation++;
+            cache.invalidate(permissionId);
+        }
+    }
+}
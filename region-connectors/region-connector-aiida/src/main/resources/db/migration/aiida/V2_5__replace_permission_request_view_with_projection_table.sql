@@ -0,0 +1,19 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* The permission requests are kept in a table, which is updated whenever a permission event is committed.
+   The view that aggregates the permission events is kept to rebuild and verify the table. */
+ALTER VIEW aiida.aiida_permission_request_view RENAME TO aiida_permission_request_view_from_events;
+
+CREATE TABLE aiida.aiida_permission_request_view AS
+SELECT *
+FROM aiida.aiida_permission_request_view_from_events;
+
+ALTER TABLE aiida.aiida_permission_request_view
+    ADD PRIMARY KEY (permission_id);
+
+CREATE INDEX IF NOT EXISTS aiida_permission_request_view_status_created_idx
+    ON aiida.aiida_permission_request_view (status, created);
+
+CREATE INDEX IF NOT EXISTS permission_event_permission_id_idx
+    ON aiida.permission_event (permission_id);
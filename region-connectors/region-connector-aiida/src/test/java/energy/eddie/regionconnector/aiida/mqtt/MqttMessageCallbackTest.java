@@ -10,6 +10,7 @@ import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.cim.agnostic.RawDataMessage;
 import energy.eddie.cim.v1_12.ack.AcknowledgementEnvelope;
 import energy.eddie.regionconnector.aiida.AiidaBeanConfig;
+import energy.eddie.regionconnector.aiida.mqtt.callback.MqttIngestionPipeline;
 import energy.eddie.regionconnector.aiida.mqtt.callback.MqttMessageCallback;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.AiidaMessageProcessor;
 import energy.eddie.regionconnector.aiida.mqtt.message.processor.AiidaMessageProcessorRegistry;
@@ -19,7 +20,7 @@ import energy.eddie.regionconnector.aiida.mqtt.message.processor.status.StatusMe
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopic;
 import energy.eddie.regionconnector.aiida.mqtt.topic.MqttTopicType;
 import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import nl.altindag.log.LogCaptor;
 import org.eclipse.paho.mqttv5.client.IMqttToken;
 import org.eclipse.paho.mqttv5.client.MqttDisconnectResponse;
@@ -52,8 +53,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MqttMessageCallbackTest {
@@ -81,7 +81,9 @@ class MqttMessageCallbackTest {
     @Mock
     private ObjectMapper mockObjectMapper;
     @Mock
-    private AiidaPermissionRequestViewRepository permissionRequestViewRepository;
+    private AiidaPermissionRequestCache permissionRequestCache;
+    @Mock
+    private MqttIngestionPipeline ingestionPipeline;
 
     private ObjectMapper realObjectMapper;
 
@@ -93,7 +95,12 @@ class MqttMessageCallbackTest {
 
         // Message Processors
         var messageProcessorRegistry = new AiidaMessageProcessorRegistry(getAiidaMessageProcessors());
-        mqttMessageCallback = new MqttMessageCallback(messageProcessorRegistry);
+        mqttMessageCallback = new MqttMessageCallback(messageProcessorRegistry, ingestionPipeline);
+        // Process messages on the calling thread
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(ingestionPipeline).submit(any(), any(), any());
     }
 
     @AfterEach
@@ -153,7 +160,7 @@ class MqttMessageCallbackTest {
                                             LocalDate.now(ZoneId.systemDefault()).plusDays(1));
         when(permission.permissionId()).thenReturn(PERMISSION_ID.toString());
 
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString()))
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString()))
                 .thenReturn(Optional.of(permission));
         when(mockObjectMapper.readValue(any(byte[].class), eq(AiidaRecordDto.class)))
                 .thenReturn(aiidaRecordDto);
@@ -188,7 +195,7 @@ class MqttMessageCallbackTest {
 
         var permission = acceptedPermission(LocalDate.now(ZoneId.systemDefault()).minusDays(1),
                                             LocalDate.now(ZoneId.systemDefault()).plusDays(1));
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString()))
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString()))
                 .thenReturn(Optional.of(permission));
 
         // When
@@ -208,7 +215,7 @@ class MqttMessageCallbackTest {
         when(mockObjectMapper.readValue(any(byte[].class),
                                         eq(scenario.dataClass()))).thenReturn(scenario.data());
 
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString())).thenReturn(Optional.empty());
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString())).thenReturn(Optional.empty());
 
         // When
         messageArrived(topic);
@@ -228,7 +235,7 @@ class MqttMessageCallbackTest {
 
         var permission = mock(AiidaPermissionRequest.class);
         when(permission.status()).thenReturn(PermissionProcessStatus.REVOKED);
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString()))
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString()))
                 .thenReturn(Optional.of(permission));
 
         // When
@@ -251,7 +258,7 @@ class MqttMessageCallbackTest {
                                         eq(scenario.dataClass()))).thenReturn(scenario.data());
 
         var permission = acceptedPermission(startDate, endDate);
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString()))
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString()))
                 .thenReturn(Optional.of(permission));
 
         // When
@@ -273,7 +280,7 @@ class MqttMessageCallbackTest {
                                         eq(scenario.dataClass()))).thenReturn(scenario.data());
 
         var permission = acceptedPermission(startDate, endDate);
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID.toString()))
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID.toString()))
                 .thenReturn(Optional.of(permission));
 
         // When
@@ -296,6 +303,21 @@ class MqttMessageCallbackTest {
         assertFalse(logCaptor.getDebugLogs().isEmpty());
     }
 
+    @Test
+    void messageArrived_submitsMessagePartitionedByPermissionId() {
+        // Given
+        var topic = statusTopic();
+        var message = new MqttMessage("{}".getBytes(StandardCharsets.UTF_8));
+        var pipeline = mock(MqttIngestionPipeline.class);
+        var callback = new MqttMessageCallback(new AiidaMessageProcessorRegistry(getAiidaMessageProcessors()), pipeline);
+
+        // When
+        callback.messageArrived(topic, message);
+
+        // Then
+        verify(pipeline).submit(eq(PERMISSION_ID.toString()), eq(MqttTopicType.STATUS.baseTopicName()), any());
+    }
+
     @Test
     void disconnected() {
         // Given
@@ -385,22 +407,22 @@ class MqttMessageCallbackTest {
     }
 
     private @NotNull List<AiidaMessageProcessor> getAiidaMessageProcessors() {
-        var statusMessageProcessor = new StatusMessageProcessor(permissionRequestViewRepository,
+        var statusMessageProcessor = new StatusMessageProcessor(permissionRequestCache,
                                                                 mockObjectMapper,
                                                                 statusSink);
-        var rawDataMessageProcessor = new RawDataMessageProcessor(permissionRequestViewRepository,
+        var rawDataMessageProcessor = new RawDataMessageProcessor(permissionRequestCache,
                                                                   mockObjectMapper,
                                                                   rawDataMessageSink);
         var rtdCimDataMessageProcessorV104 = new energy.eddie.regionconnector.aiida.mqtt.message.processor.data.cim.v1_04.NearRealTimeDataCimMessageProcessor(
-                permissionRequestViewRepository,
+                permissionRequestCache,
                 mockObjectMapper,
                 nearRealTimeDataSinkCimV104);
         var rtdCimDataMessageProcessorV112 = new energy.eddie.regionconnector.aiida.mqtt.message.processor.data.cim.v1_12.NearRealTimeDataCimMessageProcessor(
-                permissionRequestViewRepository,
+                permissionRequestCache,
                 mockObjectMapper,
                 nearRealTimeDataSinkCimV112);
         var ackCimDataMessageProcessor = new AcknowledgementCimMessageProcessor(
-                permissionRequestViewRepository,
+                permissionRequestCache,
                 mockObjectMapper,
                 acknowledgementSinkCim);
 
@@ -0,0 +1,169 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.aiida.mqtt.callback;
+
+import energy.eddie.regionconnector.aiida.config.MqttIngestionConfiguration;
+import energy.eddie.regionconnector.aiida.config.MqttIngestionConfiguration.OverflowPolicy;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MqttIngestionPipelineTest {
+    private static final String PERMISSION_ID = "00000000-0000-0000-0000-000000000000";
+    private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+    private MqttIngestionPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    void submit_processesMessagesOfOnePermissionInOrder() throws InterruptedException {
+        // Given
+        pipeline = createPipeline(4, 100, OverflowPolicy.BLOCK);
+        var processed = Collections.synchronizedList(new ArrayList<Integer>());
+        var latch = new CountDownLatch(50);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            var message = i;
+            pipeline.submit(PERMISSION_ID, "status", () -> {
+                processed.add(message);
+                latch.countDown();
+            });
+        }
+
+        // Then
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, processed);
+    }
+
+    @Test
+    void submit_withFullQueue_dropsNewestMessage() throws InterruptedException {
+        // Given
+        pipeline = createPipeline(1, 1, OverflowPolicy.DROP_NEWEST);
+        var blocker = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var processed = Collections.synchronizedList(new ArrayList<String>());
+        var done = new CountDownLatch(2);
+        pipeline.submit(PERMISSION_ID, "status", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            processed.add("first");
+            done.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        pipeline.submit(PERMISSION_ID, "status", () -> {
+            processed.add("second");
+            done.countDown();
+        });
+        pipeline.submit(PERMISSION_ID, "status", () -> processed.add("third"));
+        blocker.countDown();
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second"), processed);
+        assertEquals(1, messages("dropped"));
+    }
+
+    @Test
+    void submit_withFullQueue_dropsOldestMessage() throws InterruptedException {
+        // Given
+        pipeline = createPipeline(1, 1, OverflowPolicy.DROP_OLDEST);
+        var blocker = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var processed = Collections.synchronizedList(new ArrayList<String>());
+        var done = new CountDownLatch(2);
+        pipeline.submit(PERMISSION_ID, "status", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            processed.add("first");
+            done.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        pipeline.submit(PERMISSION_ID, "status", () -> processed.add("second"));
+        pipeline.submit(PERMISSION_ID, "status", () -> {
+            processed.add("third");
+            done.countDown();
+        });
+        blocker.countDown();
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "third"), processed);
+        assertEquals(1, messages("dropped"));
+    }
+
+    @Test
+    void submit_recordsProcessingMetrics() throws InterruptedException {
+        // Given
+        pipeline = createPipeline(2, 10, OverflowPolicy.BLOCK);
+        var latch = new CountDownLatch(1);
+
+        // When
+        pipeline.submit(PERMISSION_ID, "status", latch::countDown);
+
+        // Then
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // the counter is incremented after the task ran
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (messages("processed") == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        var metricNames = reader.collectAllMetrics().stream().map(MetricData::getName).toList();
+        assertAll(
+                () -> assertEquals(1, messages("processed")),
+                () -> assertTrue(metricNames.contains("aiida_mqtt_ingestion_lag")),
+                () -> assertTrue(metricNames.contains("aiida_mqtt_message_processing_duration")),
+                () -> assertTrue(metricNames.contains("aiida_mqtt_ingestion_queue_size"))
+        );
+    }
+
+    private MqttIngestionPipeline createPipeline(int workers, int queueDepth, OverflowPolicy overflowPolicy) {
+        var otel = OpenTelemetrySdk.builder()
+                                   .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+                                   .build();
+        return new MqttIngestionPipeline(new MqttIngestionConfiguration(workers, queueDepth, overflowPolicy), otel);
+    }
+
+    private long messages(String result) {
+        return reader.collectAllMetrics()
+                     .stream()
+                     .filter(metric -> metric.getName().equals("aiida_mqtt_ingestion_messages"))
+                     .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+                     .filter(point -> result.equals(point.getAttributes().get(AttributeKey.stringKey("result"))))
+                     .mapToLong(LongPointData::getValue)
+                     .sum();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
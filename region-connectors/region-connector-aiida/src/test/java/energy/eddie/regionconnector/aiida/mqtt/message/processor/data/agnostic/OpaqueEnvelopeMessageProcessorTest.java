@@ -6,7 +6,7 @@ package energy.eddie.regionconnector.aiida.mqtt.message.processor.data.agnostic;
 import energy.eddie.cim.agnostic.OpaqueEnvelope;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,13 +36,13 @@ class OpaqueEnvelopeMessageProcessorTest {
     private OpaqueEnvelopeMessageProcessor processor;
 
     @Mock
-    private AiidaPermissionRequestViewRepository permissionRequestViewRepository;
+    private AiidaPermissionRequestCache permissionRequestCache;
     @Mock
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        processor = new OpaqueEnvelopeMessageProcessor(permissionRequestViewRepository,
+        processor = new OpaqueEnvelopeMessageProcessor(permissionRequestCache,
                                                        objectMapper,
                                                        opaqueEnvelopeSink);
     }
@@ -59,7 +59,7 @@ class OpaqueEnvelopeMessageProcessorTest {
                                           "payload");
         var permission = acceptedPermission();
         when(objectMapper.readValue(any(byte[].class), eq(OpaqueEnvelope.class))).thenReturn(envelope);
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permission));
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permission));
         var message = new MqttMessage("{}".getBytes(UTF_8));
 
         // When / Then
@@ -75,7 +75,7 @@ class OpaqueEnvelopeMessageProcessorTest {
                     .thenCancel()
                     .verify();
 
-        verify(permissionRequestViewRepository).findByPermissionId(PERMISSION_ID);
+        verify(permissionRequestCache).findByPermissionId(PERMISSION_ID);
         verify(objectMapper).readValue(message.getPayload(), OpaqueEnvelope.class);
     }
 
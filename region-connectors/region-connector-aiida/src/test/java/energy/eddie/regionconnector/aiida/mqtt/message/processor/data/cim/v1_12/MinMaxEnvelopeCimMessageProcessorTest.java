@@ -8,7 +8,7 @@ import energy.eddie.cim.v1_12.recmmoe.MessageDocumentHeader;
 import energy.eddie.cim.v1_12.recmmoe.MetaInformation;
 import energy.eddie.cim.v1_12.recmmoe.RECMMOEEnvelope;
 import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
-import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestViewRepository;
+import energy.eddie.regionconnector.aiida.permission.request.persistence.AiidaPermissionRequestCache;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,13 +38,13 @@ class MinMaxEnvelopeCimMessageProcessorTest {
     private MinMaxEnvelopeCimMessageProcessor processor;
 
     @Mock
-    private AiidaPermissionRequestViewRepository permissionRequestViewRepository;
+    private AiidaPermissionRequestCache permissionRequestCache;
     @Mock
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        processor = new MinMaxEnvelopeCimMessageProcessor(permissionRequestViewRepository,
+        processor = new MinMaxEnvelopeCimMessageProcessor(permissionRequestCache,
                                                           objectMapper,
                                                           minMaxEnvelopeSink);
     }
@@ -60,7 +60,7 @@ class MinMaxEnvelopeCimMessageProcessorTest {
         var permission = acceptedPermission();
 
         when(objectMapper.readValue(any(byte[].class), eq(RECMMOEEnvelope.class))).thenReturn(envelope);
-        when(permissionRequestViewRepository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permission));
+        when(permissionRequestCache.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permission));
 
         var message = new MqttMessage("{}".getBytes(UTF_8));
 
@@ -78,7 +78,7 @@ class MinMaxEnvelopeCimMessageProcessorTest {
                     .thenCancel()
                     .verify();
 
-        verify(permissionRequestViewRepository).findByPermissionId(PERMISSION_ID);
+        verify(permissionRequestCache).findByPermissionId(PERMISSION_ID);
         verify(objectMapper).readValue(message.getPayload(), RECMMOEEnvelope.class);
     }
 
@@ -0,0 +1,140 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.aiida.permission.request.persistence;
+
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import energy.eddie.regionconnector.aiida.permission.request.AiidaPermissionRequest;
+import energy.eddie.regionconnector.aiida.permission.request.events.SimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AiidaPermissionRequestCacheTest {
+    private static final String PERMISSION_ID = "perm-id";
+    private final EventBusImpl eventBus = new EventBusImpl();
+    private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+    @Mock
+    private AiidaPermissionRequestViewRepository repository;
+    @Mock
+    private AiidaPermissionRequest permissionRequest;
+    private AiidaPermissionRequestCache cache;
+
+    @BeforeEach
+    void setUp() {
+        var otel = OpenTelemetrySdk.builder()
+                                   .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+                                   .build();
+        cache = new AiidaPermissionRequestCache(repository, eventBus, otel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        eventBus.close();
+    }
+
+    @Test
+    void findByPermissionId_loadsPermissionRequestOnlyOnce() {
+        // Given
+        when(repository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permissionRequest));
+
+        // When
+        var first = cache.findByPermissionId(PERMISSION_ID);
+        var second = cache.findByPermissionId(PERMISSION_ID);
+
+        // Then
+        assertAll(
+                () -> assertEquals(Optional.of(permissionRequest), first),
+                () -> assertEquals(Optional.of(permissionRequest), second),
+                () -> verify(repository, times(1)).findByPermissionId(PERMISSION_ID),
+                () -> assertEquals(1, lookups("hit")),
+                () -> assertEquals(1, lookups("miss"))
+        );
+    }
+
+    @Test
+    void findByPermissionId_doesNotCacheUnknownPermissionRequests() {
+        // Given
+        when(repository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.empty());
+
+        // When
+        cache.findByPermissionId(PERMISSION_ID);
+        var res = cache.findByPermissionId(PERMISSION_ID);
+
+        // Then
+        assertTrue(res.isEmpty());
+        verify(repository, times(2)).findByPermissionId(PERMISSION_ID);
+    }
+
+    @Test
+    void permissionEvent_invalidatesCachedPermissionRequest() {
+        // Given
+        when(repository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permissionRequest));
+        cache.findByPermissionId(PERMISSION_ID);
+
+        // When
+        eventBus.emit(new SimpleEvent(PERMISSION_ID, PermissionProcessStatus.REVOKED));
+        cache.findByPermissionId(PERMISSION_ID);
+
+        // Then
+        verify(repository, times(2)).findByPermissionId(PERMISSION_ID);
+    }
+
+    @Test
+    void permissionEvent_duringLoad_doesNotCacheStalePermissionRequest() {
+        // Given
+        when(repository.findByPermissionId(PERMISSION_ID))
+                .thenAnswer(invocation -> {
+                    eventBus.emit(new SimpleEvent(PERMISSION_ID, PermissionProcessStatus.REVOKED));
+                    return Optional.of(permissionRequest);
+                })
+                .thenReturn(Optional.of(permissionRequest));
+
+        // When
+        cache.findByPermissionId(PERMISSION_ID);
+        cache.findByPermissionId(PERMISSION_ID);
+        cache.findByPermissionId(PERMISSION_ID);
+
+        // Then
+        verify(repository, times(2)).findByPermissionId(PERMISSION_ID);
+    }
+
+    @Test
+    void permissionEvent_forOtherPermission_keepsCachedPermissionRequest() {
+        // Given
+        when(repository.findByPermissionId(PERMISSION_ID)).thenReturn(Optional.of(permissionRequest));
+        cache.findByPermissionId(PERMISSION_ID);
+
+        // When
+        eventBus.emit(new SimpleEvent("other-perm-id", PermissionProcessStatus.REVOKED));
+        cache.findByPermissionId(PERMISSION_ID);
+
+        // Then
+        verify(repository, times(1)).findByPermissionId(PERMISSION_ID);
+    }
+
+    private long lookups(String result) {
+        return reader.collectAllMetrics()
+                     .stream()
+                     .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+                     .filter(point -> result.equals(point.getAttributes().get(AttributeKey.stringKey("result"))))
+                     .mapToLong(LongPointData::getValue)
+                     .sum();
+    }
+}
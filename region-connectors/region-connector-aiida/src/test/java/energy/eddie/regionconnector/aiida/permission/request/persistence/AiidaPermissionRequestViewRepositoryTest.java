@@ -3,21 +3,27 @@
 
 package energy.eddie.regionconnector.aiida.permission.request.persistence;
 
-import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.aiida.permission.request.events.CreatedEvent;
 import energy.eddie.regionconnector.aiida.permission.request.events.SimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 import org.testcontainers.utility.MountableFile;
 
+import javax.sql.DataSource;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -48,29 +54,42 @@ class AiidaPermissionRequestViewRepositoryTest {
     private AiidaPermissionRequestViewRepository permissionRequestRepository;
     @Autowired
     private AiidaPermissionEventRepository permissionEventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "aiida",
+                                                         "aiida_permission_request_view",
+                                                         "aiida_permission_request_view_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
 
     @Test
     void testFindTimedOutPermissionRequests_findTimedOutPermissionRequests() {
         // Given
         var now = ZonedDateTime.now(ZoneOffset.UTC);
         var clock = Clock.fixed(Instant.now(Clock.systemUTC()).minus(25, ChronoUnit.HOURS), ZoneOffset.UTC);
-        permissionEventRepository.saveAndFlush((PermissionEvent) new CreatedEvent("pid",
-                                                                                  "cid",
-                                                                                  "dnid",
-                                                                                  "mid",
-                                                                                  now.toLocalDate(),
-                                                                                  now.plusDays(10).toLocalDate(),
-                                                                                  clock));
-        permissionEventRepository.saveAndFlush((PermissionEvent) new SimpleEvent("pid",
-                                                                                 PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
-        permissionEventRepository.saveAndFlush((PermissionEvent) new CreatedEvent("otherPid",
-                                                                                  "cid",
-                                                                                  "dnid",
-                                                                                  "mid",
-                                                                                  now.toLocalDate(),
-                                                                                  now.plusDays(20).toLocalDate()));
-        permissionEventRepository.saveAndFlush((PermissionEvent) new SimpleEvent("otherPid",
-                                                                                 PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+        outbox.commit(new CreatedEvent("pid",
+                                       "cid",
+                                       "dnid",
+                                       "mid",
+                                       now.toLocalDate(),
+                                       now.plusDays(10).toLocalDate(),
+                                       clock));
+        outbox.commit(new SimpleEvent("pid",
+                                      PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+        outbox.commit(new CreatedEvent("otherPid",
+                                       "cid",
+                                       "dnid",
+                                       "mid",
+                                       now.toLocalDate(),
+                                       now.plusDays(20).toLocalDate()));
+        outbox.commit(new SimpleEvent("otherPid",
+                                      PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
 
 
         // When
@@ -15,6 +15,7 @@ plugins {
     alias(libs.plugins.undercouch.download)
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
 }
 
 group = "energy.eddie"
@@ -119,6 +120,11 @@ tasks.getByName<Test>("test") {
     useJUnitPlatform()
 }
 
+jmh {
+    // report the allocation rate next to the throughput
+    profilers.add("gc")
+}
+
 // Directory for generated java files
 val generatedXJCJavaDir = "${project.layout.buildDirectory.asFile.get().absolutePath}/generated/sources/xjc/main/java"
 
@@ -0,0 +1,127 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
+
+import at.ebutilities.schemata.customerprocesses.consumptionrecord._01p41.ConsumptionRecord;
+import energy.eddie.regionconnector.at.eda.dto.EdaConsumptionRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares unmarshalling a consumption record with quarter-hourly values into the JAXB object graph to reading it with
+ * the {@link ConsumptionRecord01p41Reader}, for one day and one month of values.
+ * Run with {@code ./gradlew :region-connectors:region-connector-at-eda:jmh}, the gc profiler reports the allocation
+ * rate of both variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConsumptionRecordParsingBenchmark {
+    private static final String NAMESPACE = "http://www.ebutilities.at/schemata/customerprocesses/consumptionrecord/01p41";
+    private static final String COMMON_TYPES_NAMESPACE = "http://www.ebutilities.at/schemata/customerprocesses/common/types/01p20";
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(1));
+
+    @Param({"1", "31"})
+    public int days;
+
+    private Jaxb2Marshaller marshaller;
+    private EdaConsumptionRecord01p41InboundMessageFactory factory;
+    private byte[] document;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        marshaller = new Jaxb2Marshaller();
+        marshaller.setPackagesToScan("at.ebutilities.schemata");
+        marshaller.afterPropertiesSet();
+        factory = new EdaConsumptionRecord01p41InboundMessageFactory(marshaller);
+        document = consumptionRecord(days * 96).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void jaxb(Blackhole blackhole) {
+        var consumptionRecord = (ConsumptionRecord) marshaller.unmarshal(
+                new StreamSource(new ByteArrayInputStream(document))
+        );
+        consume(new EdaConsumptionRecord01p41(consumptionRecord), blackhole);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) {
+        consume(factory.parseInputStream(new ByteArrayInputStream(document)), blackhole);
+    }
+
+    private static void consume(EdaConsumptionRecord consumptionRecord, Blackhole blackhole) {
+        blackhole.consume(consumptionRecord.messageId());
+        blackhole.consume(consumptionRecord.startDate());
+        for (var energy : consumptionRecord.energy()) {
+            blackhole.consume(energy.meterReadingStart());
+            for (var energyData : energy.energyData()) {
+                for (var energyPosition : energyData.energyPositions()) {
+                    blackhole.consume(energyPosition.billingQuantity());
+                    blackhole.consume(energyPosition.meteringMethod());
+                }
+            }
+        }
+    }
+
+    private static String consumptionRecord(int positions) {
+        var end = START.plusMinutes(15L * positions);
+        var xml = new StringBuilder(positions * 200 + 2_000);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+           .append("<ns0:ConsumptionRecord xmlns:ns0=\"").append(NAMESPACE)
+           .append("\" xmlns:ns1=\"").append(COMMON_TYPES_NAMESPACE).append("\">")
+           .append("<ns0:MarketParticipantDirectory DocumentMode=\"PROD\" Duplicate=\"false\" SchemaVersion=\"01.41\">")
+           .append("<ns1:RoutingHeader>")
+           .append("<ns1:Sender AddressType=\"ECNumber\"><ns1:MessageAddress>ATXXXXXX</ns1:MessageAddress></ns1:Sender>")
+           .append("<ns1:Receiver AddressType=\"ECNumber\"><ns1:MessageAddress>EPXXXXXX</ns1:MessageAddress></ns1:Receiver>")
+           .append("<ns1:DocumentCreationDateTime>2024-02-01T05:52:15.539Z</ns1:DocumentCreationDateTime>")
+           .append("</ns1:RoutingHeader>")
+           .append("<ns1:Sector>01</ns1:Sector>")
+           .append("<ns0:MessageCode>DATEN_CRMSG</ns0:MessageCode>")
+           .append("</ns0:MarketParticipantDirectory>")
+           .append("<ns0:ProcessDirectory>")
+           .append("<ns1:MessageId>ATXXXXXX202402010752132560263752458</ns1:MessageId>")
+           .append("<ns1:ConversationId>EPXXXXXXT1712123513688</ns1:ConversationId>")
+           .append("<ns1:ProcessDate>2024-02-01</ns1:ProcessDate>")
+           .append("<ns1:MeteringPoint>ATXXXXXX00000000000000000XXXXXXXX</ns1:MeteringPoint>")
+           .append("<ns0:Energy>")
+           .append("<ns0:MeteringReason>00</ns0:MeteringReason>")
+           .append("<ns0:MeteringPeriodStart>").append(format(START)).append("</ns0:MeteringPeriodStart>")
+           .append("<ns0:MeteringPeriodEnd>").append(format(end)).append("</ns0:MeteringPeriodEnd>")
+           .append("<ns0:MeteringIntervall>QH</ns0:MeteringIntervall>")
+           .append("<ns0:NumberOfMeteringIntervall>").append(positions).append("</ns0:NumberOfMeteringIntervall>")
+           .append("<ns0:EnergyData MeterCode=\"1-1:2.9.0 P.01\" UOM=\"KWH\">");
+        for (int i = 0; i < positions; i++) {
+            var from = START.plusMinutes(15L * i);
+            xml.append("<ns0:EP>")
+               .append("<ns0:DTF>").append(format(from)).append("</ns0:DTF>")
+               .append("<ns0:DTT>").append(format(from.plusMinutes(15))).append("</ns0:DTT>")
+               .append("<ns0:MM>L1</ns0:MM>")
+               .append("<ns0:BQ>").append(i % 100).append(".001000</ns0:BQ>")
+               .append("</ns0:EP>");
+        }
+        return xml.append("</ns0:EnergyData>")
+                  .append("</ns0:Energy>")
+                  .append("</ns0:ProcessDirectory>")
+                  .append("</ns0:ConsumptionRecord>")
+                  .toString();
+    }
+
+    private static String format(OffsetDateTime dateTime) {
+        // The default string representation omits the seconds, which are required by xs:dateTime
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+    }
+}
@@ -31,6 +31,7 @@ import energy.eddie.regionconnector.shared.cim.v0_82.TransmissionScheduleProvide
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
 import energy.eddie.regionconnector.shared.services.FulfillmentService;
@@ -40,8 +41,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import tools.jackson.databind.ObjectMapper;
 
@@ -95,8 +98,24 @@ public class AtEdaBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, PermissionEventRepository repository) {
-        return new Outbox(eventBus, repository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "at_eda",
+                                               "eda_permission_request",
+                                               "eda_permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            PermissionEventRepository repository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, repository, permissionRequestProjection);
     }
 
     @Bean
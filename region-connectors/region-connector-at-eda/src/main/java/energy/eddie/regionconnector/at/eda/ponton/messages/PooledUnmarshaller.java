@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages;
+
+import jakarta.annotation.Nullable;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.JAXBIntrospector;
+import jakarta.xml.bind.Unmarshaller;
+import org.springframework.oxm.UnmarshallingFailureException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Unmarshals inbound messages with {@link Unmarshaller}s of the JAXB context of a {@link Jaxb2Marshaller}, which are
+ * reused between messages.
+ * {@link Jaxb2Marshaller#unmarshal(javax.xml.transform.Source)} creates a new unmarshaller for each message, while
+ * unmarshallers are not thread-safe, so each one is only used by one thread at a time.
+ * The XML is read by a StAX reader, which supports neither DTDs nor external entities.
+ */
+public class PooledUnmarshaller {
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private final Jaxb2Marshaller marshaller;
+    private final BlockingQueue<Unmarshaller> pool;
+
+    public PooledUnmarshaller(Jaxb2Marshaller marshaller) {
+        this(marshaller, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param marshaller the marshaller providing the JAXB context
+     * @param poolSize   the maximum number of idle unmarshallers, additional ones are created if all are in use
+     */
+    public PooledUnmarshaller(Jaxb2Marshaller marshaller, int poolSize) {
+        this.marshaller = marshaller;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Creates a StAX reader for the input stream, which supports neither DTDs nor external entities.
+     *
+     * @param inputStream the XML document
+     * @return the reader, which has to be closed by the caller
+     * @throws UnmarshallingFailureException if the document cannot be read
+     */
+    public static XMLStreamReader createStreamReader(InputStream inputStream) {
+        try {
+            return INPUT_FACTORY.createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            throw new UnmarshallingFailureException("Could not read XML document", e);
+        }
+    }
+
+    /**
+     * Unmarshals the XML document.
+     *
+     * @param inputStream the XML document
+     * @param type        the expected type of the root element
+     * @return the unmarshalled root element
+     * @throws org.springframework.oxm.XmlMappingException if the document cannot be unmarshalled or its root element
+     *                                                     is not of the expected type
+     */
+    public <T> T unmarshal(InputStream inputStream, Class<T> type) {
+        var unmarshaller = borrow();
+        XMLStreamReader reader = null;
+        try {
+            reader = createStreamReader(inputStream);
+            var root = JAXBIntrospector.getValue(unmarshaller.unmarshal(reader));
+            if (!type.isInstance(root)) {
+                throw new UnmarshallingFailureException(
+                        "Expected " + type.getSimpleName() + " but got " + root.getClass().getSimpleName()
+                );
+            }
+            return type.cast(root);
+        } catch (JAXBException e) {
+            throw marshaller.convertJaxbException(e);
+        } finally {
+            close(reader);
+            pool.offer(unmarshaller);
+        }
+    }
+
+    private Unmarshaller borrow() {
+        var unmarshaller = pool.poll();
+        if (unmarshaller != null) {
+            return unmarshaller;
+        }
+        try {
+            return marshaller.getJaxbContext().createUnmarshaller();
+        } catch (JAXBException e) {
+            throw marshaller.convertJaxbException(e);
+        }
+    }
+
+    private static void close(@Nullable XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // The document was already read, nothing left to release
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
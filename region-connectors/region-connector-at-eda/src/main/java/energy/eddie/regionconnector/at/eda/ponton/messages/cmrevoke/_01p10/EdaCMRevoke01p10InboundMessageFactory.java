@@ -1,15 +1,15 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.at.eda.ponton.messages.cmrevoke._01p10;
 
 import at.ebutilities.schemata.customerconsent.cmrevoke._01p10.CMRevoke;
 import energy.eddie.regionconnector.at.eda.dto.EdaCMRevoke;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
 import energy.eddie.regionconnector.at.eda.ponton.messages.cmrevoke.EdaCMRevokeInboundMessageFactory;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.stereotype.Component;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.InputStream;
 import java.time.LocalDate;
 
@@ -17,10 +17,10 @@ import static energy.eddie.regionconnector.at.eda.ponton.messages.cmrevoke._01p1
 
 @Component
 public class EdaCMRevoke01p10InboundMessageFactory implements EdaCMRevokeInboundMessageFactory {
-    private final Jaxb2Marshaller marshaller;
+    private final PooledUnmarshaller unmarshaller;
 
     public EdaCMRevoke01p10InboundMessageFactory(Jaxb2Marshaller marshaller) {
-        this.marshaller = marshaller;
+        this.unmarshaller = new PooledUnmarshaller(marshaller);
     }
 
     @Override
@@ -30,7 +30,7 @@ public class EdaCMRevoke01p10InboundMessageFactory implements EdaCMRevokeInbound
 
     @Override
     public EdaCMRevoke parseInputStream(InputStream inputStream) {
-        var cmRevoke = (CMRevoke) marshaller.unmarshal(new StreamSource(inputStream));
+        var cmRevoke = unmarshaller.unmarshal(inputStream, CMRevoke.class);
         return new EdaCMRevoke01p10(cmRevoke);
     }
 }
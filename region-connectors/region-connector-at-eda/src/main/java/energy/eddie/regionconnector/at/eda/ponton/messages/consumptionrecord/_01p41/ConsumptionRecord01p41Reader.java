@@ -0,0 +1,269 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
+
+import energy.eddie.api.agnostic.Granularity;
+import energy.eddie.regionconnector.at.eda.dto.EnergyData;
+import energy.eddie.regionconnector.at.eda.dto.EnergyPosition;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
+import energy.eddie.regionconnector.at.eda.processing.utils.XmlGregorianCalenderUtils;
+import jakarta.annotation.Nullable;
+import org.springframework.oxm.UnmarshallingFailureException;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads a consumption record with a StAX reader in a single pass.
+ * In contrast to unmarshalling the whole document with JAXB, the energy positions are read directly into
+ * {@link EnergyPosition}s, without creating the JAXB objects and the calendars of their metering intervals.
+ * Unknown elements are skipped.
+ */
+final class ConsumptionRecord01p41Reader {
+    static final String NAMESPACE = "http://www.ebutilities.at/schemata/customerprocesses/consumptionrecord/01p41";
+    private static final DatatypeFactory DATATYPE_FACTORY = DatatypeFactory.newDefaultInstance();
+    private final List<StreamedEnergy01p41> energy = new ArrayList<>();
+    @Nullable
+    private String messageId;
+    @Nullable
+    private String conversationId;
+    @Nullable
+    private String meteringPoint;
+    @Nullable
+    private String senderMessageAddress;
+    @Nullable
+    private String receiverMessageAddress;
+    @Nullable
+    private ZonedDateTime documentCreationDateTime;
+    @Nullable
+    private String schemaVersion;
+    @Nullable
+    private ZonedDateTime processDate;
+
+    private ConsumptionRecord01p41Reader() {}
+
+    /**
+     * Reads the consumption record.
+     *
+     * @param document     the XML document
+     * @param unmarshaller used to unmarshal the original JAXB consumption record if requested
+     * @return the consumption record
+     * @throws UnmarshallingFailureException if the document is not a valid consumption record
+     */
+    static StreamedEdaConsumptionRecord01p41 read(byte[] document, PooledUnmarshaller unmarshaller) {
+        var reader = PooledUnmarshaller.createStreamReader(new ByteArrayInputStream(document));
+        try {
+            var consumptionRecord = new ConsumptionRecord01p41Reader();
+            consumptionRecord.readDocument(reader);
+            return new StreamedEdaConsumptionRecord01p41(
+                    required(consumptionRecord.messageId, "MessageId"),
+                    required(consumptionRecord.conversationId, "ConversationId"),
+                    required(consumptionRecord.meteringPoint, "MeteringPoint"),
+                    required(consumptionRecord.senderMessageAddress, "Sender"),
+                    required(consumptionRecord.receiverMessageAddress, "Receiver"),
+                    required(consumptionRecord.documentCreationDateTime, "DocumentCreationDateTime"),
+                    required(consumptionRecord.schemaVersion, "SchemaVersion"),
+                    required(consumptionRecord.processDate, "ProcessDate"),
+                    Collections.unmodifiableList(consumptionRecord.energy),
+                    document,
+                    unmarshaller
+            );
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            throw new UnmarshallingFailureException("Could not read consumption record", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    private void readDocument(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!NAMESPACE.equals(reader.getNamespaceURI()) || !"ConsumptionRecord".equals(reader.getLocalName())) {
+            throw new UnmarshallingFailureException("Expected ConsumptionRecord 01p41 but got " + reader.getName());
+        }
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "MarketParticipantDirectory" -> readMarketParticipantDirectory(reader);
+                case "ProcessDirectory" -> readProcessDirectory(reader);
+                default -> skip(reader);
+            }
+        }
+    }
+
+    private void readMarketParticipantDirectory(XMLStreamReader reader) throws XMLStreamException {
+        schemaVersion = reader.getAttributeValue(null, "SchemaVersion");
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("RoutingHeader".equals(reader.getLocalName())) {
+                readRoutingHeader(reader);
+            } else {
+                skip(reader);
+            }
+        }
+    }
+
+    private void readRoutingHeader(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "Sender" -> senderMessageAddress = readMessageAddress(reader);
+                case "Receiver" -> receiverMessageAddress = readMessageAddress(reader);
+                case "DocumentCreationDateTime" -> documentCreationDateTime =
+                        XmlGregorianCalenderUtils.toUtcZonedDateTime(calendar(reader));
+                default -> skip(reader);
+            }
+        }
+    }
+
+    @Nullable
+    private static String readMessageAddress(XMLStreamReader reader) throws XMLStreamException {
+        String messageAddress = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("MessageAddress".equals(reader.getLocalName())) {
+                messageAddress = text(reader);
+            } else {
+                skip(reader);
+            }
+        }
+        return messageAddress;
+    }
+
+    private void readProcessDirectory(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "MessageId" -> messageId = text(reader);
+                case "ConversationId" -> conversationId = text(reader);
+                case "ProcessDate" -> processDate = calendar(reader).toGregorianCalendar().toZonedDateTime();
+                case "MeteringPoint" -> meteringPoint = text(reader);
+                case "Energy" -> energy.add(readEnergy(reader));
+                default -> skip(reader);
+            }
+        }
+    }
+
+    private static StreamedEnergy01p41 readEnergy(XMLStreamReader reader) throws XMLStreamException {
+        String meteringReason = null;
+        XMLGregorianCalendar start = null;
+        XMLGregorianCalendar end = null;
+        String meteringInterval = null;
+        List<EnergyData> energyData = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "MeteringReason" -> meteringReason = text(reader);
+                case "MeteringPeriodStart" -> start = calendar(reader);
+                case "MeteringPeriodEnd" -> end = calendar(reader);
+                case "MeteringIntervall" -> meteringInterval = text(reader);
+                case "EnergyData" -> energyData.add(readEnergyData(reader));
+                default -> skip(reader);
+            }
+        }
+        start = required(start, "MeteringPeriodStart");
+        end = required(end, "MeteringPeriodEnd");
+        // The dates are taken before converting the calendars to UTC, which sets a missing timezone
+        var startDate = start.toGregorianCalendar().toZonedDateTime().toLocalDate();
+        var endDate = end.toGregorianCalendar().toZonedDateTime().toLocalDate();
+        return new StreamedEnergy01p41(
+                granularity(required(meteringInterval, "MeteringIntervall")),
+                Collections.unmodifiableList(energyData),
+                XmlGregorianCalenderUtils.toUtcZonedDateTime(start),
+                XmlGregorianCalenderUtils.toUtcZonedDateTime(end),
+                required(meteringReason, "MeteringReason"),
+                startDate,
+                endDate
+        );
+    }
+
+    private static StreamedEnergyData01p41 readEnergyData(XMLStreamReader reader) throws XMLStreamException {
+        var meterCode = required(reader.getAttributeValue(null, "MeterCode"), "MeterCode");
+        var billingUnit = required(reader.getAttributeValue(null, "UOM"), "UOM");
+        List<EnergyPosition> energyPositions = new ArrayList<>();
+        String previousMeteringMethod = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"EP".equals(reader.getLocalName())) {
+                skip(reader);
+                continue;
+            }
+            var energyPosition = readEnergyPosition(reader, previousMeteringMethod);
+            previousMeteringMethod = energyPosition.meteringMethod();
+            energyPositions.add(energyPosition);
+        }
+        return new StreamedEnergyData01p41(Collections.unmodifiableList(energyPositions), meterCode, billingUnit);
+    }
+
+    private static EnergyPosition readEnergyPosition(
+            XMLStreamReader reader,
+            @Nullable String previousMeteringMethod
+    ) throws XMLStreamException {
+        String meteringMethod = null;
+        BigDecimal billingQuantity = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "MM" -> meteringMethod = text(reader);
+                case "BQ" -> billingQuantity = new BigDecimal(text(reader));
+                default -> skip(reader);
+            }
+        }
+        meteringMethod = required(meteringMethod, "MM");
+        // Most positions share the same metering method, only a single instance of it is kept
+        if (meteringMethod.equals(previousMeteringMethod)) {
+            meteringMethod = previousMeteringMethod;
+        }
+        return new EnergyPosition(required(billingQuantity, "BQ"), meteringMethod);
+    }
+
+    @Nullable
+    private static Granularity granularity(String meteringInterval) {
+        return switch (meteringInterval) {
+            case "QH" -> Granularity.PT15M;
+            case "H" -> Granularity.PT1H;
+            case "D" -> Granularity.P1D;
+            case "V" -> null;
+            default -> throw new UnmarshallingFailureException("Unknown MeteringIntervall " + meteringInterval);
+        };
+    }
+
+    private static String text(XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText().trim();
+    }
+
+    private static XMLGregorianCalendar calendar(XMLStreamReader reader) throws XMLStreamException {
+        return DATATYPE_FACTORY.newXMLGregorianCalendar(text(reader));
+    }
+
+    /**
+     * Skips the current element including all of its children.
+     */
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        var depth = 1;
+        while (depth > 0) {
+            var event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static <T> T required(@Nullable T value, String element) {
+        if (value == null) {
+            throw new UnmarshallingFailureException("Consumption record is missing " + element);
+        }
+        return value;
+    }
+
+    private static void close(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // The document is held in memory, nothing left to release
+        }
+    }
+}
@@ -1,15 +1,16 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
 
-import at.ebutilities.schemata.customerprocesses.consumptionrecord._01p41.ConsumptionRecord;
 import energy.eddie.regionconnector.at.eda.dto.EdaConsumptionRecord;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
 import energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord.EdaConsumptionRecordInboundMessageFactory;
+import org.springframework.oxm.UnmarshallingFailureException;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.stereotype.Component;
 
-import javax.xml.transform.stream.StreamSource;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
 
@@ -20,10 +21,10 @@ public class EdaConsumptionRecord01p41InboundMessageFactory implements EdaConsum
      * <p>From <a href="https://www.ebutilities.at/schemas/240">ebutilities</a>
      */
     private static final LocalDate ACTIVE_FROM = LocalDate.of(2025, 10, 6);
-    private final Jaxb2Marshaller marshaller;
+    private final PooledUnmarshaller unmarshaller;
 
     public EdaConsumptionRecord01p41InboundMessageFactory(Jaxb2Marshaller marshaller) {
-        this.marshaller = marshaller;
+        this.unmarshaller = new PooledUnmarshaller(marshaller);
     }
 
     @Override
@@ -31,10 +32,19 @@ public class EdaConsumptionRecord01p41InboundMessageFactory implements EdaConsum
         return !ACTIVE_FROM.isAfter(date);
     }
 
-
+    /**
+     * Reads the consumption record with a StAX reader instead of unmarshalling it into a JAXB object graph, since
+     * consumption records with quarter-hourly values for a whole month contain thousands of energy positions.
+     * The document is kept in memory to unmarshal the original consumption record on demand.
+     */
     @Override
     public EdaConsumptionRecord parseInputStream(InputStream inputStream) {
-        var consumptionRecord = (ConsumptionRecord) marshaller.unmarshal(new StreamSource(inputStream));
-        return new EdaConsumptionRecord01p41(consumptionRecord);
+        byte[] document;
+        try {
+            document = inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UnmarshallingFailureException("Could not read consumption record", e);
+        }
+        return ConsumptionRecord01p41Reader.read(document, unmarshaller);
     }
 }
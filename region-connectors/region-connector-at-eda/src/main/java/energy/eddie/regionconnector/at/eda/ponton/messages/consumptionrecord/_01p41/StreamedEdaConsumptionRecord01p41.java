@@ -0,0 +1,121 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
+
+import at.ebutilities.schemata.customerprocesses.consumptionrecord._01p41.ConsumptionRecord;
+import energy.eddie.regionconnector.at.eda.dto.EdaConsumptionRecord;
+import energy.eddie.regionconnector.at.eda.dto.Energy;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A consumption record read by the {@link ConsumptionRecord01p41Reader}.
+ * Only the values needed to process the consumption record are kept, the JAXB {@link ConsumptionRecord} is
+ * unmarshalled from the original document each time {@link #originalConsumptionRecord()} is called.
+ */
+final class StreamedEdaConsumptionRecord01p41 implements EdaConsumptionRecord {
+    private final String messageId;
+    private final String conversationId;
+    private final String meteringPoint;
+    private final String senderMessageAddress;
+    private final String receiverMessageAddress;
+    private final ZonedDateTime documentCreationDateTime;
+    private final String schemaVersion;
+    private final ZonedDateTime processDate;
+    private final List<StreamedEnergy01p41> energy;
+    private final byte[] document;
+    private final PooledUnmarshaller unmarshaller;
+
+    @SuppressWarnings("java:S107")
+    StreamedEdaConsumptionRecord01p41(
+            String messageId,
+            String conversationId,
+            String meteringPoint,
+            String senderMessageAddress,
+            String receiverMessageAddress,
+            ZonedDateTime documentCreationDateTime,
+            String schemaVersion,
+            ZonedDateTime processDate,
+            List<StreamedEnergy01p41> energy,
+            byte[] document,
+            PooledUnmarshaller unmarshaller
+    ) {
+        this.messageId = messageId;
+        this.conversationId = conversationId;
+        this.meteringPoint = meteringPoint;
+        this.senderMessageAddress = senderMessageAddress;
+        this.receiverMessageAddress = receiverMessageAddress;
+        this.documentCreationDateTime = documentCreationDateTime;
+        this.schemaVersion = schemaVersion;
+        this.processDate = processDate;
+        this.energy = energy;
+        this.document = document;
+        this.unmarshaller = unmarshaller;
+    }
+
+    @Override
+    public String messageId() {
+        return messageId;
+    }
+
+    @Override
+    public String conversationId() {
+        return conversationId;
+    }
+
+    @Override
+    public String meteringPoint() {
+        return meteringPoint;
+    }
+
+    @Override
+    public LocalDate startDate() {
+        return energy.getFirst().meteringPeriodStartDate();
+    }
+
+    @Override
+    public LocalDate endDate() {
+        return energy.getLast().meteringPeriodEndDate();
+    }
+
+    @Override
+    public String senderMessageAddress() {
+        return senderMessageAddress;
+    }
+
+    @Override
+    public ZonedDateTime documentCreationDateTime() {
+        return documentCreationDateTime;
+    }
+
+    @Override
+    public String receiverMessageAddress() {
+        return receiverMessageAddress;
+    }
+
+    @Override
+    public List<Energy> energy() {
+        return Collections.unmodifiableList(energy);
+    }
+
+    @Override
+    public String schemaVersion() {
+        return schemaVersion;
+    }
+
+    @Override
+    public ZonedDateTime processDate() {
+        return processDate;
+    }
+
+    @Override
+    public Object originalConsumptionRecord() {
+        return unmarshaller.unmarshal(new ByteArrayInputStream(document), ConsumptionRecord.class);
+    }
+}
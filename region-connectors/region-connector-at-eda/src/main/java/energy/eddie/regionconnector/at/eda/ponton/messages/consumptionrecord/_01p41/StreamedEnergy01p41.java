@@ -0,0 +1,30 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
+
+import energy.eddie.api.agnostic.Granularity;
+import energy.eddie.regionconnector.at.eda.dto.Energy;
+import energy.eddie.regionconnector.at.eda.dto.EnergyData;
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Energy of a consumption record read by the {@link ConsumptionRecord01p41Reader}.
+ *
+ * @param meteringPeriodStartDate the date of the metering period start in the offset of the document
+ * @param meteringPeriodEndDate   the date of the metering period end in the offset of the document
+ */
+record StreamedEnergy01p41(
+        @Nullable Granularity granularity,
+        List<EnergyData> energyData,
+        ZonedDateTime meterReadingStart,
+        ZonedDateTime meterReadingEnd,
+        String meteringReason,
+        LocalDate meteringPeriodStartDate,
+        LocalDate meteringPeriodEndDate
+) implements Energy {
+}
@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
+
+import energy.eddie.regionconnector.at.eda.dto.EnergyData;
+import energy.eddie.regionconnector.at.eda.dto.EnergyPosition;
+
+import java.util.List;
+
+/**
+ * Energy data of a consumption record read by the {@link ConsumptionRecord01p41Reader}.
+ */
+record StreamedEnergyData01p41(
+        List<EnergyPosition> energyPositions,
+        String meterCode,
+        String billingUnit
+) implements EnergyData {
+}
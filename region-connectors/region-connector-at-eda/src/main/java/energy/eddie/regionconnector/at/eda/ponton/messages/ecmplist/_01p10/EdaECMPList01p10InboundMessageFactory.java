@@ -4,11 +4,11 @@
 package energy.eddie.regionconnector.at.eda.ponton.messages.ecmplist._01p10;
 
 import at.ebutilities.schemata.customerprocesses.ecmplist._01p10.ECMPList;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
 import energy.eddie.regionconnector.at.eda.ponton.messages.ecmplist.EdaECMPListInboundMessageFactory;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.stereotype.Component;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.InputStream;
 import java.time.LocalDate;
 
@@ -20,11 +20,11 @@ public class EdaECMPList01p10InboundMessageFactory implements EdaECMPListInbound
      * <p>From <a href="https://www.ebutilities.at/schemas/160">ebutilities</a>
      */
     public static final LocalDate ACTIVE_FROM = LocalDate.of(2024, 4, 8);
-    private final Jaxb2Marshaller marshaller;
+    private final PooledUnmarshaller unmarshaller;
 
 
     public EdaECMPList01p10InboundMessageFactory(Jaxb2Marshaller marshaller) {
-        this.marshaller = marshaller;
+        this.unmarshaller = new PooledUnmarshaller(marshaller);
     }
 
     @Override
@@ -34,7 +34,7 @@ public class EdaECMPList01p10InboundMessageFactory implements EdaECMPListInbound
 
     @Override
     public ECMPList01p10 parseInputStream(InputStream inputStream) {
-        var notification = (ECMPList) marshaller.unmarshal(new StreamSource(inputStream));
+        var notification = unmarshaller.unmarshal(inputStream, ECMPList.class);
         return new ECMPList01p10(notification);
     }
 }
@@ -1,15 +1,15 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.at.eda.ponton.messages.masterdata._01p33;
 
 import at.ebutilities.schemata.customerprocesses.masterdata._01p33.MasterData;
 import energy.eddie.regionconnector.at.eda.dto.EdaMasterData;
+import energy.eddie.regionconnector.at.eda.ponton.messages.PooledUnmarshaller;
 import energy.eddie.regionconnector.at.eda.ponton.messages.masterdata.EdaMasterDataInboundMessageFactory;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.stereotype.Component;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.InputStream;
 import java.time.LocalDate;
 
@@ -20,10 +20,10 @@ public class EdaMasterData01p33InboundMessageFactory implements EdaMasterDataInb
      * <p>From <a href="https://www.ebutilities.at/schemas/234">ebutilities</a>
      */
     private static final LocalDate ACTIVE_FROM = LocalDate.of(2025, 4, 7);
-    private final Jaxb2Marshaller marshaller;
+    private final PooledUnmarshaller unmarshaller;
 
     public EdaMasterData01p33InboundMessageFactory(Jaxb2Marshaller marshaller) {
-        this.marshaller = marshaller;
+        this.unmarshaller = new PooledUnmarshaller(marshaller);
     }
 
     @Override
@@ -33,7 +33,7 @@ public class EdaMasterData01p33InboundMessageFactory implements EdaMasterDataInb
 
     @Override
     public EdaMasterData parseInputStream(InputStream inputStream) {
-        var masterData = (MasterData) marshaller.unmarshal(new StreamSource(inputStream));
+        var masterData = unmarshaller.unmarshal(inputStream, MasterData.class);
         return new EdaMasterData01p33(masterData);
     }
 }
@@ -1,14 +1,11 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.at.eda.services;
 
 import energy.eddie.regionconnector.at.api.AtPermissionRequest;
-import energy.eddie.regionconnector.at.api.AtPermissionRequestProjection;
 import energy.eddie.regionconnector.at.eda.dto.EdaConsumptionRecord;
 import energy.eddie.regionconnector.at.eda.dto.IdentifiableConsumptionRecord;
-import energy.eddie.regionconnector.at.eda.permission.request.EdaPermissionRequest;
-import energy.eddie.regionconnector.at.eda.persistence.JpaPermissionRequestRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -16,18 +13,17 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 public class IdentifiableConsumptionRecordService {
     private static final Logger LOGGER = LoggerFactory.getLogger(IdentifiableConsumptionRecordService.class);
-    private final JpaPermissionRequestRepository repository;
+    private final MeteringPointPermissionIndex index;
 
 
     public IdentifiableConsumptionRecordService(
-            JpaPermissionRequestRepository repository
+            MeteringPointPermissionIndex index
     ) {
-        this.repository = repository;
+        this.index = index;
     }
 
     public Optional<IdentifiableConsumptionRecord> mapToIdentifiableConsumptionRecord(EdaConsumptionRecord consumptionRecord) {
@@ -40,15 +36,8 @@ public class IdentifiableConsumptionRecordService {
         // DSOs can send data for PermissionRequests that have already been revoked/terminated. This happens for example if some metering values
         // in the Timeframe we still had access are updated (e.g from replacement to actual values).
         // Please note that this causes the ConsumptionRecords to also be emitted for these PermissionRequests (EPs should be able to deal with values for previously received data being updated(
-        List<AtPermissionRequestProjection> permissionRequestProjections = repository
-                .findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted(
-                        meteringPoint,
-                        startDate
-                );
-
-        List<AtPermissionRequest> permissionRequests = permissionRequestProjections.stream()
-                                                                                   .map(EdaPermissionRequest::fromProjection)
-                                                                                   .collect(Collectors.toList());
+        // The index is used instead of querying the permission requests, since DSOs send consumption records for many metering points at once
+        List<AtPermissionRequest> permissionRequests = index.findByMeteringPointIdAndDate(meteringPoint, startDate);
 
         if (permissionRequests.isEmpty()) {
             LOGGER.warn("No permission requests found for consumption record with date {}", startDate);
@@ -0,0 +1,189 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.services;
+
+import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import energy.eddie.regionconnector.at.api.AtPermissionRequest;
+import energy.eddie.regionconnector.at.api.AtPermissionRequestRepository;
+import energy.eddie.regionconnector.at.eda.permission.request.events.DataReceivedEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
+import energy.eddie.regionconnector.shared.event.sourcing.handlers.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static energy.eddie.regionconnector.at.eda.EdaRegionConnectorMetadata.AT_ZONE_ID;
+import static energy.eddie.regionconnector.at.eda.EdaRegionConnectorMetadata.PERIOD_EARLIEST_START;
+
+/**
+ * In-memory index of the permission requests per metering point, which are in a state in which consumption records
+ * are expected for them.
+ * The permission requests of a metering point are sorted by their start date, so a lookup only has to check the
+ * permission requests that started before the date in question.
+ * The index is built from the permission request projection at startup and kept in sync with the events of the
+ * {@link EventBus}, which are emitted once the projection was updated.
+ * Permission requests that ended before the earliest date for which the DSOs still send consumption records are
+ * dropped from the index, otherwise fulfilled permission requests would stay in memory forever.
+ */
+@Component
+public class MeteringPointPermissionIndex implements EventHandler<PermissionEvent> {
+    /**
+     * The states of permission requests for which consumption records are matched, see
+     * {@link energy.eddie.regionconnector.at.eda.persistence.JpaPermissionRequestRepository#findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted(String, LocalDate)}
+     */
+    static final Set<PermissionProcessStatus> INDEXED_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR,
+            PermissionProcessStatus.ACCEPTED,
+            PermissionProcessStatus.FULFILLED
+    ));
+    private static final Logger LOGGER = LoggerFactory.getLogger(MeteringPointPermissionIndex.class);
+    private static final Comparator<AtPermissionRequest> BY_START = Comparator.comparing(AtPermissionRequest::start);
+    private final AtPermissionRequestRepository repository;
+    /**
+     * Immutable lists of permission requests sorted by their start date, replaced on every change, so lookups do not
+     * need to lock.
+     */
+    private final Map<String, List<AtPermissionRequest>> permissionRequestsByMeteringPoint = new ConcurrentHashMap<>();
+    private final Map<String, String> meteringPointByPermissionId = new HashMap<>();
+
+    public MeteringPointPermissionIndex(AtPermissionRequestRepository repository, EventBus eventBus) {
+        this.repository = repository;
+        eventBus.filteredFlux(PermissionEvent.class).subscribe(this::accept);
+        rebuild();
+    }
+
+    /**
+     * Finds the permission requests of the metering point, which are valid on the date.
+     *
+     * @param meteringPointId the metering point
+     * @param date            the date that has to be between the start and end of the permission requests
+     * @return the matching permission requests, which are either sent to the permission administrator, accepted or
+     * fulfilled
+     */
+    public List<AtPermissionRequest> findByMeteringPointIdAndDate(String meteringPointId, LocalDate date) {
+        List<AtPermissionRequest> matches = new ArrayList<>();
+        for (var permissionRequest : permissionRequestsByMeteringPoint.getOrDefault(meteringPointId, List.of())) {
+            if (permissionRequest.start().isAfter(date)) {
+                break;
+            }
+            if (isOpenEnded(permissionRequest) || !permissionRequest.end().isBefore(date)) {
+                matches.add(permissionRequest);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void accept(PermissionEvent permissionEvent) {
+        // Data received events neither change the state nor the timeframe of the permission request
+        if (permissionEvent instanceof DataReceivedEvent) {
+            return;
+        }
+        var permissionId = permissionEvent.permissionId();
+        try {
+            repository.findByPermissionId(permissionId)
+                      .ifPresentOrElse(this::index, () -> remove(permissionId));
+        } catch (DataAccessException e) {
+            // Keep the subscription to the event bus alive, the next event of the permission request updates it again
+            LOGGER.warn("Could not update index for permission request {}", permissionId, e);
+        }
+    }
+
+    /**
+     * Removes the permission requests, for which no consumption records can be received anymore.
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Europe/Vienna")
+    public synchronized void prune() {
+        var earliestDataDate = earliestDataDate();
+        var expired = permissionRequestsByMeteringPoint.values()
+                                                       .stream()
+                                                       .flatMap(List::stream)
+                                                       .filter(permissionRequest -> hasEndedBefore(permissionRequest,
+                                                                                                   earliestDataDate))
+                                                       .map(AtPermissionRequest::permissionId)
+                                                       .toList();
+        expired.forEach(this::remove);
+        LOGGER.info("Removed {} expired permission requests from index", expired.size());
+    }
+
+    /**
+     * Replaces the index with the current permission requests.
+     */
+    private synchronized void rebuild() {
+        permissionRequestsByMeteringPoint.clear();
+        meteringPointByPermissionId.clear();
+        var permissionRequests = repository.findByStatusIn(INDEXED_STATUSES);
+        permissionRequests.forEach(this::index);
+        LOGGER.info("Indexed {} permission requests for {} metering points",
+                    meteringPointByPermissionId.size(),
+                    permissionRequestsByMeteringPoint.size());
+    }
+
+    private synchronized void index(AtPermissionRequest permissionRequest) {
+        var permissionId = permissionRequest.permissionId();
+        remove(permissionId);
+        var meteringPointId = permissionRequest.meteringPointId();
+        if (meteringPointId.isEmpty()
+            || !INDEXED_STATUSES.contains(permissionRequest.status())
+            || hasEndedBefore(permissionRequest, earliestDataDate())) {
+            return;
+        }
+        meteringPointByPermissionId.put(permissionId, meteringPointId.get());
+        permissionRequestsByMeteringPoint.merge(
+                meteringPointId.get(),
+                List.of(permissionRequest),
+                (indexed, added) -> {
+                    var merged = new ArrayList<>(indexed);
+                    merged.addAll(added);
+                    merged.sort(BY_START);
+                    return List.copyOf(merged);
+                }
+        );
+    }
+
+    private synchronized void remove(String permissionId) {
+        var meteringPointId = meteringPointByPermissionId.remove(permissionId);
+        if (meteringPointId == null) {
+            return;
+        }
+        var remaining = permissionRequestsByMeteringPoint
+                .getOrDefault(meteringPointId, List.of())
+                .stream()
+                .filter(permissionRequest -> !permissionRequest.permissionId().equals(permissionId))
+                .toList();
+        if (remaining.isEmpty()) {
+            permissionRequestsByMeteringPoint.remove(meteringPointId);
+        } else {
+            permissionRequestsByMeteringPoint.put(meteringPointId, remaining);
+        }
+    }
+
+    private static LocalDate earliestDataDate() {
+        return LocalDate.now(AT_ZONE_ID).plus(PERIOD_EARLIEST_START);
+    }
+
+    private static boolean hasEndedBefore(AtPermissionRequest permissionRequest, LocalDate date) {
+        return !isOpenEnded(permissionRequest) && permissionRequest.end().isBefore(date);
+    }
+
+    @SuppressWarnings("ConstantValue")
+    private static boolean isOpenEnded(AtPermissionRequest permissionRequest) {
+        // The projection does not contain an end date for permission requests without one
+        return permissionRequest.end() == null;
+    }
+}
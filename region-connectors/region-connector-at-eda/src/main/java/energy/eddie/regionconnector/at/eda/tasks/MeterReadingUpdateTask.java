@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.at.eda.tasks;
@@ -10,28 +10,53 @@ import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class MeterReadingUpdateTask {
     private static final Logger LOGGER = LoggerFactory.getLogger(MeterReadingUpdateTask.class);
+    /**
+     * DSOs send the consumption records of many metering points at once, so the resulting events are committed
+     * together instead of one transaction per event.
+     */
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final Duration MAX_BATCH_DELAY = Duration.ofMillis(500);
     private final Outbox outbox;
 
     public MeterReadingUpdateTask(Outbox outbox, IdentifiableStreams streams) {
         this.outbox = outbox;
         streams.consumptionRecordStream()
-               .subscribe(this::updateMeterReading);
+               .bufferTimeout(MAX_BATCH_SIZE, MAX_BATCH_DELAY, Schedulers.boundedElastic())
+               .subscribe(this::updateMeterReadings,
+                          e -> LOGGER.error("Stopped updating meter readings of permission requests", e));
     }
 
-    public void updateMeterReading(IdentifiableConsumptionRecord consumptionRecord) {
-        var start = consumptionRecord.meterReadingStartDate();
-        var end = consumptionRecord.meterReadingEndDate();
-        for (var permissionRequest : consumptionRecord.permissionRequests()) {
-            var permissionId = permissionRequest.permissionId();
-            LOGGER.info("Updating permission request {} with latest data ranging from {} to {}",
-                        permissionId,
-                        start,
-                        end);
-            outbox.commit(new DataReceivedEvent(permissionId, permissionRequest.status(), start, end));
+    public void updateMeterReadings(List<IdentifiableConsumptionRecord> consumptionRecords) {
+        List<DataReceivedEvent> events = new ArrayList<>();
+        for (var consumptionRecord : consumptionRecords) {
+            var start = consumptionRecord.meterReadingStartDate();
+            var end = consumptionRecord.meterReadingEndDate();
+            for (var permissionRequest : consumptionRecord.permissionRequests()) {
+                var permissionId = permissionRequest.permissionId();
+                LOGGER.info("Updating permission request {} with latest data ranging from {} to {}",
+                            permissionId,
+                            start,
+                            end);
+                events.add(new DataReceivedEvent(permissionId, permissionRequest.status(), start, end));
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            outbox.commitAll(events);
+        } catch (RuntimeException e) {
+            // Keep the subscription to the consumption records alive, only the events of this batch are lost
+            LOGGER.error("Could not commit {} data received events", events.size(), e);
         }
     }
 }
@@ -0,0 +1,16 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* The permission requests are kept in a table, which is updated whenever a permission event is committed.
+   The view that aggregates the permission events is kept to rebuild and verify the table. */
+ALTER VIEW at_eda.eda_permission_request RENAME TO eda_permission_request_from_events;
+
+CREATE TABLE at_eda.eda_permission_request AS
+SELECT *
+FROM at_eda.eda_permission_request_from_events;
+
+ALTER TABLE at_eda.eda_permission_request
+    ADD PRIMARY KEY (permission_id);
+
+CREATE INDEX IF NOT EXISTS eda_permission_request_status_created_idx
+    ON at_eda.eda_permission_request (status, created);
@@ -10,15 +10,22 @@ import energy.eddie.regionconnector.at.eda.permission.request.events.CreatedEven
 import energy.eddie.regionconnector.at.eda.permission.request.events.SimpleEvent;
 import energy.eddie.regionconnector.at.eda.permission.request.events.ValidatedEvent;
 import energy.eddie.regionconnector.at.eda.requests.restricted.enums.AllowedGranularity;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,12 +43,25 @@ class JpaPermissionRequestRepositoryTest {
     private EdaPermissionEventRepository permissionEventRepository;
     @Autowired
     private JpaPermissionRequestRepository permissionRequestRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "at_eda",
+                                                         "eda_permission_request",
+                                                         "eda_permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
 
     @Test
     void findByPermissionId_returnsEmptyOptional_forNonExistentId() {
         // Given
         PermissionEvent event = new SimpleEvent("pid", PermissionProcessStatus.CREATED);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByPermissionId("otherId");
@@ -54,7 +74,7 @@ class JpaPermissionRequestRepositoryTest {
     void findByPermissionId_returnsPresentOptional_forExistingId() {
         // Given
         PermissionEvent event = new SimpleEvent("pid", PermissionProcessStatus.CREATED);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByPermissionId("pid");
@@ -72,7 +92,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, "cmRequestId",
                                                    conversationId, ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByConversationIdOrCMRequestId(conversationId, null);
@@ -90,7 +110,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, "cmRequestId",
                                                    conversationId, ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByConversationIdOrCMRequestId(conversationId, "otherId");
@@ -108,7 +128,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, "cmRequestId",
                                                    "otherId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByConversationIdOrCMRequestId(conversationId, null);
@@ -126,7 +146,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, "cmRequestId",
                                                    conversationId, ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByConversationIdOrCMRequestId("otherId", "otherId");
@@ -144,7 +164,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, cmRequestId,
                                                    "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByConversationIdOrCMRequestId("otherId", cmRequestId);
@@ -162,7 +182,7 @@ class JpaPermissionRequestRepositoryTest {
         PermissionEvent event = new ValidatedEvent("pid", start,
                                                    end, AllowedGranularity.PT15M, cmRequestId,
                                                    "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event);
+        outbox.commit(event);
 
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
@@ -178,13 +198,13 @@ class JpaPermissionRequestRepositoryTest {
         // Given
         var start = LocalDate.of(2024, 1, 1);
         PermissionEvent event1 = new CreatedEvent("pid", "cid", "did", new EdaDataSourceInformation("asd"), "mid");
-        permissionEventRepository.saveAndFlush(event1);
+        outbox.commit(event1);
         PermissionEvent event2 = new ValidatedEvent("pid", start,
                                                     null, AllowedGranularity.PT15M, "cmRequestId",
                                                     "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event2);
+        outbox.commit(event2);
         PermissionEvent event3 = new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR);
-        permissionEventRepository.saveAndFlush(event3);
+        outbox.commit(event3);
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
                                                     start.plusDays(
@@ -199,13 +219,13 @@ class JpaPermissionRequestRepositoryTest {
         // Given
         var start = LocalDate.of(2024, 1, 1);
         PermissionEvent event1 = new CreatedEvent("pid", "cid", "did", new EdaDataSourceInformation("asd"), "mid");
-        permissionEventRepository.saveAndFlush(event1);
+        outbox.commit(event1);
         PermissionEvent event2 = new ValidatedEvent("pid", start,
                                                     null, AllowedGranularity.PT15M, "cmRequestId",
                                                     "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event2);
+        outbox.commit(event2);
         PermissionEvent event3 = new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR);
-        permissionEventRepository.saveAndFlush(event3);
+        outbox.commit(event3);
 
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
@@ -220,7 +240,7 @@ class JpaPermissionRequestRepositoryTest {
         // Given
         var start = LocalDate.of(2024, 1, 1);
         PermissionEvent event1 = new CreatedEvent("pid", "cid", "did", new EdaDataSourceInformation("asd"), "mid");
-        permissionEventRepository.saveAndFlush(event1);
+        outbox.commit(event1);
 
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
@@ -235,13 +255,13 @@ class JpaPermissionRequestRepositoryTest {
         // Given
         var start = LocalDate.of(2024, 1, 1);
         PermissionEvent event1 = new CreatedEvent("pid", "cid", "did", new EdaDataSourceInformation("asd"), "mid");
-        permissionEventRepository.saveAndFlush(event1);
+        outbox.commit(event1);
         PermissionEvent event2 = new ValidatedEvent("pid", start,
                                                     null, AllowedGranularity.PT15M, "cmRequestId",
                                                     "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event2);
+        outbox.commit(event2);
         PermissionEvent event3 = new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR);
-        permissionEventRepository.saveAndFlush(event3);
+        outbox.commit(event3);
 
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
@@ -262,23 +282,23 @@ class JpaPermissionRequestRepositoryTest {
 
         // Metering Point 1
         PermissionEvent event1 = new CreatedEvent("pid", "cid", "did", new EdaDataSourceInformation("asd"), "mid");
-        permissionEventRepository.saveAndFlush(event1);
+        outbox.commit(event1);
         PermissionEvent event2 = new ValidatedEvent("pid", start,
                                                     null, AllowedGranularity.PT15M, "cmRequestId",
                                                     "convId", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event2);
+        outbox.commit(event2);
         PermissionEvent event3 = new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR);
-        permissionEventRepository.saveAndFlush(event3);
+        outbox.commit(event3);
 
         // Metering Point 2
         PermissionEvent event21 = new CreatedEvent("pid2", "cid2", "did2", new EdaDataSourceInformation("asd2"), "mid2");
-        permissionEventRepository.saveAndFlush(event21);
+        outbox.commit(event21);
         PermissionEvent event22 = new ValidatedEvent("pid2", start,
                                                     null, AllowedGranularity.PT15M, "cmRequestId2",
                                                     "convId2", ValidatedEvent.NeedsToBeSent.YES);
-        permissionEventRepository.saveAndFlush(event22);
+        outbox.commit(event22);
         PermissionEvent event23 = new SimpleEvent("pid2", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR);
-        permissionEventRepository.saveAndFlush(event23);
+        outbox.commit(event23);
 
         // When
         var res = permissionRequestRepository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted("mid",
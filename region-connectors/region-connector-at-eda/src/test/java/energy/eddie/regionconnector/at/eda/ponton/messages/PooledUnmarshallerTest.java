@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.ponton.messages;
+
+import at.ebutilities.schemata.customerconsent.cmrevoke._01p10.CMRevoke;
+import at.ebutilities.schemata.customerprocesses.masterdata._01p33.MasterData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = MarshallerConfig.class)
+class PooledUnmarshallerTest {
+    @Autowired
+    private Jaxb2Marshaller marshaller;
+
+    @Test
+    void unmarshal_reusesUnmarshaller_forConsecutiveDocuments() throws IOException {
+        // Given
+        var unmarshaller = new PooledUnmarshaller(marshaller, 1);
+
+        // When
+        CMRevoke first;
+        CMRevoke second;
+        try (var firstDocument = cmRevoke(); var secondDocument = cmRevoke()) {
+            first = unmarshaller.unmarshal(firstDocument, CMRevoke.class);
+            second = unmarshaller.unmarshal(secondDocument, CMRevoke.class);
+        }
+
+        // Then
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals(first.getProcessDirectory().getMessageId(),
+                                   second.getProcessDirectory().getMessageId())
+        );
+    }
+
+    @Test
+    void unmarshal_withUnexpectedRootElement_throws() throws IOException {
+        // Given
+        var unmarshaller = new PooledUnmarshaller(marshaller);
+
+        // When & Then
+        try (var document = cmRevoke()) {
+            assertThrows(XmlMappingException.class, () -> unmarshaller.unmarshal(document, MasterData.class));
+        }
+    }
+
+    @Test
+    void unmarshal_withMalformedDocument_throws() {
+        // Given
+        var unmarshaller = new PooledUnmarshaller(marshaller);
+        var document = new ByteArrayInputStream("<CMRevoke".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(XmlMappingException.class, () -> unmarshaller.unmarshal(document, CMRevoke.class));
+    }
+
+    @Test
+    void unmarshal_withDocumentTypeDeclaration_throws() {
+        // Given
+        var unmarshaller = new PooledUnmarshaller(marshaller);
+        var xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE foo [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <foo>&xxe;</foo>
+                """;
+        var document = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(XmlMappingException.class, () -> unmarshaller.unmarshal(document, CMRevoke.class));
+    }
+
+    private static InputStream cmRevoke() {
+        return Objects.requireNonNull(PooledUnmarshallerTest.class.getClassLoader()
+                                                                  .getResourceAsStream("xsd/cmrevoke/_01p10/cmrevoke.xml"));
+    }
+}
@@ -3,6 +3,7 @@
 
 package energy.eddie.regionconnector.at.eda.ponton.messages.consumptionrecord._01p41;
 
+import at.ebutilities.schemata.customerprocesses.consumptionrecord._01p41.ConsumptionRecord;
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.regionconnector.at.eda.dto.Energy;
 import energy.eddie.regionconnector.at.eda.dto.EnergyData;
@@ -12,16 +13,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.oxm.XmlMappingException;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static energy.eddie.regionconnector.at.eda.EdaRegionConnectorMetadata.AT_ZONE_ID;
@@ -88,6 +95,91 @@ class EdaConsumptionRecord01p41InboundMessageFactoryTest {
     }
 
 
+    @ParameterizedTest
+    @ValueSource(strings = {"consumptionrecord_daily.xml", "consumptionrecord_quater-hourly.xml"})
+    void parseInputStream_readsSameValuesAsJaxb(String file) throws IOException {
+        // Given
+        var factory = new EdaConsumptionRecord01p41InboundMessageFactory(marshaller);
+        byte[] document;
+        try (var inputStream = resource(file)) {
+            document = inputStream.readAllBytes();
+        }
+        var expected = new EdaConsumptionRecord01p41(
+                (ConsumptionRecord) marshaller.unmarshal(new StreamSource(new ByteArrayInputStream(document)))
+        );
+
+        // When
+        var rec = factory.parseInputStream(new ByteArrayInputStream(document));
+
+        // Then
+        var energy = rec.energy().getFirst();
+        var expectedEnergy = expected.energy().getFirst();
+        var energyData = energy.energyData().getFirst();
+        var expectedEnergyData = expectedEnergy.energyData().getFirst();
+        assertAll(
+                () -> assertEquals(expected.messageId(), rec.messageId()),
+                () -> assertEquals(expected.conversationId(), rec.conversationId()),
+                () -> assertEquals(expected.meteringPoint(), rec.meteringPoint()),
+                () -> assertEquals(expected.startDate(), rec.startDate()),
+                () -> assertEquals(expected.endDate(), rec.endDate()),
+                () -> assertEquals(expected.senderMessageAddress(), rec.senderMessageAddress()),
+                () -> assertEquals(expected.receiverMessageAddress(), rec.receiverMessageAddress()),
+                () -> assertEquals(expected.documentCreationDateTime(), rec.documentCreationDateTime()),
+                () -> assertEquals(expected.schemaVersion(), rec.schemaVersion()),
+                () -> assertEquals(expected.processDate(), rec.processDate()),
+                () -> assertEquals(expectedEnergy.granularity(), energy.granularity()),
+                () -> assertEquals(expectedEnergy.meterReadingStart(), energy.meterReadingStart()),
+                () -> assertEquals(expectedEnergy.meterReadingEnd(), energy.meterReadingEnd()),
+                () -> assertEquals(expectedEnergy.meteringReason(), energy.meteringReason()),
+                () -> assertEquals(expectedEnergyData.meterCode(), energyData.meterCode()),
+                () -> assertEquals(expectedEnergyData.billingUnit(), energyData.billingUnit()),
+                () -> assertEquals(expectedEnergyData.energyPositions(), energyData.energyPositions())
+        );
+    }
+
+    @Test
+    void parseInputStream_unmarshalsOriginalConsumptionRecordOnDemand() throws IOException {
+        // Given
+        var factory = new EdaConsumptionRecord01p41InboundMessageFactory(marshaller);
+
+        // When
+        Object original;
+        try (var inputStream = resource("consumptionrecord_quater-hourly.xml")) {
+            original = factory.parseInputStream(inputStream).originalConsumptionRecord();
+        }
+
+        // Then
+        var consumptionRecord = assertInstanceOf(ConsumptionRecord.class, original);
+        assertAll(
+                () -> assertEquals("EPXXXXXXT1712123513688",
+                                   consumptionRecord.getProcessDirectory().getConversationId()),
+                () -> assertEquals(96,
+                                   consumptionRecord.getProcessDirectory()
+                                                    .getEnergy()
+                                                    .getFirst()
+                                                    .getEnergyData()
+                                                    .getFirst()
+                                                    .getEP()
+                                                    .size())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<ns0:ConsumptionRecord xmlns:ns0=\"http://www.ebutilities.at/schemata/customerprocesses/consumptionrecord/01p41\">",
+            "<ns0:ConsumptionRecord xmlns:ns0=\"http://www.ebutilities.at/schemata/customerprocesses/consumptionrecord/01p41\"/>",
+            "<ns0:CMRevoke xmlns:ns0=\"http://www.ebutilities.at/schemata/customerconsent/cmrevoke/01p10\"/>"
+    })
+    void parseInputStream_withInvalidDocument_throws(String xml) {
+        // Given
+        var factory = new EdaConsumptionRecord01p41InboundMessageFactory(marshaller);
+        var inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(XmlMappingException.class, () -> factory.parseInputStream(inputStream));
+    }
+
+
     @Test
     void isActive_on_2025_10_05_returnsFalse() {
         // given
@@ -112,6 +204,12 @@ class EdaConsumptionRecord01p41InboundMessageFactoryTest {
         assertTrue(active);
     }
 
+    private static InputStream resource(String file) {
+        return Objects.requireNonNull(EdaConsumptionRecord01p41InboundMessageFactoryTest.class
+                                              .getClassLoader()
+                                              .getResourceAsStream("xsd/consumptionrecord/_01p41/" + file));
+    }
+
     private static Stream<Arguments> inputStreams() {
         ClassLoader classLoader = EdaConsumptionRecord01p41InboundMessageFactoryTest.class.getClassLoader();
         var daily = classLoader.getResourceAsStream("xsd/consumptionrecord/_01p41/consumptionrecord_daily.xml");
@@ -5,10 +5,11 @@ package energy.eddie.regionconnector.at.eda.services;
 
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.api.agnostic.data.needs.EnergyDirection;
+import energy.eddie.regionconnector.at.api.AtPermissionRequest;
 import energy.eddie.regionconnector.at.api.AtPermissionRequestProjection;
 import energy.eddie.regionconnector.at.eda.dto.*;
 import energy.eddie.regionconnector.at.eda.handlers.integration.inbound.AtPermissionRequestProjectionTest;
-import energy.eddie.regionconnector.at.eda.persistence.JpaPermissionRequestRepository;
+import energy.eddie.regionconnector.at.eda.permission.request.EdaPermissionRequest;
 import energy.eddie.regionconnector.at.eda.requests.restricted.enums.AllowedGranularity;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +32,7 @@ import static org.mockito.Mockito.when;
 class IdentifiableConsumptionRecordServiceTest {
 
     @Mock
-    private JpaPermissionRequestRepository repository;
+    private MeteringPointPermissionIndex index;
 
     private static AtPermissionRequestProjection projection(String permissionId, String connectionId, String dataNeedId,
                                                             String cmRequestId, String conversationId) {
@@ -52,18 +53,15 @@ class IdentifiableConsumptionRecordServiceTest {
         String identifiableMeteringPoint = "identifiableMeteringPoint";
         var identifiableConsumptionRecord = createConsumptionRecord(identifiableMeteringPoint);
 
-        var permissionRequests = List.of(
-                projection("pmId1", "connId1", "dataNeedId1", "test1", "any1"),
-                projection("pmId2", "connId2", "dataNeedId2", "test2", "any2")
+        var permissionRequests = List.<AtPermissionRequest>of(
+                EdaPermissionRequest.fromProjection(projection("pmId1", "connId1", "dataNeedId1", "test1", "any1")),
+                EdaPermissionRequest.fromProjection(projection("pmId2", "connId2", "dataNeedId2", "test2", "any2"))
         );
 
-        when(repository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted(
-                eq(identifiableMeteringPoint),
-                any()
-        ))
+        when(index.findByMeteringPointIdAndDate(eq(identifiableMeteringPoint), any()))
                 .thenReturn(permissionRequests);
 
-        IdentifiableConsumptionRecordService service = new IdentifiableConsumptionRecordService(repository);
+        IdentifiableConsumptionRecordService service = new IdentifiableConsumptionRecordService(index);
 
         var result = service.mapToIdentifiableConsumptionRecord(identifiableConsumptionRecord);
 
@@ -79,11 +77,10 @@ class IdentifiableConsumptionRecordServiceTest {
         String unidentifiableMeteringPoint = "unidentifiableMeteringPoint";
         var unidentifiableConsumptionRecord = createConsumptionRecord(unidentifiableMeteringPoint);
 
-        when(repository.findByMeteringPointIdAndDateAndStateSentToPAOrAfterAccepted(eq(unidentifiableMeteringPoint),
-                              any()))
+        when(index.findByMeteringPointIdAndDate(eq(unidentifiableMeteringPoint), any()))
                 .thenReturn(List.of());
 
-        IdentifiableConsumptionRecordService service = new IdentifiableConsumptionRecordService(repository);
+        IdentifiableConsumptionRecordService service = new IdentifiableConsumptionRecordService(index);
 
         var result = service.mapToIdentifiableConsumptionRecord(unidentifiableConsumptionRecord);
 
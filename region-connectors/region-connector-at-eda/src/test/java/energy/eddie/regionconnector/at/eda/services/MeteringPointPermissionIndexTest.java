@@ -0,0 +1,178 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.at.eda.services;
+
+import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import energy.eddie.regionconnector.at.api.AtPermissionRequest;
+import energy.eddie.regionconnector.at.api.AtPermissionRequestRepository;
+import energy.eddie.regionconnector.at.eda.SimplePermissionRequest;
+import energy.eddie.regionconnector.at.eda.permission.request.events.DataReceivedEvent;
+import energy.eddie.regionconnector.at.eda.permission.request.events.SimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeteringPointPermissionIndexTest {
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+    private final EventBusImpl eventBus = new EventBusImpl();
+    @Mock
+    private AtPermissionRequestRepository repository;
+
+    @Test
+    void findByMeteringPointIdAndDate_returnsPermissionRequestsValidOnDate() {
+        // Given
+        var first = permissionRequest("pid1", "mid", START, END, PermissionProcessStatus.ACCEPTED);
+        var second = permissionRequest("pid2", "mid", END.plusDays(1), null, PermissionProcessStatus.ACCEPTED);
+        var other = permissionRequest("pid3", "other-mid", START, END, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByStatusIn(MeteringPointPermissionIndex.INDEXED_STATUSES))
+                .thenReturn(List.of(second, first, other));
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+
+        // When
+        var beforeStart = index.findByMeteringPointIdAndDate("mid", START.minusDays(1));
+        var inFirst = index.findByMeteringPointIdAndDate("mid", END);
+        var inSecond = index.findByMeteringPointIdAndDate("mid", END.plusYears(1));
+
+        // Then
+        assertEquals(List.of(), beforeStart);
+        assertEquals(List.of(first), inFirst);
+        assertEquals(List.of(second), inSecond);
+    }
+
+    @Test
+    void findByMeteringPointIdAndDate_withUnknownMeteringPoint_returnsEmptyList() {
+        // Given
+        when(repository.findByStatusIn(any())).thenReturn(List.of());
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+
+        // When
+        var res = index.findByMeteringPointIdAndDate("mid", START);
+
+        // Then
+        assertEquals(List.of(), res);
+    }
+
+    @Test
+    void accept_indexesPermissionRequest_onceAccepted() {
+        // Given
+        when(repository.findByStatusIn(any())).thenReturn(List.of());
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+        var permissionRequest = permissionRequest("pid", "mid", START, END, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByPermissionId("pid")).thenReturn(Optional.of(permissionRequest));
+
+        // When
+        eventBus.emit(new SimpleEvent("pid", PermissionProcessStatus.ACCEPTED));
+
+        // Then
+        assertEquals(List.of(permissionRequest), index.findByMeteringPointIdAndDate("mid", START));
+    }
+
+    @Test
+    void accept_removesPermissionRequest_onceRevoked() {
+        // Given
+        var accepted = permissionRequest("pid", "mid", START, END, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByStatusIn(any())).thenReturn(List.of(accepted));
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+        var revoked = permissionRequest("pid", "mid", START, END, PermissionProcessStatus.REVOKED);
+        when(repository.findByPermissionId("pid")).thenReturn(Optional.of(revoked));
+
+        // When
+        eventBus.emit(new SimpleEvent("pid", PermissionProcessStatus.REVOKED));
+
+        // Then
+        assertEquals(List.of(), index.findByMeteringPointIdAndDate("mid", START));
+    }
+
+    @Test
+    void accept_updatesTimeframeOfPermissionRequest() {
+        // Given
+        var accepted = permissionRequest("pid", "mid", START, END, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByStatusIn(any())).thenReturn(List.of(accepted));
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+        var updated = permissionRequest("pid", "mid", START, START, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByPermissionId("pid")).thenReturn(Optional.of(updated));
+
+        // When
+        eventBus.emit(new SimpleEvent("pid", PermissionProcessStatus.ACCEPTED));
+
+        // Then
+        assertEquals(List.of(), index.findByMeteringPointIdAndDate("mid", END));
+    }
+
+    @Test
+    void findByMeteringPointIdAndDate_withPermissionRequestEndedBeforeEarliestDataDate_returnsEmptyList() {
+        // Given
+        var start = LocalDate.now(ZoneOffset.UTC).minusYears(5);
+        var expired = permissionRequest("pid", "mid", start, start.plusYears(1), PermissionProcessStatus.FULFILLED);
+        when(repository.findByStatusIn(any())).thenReturn(List.of(expired));
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+
+        // When
+        var res = index.findByMeteringPointIdAndDate("mid", start);
+
+        // Then
+        assertEquals(List.of(), res);
+    }
+
+    @Test
+    void prune_keepsPermissionRequestsThatCanStillReceiveData() {
+        // Given
+        var fulfilled = permissionRequest("pid1", "mid", START, END, PermissionProcessStatus.FULFILLED);
+        var openEnded = permissionRequest("pid2", "mid", START, null, PermissionProcessStatus.ACCEPTED);
+        when(repository.findByStatusIn(any())).thenReturn(List.of(fulfilled, openEnded));
+        var index = new MeteringPointPermissionIndex(repository, eventBus);
+
+        // When
+        index.prune();
+
+        // Then
+        assertEquals(List.of(fulfilled, openEnded), index.findByMeteringPointIdAndDate("mid", START));
+    }
+
+    @Test
+    void accept_withDataReceivedEvent_doesNotQueryPermissionRequest() {
+        // Given
+        when(repository.findByStatusIn(any())).thenReturn(List.of());
+        new MeteringPointPermissionIndex(repository, eventBus);
+
+        // When
+        eventBus.emit(new DataReceivedEvent("pid", PermissionProcessStatus.ACCEPTED, START, END));
+
+        // Then
+        verify(repository, never()).findByPermissionId(any());
+    }
+
+    private static AtPermissionRequest permissionRequest(
+            String permissionId,
+            String meteringPointId,
+            LocalDate start,
+            LocalDate end,
+            PermissionProcessStatus status
+    ) {
+        return new SimplePermissionRequest(permissionId,
+                                           "cid",
+                                           "dnid",
+                                           "cmRequestId",
+                                           "conversationId",
+                                           "dsoId",
+                                           Optional.of(meteringPointId),
+                                           start,
+                                           end,
+                                           status,
+                                           Optional.empty());
+    }
+}
@@ -24,8 +24,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MeterReadingUpdateTaskTest {
@@ -34,7 +34,7 @@ class MeterReadingUpdateTaskTest {
     @Mock
     private IdentifiableStreams streams;
     @Captor
-    private ArgumentCaptor<DataReceivedEvent> eventCaptor;
+    private ArgumentCaptor<List<DataReceivedEvent>> eventCaptor;
 
     @Test
     void testUpdateMeterReading_updatesMeterReading_forEachPermissionRequest() {
@@ -58,8 +58,8 @@ class MeterReadingUpdateTaskTest {
         ));
 
         // Then
-        verify(outbox).commit(eventCaptor.capture());
-        var res = eventCaptor.getValue();
+        verify(outbox).commitAll(eventCaptor.capture());
+        var res = eventCaptor.getValue().getFirst();
         assertAll(
                 () -> assertEquals("pid", res.permissionId()),
                 () -> assertEquals(PermissionProcessStatus.VALIDATED, res.status()),
@@ -67,4 +67,55 @@ class MeterReadingUpdateTaskTest {
                 () -> assertEquals(today, res.end())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateMeterReading_commitsEventsOfMultipleConsumptionRecords_together() {
+        // Given
+        var today = LocalDate.now(ZoneOffset.UTC);
+        TestPublisher<IdentifiableConsumptionRecord> publisher = TestPublisher.create();
+        when(streams.consumptionRecordStream()).thenReturn(publisher.flux());
+        new MeterReadingUpdateTask(outbox, streams);
+
+        // When
+        publisher.emit(consumptionRecord("pid1", today), consumptionRecord("pid2", today));
+
+        // Then
+        verify(outbox).commitAll(eventCaptor.capture());
+        var res = eventCaptor.getValue();
+        assertEquals(List.of("pid1", "pid2"), res.stream().map(DataReceivedEvent::permissionId).toList());
+    }
+
+    @Test
+    void testUpdateMeterReading_withFailingCommit_keepsProcessingNextBatches() {
+        // Given
+        var today = LocalDate.now(ZoneOffset.UTC);
+        TestPublisher<IdentifiableConsumptionRecord> publisher = TestPublisher.create();
+        when(streams.consumptionRecordStream()).thenReturn(publisher.flux());
+        var task = new MeterReadingUpdateTask(outbox, streams);
+        doThrow(new IllegalStateException("commit failed"))
+                .doNothing()
+                .when(outbox).commitAll(any());
+
+        // When
+        task.updateMeterReadings(List.of(consumptionRecord("pid1", today)));
+        task.updateMeterReadings(List.of(consumptionRecord("pid2", today)));
+
+        // Then
+        verify(outbox, times(2)).commitAll(eventCaptor.capture());
+        assertEquals("pid2", eventCaptor.getValue().getFirst().permissionId());
+    }
+
+    private static IdentifiableConsumptionRecord consumptionRecord(String permissionId, LocalDate date) {
+        return new IdentifiableConsumptionRecord(
+                new SimpleEdaConsumptionRecord(),
+                List.of(new SimplePermissionRequest(permissionId,
+                                                    "cid",
+                                                    "dnid",
+                                                    "cmRequestId",
+                                                    "cid",
+                                                    PermissionProcessStatus.ACCEPTED)),
+                date,
+                date
+        );
+    }
+}
@@ -23,9 +23,13 @@ import energy.eddie.regionconnector.shared.agnostic.JsonRawDataProvider;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
+import energy.eddie.regionconnector.shared.ratelimit.AdaptiveRateLimiter;
+import energy.eddie.regionconnector.shared.ratelimit.RateLimit;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import energy.eddie.regionconnector.shared.services.data.needs.DataNeedCalculationServiceImpl;
 import energy.eddie.regionconnector.shared.utils.ObjectMapperConfig;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,7 +39,9 @@ import org.springframework.boot.webclient.autoconfigure.WebClientSsl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
@@ -43,6 +49,7 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.cfg.EnumFeature;
 
 import java.time.ZoneOffset;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static energy.eddie.regionconnector.be.fluvius.FluviusRegionConnectorMetadata.REGION_CONNECTOR_ID;
@@ -50,19 +57,40 @@ import static energy.eddie.regionconnector.be.fluvius.FluviusRegionConnectorMeta
 @Configuration
 @Import(ObjectMapperConfig.class)
 public class FluviusBeanConfig {
+    @Bean
+    public AdaptiveRateLimiter rateLimiter(
+            @Value("${region-connector.be.fluvius.rate-limit.requests-per-second:5}") double requestsPerSecond,
+            @Value("${region-connector.be.fluvius.rate-limit.burst:10}") int burst,
+            @Value("${region-connector.be.fluvius.rate-limit.max-concurrency:8}") int maxConcurrency,
+            @Value("${region-connector.be.fluvius.rate-limit.throttling-statuses:429}") Set<Integer> throttlingStatuses
+    ) {
+        return new AdaptiveRateLimiter(REGION_CONNECTOR_ID,
+                                       new RateLimit(requestsPerSecond, burst, maxConcurrency, throttlingStatuses));
+    }
+
     @Bean
     public WebClient webClient(
             WebClient.Builder builder,
             WebClientSsl webClientSsl,
             SslBundles sslBundles,
-            FluviusConfiguration config
+            FluviusConfiguration config,
+            AdaptiveRateLimiter rateLimiter
     ) {
         return builder
                 .baseUrl(config.baseUrl())
                 .apply(webClientSsl.fromBundle(sslBundles.getBundle("fluvius")))
+                .filter(rateLimiter)
                 .build();
     }
 
+    @Bean
+    public PartitionedBackfill partitionedBackfill(
+            @Value("${region-connector.be.fluvius.backfill.partition-concurrency:4}") int partitionConcurrency,
+            @Value("${region-connector.be.fluvius.backfill.global-concurrency:16}") int globalConcurrency
+    ) {
+        return new PartitionedBackfill(REGION_CONNECTOR_ID, partitionConcurrency, globalConcurrency);
+    }
+
     @Bean
     public DataNeedCalculationService dataNeedCalculationService(
             @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") DataNeedsService dataNeedsService,
@@ -84,8 +112,24 @@ public class FluviusBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, BePermissionEventRepository bePermissionEventRepository) {
-        return new Outbox(eventBus, bePermissionEventRepository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "be_fluvius",
+                                               "permission_request",
+                                               "permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            BePermissionEventRepository bePermissionEventRepository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, bePermissionEventRepository, permissionRequestProjection);
     }
 
     @Bean
@@ -0,0 +1,16 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.be.fluvius.client;
+
+import energy.eddie.api.agnostic.RawPayload;
+import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModelApiDataResponse;
+import jakarta.annotation.Nullable;
+
+/**
+ * An energy response of Fluvius together with its body as it was received.
+ *
+ * @param payload    the deserialized response
+ * @param rawPayload the response as it was received from Fluvius, if it is available
+ */
+public record EnergyResponse(GetEnergyResponseModelApiDataResponse payload, @Nullable RawPayload rawPayload) {}
@@ -4,6 +4,7 @@
 package energy.eddie.regionconnector.be.fluvius.client;
 
 import energy.eddie.api.agnostic.Granularity;
+import energy.eddie.api.agnostic.RawPayload;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModelApiDataResponse;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.mandate.GetMandateResponseModelApiDataResponse;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.mandate.mock.CreateMandateRequestModel;
@@ -15,6 +16,7 @@ import energy.eddie.regionconnector.be.fluvius.config.FluviusConfiguration;
 import energy.eddie.regionconnector.be.fluvius.oauth.OAuthRequestException;
 import energy.eddie.regionconnector.be.fluvius.oauth.OAuthTokenService;
 import energy.eddie.regionconnector.be.fluvius.permission.request.Flow;
+import jakarta.annotation.Nullable;
 import jakarta.annotation.Priority;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,10 +24,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -41,18 +45,21 @@ public class FluviusApiClient implements FluviusApi {
     private final FluviusConfiguration fluviusConfiguration;
     private final OAuthTokenService oAuthTokenService;
     private final RedirectUriHelper uriHelper;
+    private final ObjectMapper objectMapper;
     private Health health = Health.unknown().build();
 
     public FluviusApiClient(
             WebClient webClient,
             FluviusConfiguration fluviusConfiguration,
             OAuthTokenService oAuthTokenService,
-            @Value("${region-connector.be.fluvius.redirect-uri}") String publicUrl
+            @Value("${region-connector.be.fluvius.redirect-uri}") String publicUrl,
+            ObjectMapper objectMapper
     ) {
         this.webClient = webClient;
         this.fluviusConfiguration = fluviusConfiguration;
         this.oAuthTokenService = oAuthTokenService;
         this.uriHelper = new RedirectUriHelper(publicUrl);
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -92,6 +99,20 @@ public class FluviusApiClient implements FluviusApi {
             DataServiceType dataServiceType,
             ZonedDateTime from,
             ZonedDateTime to
+    ) {
+        return energyWithRawPayload(permissionId, eanNumber, dataServiceType, from, to).map(EnergyResponse::payload);
+    }
+
+    /**
+     * Requests the energy data like {@link #energy(String, String, DataServiceType, ZonedDateTime, ZonedDateTime)},
+     * but keeps the body of the response, so that it can be forwarded as raw data without serializing it again.
+     */
+    public Mono<EnergyResponse> energyWithRawPayload(
+            String permissionId,
+            String eanNumber,
+            DataServiceType dataServiceType,
+            ZonedDateTime from,
+            ZonedDateTime to
     ) {
         return fetchAccessToken().flatMap(
                 token -> energy(permissionId, eanNumber, dataServiceType, from, to, token)
@@ -102,7 +123,7 @@ public class FluviusApiClient implements FluviusApi {
         return health;
     }
 
-    private Mono<GetEnergyResponseModelApiDataResponse> energy(
+    private Mono<EnergyResponse> energy(
             String permissionId,
             String eanNumber,
             DataServiceType dataServiceType,
@@ -128,7 +149,8 @@ public class FluviusApiClient implements FluviusApi {
                         .header(OCP_APIM_SUBSCRIPTION_KEY,
                                 fluviusConfiguration.subscriptionKey())
                         .retrieve()
-                        .bodyToMono(GetEnergyResponseModelApiDataResponse.class)
+                        .toEntity(byte[].class)
+                        .mapNotNull(this::toEnergyResponse)
                         .doOnError(WebClientResponseException.class, e -> {
                             var status = e.getStatusCode();
                             // Narrow down status codes that update health to account for expected error responses
@@ -139,6 +161,18 @@ public class FluviusApiClient implements FluviusApi {
                         .doOnSuccess(ignored -> health = Health.up().build());
     }
 
+    @Nullable
+    private EnergyResponse toEnergyResponse(ResponseEntity<byte[]> response) {
+        var body = response.getBody();
+        if (body == null) {
+            return null;
+        }
+        var contentType = response.getHeaders().getContentType();
+        var rawPayload = new RawPayload(body, contentType == null ? null : contentType.toString());
+        var payload = objectMapper.readValue(body, GetEnergyResponseModelApiDataResponse.class);
+        return new EnergyResponse(payload, rawPayload);
+    }
+
     private Mono<FluviusSessionCreateResultResponseModelApiDataResponse> shortUrlIdentifier(
             String permissionId,
             Flow flow,
@@ -198,14 +232,11 @@ public class FluviusApiClient implements FluviusApi {
     }
 
     private Mono<String> fetchAccessToken() {
-        return Mono.create(monoSink -> {
-            try {
-                monoSink.success(this.oAuthTokenService.accessToken());
-            } catch (Exception e) {
-                LOGGER.warn("Error while fetching access token", e);
-                monoSink.error(new OAuthRequestException(e));
-            }
-        });
+        return oAuthTokenService.accessToken()
+                                .onErrorMap(Exception.class, e -> {
+                                    LOGGER.warn("Error while fetching access token", e);
+                                    return new OAuthRequestException(e);
+                                });
     }
 
     private Mono<CreateMandateResponseModelApiDataResponse> mockMandate(
@@ -4,12 +4,24 @@
 package energy.eddie.regionconnector.be.fluvius.dtos;
 
 import energy.eddie.api.agnostic.IdentifiablePayload;
+import energy.eddie.api.agnostic.RawPayload;
 import energy.eddie.api.agnostic.process.model.PermissionRequest;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModelApiDataResponse;
 import energy.eddie.regionconnector.be.fluvius.permission.request.FluviusPermissionRequest;
+import jakarta.annotation.Nullable;
 
+/**
+ * @param rawPayload the response as it was received from Fluvius, if it is available
+ */
 public record IdentifiableMeteringData(
         FluviusPermissionRequest permissionRequest,
-        GetEnergyResponseModelApiDataResponse payload
+        GetEnergyResponseModelApiDataResponse payload,
+        @Nullable RawPayload rawPayload
 ) implements IdentifiablePayload<PermissionRequest, GetEnergyResponseModelApiDataResponse> {
+    public IdentifiableMeteringData(
+            FluviusPermissionRequest permissionRequest,
+            GetEnergyResponseModelApiDataResponse payload
+    ) {
+        this(permissionRequest, payload, null);
+    }
 }
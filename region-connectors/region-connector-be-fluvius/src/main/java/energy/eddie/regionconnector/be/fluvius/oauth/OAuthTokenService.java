@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.be.fluvius.oauth;
@@ -8,23 +8,44 @@ import com.nimbusds.oauth2.sdk.auth.ClientSecretBasic;
 import com.nimbusds.oauth2.sdk.auth.Secret;
 import com.nimbusds.oauth2.sdk.id.ClientID;
 import energy.eddie.regionconnector.be.fluvius.config.FluviusOAuthConfiguration;
+import energy.eddie.regionconnector.shared.oauth.ExpiringToken;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
 import jakarta.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
+import static energy.eddie.regionconnector.be.fluvius.FluviusRegionConnectorMetadata.REGION_CONNECTOR_ID;
+import static energy.eddie.regionconnector.shared.jwt.JwtValidations.expiration;
 import static energy.eddie.regionconnector.shared.jwt.JwtValidations.isValidUntil;
 
+/**
+ * Requests access tokens for the Fluvius API using the client credentials grant.
+ * The access token is cached until a minute before it expires, concurrent calls share a single token request.
+ */
 @Service
-public class OAuthTokenService {
+public class OAuthTokenService implements ApplicationContextAware {
+    private static final Duration EXPIRATION_MARGIN = Duration.ofMinutes(1);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
     private final FluviusOAuthConfiguration config;
+    private final SingleFlightTokenCache<String, String> accessTokens = new SingleFlightTokenCache<>(
+            REGION_CONNECTOR_ID,
+            EXPIRATION_MARGIN,
+            REFRESH_AHEAD
+    );
     @Nullable
-    private String accessToken = null;
+    private volatile String initialAccessToken;
 
     @Autowired
     public OAuthTokenService(FluviusOAuthConfiguration config) {
@@ -33,14 +54,36 @@ public class OAuthTokenService {
 
     OAuthTokenService(FluviusOAuthConfiguration config, @Nullable String accessToken) {
         this.config = config;
-        this.accessToken = accessToken;
+        this.initialAccessToken = accessToken;
     }
 
-    public String accessToken() throws URISyntaxException, IOException, ParseException, OAuthException {
-        var nowPlusOneMinute = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        accessTokens.setApplicationContext(applicationContext);
+    }
+
+    /**
+     * Returns the cached access token, or requests a new one if there is no valid access token.
+     *
+     * @return the access token, or an {@link OAuthException} if the token endpoint returned an error
+     */
+    public Mono<String> accessToken() {
+        return accessTokens.token(config.clientId(), this::nextAccessToken);
+    }
+
+    private Mono<ExpiringToken<String>> nextAccessToken() {
+        var accessToken = initialAccessToken;
+        initialAccessToken = null;
+        var nowPlusOneMinute = ZonedDateTime.now(ZoneOffset.UTC).plus(EXPIRATION_MARGIN);
         if (accessToken != null && isValidUntil(accessToken, nowPlusOneMinute)) {
-            return accessToken;
+            return Mono.just(withExpiration(accessToken));
         }
+        return Mono.fromCallable(this::requestAccessToken)
+                   .subscribeOn(Schedulers.boundedElastic())
+                   .map(this::withExpiration);
+    }
+
+    private String requestAccessToken() throws URISyntaxException, IOException, ParseException, OAuthException {
         var clientGrant = new ClientCredentialsGrant();
         var clientID = new ClientID(config.clientId());
         var clientSecret = new Secret(config.clientSecret());
@@ -54,7 +97,13 @@ public class OAuthTokenService {
             throw new OAuthException(errorResponse.toString());
         }
         var successResponse = response.toSuccessResponse();
-        accessToken = successResponse.getTokens().getAccessToken().getValue();
-        return accessToken;
+        return successResponse.getTokens().getAccessToken().getValue();
+    }
+
+    /**
+     * Access tokens without a readable expiration date are handed out once, but not cached.
+     */
+    private ExpiringToken<String> withExpiration(String accessToken) {
+        return new ExpiringToken<>(accessToken, expiration(accessToken).orElseGet(Instant::now));
     }
 }
@@ -5,6 +5,7 @@ package energy.eddie.regionconnector.be.fluvius.service.polling;
 
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.be.fluvius.client.DataServiceType;
+import energy.eddie.regionconnector.be.fluvius.client.EnergyResponse;
 import energy.eddie.regionconnector.be.fluvius.client.FluviusApiClient;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModelApiDataResponse;
 import energy.eddie.regionconnector.be.fluvius.permission.events.SimpleEvent;
@@ -13,6 +14,7 @@ import energy.eddie.regionconnector.be.fluvius.permission.request.MeterReading;
 import energy.eddie.regionconnector.be.fluvius.streams.IdentifiableDataStreams;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import energy.eddie.regionconnector.shared.services.CommonPollingService;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ import reactor.util.retry.RetryBackoffSpec;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class PollingService implements CommonPollingService<FluviusPermissionRequest> {
@@ -33,15 +37,18 @@ public class PollingService implements CommonPollingService<FluviusPermissionReq
     private final FluviusApiClient apiClient;
     private final IdentifiableDataStreams identifiableDataStreams;
     private final Outbox outbox;
+    private final PartitionedBackfill backfill;
 
     public PollingService(
             FluviusApiClient apiClient,
             IdentifiableDataStreams identifiableDataStreams,
-            Outbox outbox
+            Outbox outbox,
+            PartitionedBackfill backfill
     ) {
         this.apiClient = apiClient;
         this.identifiableDataStreams = identifiableDataStreams;
         this.outbox = outbox;
+        this.backfill = backfill;
     }
 
     public Flux<GetEnergyResponseModelApiDataResponse> forcePoll(
@@ -51,26 +58,26 @@ public class PollingService implements CommonPollingService<FluviusPermissionReq
     ) {
         var permissionId = permissionRequest.permissionId();
         LOGGER.info("Polling for permission request {} from {} to {}", permissionId, from, to);
-        Flux<GetEnergyResponseModelApiDataResponse> commonflux = Flux.empty();
+        var partitions = new ArrayList<MeterPartition>();
         for (var meter : permissionRequest.lastMeterReadings()) {
             meter = new MeterReading(permissionId, meter.meterEan(), null);
-            var partitions = new RequestPartitions(from, to, meter);
-            commonflux = Flux.merge(commonflux, pollAllPartitions(permissionRequest, partitions, meter));
+            addPartitions(partitions, new RequestPartitions(from, to, meter), meter);
         }
+        // The responses are published and returned, cache them to fetch them only once
+        var commonflux = pollAllPartitions(permissionRequest, partitions).cache();
         emitResult(permissionRequest, commonflux, permissionId);
-        return commonflux;
+        return commonflux.map(EnergyResponse::payload);
     }
 
     @Override
     public void pollTimeSeriesData(FluviusPermissionRequest permissionRequest) {
         var permissionId = permissionRequest.permissionId();
         LOGGER.info("Polling validated historical data for permission request {}", permissionId);
-        Flux<GetEnergyResponseModelApiDataResponse> commonflux = Flux.empty();
+        var partitions = new ArrayList<MeterPartition>();
         for (var meter : permissionRequest.lastMeterReadings()) {
-            var partitions = new RequestPartitions(permissionRequest, meter);
-            commonflux = Flux.merge(commonflux, pollAllPartitions(permissionRequest, partitions, meter));
+            addPartitions(partitions, new RequestPartitions(permissionRequest, meter), meter);
         }
-        emitResult(permissionRequest, commonflux, permissionId);
+        emitResult(permissionRequest, pollAllPartitions(permissionRequest, partitions), permissionId);
     }
 
     @Override
@@ -88,34 +95,43 @@ public class PollingService implements CommonPollingService<FluviusPermissionReq
         return retryable;
     }
 
-    private Flux<GetEnergyResponseModelApiDataResponse> pollAllPartitions(
-            FluviusPermissionRequest permissionRequest,
-            RequestPartitions partitions,
+    private static void addPartitions(
+            List<MeterPartition> partitions,
+            RequestPartitions requestPartitions,
             MeterReading meter
     ) {
-        Flux<GetEnergyResponseModelApiDataResponse> commonflux = Flux.empty();
+        for (var partition : requestPartitions.partitions()) {
+            partitions.add(new MeterPartition(meter.meterEan(), partition));
+        }
+    }
+
+    /**
+     * Polls the partitions concurrently, the responses are emitted per meter in time order, so that the last meter
+     * reading of a meter only advances past partitions that were published.
+     */
+    private Flux<EnergyResponse> pollAllPartitions(
+            FluviusPermissionRequest permissionRequest,
+            List<MeterPartition> partitions
+    ) {
         var permissionId = permissionRequest.permissionId();
-        for (var partition : partitions.partitions()) {
-            var energyDataStart = partition.start();
-            var energyDataEnd = partition.end();
+        var energyDataType = DataServiceType.from(permissionRequest);
+        return backfill.fetch(partitions, meterPartition -> {
+            var energyDataStart = meterPartition.partition().start();
+            var energyDataEnd = meterPartition.partition().end();
             LOGGER.info("Requesting validated historical data from {} to {} for permission request {}",
                         energyDataStart,
                         energyDataEnd,
                         permissionId);
-            var energyDataType = DataServiceType.from(permissionRequest);
-            var response = apiClient.energy(permissionId,
-                                            meter.meterEan(),
-                                            energyDataType,
-                                            energyDataStart,
-                                            energyDataEnd)
-                                    .retryWhen(RETRY_BACKOFF_SPEC)
-                                    .doOnSuccess(data -> LOGGER.atDebug()
-                                                               .addArgument(permissionId)
-                                                               .log("Got response from fluvius for permission request {}"))
-                                    .filter(response1 -> isDataPresent(response1, permissionRequest));
-            commonflux = Flux.merge(commonflux, response);
-        }
-        return commonflux;
+            return apiClient.energyWithRawPayload(permissionId,
+                                                  meterPartition.meterEan(),
+                                                  energyDataType,
+                                                  energyDataStart,
+                                                  energyDataEnd)
+                            .doOnSuccess(data -> LOGGER.atDebug()
+                                                       .addArgument(permissionId)
+                                                       .log("Got response from fluvius for permission request {}"))
+                            .filter(response -> isDataPresent(response.payload(), permissionRequest));
+        }, RETRY_BACKOFF_SPEC);
     }
 
     private boolean isDataPresent(
@@ -132,12 +148,12 @@ public class PollingService implements CommonPollingService<FluviusPermissionReq
 
     private void emitResult(
             FluviusPermissionRequest permissionRequest,
-            Flux<GetEnergyResponseModelApiDataResponse> commonflux,
+            Flux<EnergyResponse> commonflux,
             String permissionId
     ) {
         commonflux
                 .subscribe(
-                        res -> identifiableDataStreams.publish(permissionRequest, res),
+                        res -> identifiableDataStreams.publish(permissionRequest, res.payload(), res.rawPayload()),
                         error -> handleFetchError(permissionId, error)
                 );
     }
@@ -148,4 +164,6 @@ public class PollingService implements CommonPollingService<FluviusPermissionReq
             outbox.commit(new SimpleEvent(permissionId, PermissionProcessStatus.REVOKED));
         }
     }
+
+    private record MeterPartition(String meterEan, RequestPartitions.DateTimePartition partition) {}
 }
@@ -3,9 +3,11 @@
 
 package energy.eddie.regionconnector.be.fluvius.streams;
 
+import energy.eddie.api.agnostic.RawPayload;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModelApiDataResponse;
 import energy.eddie.regionconnector.be.fluvius.dtos.IdentifiableMeteringData;
 import energy.eddie.regionconnector.be.fluvius.permission.request.FluviusPermissionRequest;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -24,11 +26,22 @@ public class IdentifiableDataStreams implements AutoCloseable {
     public void publish(
             FluviusPermissionRequest permissionRequest,
             GetEnergyResponseModelApiDataResponse payload
+    ) {
+        publish(permissionRequest, payload, null);
+    }
+
+    /**
+     * Publishes the metering data together with the response as it was received from Fluvius.
+     */
+    public void publish(
+            FluviusPermissionRequest permissionRequest,
+            GetEnergyResponseModelApiDataResponse payload,
+            @Nullable RawPayload rawPayload
     ) {
         LOGGER.atInfo()
               .addArgument(permissionRequest::permissionId)
               .log("Publishing metering data for permission request {}");
-        var id = new IdentifiableMeteringData(permissionRequest, payload);
+        var id = new IdentifiableMeteringData(permissionRequest, payload, rawPayload);
         meteringDataSink.emitNext(id, Sinks.EmitFailureHandler.busyLooping(Duration.ofMinutes(1)));
     }
 
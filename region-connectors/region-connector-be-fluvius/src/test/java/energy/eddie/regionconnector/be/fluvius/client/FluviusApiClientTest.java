@@ -3,7 +3,6 @@
 
 package energy.eddie.regionconnector.be.fluvius.client;
 
-import com.nimbusds.oauth2.sdk.ParseException;
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.ApiMetaData;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.GetEnergyResponseModel;
@@ -31,14 +30,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.JacksonJsonDecoder;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,7 +65,7 @@ class FluviusApiClientTest {
 
 
     @Test
-    void testShortUrlIdentifier_returnsSuccessMessage() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testShortUrlIdentifier_returnsSuccessMessage() {
         // Given
         SERVER.enqueue(new MockResponse()
                                .addHeader("Content-Type", "application/json")
@@ -73,8 +73,8 @@ class FluviusApiClientTest {
                                .setBody(OBJECT_MAPPER.writeValueAsString(new FluviusSessionCreateResultResponseModelApiDataResponse(
                                        null,
                                        null))));
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -87,10 +87,10 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testShortUrlIdentifier_returnsError_onInvalidAccessToken() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testShortUrlIdentifier_returnsError_onInvalidAccessToken() {
         // Given
-        when(oAuthTokenService.accessToken()).thenThrow(OAuthException.class);
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.error(new OAuthException("invalid_client")));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -103,10 +103,10 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testMandateFor_returnsError_onInvalidAccessToken() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testMandateFor_returnsError_onInvalidAccessToken() {
         // Given
-        when(oAuthTokenService.accessToken()).thenThrow(OAuthException.class);
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.error(new OAuthException("invalid_client")));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
 
         // When
         var res = api.mandateFor("pid");
@@ -118,10 +118,10 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testMandateFor_returnsMandates_forPermissionId() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testMandateFor_returnsMandates_forPermissionId() {
         // Given
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var response = new GetMandateResponseModelApiDataResponse(null, null);
         SERVER.enqueue(new MockResponse()
                                .setResponseCode(200)
@@ -138,7 +138,7 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testMockMandates_returnsSuccessMessage() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testMockMandates_returnsSuccessMessage() {
         // Given
         var payload = new CreateMandateResponseModelApiDataResponse(null, null);
         SERVER.enqueue(new MockResponse()
@@ -146,8 +146,8 @@ class FluviusApiClientTest {
                                .setResponseCode(200)
                                .setBody(OBJECT_MAPPER.writeValueAsString(payload))
         );
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -160,14 +160,14 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testMockMandates_returnsError() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testMockMandates_returnsError() {
         // Given
         SERVER.enqueue(new MockResponse()
                                .addHeader("Content-Type", "application/json")
                                .setResponseCode(400)
         );
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -180,7 +180,7 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testEnergy_returnsSuccessMessage() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testEnergy_returnsSuccessMessage() {
         // Given
         SERVER.enqueue(new MockResponse()
                                .addHeader("Content-Type", "application/json")
@@ -189,8 +189,8 @@ class FluviusApiClientTest {
                                        new ApiMetaData(null),
                                        new GetEnergyResponseModel(null)
                                ))));
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -203,10 +203,39 @@ class FluviusApiClientTest {
     }
 
     @Test
-    void testEnergy_returnsError_onInvalidAccessToken() throws IOException, OAuthException, URISyntaxException, ParseException {
+    void testEnergy_keepsRawPayload() {
         // Given
-        when(oAuthTokenService.accessToken()).thenThrow(OAuthException.class);
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        var body = OBJECT_MAPPER.writeValueAsString(new GetEnergyResponseModelApiDataResponse(
+                new ApiMetaData(null),
+                new GetEnergyResponseModel(null)
+        ));
+        SERVER.enqueue(new MockResponse()
+                               .addHeader("Content-Type", "application/json")
+                               .setResponseCode(200)
+                               .setBody(body));
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
+        var now = ZonedDateTime.now(ZoneOffset.UTC);
+
+        // When
+        var res = api.energyWithRawPayload("pid", "ean", DataServiceType.DAILY, now, now);
+
+        // Then
+        StepVerifier.create(res)
+                    .assertNext(response -> {
+                        var rawPayload = response.rawPayload();
+                        assertNotNull(rawPayload);
+                        assertTrue(rawPayload.isJson());
+                        assertEquals(body, rawPayload.asString());
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    void testEnergy_returnsError_onInvalidAccessToken() {
+        // Given
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.error(new OAuthException("invalid_client")));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
@@ -220,11 +249,11 @@ class FluviusApiClientTest {
 
     @ParameterizedTest
     @ValueSource(ints = {500, 408})
-    void testEnergy_updatesHealth_onServerErrorAndTimeout(int responseCode) throws OAuthException, URISyntaxException, IOException, ParseException {
+    void testEnergy_updatesHealth_onServerErrorAndTimeout(int responseCode) {
         // Given
         SERVER.enqueue(new MockResponse().setResponseCode(responseCode));
-        when(oAuthTokenService.accessToken()).thenReturn("token");
-        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL);
+        when(oAuthTokenService.accessToken()).thenReturn(Mono.just("token"));
+        var api = new FluviusApiClient(webClient, getConfiguration(), oAuthTokenService, PUBLIC_URL, OBJECT_MAPPER);
         var now = ZonedDateTime.now(ZoneOffset.UTC);
 
         // When
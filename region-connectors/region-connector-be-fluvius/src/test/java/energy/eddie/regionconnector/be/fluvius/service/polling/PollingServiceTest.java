@@ -4,8 +4,10 @@
 package energy.eddie.regionconnector.be.fluvius.service.polling;
 
 import energy.eddie.api.agnostic.Granularity;
+import energy.eddie.api.agnostic.RawPayload;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.be.fluvius.client.DataServiceType;
+import energy.eddie.regionconnector.be.fluvius.client.EnergyResponse;
 import energy.eddie.regionconnector.be.fluvius.client.FluviusApiClient;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.ApiMetaData;
 import energy.eddie.regionconnector.be.fluvius.client.model.v3.energy.*;
@@ -13,6 +15,7 @@ import energy.eddie.regionconnector.be.fluvius.permission.request.MeterReading;
 import energy.eddie.regionconnector.be.fluvius.streams.IdentifiableDataStreams;
 import energy.eddie.regionconnector.be.fluvius.util.DefaultFluviusPermissionRequestBuilder;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,12 +23,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneOffset;
@@ -45,6 +51,9 @@ class PollingServiceTest {
     private IdentifiableDataStreams streams;
     @Mock
     private Outbox outbox;
+    @SuppressWarnings("unused")
+    @Spy
+    private PartitionedBackfill backfill = new PartitionedBackfill("test", 4, 16);
     @InjectMocks
     private PollingService service;
 
@@ -118,8 +127,8 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
-                .thenReturn(Mono.just(new GetEnergyResponseModelApiDataResponse(
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+                .thenReturn(energyResponse(new GetEnergyResponseModelApiDataResponse(
                         new ApiMetaData(null),
                         new GetEnergyResponseModel(new Headpoint(null, EnergyType.ELECTRICITY, null))
                 )));
@@ -129,7 +138,7 @@ class PollingServiceTest {
 
         // Then
         verify(apiClient)
-                .energy(
+                .energyWithRawPayload(
                         eq("pid"),
                         any(),
                         eq(DataServiceType.QUARTER_HOURLY),
@@ -138,6 +147,38 @@ class PollingServiceTest {
                 );
     }
 
+    @Test
+    void testPollEnergyData_withLongPermission_publishesPartitionsInTimeOrder() {
+        // Given
+        var now = LocalDate.now(ZoneOffset.UTC);
+        var pr = DefaultFluviusPermissionRequestBuilder.create()
+                                                       .start(now.minusDays(400))
+                                                       .granularity(Granularity.P1D)
+                                                       .addMeterReadings(new MeterReading("pid", "ean", null))
+                                                       .dataNeedId("did")
+                                                       .build();
+        var first = createSampleGetEnergyResponseModels();
+        var second = createSampleGetEnergyResponseModels();
+        var third = createSampleGetEnergyResponseModels();
+        Sinks.One<EnergyResponse> firstResponse = Sinks.one();
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.DAILY), any(), any()))
+                .thenReturn(firstResponse.asMono())
+                .thenReturn(energyResponse(second))
+                .thenReturn(energyResponse(third));
+        service.pollTimeSeriesData(pr);
+
+        // When
+        firstResponse.tryEmitValue(new EnergyResponse(first, null));
+
+        // Then
+        verify(apiClient, times(3))
+                .energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.DAILY), any(), any());
+        var inOrder = inOrder(streams);
+        inOrder.verify(streams).publish(pr, first, null);
+        inOrder.verify(streams).publish(pr, second, null);
+        inOrder.verify(streams).publish(pr, third, null);
+    }
+
     @Test
     void testPollEnergyData_15minGranularity_callsApiClient() {
         // Given
@@ -146,8 +187,8 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
-                .thenReturn(Mono.just(new GetEnergyResponseModelApiDataResponse(
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+                .thenReturn(energyResponse(new GetEnergyResponseModelApiDataResponse(
                         new ApiMetaData(null),
                         new GetEnergyResponseModel(new Headpoint(null, EnergyType.ELECTRICITY, null))
                 )));
@@ -156,7 +197,7 @@ class PollingServiceTest {
         service.pollTimeSeriesData(pr);
 
         // Then
-        verify(apiClient).energy(eq("pid"), any(), eq(DataServiceType.QUARTER_HOURLY), any(), any());
+        verify(apiClient).energyWithRawPayload(eq("pid"), any(), eq(DataServiceType.QUARTER_HOURLY), any(), any());
     }
 
     @ParameterizedTest
@@ -168,9 +209,9 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
                 .thenReturn(Mono.error(error))
-                .thenReturn(Mono.just(new GetEnergyResponseModelApiDataResponse(
+                .thenReturn(energyResponse(new GetEnergyResponseModelApiDataResponse(
                         new ApiMetaData(null),
                         new GetEnergyResponseModel(new Headpoint(null, EnergyType.ELECTRICITY, null))
                 )));
@@ -179,7 +220,7 @@ class PollingServiceTest {
         service.pollTimeSeriesData(pr);
 
         // Then
-        verify(apiClient).energy(eq("pid"), any(), eq(DataServiceType.QUARTER_HOURLY), any(), any());
+        verify(apiClient).energyWithRawPayload(eq("pid"), any(), eq(DataServiceType.QUARTER_HOURLY), any(), any());
     }
 
     @Test
@@ -191,8 +232,8 @@ class PollingServiceTest {
                 .granularity(Granularity.P1D)
                 .addMeterReadings(new MeterReading("pid", "ean", null))
                 .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.DAILY), any(), any()))
-                .thenReturn(Mono.just(new GetEnergyResponseModelApiDataResponse(
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.DAILY), any(), any()))
+                .thenReturn(energyResponse(new GetEnergyResponseModelApiDataResponse(
                         new ApiMetaData(null),
                         new GetEnergyResponseModel(new Headpoint(null, EnergyType.ELECTRICITY, null))
                 )));
@@ -201,7 +242,7 @@ class PollingServiceTest {
         service.pollTimeSeriesData(pr);
 
         // Then
-        verify(apiClient).energy(eq("pid"), any(), eq(DataServiceType.DAILY), any(), any());
+        verify(apiClient).energyWithRawPayload(eq("pid"), any(), eq(DataServiceType.DAILY), any(), any());
     }
 
     @Test
@@ -214,13 +255,15 @@ class PollingServiceTest {
                 .addMeterReadings(new MeterReading("pid", "ean", null))
                 .build();
         var sampleEnergyResponseModels = createSampleGetEnergyResponseModels();
-        when(apiClient.energy(any(), any(), any(), any(), any())).thenReturn(Mono.just(sampleEnergyResponseModels));
+        var rawPayload = new RawPayload("{}".getBytes(StandardCharsets.UTF_8), "application/json");
+        when(apiClient.energyWithRawPayload(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(new EnergyResponse(sampleEnergyResponseModels, rawPayload)));
 
         // When
         service.pollTimeSeriesData(permissionRequest);
 
         // Then
-        verify(streams).publish(permissionRequest, sampleEnergyResponseModels);
+        verify(streams).publish(permissionRequest, sampleEnergyResponseModels, rawPayload);
     }
 
     @Test
@@ -232,9 +275,9 @@ class PollingServiceTest {
                 .granularity(Granularity.P1D)
                 .addMeterReadings(new MeterReading("pid", "ean", null))
                 .build();
-        when(apiClient.energy(any(), any(), any(), any(), any()))
+        when(apiClient.energyWithRawPayload(any(), any(), any(), any(), any()))
                 .thenReturn(
-                        Mono.just(
+                        energyResponse(
                                 new GetEnergyResponseModelApiDataResponse(
                                         null,
                                         new GetEnergyResponseModel(new Headpoint(null,
@@ -248,10 +291,7 @@ class PollingServiceTest {
         service.pollTimeSeriesData(permissionRequest);
 
         // Then
-        verify(streams, never()).publish(permissionRequest, new GetEnergyResponseModelApiDataResponse(
-                new ApiMetaData(null),
-                new GetEnergyResponseModel(new Headpoint(null, EnergyType.ELECTRICITY, null))
-        ));
+        verify(streams, never()).publish(eq(permissionRequest), any(), any());
     }
 
     @Test
@@ -262,7 +302,7 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
                 .thenReturn(Mono.error(WebClientResponseException.create(HttpStatus.FORBIDDEN.value(),
                                                                          "",
                                                                          null,
@@ -287,7 +327,7 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
                 .thenReturn(Mono.error(new RuntimeException()));
 
         // When
@@ -305,7 +345,7 @@ class PollingServiceTest {
                                                        .addMeterReadings(new MeterReading("pid", "ean", null))
                                                        .dataNeedId("did")
                                                        .build();
-        when(apiClient.energy(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
+        when(apiClient.energyWithRawPayload(eq("pid"), eq("ean"), eq(DataServiceType.QUARTER_HOURLY), any(), any()))
                 .thenReturn(Mono.error(WebClientResponseException.create(HttpStatus.INTERNAL_SERVER_ERROR.value(),
                                                                          "",
                                                                          null,
@@ -334,8 +374,8 @@ class PollingServiceTest {
                                                             .start(LocalDate.of(2025, Month.JANUARY, 1))
                                                             .start(LocalDate.of(2025, Month.APRIL, 1))
                                                             .build();
-        when(apiClient.energy(any(), any(), any(), any(), any()))
-                .thenReturn(Mono.just(createSampleGetEnergyResponseModels()));
+        when(apiClient.energyWithRawPayload(any(), any(), any(), any(), any()))
+                .thenReturn(energyResponse(createSampleGetEnergyResponseModels()));
 
         // When
         var res = service.forcePoll(request, from, to);
@@ -344,11 +384,11 @@ class PollingServiceTest {
         StepVerifier.create(res)
                     .expectNextCount(1)
                     .verifyComplete();
-        verify(apiClient).energy("pid",
-                                 "ean",
-                                 DataServiceType.QUARTER_HOURLY,
-                                 from.atStartOfDay(ZoneOffset.UTC),
-                                 endOfDay(to, ZoneOffset.UTC));
+        verify(apiClient).energyWithRawPayload("pid",
+                                               "ean",
+                                               DataServiceType.QUARTER_HOURLY,
+                                               from.atStartOfDay(ZoneOffset.UTC),
+                                               endOfDay(to, ZoneOffset.UTC));
     }
 
     private static Stream<Arguments> testPollEnergyData_retriesOnError() {
@@ -366,6 +406,10 @@ class PollingServiceTest {
         );
     }
 
+    private static Mono<EnergyResponse> energyResponse(GetEnergyResponseModelApiDataResponse payload) {
+        return Mono.just(new EnergyResponse(payload, null));
+    }
+
     private GetEnergyResponseModelApiDataResponse createSampleGetEnergyResponseModels() {
         var now = ZonedDateTime.now(ZoneOffset.UTC);
         var total = new Total(5.0, Unit.KWH, ValidationState.READ, null);
@@ -12,10 +12,13 @@ import energy.eddie.regionconnector.cds.persistence.CdsPermissionEventRepository
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.services.data.needs.DataNeedCalculationServiceImpl;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.function.Supplier;
 
@@ -28,8 +31,24 @@ public class CdsBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, CdsPermissionEventRepository repository) {
-        return new Outbox(eventBus, repository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "cds",
+                                               "permission_request",
+                                               "permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            CdsPermissionEventRepository repository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, repository, permissionRequestProjection);
     }
 
     @Bean
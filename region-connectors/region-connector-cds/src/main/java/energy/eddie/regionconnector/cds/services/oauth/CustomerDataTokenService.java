@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.cds.services.oauth;
@@ -10,53 +10,76 @@ import energy.eddie.regionconnector.cds.persistence.OAuthCredentialsRepository;
 import energy.eddie.regionconnector.cds.services.oauth.token.CredentialsWithRefreshToken;
 import energy.eddie.regionconnector.cds.services.oauth.token.CredentialsWithoutRefreshToken;
 import energy.eddie.regionconnector.cds.services.oauth.token.InvalidTokenResult;
+import energy.eddie.regionconnector.shared.oauth.ExpiringToken;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import static energy.eddie.regionconnector.cds.CdsRegionConnectorMetadata.REGION_CONNECTOR_ID;
+
 @Service
-public class CustomerDataTokenService {
+public class CustomerDataTokenService implements ApplicationContextAware {
     private final OAuthService oAuthService;
     private final OAuthCredentialsRepository repository;
+    /**
+     * Refreshes of the credentials of the same permission request share a single token request, so that a refresh
+     * token is not used twice, if the CDS server rotates refresh tokens.
+     * The stored credentials stay the source of truth, they are refreshed once they expired.
+     */
+    private final SingleFlightTokenCache<String, OAuthCredentials> refreshedCredentials = new SingleFlightTokenCache<>(
+            REGION_CONNECTOR_ID,
+            Duration.ZERO,
+            Duration.ZERO
+    );
 
     public CustomerDataTokenService(OAuthService oAuthService, OAuthCredentialsRepository repository) {
         this.oAuthService = oAuthService;
         this.repository = repository;
     }
 
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        refreshedCredentials.setApplicationContext(applicationContext);
+    }
+
     public Mono<OAuthCredentials> getOAuthCredentialsAsync(
             String permissionId,
             CustomerDataClientCredentials credentials
     ) {
-        return Mono.create(sink -> {
-            try {
-                sink.success(getOAuthCredentials(permissionId, credentials));
-            } catch (NoTokenException e) {
-                sink.error(e);
+        return Mono.defer(() -> {
+            var stored = repository.getOAuthCredentialByPermissionId(permissionId);
+            if (stored.isValid()) {
+                return Mono.just(stored);
             }
+            return refreshedCredentials.token(
+                    permissionId,
+                    () -> Mono.fromCallable(() -> refreshOAuthCredentials(stored, credentials))
+                              .subscribeOn(Schedulers.boundedElastic())
+            );
         });
     }
 
-    private OAuthCredentials getOAuthCredentials(
-            String permissionId,
+    private ExpiringToken<OAuthCredentials> refreshOAuthCredentials(
+            OAuthCredentials credentials,
             CustomerDataClientCredentials customerDataClientCredentials
     ) throws NoTokenException {
-        var credentials = repository.getOAuthCredentialByPermissionId(permissionId);
-        if (credentials.isValid()) {
-            return credentials;
-        }
-
         var res = switch (oAuthService.retrieveAccessToken(credentials,
                                                            customerDataClientCredentials.clientId(),
                                                            customerDataClientCredentials.clientSecret(),
                                                            customerDataClientCredentials.tokenEndpoint())) {
             case CredentialsWithRefreshToken(String accessToken, String refreshToken, ZonedDateTime expiresAt) ->
-                    credentials.updateAllTokens(refreshToken, accessToken, expiresAt);
+                    new ExpiringToken<>(credentials.updateAllTokens(refreshToken, accessToken, expiresAt),
+                                        expiresAt.toInstant());
             case CredentialsWithoutRefreshToken(String accessToken, ZonedDateTime expiresAt) ->
-                    credentials.updateAccessToken(accessToken, expiresAt);
+                    new ExpiringToken<>(credentials.updateAccessToken(accessToken, expiresAt), expiresAt.toInstant());
             case InvalidTokenResult ignored -> throw new NoTokenException();
         };
-        return repository.save(res);
+        return new ExpiringToken<>(repository.save(res.token()), res.expiresAt());
     }
 }
@@ -9,15 +9,22 @@ import energy.eddie.regionconnector.cds.permission.events.SentToPaEvent;
 import energy.eddie.regionconnector.cds.permission.events.SimpleEvent;
 import energy.eddie.regionconnector.cds.permission.requests.CdsPermissionRequest;
 import energy.eddie.regionconnector.cds.permission.requests.OAuthRequestType;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
@@ -36,25 +43,38 @@ class CdsPermissionRequestRepositoryTest {
     private CdsPermissionRequestRepository repository;
     @Autowired
     private CdsPermissionEventRepository eventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+
 
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "cds",
+                                                         "permission_request",
+                                                         "permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), eventRepository, projection);
+    }
 
     @Test
     void testFindTimedOutPermissionRequests_findTimedOutPermissionRequests() {
         // Given
         var now = ZonedDateTime.now(ZoneOffset.UTC);
-        eventRepository.saveAndFlush(new CreatedEvent("pid",
-                                                      "cid",
-                                                      "dnid",
-                                                      1,
-                                                      now.minusHours(25)));
-        eventRepository.saveAndFlush(new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
-        eventRepository.saveAndFlush(new CreatedEvent("otherPid",
-                                                      "cid",
-                                                      "dnid",
-                                                      1,
-                                                      now));
-        eventRepository.saveAndFlush(new SimpleEvent("otherPid",
-                                                     PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+        outbox.commit(new CreatedEvent("pid",
+                                       "cid",
+                                       "dnid",
+                                       1,
+                                       now.minusHours(25)));
+        outbox.commit(new SimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+        outbox.commit(new CreatedEvent("otherPid",
+                                       "cid",
+                                       "dnid",
+                                       1,
+                                       now));
+        outbox.commit(new SimpleEvent("otherPid",
+                                      PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
 
 
         // When
@@ -71,15 +91,15 @@ class CdsPermissionRequestRepositoryTest {
     void testFindTimedOutPermissionRequests_wherePushedAuthorizationRequestTimedOut() {
         // Given
         var now = ZonedDateTime.now(ZoneOffset.UTC);
-        eventRepository.saveAndFlush(new CreatedEvent("pid",
-                                                      "cid",
-                                                      "dnid",
-                                                      1,
-                                                      now));
-        eventRepository.saveAndFlush(new SentToPaEvent("pid",
-                                                       now.minusHours(1),
-                                                       "",
-                                                       OAuthRequestType.PUSHED_AUTHORIZATION_REQUEST));
+        outbox.commit(new CreatedEvent("pid",
+                                       "cid",
+                                       "dnid",
+                                       1,
+                                       now));
+        outbox.commit(new SentToPaEvent("pid",
+                                        now.minusHours(1),
+                                        "",
+                                        OAuthRequestType.PUSHED_AUTHORIZATION_REQUEST));
 
 
         // When
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2025-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.cds.services.oauth;
@@ -22,6 +22,8 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -103,6 +105,35 @@ class CustomerDataTokenServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void testGetOAuthCredentialsAsync_withConcurrentCallsAndInvalidToken_refreshesTokenOnce() {
+        // Given
+        var now = ZonedDateTime.now(ZoneOffset.UTC);
+        var tomorrow = now.plusDays(1);
+        var yesterday = now.minusDays(1);
+        var oldCreds = new OAuthCredentials("pid", "refreshToken", "accessToken", yesterday);
+        var newCreds = new OAuthCredentials("pid", "newRefreshToken", "newAccessToken", tomorrow);
+        when(repository.getOAuthCredentialByPermissionId("pid"))
+                .thenAnswer(invocation -> new OAuthCredentials("pid", "refreshToken", "accessToken", yesterday));
+        when(repository.save(newCreds)).thenReturn(newCreds);
+        var creds = new CustomerDataClientCredentials("client-id", "client-secret", tokenEndpoint);
+        when(oAuthService.retrieveAccessToken(oldCreds, "client-id", "client-secret", tokenEndpoint))
+                .thenReturn(new CredentialsWithRefreshToken("newAccessToken", "newRefreshToken", tomorrow));
+
+        // When
+        var res = service.getOAuthCredentialsAsync("pid", creds)
+                         .zipWith(service.getOAuthCredentialsAsync("pid", creds));
+
+        // Then
+        StepVerifier.create(res)
+                    .assertNext(tokens -> {
+                        assertEquals(newCreds, tokens.getT1());
+                        assertEquals(newCreds, tokens.getT2());
+                    })
+                    .verifyComplete();
+        verify(oAuthService).retrieveAccessToken(any(), any(), any(), any());
+    }
+
     @Test
     void testGetOAuthCredentialsAsync_withInvalidToken_throwsNoTokenException() {
         // Given
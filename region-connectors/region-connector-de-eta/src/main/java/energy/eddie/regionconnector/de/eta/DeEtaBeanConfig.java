@@ -20,6 +20,7 @@ import energy.eddie.regionconnector.shared.cim.v0_82.TransmissionScheduleProvide
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
@@ -28,7 +29,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import tools.jackson.databind.ObjectMapper;
 
 import java.util.function.Supplier;
@@ -48,8 +51,24 @@ public class DeEtaBeanConfig {
     }
 
     @Bean
-    public Outbox deEtaOutbox(EventBus eventBus, DePermissionEventRepository eventRepository) {
-        return new Outbox(eventBus, eventRepository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "de_eta",
+                                               "eta_permission_request",
+                                               "eta_permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox deEtaOutbox(
+            EventBus eventBus,
+            DePermissionEventRepository eventRepository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, eventRepository, permissionRequestProjection);
     }
 
     @Bean
@@ -0,0 +1,16 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* The permission requests are kept in a table, which is updated whenever a permission event is committed.
+   The view that aggregates the permission events is kept to rebuild and verify the table. */
+ALTER VIEW de_eta.eta_permission_request RENAME TO eta_permission_request_from_events;
+
+CREATE TABLE de_eta.eta_permission_request AS
+SELECT *
+FROM de_eta.eta_permission_request_from_events;
+
+ALTER TABLE de_eta.eta_permission_request
+    ADD PRIMARY KEY (permission_id);
+
+CREATE INDEX IF NOT EXISTS eta_permission_request_status_created_idx
+    ON de_eta.eta_permission_request (status, created);
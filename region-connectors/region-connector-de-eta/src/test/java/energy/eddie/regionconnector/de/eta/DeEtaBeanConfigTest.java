@@ -19,7 +19,9 @@ import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import tools.jackson.databind.ObjectMapper;
 
@@ -48,6 +50,8 @@ class DeEtaBeanConfigTest {
                 .withBean(ObjectMapper.class, ObjectMapper::new)
                 .withBean(PollingService.class, () -> mock(PollingService.class))
                 .withBean(TaskScheduler.class, () -> mock(TaskScheduler.class))
+                .withBean(JdbcTemplate.class, () -> mock(JdbcTemplate.class))
+                .withBean(TransactionTemplate.class, () -> mock(TransactionTemplate.class))
                 .withPropertyValues(
                         "region-connector.de.eta.eligible-party-id=test-eligible-party-id",
                         "region-connector.de.eta.api-base-url=https://test-url.de",
@@ -24,8 +24,11 @@ import energy.eddie.regionconnector.shared.agnostic.JsonRawDataProvider;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
+import energy.eddie.regionconnector.shared.ratelimit.AdaptiveRateLimiter;
+import energy.eddie.regionconnector.shared.ratelimit.RateLimit;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
 import energy.eddie.regionconnector.shared.services.FulfillmentService;
 import energy.eddie.regionconnector.shared.services.MeterReadingPermissionUpdateAndFulfillmentService;
@@ -34,9 +37,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import tools.jackson.databind.ObjectMapper;
 
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static energy.eddie.regionconnector.dk.energinet.EnerginetRegionConnectorMetadata.DK_ZONE_ID;
@@ -77,8 +83,24 @@ public class EnerginetBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, DkPermissionEventRepository repository) {
-        return new Outbox(eventBus, repository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "dk_energinet",
+                                               "energinet_permission_request",
+                                               "energinet_permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            DkPermissionEventRepository repository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, repository, permissionRequestProjection);
     }
 
     @Bean
@@ -147,6 +169,17 @@ public class EnerginetBeanConfig {
         );
     }
 
+    @Bean
+    public AdaptiveRateLimiter rateLimiter(
+            @Value("${region-connector.dk.energinet.rate-limit.requests-per-second:2}") double requestsPerSecond,
+            @Value("${region-connector.dk.energinet.rate-limit.burst:10}") int burst,
+            @Value("${region-connector.dk.energinet.rate-limit.max-concurrency:4}") int maxConcurrency,
+            @Value("${region-connector.dk.energinet.rate-limit.throttling-statuses:429}") Set<Integer> throttlingStatuses
+    ) {
+        return new AdaptiveRateLimiter(REGION_CONNECTOR_ID,
+                                       new RateLimit(requestsPerSecond, burst, maxConcurrency, throttlingStatuses));
+    }
+
     @Bean
     Supplier<PermissionEventRepository> permissionEventSupplier(DkPermissionEventRepository repo) {
         return () -> repo;
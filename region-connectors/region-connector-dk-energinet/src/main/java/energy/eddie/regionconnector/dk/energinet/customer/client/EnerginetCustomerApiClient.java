@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2023-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2023-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.dk.energinet.customer.client;
@@ -9,6 +9,7 @@ import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPointDet
 import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPointsRequest;
 import energy.eddie.regionconnector.dk.energinet.customer.model.MyEnergyDataMarketDocumentResponseListApiResponse;
 import energy.eddie.regionconnector.dk.energinet.customer.model.StringApiResponse;
+import energy.eddie.regionconnector.shared.ratelimit.AdaptiveRateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -29,8 +30,13 @@ public class EnerginetCustomerApiClient {
     private final WebClient webClient;
 
     @Autowired
-    public EnerginetCustomerApiClient(EnerginetConfiguration configuration, WebClient.Builder builder) {
+    public EnerginetCustomerApiClient(
+            EnerginetConfiguration configuration,
+            WebClient.Builder builder,
+            AdaptiveRateLimiter rateLimiter
+    ) {
         this.webClient = builder.baseUrl(configuration.customerBasePath())
+                                .filter(rateLimiter)
                                 .apiVersionInserter(ApiVersionInserter.useHeader("api-version"))
                                 .defaultApiVersion("1.0")
                                 .build();
@@ -0,0 +1,65 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.dk.energinet.permission.request;
+
+import energy.eddie.regionconnector.dk.energinet.customer.client.EnerginetCustomerApiClient;
+import energy.eddie.regionconnector.shared.oauth.ExpiringToken;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static energy.eddie.regionconnector.dk.energinet.EnerginetRegionConnectorMetadata.REGION_CONNECTOR_ID;
+
+/**
+ * Caches the access tokens of refresh tokens until shortly before they expire, so that permission requests of the same
+ * customer, which share a refresh token, do not request a new access token for every request to the customer API.
+ * Concurrent requests for the access token of the same refresh token share a single request to the customer API.
+ * Access tokens that are about to expire are refreshed in the background, failed requests are not cached.
+ */
+@Component
+public class AccessTokenCache implements ApplicationContextAware {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessTokenCache.class);
+    /**
+     * Access tokens are refreshed in the background during this duration before they expire.
+     */
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    private final SingleFlightTokenCache<String, String> accessTokens = new SingleFlightTokenCache<>(
+            REGION_CONNECTOR_ID,
+            ApiCredentials.EXPIRATION_MARGIN,
+            REFRESH_AHEAD
+    );
+    private final EnerginetCustomerApiClient customerApi;
+    private final ObjectMapper mapper;
+
+    public AccessTokenCache(EnerginetCustomerApiClient customerApi, ObjectMapper mapper) {
+        this.customerApi = customerApi;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        accessTokens.setApplicationContext(applicationContext);
+    }
+
+    public Mono<String> accessToken(String refreshToken) {
+        return accessTokens.token(refreshToken, () -> customerApi.accessToken(refreshToken).map(this::withExpiration));
+    }
+
+    private ExpiringToken<String> withExpiration(String accessToken) {
+        try {
+            return new ExpiringToken<>(accessToken, ApiCredentials.expiration(accessToken, mapper));
+        } catch (ApiCredentials.CredentialsException e) {
+            LOGGER.warn("Could not read the expiration of an access token, it will not be cached", e);
+            return new ExpiringToken<>(accessToken, Instant.now());
+        }
+    }
+}
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.dk.energinet.permission.request;
@@ -11,18 +11,21 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 public final class ApiCredentials {
+    /**
+     * Access tokens that expire within this margin are not used anymore, so that they do not expire during a request.
+     */
+    static final Duration EXPIRATION_MARGIN = Duration.ofMinutes(5);
     private static final TypeReference<HashMap<String, Object>> TYPE_REF = new TypeReference<>() {
     };
-    private final EnerginetCustomerApiClient customerApi;
+    private final Function<String, Mono<String>> accessTokenProvider;
     private final String refreshToken;
     private final ObjectMapper mapper;
     @Nullable
@@ -34,7 +37,28 @@ public final class ApiCredentials {
             @Nullable String accessToken,
             ObjectMapper mapper
     ) {
-        this.customerApi = customerApi;
+        this(customerApi::accessToken, refreshToken, accessToken, mapper);
+    }
+
+    /**
+     * Uses the cached access token of the refresh token, if the given access token is expired.
+     */
+    public ApiCredentials(
+            AccessTokenCache accessTokenCache,
+            String refreshToken,
+            @Nullable String accessToken,
+            ObjectMapper mapper
+    ) {
+        this(accessTokenCache::accessToken, refreshToken, accessToken, mapper);
+    }
+
+    private ApiCredentials(
+            Function<String, Mono<String>> accessTokenProvider,
+            String refreshToken,
+            @Nullable String accessToken,
+            ObjectMapper mapper
+    ) {
+        this.accessTokenProvider = accessTokenProvider;
         this.refreshToken = refreshToken;
         this.accessToken = accessToken;
         this.mapper = mapper;
@@ -44,34 +68,49 @@ public final class ApiCredentials {
         if (accessToken != null && isAccessTokenValid()) {
             return Mono.just(accessToken);
         }
-        return customerApi.accessToken(refreshToken)
-                          .mapNotNull(token -> this.accessToken = token);
+        return accessTokenProvider.apply(refreshToken)
+                                  .mapNotNull(token -> this.accessToken = token);
     }
 
-    private boolean isAccessTokenValid() {
-        var payload = decode();
+    /**
+     * Reads the expiration time of an access token.
+     *
+     * @throws CredentialsException if the access token is not a JWT with a numeric expiration time
+     */
+    static Instant expiration(String accessToken, ObjectMapper mapper) {
+        var payload = decode(accessToken, mapper);
         Object exp = payload.get("exp");
         if (exp == null) {
             throw new CredentialsException("No expiration found");
         }
-        if (!(exp instanceof Integer timestamp)) {
+        if (!(exp instanceof Integer || exp instanceof Long)) {
             throw new CredentialsException("Expiration timestamp is of wrong type: " + exp.getClass());
         }
-        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(timestamp), ZoneId.of("Europe/Paris"))
-                            .isAfter(ZonedDateTime.now(ZoneOffset.UTC));
+        return Instant.ofEpochSecond(((Number) exp).longValue());
     }
 
-    private Map<String, Object> decode() {
+    private boolean isAccessTokenValid() {
         if (accessToken == null) {
             throw new NullPointerException("AccessToken is null.");
         }
+        try {
+            return expiration(accessToken, mapper).minus(EXPIRATION_MARGIN).isAfter(Instant.now());
+        } catch (CredentialsException e) {
+            accessToken = null;
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> decode(String accessToken, ObjectMapper mapper) {
         String[] chunks = accessToken.split("\\.", -1);
+        if (chunks.length < 2) {
+            throw new CredentialsException("Access token is not a JWT.");
+        }
         Base64.Decoder decoder = Base64.getUrlDecoder();
         String payload = new String(decoder.decode(chunks[1]), StandardCharsets.UTF_8);
         try {
             return mapper.readValue(payload, TYPE_REF);
         } catch (JacksonException e) {
-            accessToken = null;
             throw new CredentialsException("Could not parse token.", e);
         }
     }
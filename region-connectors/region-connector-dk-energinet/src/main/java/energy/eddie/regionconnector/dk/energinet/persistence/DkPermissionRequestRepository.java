@@ -3,11 +3,12 @@
 
 package energy.eddie.regionconnector.dk.energinet.persistence;
 
+import energy.eddie.api.agnostic.process.model.persistence.PagedStatusPermissionRequestRepository;
 import energy.eddie.api.agnostic.process.model.persistence.PermissionRequestRepository;
-import energy.eddie.api.agnostic.process.model.persistence.StatusPermissionRequestRepository;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.dk.energinet.permission.request.EnerginetPermissionRequest;
 import energy.eddie.regionconnector.dk.energinet.permission.request.api.DkEnerginetPermissionRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,7 +17,21 @@ import java.util.List;
 public interface DkPermissionRequestRepository
         extends PermissionRequestRepository<DkEnerginetPermissionRequest>,
         org.springframework.data.repository.Repository<EnerginetPermissionRequest, String>,
-        StatusPermissionRequestRepository<DkEnerginetPermissionRequest> {
+        PagedStatusPermissionRequestRepository<DkEnerginetPermissionRequest> {
     List<DkEnerginetPermissionRequest> findAllByStatus(PermissionProcessStatus status);
 
+    List<DkEnerginetPermissionRequest> findByStatusAndPermissionIdGreaterThanOrderByPermissionIdAsc(
+            PermissionProcessStatus status,
+            String permissionId,
+            Limit limit
+    );
+
+    @Override
+    default List<DkEnerginetPermissionRequest> findPageByStatus(
+            PermissionProcessStatus status,
+            String afterPermissionId,
+            int limit
+    ) {
+        return findByStatusAndPermissionIdGreaterThanOrderByPermissionIdAsc(status, afterPermissionId, Limit.of(limit));
+    }
 }
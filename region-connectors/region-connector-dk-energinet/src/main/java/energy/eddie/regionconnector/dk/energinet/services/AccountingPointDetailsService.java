@@ -9,6 +9,7 @@ import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPoints;
 import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPointsRequest;
 import energy.eddie.regionconnector.dk.energinet.filter.MeteringDetailsApiResponseFilter;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkSimpleEvent;
+import energy.eddie.regionconnector.dk.energinet.permission.request.AccessTokenCache;
 import energy.eddie.regionconnector.dk.energinet.permission.request.ApiCredentials;
 import energy.eddie.regionconnector.dk.energinet.permission.request.api.DkEnerginetPermissionRequest;
 import energy.eddie.regionconnector.dk.energinet.providers.EnergyDataStreams;
@@ -36,6 +37,7 @@ public class AccountingPointDetailsService {
     private final Outbox outbox;
     private final ApiExceptionService apiExceptionService;
     private final EnergyDataStreams streams;
+    private final AccessTokenCache accessTokenCache;
 
 
     public AccountingPointDetailsService(
@@ -43,13 +45,15 @@ public class AccountingPointDetailsService {
             ObjectMapper objectMapper,
             Outbox outbox,
             ApiExceptionService apiExceptionService,
-            EnergyDataStreams streams
+            EnergyDataStreams streams,
+            AccessTokenCache accessTokenCache
     ) {
         this.energinetCustomerApi = energinetCustomerApi;
         this.objectMapper = objectMapper;
         this.outbox = outbox;
         this.apiExceptionService = apiExceptionService;
         this.streams = streams;
+        this.accessTokenCache = accessTokenCache;
     }
 
 
@@ -60,7 +64,7 @@ public class AccountingPointDetailsService {
 
 
         ApiCredentials apiCredentials = new ApiCredentials(
-                energinetCustomerApi,
+                accessTokenCache,
                 permissionRequest.refreshToken(),
                 permissionRequest.accessToken(),
                 objectMapper
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.dk.energinet.services;
@@ -11,12 +11,14 @@ import energy.eddie.regionconnector.dk.energinet.customer.client.EnerginetCustom
 import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPointDetailsCustomerDto;
 import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPoints;
 import energy.eddie.regionconnector.dk.energinet.customer.model.MeteringPointsRequest;
+import energy.eddie.regionconnector.dk.energinet.customer.model.MyEnergyDataMarketDocumentResponse;
 import energy.eddie.regionconnector.dk.energinet.customer.model.MyEnergyDataMarketDocumentResponseListApiResponse;
 import energy.eddie.regionconnector.dk.energinet.filter.EnerginetResolution;
 import energy.eddie.regionconnector.dk.energinet.filter.IdentifiableApiResponseFilter;
 import energy.eddie.regionconnector.dk.energinet.filter.MeteringDetailsApiResponseFilter;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkInternalGranularityEvent;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkUnfulfillableEvent;
+import energy.eddie.regionconnector.dk.energinet.permission.request.AccessTokenCache;
 import energy.eddie.regionconnector.dk.energinet.permission.request.ApiCredentials;
 import energy.eddie.regionconnector.dk.energinet.permission.request.api.DkEnerginetPermissionRequest;
 import energy.eddie.regionconnector.dk.energinet.providers.EnergyDataStreams;
@@ -30,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
@@ -37,6 +40,9 @@ import tools.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 
 import static energy.eddie.regionconnector.dk.energinet.EnerginetRegionConnectorMetadata.DK_ZONE_ID;
@@ -46,6 +52,10 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
     public static final RetryBackoffSpec RETRY_BACKOFF_SPEC = Retry.backoff(10, Duration.ofMinutes(1))
                                                                    .filter(error -> error instanceof WebClientResponseException.TooManyRequests || error instanceof WebClientResponseException.ServiceUnavailable);
     public static final int REQUESTED_AGGREGATION_UNAVAILABLE = 30008; // from Eloverblik API documentation
+    /**
+     * The maximum number of metering points requested at once, limits the size of a single response.
+     */
+    public static final int MAX_METERING_POINTS_PER_REQUEST = 10;
     private static final Logger LOGGER = LoggerFactory.getLogger(PollingService.class);
     private final IdentifiableApiResponseFilter identifiableApiResponseFilter = new IdentifiableApiResponseFilter();
     private final MeteringDetailsApiResponseFilter meteringDetailsApiResponseFilter = new MeteringDetailsApiResponseFilter();
@@ -56,6 +66,7 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
     private final DataNeedsService dataNeedsService;
     private final ApiExceptionService apiExceptionService;
     private final EnergyDataStreams energyDataStreams;
+    private final AccessTokenCache accessTokenCache;
 
 
     public PollingService(
@@ -66,7 +77,8 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
             @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
             DataNeedsService dataNeedsService,
             ApiExceptionService apiExceptionService,
-            EnergyDataStreams energyDataStreams
+            EnergyDataStreams energyDataStreams,
+            AccessTokenCache accessTokenCache
     ) {
         this.energinetCustomerApi = energinetCustomerApi;
         this.meterReadingPermissionUpdateAndFulfillmentService = meterReadingPermissionUpdateAndFulfillmentService;
@@ -75,6 +87,7 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
         this.apiExceptionService = apiExceptionService;
         this.energyDataStreams = energyDataStreams;
         this.outbox = outbox;
+        this.accessTokenCache = accessTokenCache;
     }
 
     /**
@@ -97,6 +110,46 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
         fetch(activePermission, today);
     }
 
+    /**
+     * Polls the permission requests of the same customer, which share a refresh token, and the same granularity and
+     * time frame with a single request per {@value MAX_METERING_POINTS_PER_REQUEST} metering points.
+     * The response is split by metering point and each permission request is updated with its own time series.
+     * Permission requests without a granularity are polled separately, since the granularity has to be determined from
+     * the metering point details first.
+     *
+     * @param activePermissions the permission requests, whose data should be polled
+     */
+    @Override
+    public void pollAllTimeSeriesData(List<DkEnerginetPermissionRequest> activePermissions) {
+        var today = LocalDate.now(DK_ZONE_ID);
+        var batches = new LinkedHashMap<BatchKey, List<DkEnerginetPermissionRequest>>();
+        for (var permissionRequest : activePermissions) {
+            var granularity = permissionRequest.granularity();
+            if (granularity == null) {
+                fetch(permissionRequest, today);
+                continue;
+            }
+            var key = new BatchKey(permissionRequest.refreshToken(),
+                                   granularity,
+                                   dateFrom(permissionRequest),
+                                   dateTo(permissionRequest, today));
+            batches.computeIfAbsent(key, ignored -> new ArrayList<>()).add(permissionRequest);
+        }
+        batches.forEach((key, permissionRequests) -> {
+            for (var i = 0; i < permissionRequests.size(); i += MAX_METERING_POINTS_PER_REQUEST) {
+                var batch = permissionRequests.subList(
+                        i,
+                        Math.min(i + MAX_METERING_POINTS_PER_REQUEST, permissionRequests.size())
+                );
+                if (batch.size() == 1) {
+                    fetch(batch.getFirst(), key.dateFrom(), key.dateTo()).subscribe();
+                } else {
+                    fetch(key, List.copyOf(batch)).subscribe();
+                }
+            }
+        });
+    }
+
     @Override
     public boolean isActiveAndNeedsToBeFetched(DkEnerginetPermissionRequest permissionRequest) {
         var today = LocalDate.now(DK_ZONE_ID);
@@ -119,15 +172,93 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
         return fetch(permissionRequest, from, to);
     }
 
+    private static LocalDate dateFrom(DkEnerginetPermissionRequest permissionRequest) {
+        return permissionRequest.latestMeterReadingEndDate().orElse(permissionRequest.start());
+    }
+
+    private static LocalDate dateTo(DkEnerginetPermissionRequest permissionRequest, LocalDate today) {
+        return Optional.of(permissionRequest.end())
+                       .filter(d -> d.isBefore(today))
+                       // The Energinet API is inclusive on the start date and exclusive on the end date,
+                       // so we need to add one day if the end date is before today
+                       .map(d -> d.plusDays(1))
+                       .orElse(today);
+    }
+
     private void fetch(DkEnerginetPermissionRequest permissionRequest, LocalDate today) {
-        var dateFrom = permissionRequest.latestMeterReadingEndDate().orElse(permissionRequest.start());
-        var dateTo = Optional.of(permissionRequest.end())
-                             .filter(d -> d.isBefore(today))
-                             // The Energinet API is inclusive on the start date and exclusive on the end date,
-                             // so we need to add one day if the end date is before today
-                             .map(d -> d.plusDays(1))
-                             .orElse(today);
-        fetch(permissionRequest, dateFrom, dateTo).subscribe();
+        fetch(permissionRequest, dateFrom(permissionRequest), dateTo(permissionRequest, today)).subscribe();
+    }
+
+    private Flux<IdentifiableApiResponse> fetch(BatchKey batch, List<DkEnerginetPermissionRequest> permissionRequests) {
+        var meteringPoints = new MeteringPoints();
+        permissionRequests.stream()
+                          .map(DkEnerginetPermissionRequest::meteringPoint)
+                          .distinct()
+                          .forEach(meteringPoints::addMeteringPointItem);
+        var meteringPointsRequest = new MeteringPointsRequest().meteringPoints(meteringPoints);
+        var credentials = new ApiCredentials(
+                accessTokenCache,
+                batch.refreshToken(),
+                permissionRequests.getFirst().accessToken(),
+                objectMapper
+        );
+
+        LOGGER.info("Fetching metering data from Energinet for {} permission requests from {} to {}",
+                    permissionRequests.size(),
+                    batch.dateFrom(),
+                    batch.dateTo());
+        return Mono.defer(credentials::accessToken)
+                   .flatMap(token -> energinetCustomerApi.getTimeSeries(
+                           batch.dateFrom(),
+                           batch.dateTo(),
+                           batch.granularity(),
+                           meteringPointsRequest,
+                           token
+                   ))
+                   .retryWhen(RETRY_BACKOFF_SPEC)
+                   .mapNotNull(MyEnergyDataMarketDocumentResponseListApiResponse::getResult)
+                   .doOnError(error -> permissionRequests.forEach(
+                           permissionRequest -> apiExceptionService.handleError(permissionRequest.permissionId(), error)
+                   ))
+                   .onErrorComplete()
+                   .flatMapMany(responses -> Flux.fromIterable(permissionRequests)
+                                                 .concatMap(permissionRequest -> handleBatchResponse(
+                                                         permissionRequest,
+                                                         batch,
+                                                         responses
+                                                 )));
+    }
+
+    /**
+     * Picks the time series of the metering point of the permission request from the response of a batch.
+     */
+    private Mono<IdentifiableApiResponse> handleBatchResponse(
+            DkEnerginetPermissionRequest permissionRequest,
+            BatchKey batch,
+            List<MyEnergyDataMarketDocumentResponse> responses
+    ) {
+        var meteringPoint = permissionRequest.meteringPoint();
+        var ownResponses = responses.stream()
+                                    .filter(response -> meteringPoint.equals(response.getId()))
+                                    .toList();
+        var permissionId = permissionRequest.permissionId();
+        if (ownResponses.isEmpty()) {
+            LOGGER.warn("No metering data present for metering point of permission request {} from {} to {}",
+                        permissionId,
+                        batch.dateFrom(),
+                        batch.dateTo());
+            return Mono.empty();
+        }
+        return identifiableApiResponseFilter.filter(permissionRequest, batch.dateFrom(), batch.dateTo(), ownResponses)
+                                            .doOnError(error -> apiExceptionService.handleError(permissionId, error))
+                                            .onErrorComplete()
+                                            .doOnNext(identifiableApiResponse -> handleIdentifiableApiResponse(
+                                                    permissionRequest,
+                                                    identifiableApiResponse,
+                                                    permissionId,
+                                                    batch.dateFrom(),
+                                                    batch.dateTo()
+                                            ));
     }
 
     private Mono<IdentifiableApiResponse> fetch(
@@ -145,7 +276,7 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
                     dateFrom,
                     dateTo);
         return new ApiCredentials(
-                energinetCustomerApi,
+                accessTokenCache,
                 permissionRequest.refreshToken(),
                 permissionRequest.accessToken(),
                 objectMapper
@@ -281,4 +412,7 @@ public class PollingService implements CommonPollingService<DkEnerginetPermissio
 
     private record TokenGranularityPair(String token, Granularity granularity) {
     }
+
+    private record BatchKey(String refreshToken, Granularity granularity, LocalDate dateFrom, LocalDate dateTo) {
+    }
 }
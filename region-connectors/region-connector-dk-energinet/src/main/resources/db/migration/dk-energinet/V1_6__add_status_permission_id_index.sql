@@ -0,0 +1,6 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* Used to read the permission requests with a status in pages ordered by their permission ID. */
+CREATE INDEX IF NOT EXISTS energinet_permission_request_status_permission_id_idx
+    ON dk_energinet.energinet_permission_request (status, permission_id);
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2023-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2023-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.dk.energinet.customer.client;
@@ -6,6 +6,8 @@ package energy.eddie.regionconnector.dk.energinet.customer.client;
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.regionconnector.dk.energinet.config.EnerginetConfiguration;
 import energy.eddie.regionconnector.dk.energinet.customer.model.*;
+import energy.eddie.regionconnector.shared.ratelimit.AdaptiveRateLimiter;
+import energy.eddie.regionconnector.shared.ratelimit.RateLimit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class EnerginetCustomerApiClientTest {
     private static final int MAX_PERIOD = 730;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter("test", new RateLimit(100, 100, 10));
     private MockWebServer mockServer;
 
     @BeforeEach
@@ -66,7 +69,7 @@ class EnerginetCustomerApiClientTest {
     void getTimeSeries_invalidTimeFrame_throws(LocalDate start, LocalDate end) {
         // Given
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
-        var client = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var client = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
         String token = "token";
         var meteringPointsRequest = new MeteringPointsRequest();
 
@@ -88,7 +91,7 @@ class EnerginetCustomerApiClientTest {
         var end = LocalDate.now(DK_ZONE_ID).minusDays(1);
         var startExceedsMaxPeriod = end.minusDays(MAX_PERIOD + 1);
         var config = new EnerginetConfiguration("path");
-        var client = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var client = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
         var meteringPointsRequest = new MeteringPointsRequest();
 
         // When
@@ -111,7 +114,7 @@ class EnerginetCustomerApiClientTest {
                                    .setResponseCode(200)
                                    .setHeader("Content-Type", "application/json")
                                    .setBody(Boolean.toString(expected)));
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         Mono<Boolean> result = customerApi.isAlive();
@@ -131,7 +134,7 @@ class EnerginetCustomerApiClientTest {
                                    .setHeader("Content-Type", "application/json")
                                    .setResponseCode(200)
                                    .setBody(objectMapper.writeValueAsString(body)));
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         Mono<String> result = customerApi.accessToken("refreshToken");
@@ -149,7 +152,7 @@ class EnerginetCustomerApiClientTest {
                                    .setHeader("Content-Type", "application/json")
                                    .setResponseCode(HttpStatus.UNAUTHORIZED.value()));
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         Mono<String> result = customerApi.accessToken("refreshToken");
@@ -195,7 +198,7 @@ class EnerginetCustomerApiClientTest {
                                    .setHeader("Content-Type", "application/json")
                                    .setBody(objectMapper.writeValueAsString(data)));
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         var result = customerApi.getTimeSeries(
@@ -225,7 +228,7 @@ class EnerginetCustomerApiClientTest {
                                    .setHeader("Content-Type", "application/json")
                                    .setResponseCode(HttpStatus.UNAUTHORIZED.value()));
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         var result = customerApi.getTimeSeries(
@@ -252,7 +255,7 @@ class EnerginetCustomerApiClientTest {
                                    .setBody(objectMapper.writeValueAsString(document)));
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
 
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         var result = customerApi.getMeteringPointDetails(
@@ -272,7 +275,7 @@ class EnerginetCustomerApiClientTest {
                                    .setHeader("Content-Type", "application/json")
                                    .setResponseCode(HttpStatus.UNAUTHORIZED.value()));
         var config = new EnerginetConfiguration(mockServer.url("/").toString());
-        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder());
+        var customerApi = new EnerginetCustomerApiClient(config, WebClient.builder(), rateLimiter);
 
         // When
         var result = customerApi.getMeteringPointDetails(
@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.dk.energinet.permission.request;
+
+import energy.eddie.regionconnector.dk.energinet.customer.client.EnerginetCustomerApiClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenCacheTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+    @Mock
+    private EnerginetCustomerApiClient customerApi;
+
+    @Test
+    void accessToken_requestsAccessTokenOnce_whileValid() {
+        // Given
+        var accessToken = accessToken(Instant.now().plus(Duration.ofHours(1)));
+        when(customerApi.accessToken("refreshToken")).thenReturn(Mono.just(accessToken));
+        var cache = new AccessTokenCache(customerApi, mapper);
+
+        // When
+        var first = cache.accessToken("refreshToken");
+        var second = cache.accessToken("refreshToken");
+
+        // Then
+        StepVerifier.create(first.concatWith(second))
+                    .expectNext(accessToken, accessToken)
+                    .verifyComplete();
+        verify(customerApi).accessToken("refreshToken");
+    }
+
+    @Test
+    void accessToken_requestsNewAccessToken_ifExpiresSoon() {
+        // Given
+        var accessToken = accessToken(Instant.now().plus(Duration.ofMinutes(1)));
+        when(customerApi.accessToken("refreshToken")).thenReturn(Mono.just(accessToken));
+        var cache = new AccessTokenCache(customerApi, mapper);
+
+        // When
+        var first = cache.accessToken("refreshToken");
+        var second = cache.accessToken("refreshToken");
+
+        // Then
+        StepVerifier.create(first.concatWith(second))
+                    .expectNext(accessToken, accessToken)
+                    .verifyComplete();
+        verify(customerApi, times(2)).accessToken("refreshToken");
+    }
+
+    @Test
+    void accessToken_doesNotCacheErrors() {
+        // Given
+        var accessToken = accessToken(Instant.now().plus(Duration.ofHours(1)));
+        when(customerApi.accessToken("refreshToken"))
+                .thenReturn(Mono.error(new IllegalStateException("Unavailable")))
+                .thenReturn(Mono.just(accessToken));
+        var cache = new AccessTokenCache(customerApi, mapper);
+
+        // When
+        var failed = cache.accessToken("refreshToken");
+
+        // Then
+        StepVerifier.create(failed)
+                    .expectError(IllegalStateException.class)
+                    .verify();
+        StepVerifier.create(cache.accessToken("refreshToken"))
+                    .expectNext(accessToken)
+                    .verifyComplete();
+    }
+
+    private static String accessToken(Instant expiration) {
+        var payload = "{ \"exp\": %d}".formatted(expiration.getEpochSecond());
+        return "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.%s.4Adcj3UFYzPUVaVF43FmMab6RlaQD8A9V8wFzzht-KQ"
+                .formatted(Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
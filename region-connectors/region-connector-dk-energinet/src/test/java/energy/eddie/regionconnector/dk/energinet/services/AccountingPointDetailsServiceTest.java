@@ -8,6 +8,7 @@ import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.dk.energinet.DtoLoader;
 import energy.eddie.regionconnector.dk.energinet.customer.client.EnerginetCustomerApiClient;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkSimpleEvent;
+import energy.eddie.regionconnector.dk.energinet.permission.request.AccessTokenCache;
 import energy.eddie.regionconnector.dk.energinet.permission.request.EnerginetPermissionRequest;
 import energy.eddie.regionconnector.dk.energinet.permission.request.EnerginetPermissionRequestBuilder;
 import energy.eddie.regionconnector.dk.energinet.providers.EnergyDataStreams;
@@ -59,7 +60,8 @@ class AccountingPointDetailsServiceTest {
                 mapper,
                 outbox,
                 new ApiExceptionService(outbox),
-                streams
+                streams,
+                new AccessTokenCache(customerApi, mapper)
         );
     }
 
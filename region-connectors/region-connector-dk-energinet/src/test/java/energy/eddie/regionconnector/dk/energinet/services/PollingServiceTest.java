@@ -16,6 +16,8 @@ import energy.eddie.regionconnector.dk.energinet.customer.model.*;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkInternalGranularityEvent;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkInternalPollingEvent;
 import energy.eddie.regionconnector.dk.energinet.permission.events.DkSimpleEvent;
+import energy.eddie.regionconnector.dk.energinet.permission.request.AccessTokenCache;
+import energy.eddie.regionconnector.dk.energinet.permission.request.EnerginetPermissionRequest;
 import energy.eddie.regionconnector.dk.energinet.permission.request.EnerginetPermissionRequestBuilder;
 import energy.eddie.regionconnector.dk.energinet.providers.EnergyDataStreams;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
@@ -43,6 +45,7 @@ import tools.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -68,6 +71,8 @@ class PollingServiceTest {
     private EnergyDataStreams streams;
     @Captor
     private ArgumentCaptor<DkInternalPollingEvent> pollingEventCaptor;
+    @Captor
+    private ArgumentCaptor<MeteringPointsRequest> meteringPointsCaptor;
     private PollingService pollingService;
 
     @BeforeEach
@@ -85,7 +90,8 @@ class PollingServiceTest {
                 mapper,
                 dataNeedsService,
                 new ApiExceptionService(outbox),
-                streams
+                streams,
+                new AccessTokenCache(customerApi, mapper)
         );
     }
 
@@ -381,6 +387,68 @@ class PollingServiceTest {
         assertEquals(end, res.latestMeterReadingEndDate());
     }
 
+    @Test
+    void pollAllTimeSeriesData_requestsPermissionRequestsOfSameCustomerTogether() {
+        // Given
+        var start = LocalDate.now(DK_ZONE_ID).minusDays(10);
+        var end = start.plusDays(5);
+        var first = permissionRequestForMeteringPoint("mp1", start, end);
+        var second = permissionRequestForMeteringPoint("mp2", start, end);
+        doReturn(Mono.just("token"))
+                .when(customerApi).accessToken(anyString());
+        var data = new MyEnergyDataMarketDocumentResponseListApiResponse()
+                .addResultItem(marketDocumentResponse("mp2", start, end))
+                .addResultItem(marketDocumentResponse("mp1", start, end));
+        when(customerApi.getTimeSeries(eq(start),
+                                       eq(end.plusDays(1)),
+                                       eq(Granularity.PT1H),
+                                       any(),
+                                       eq("token")))
+                .thenReturn(Mono.just(data));
+
+        // When
+        StepVerifier.create(streams.getValidatedHistoricalDataStream())
+                    .then(() -> pollingService.pollAllTimeSeriesData(List.of(first, second)))
+                    .then(() -> streams.close())
+                    // Then
+                    .assertNext(mr -> assertAll(
+                            () -> assertEquals(first.permissionId(), mr.permissionRequest().permissionId()),
+                            () -> assertEquals("mp1", mr.apiResponse().getId())
+                    ))
+                    .assertNext(mr -> assertAll(
+                            () -> assertEquals(second.permissionId(), mr.permissionRequest().permissionId()),
+                            () -> assertEquals("mp2", mr.apiResponse().getId())
+                    ))
+                    .verifyComplete();
+        verify(customerApi).accessToken(anyString());
+        verify(customerApi).getTimeSeries(any(), any(), any(), meteringPointsCaptor.capture(), any());
+        assertEquals(List.of("mp1", "mp2"), meteringPointsCaptor.getValue().getMeteringPoints().getMeteringPoint());
+        verify(outbox, times(2)).commit(any(DkInternalPollingEvent.class));
+    }
+
+    @Test
+    void pollAllTimeSeriesData_revokesAllPermissionRequestsOfBatch_whenTokenInvalid() {
+        // Given
+        var start = LocalDate.now(DK_ZONE_ID).minusDays(10);
+        var end = start.plusDays(5);
+        var first = permissionRequestForMeteringPoint("mp1", start, end);
+        var second = permissionRequestForMeteringPoint("mp2", start, end);
+        WebClientResponseException unauthorized = WebClientResponseException.create(HttpStatus.UNAUTHORIZED.value(),
+                                                                                    "",
+                                                                                    HttpHeaders.EMPTY,
+                                                                                    null,
+                                                                                    null);
+        doReturn(Mono.error(unauthorized))
+                .when(customerApi).accessToken(anyString());
+
+        // When
+        pollingService.pollAllTimeSeriesData(List.of(first, second));
+
+        // Then
+        verify(outbox, times(2)).commit(any());
+        verify(customerApi, never()).getTimeSeries(any(), any(), any(), any(), any());
+    }
+
     @Test
     void fetchingInactivePermissionRequest_doesNotEmit() {
         // Given
@@ -529,4 +597,41 @@ class PollingServiceTest {
                 Arguments.of(Granularity.PT1H, Granularity.P1M, Granularity.P1M, Granularity.P1Y)
         );
     }
+
+    private static EnerginetPermissionRequest permissionRequestForMeteringPoint(
+            String meteringPoint,
+            LocalDate start,
+            LocalDate end
+    ) {
+        return new EnerginetPermissionRequestBuilder().setPermissionId(UUID.randomUUID().toString())
+                                                      .setConnectionId("connId")
+                                                      .setDataNeedId("dataNeedId")
+                                                      .setMeteringPoint(meteringPoint)
+                                                      .setRefreshToken("token")
+                                                      .setStart(start)
+                                                      .setEnd(end)
+                                                      .setGranularity(Granularity.PT1H)
+                                                      .setAccessToken(null)
+                                                      .setStatus(PermissionProcessStatus.ACCEPTED)
+                                                      .setCreated(ZonedDateTime.now(DK_ZONE_ID))
+                                                      .build();
+    }
+
+    private static MyEnergyDataMarketDocumentResponse marketDocumentResponse(
+            String meteringPoint,
+            LocalDate start,
+            LocalDate end
+    ) {
+        return new MyEnergyDataMarketDocumentResponse()
+                .id(meteringPoint)
+                .myEnergyDataMarketDocument(
+                        new MyEnergyDataMarketDocument()
+                                .addTimeSeriesItem(new TimeSeries().addPeriodItem(new Period().resolution(Granularity.PT1H.name())))
+                                .periodTimeInterval(new PeriodtimeInterval()
+                                                            .start(start.atStartOfDay(DK_ZONE_ID)
+                                                                        .format(DateTimeFormatter.ISO_DATE_TIME))
+                                                            .end(end.atStartOfDay(DK_ZONE_ID)
+                                                                    .format(DateTimeFormatter.ISO_DATE_TIME)))
+                );
+    }
 }
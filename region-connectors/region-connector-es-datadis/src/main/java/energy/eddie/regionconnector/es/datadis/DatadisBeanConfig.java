@@ -22,8 +22,10 @@ import energy.eddie.regionconnector.shared.agnostic.JsonRawDataProvider;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
 import energy.eddie.regionconnector.shared.services.FulfillmentService;
 import energy.eddie.regionconnector.shared.services.MeterReadingPermissionUpdateAndFulfillmentService;
@@ -36,13 +38,17 @@ import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomize
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.netty.http.client.HttpClient;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
+import static energy.eddie.regionconnector.es.datadis.DatadisRegionConnectorMetadata.REGION_CONNECTOR_ID;
 import static energy.eddie.regionconnector.es.datadis.DatadisRegionConnectorMetadata.ZONE_ID_SPAIN;
 
 @Configuration
@@ -63,6 +69,11 @@ public class DatadisBeanConfig {
                          .doOnResponseError((httpClientResponse, throwable) -> datadisApiHealthIndicator.down(throwable));
     }
 
+    @Bean
+    public SingleFlightTokenCache<String, String> datadisTokenCache() {
+        return new SingleFlightTokenCache<>(REGION_CONNECTOR_ID, Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
     @Bean
     public FulfillmentService fulfillmentService(Outbox outbox) {
         return new FulfillmentService(outbox, EsSimpleEvent::new);
@@ -85,8 +96,24 @@ public class DatadisBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, EsPermissionEventRepository repository) {
-        return new Outbox(eventBus, repository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "es_datadis",
+                                               "datadis_permission_request",
+                                               "datadis_permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            EsPermissionEventRepository repository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, repository, permissionRequestProjection);
     }
 
     @Bean
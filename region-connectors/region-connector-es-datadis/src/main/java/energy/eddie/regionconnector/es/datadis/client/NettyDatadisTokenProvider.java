@@ -4,7 +4,8 @@
 package energy.eddie.regionconnector.es.datadis.client;
 
 import energy.eddie.regionconnector.es.datadis.config.DatadisConfiguration;
-import jakarta.annotation.Nullable;
+import energy.eddie.regionconnector.shared.oauth.ExpiringToken;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -15,37 +16,37 @@ import tools.jackson.databind.ObjectMapper;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * Logs in at the Datadis API with the configured credentials.
+ * The token is cached until shortly before it expires, concurrent calls share a single login.
+ */
 @Component
 public class NettyDatadisTokenProvider implements DatadisTokenProvider {
     private final DatadisConfiguration config;
     private final HttpClient httpClient;
     private final ObjectMapper mapper;
     private final URI tokenEndpoint;
-    @Nullable
-    private String token;
-    private long expiryTime;
+    private final SingleFlightTokenCache<String, String> tokens;
 
     public NettyDatadisTokenProvider(
             DatadisConfiguration config,
             HttpClient httpClient,
-            ObjectMapper mapper
+            ObjectMapper mapper,
+            SingleFlightTokenCache<String, String> tokens
     ) {
         this.config = config;
         this.httpClient = httpClient;
         this.tokenEndpoint = URI.create(config.basepath()).resolve("nikola-auth/tokens/login");
         this.mapper = mapper;
+        this.tokens = tokens;
     }
 
     @Override
-    public synchronized Mono<String> getToken() {
-        if (token == null || TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) > expiryTime) {
-            return fetchTokenFromServer()
-                    .doOnNext(this::updateTokenAndExpiry);
-        }
-        return Mono.just(token);
+    public Mono<String> getToken() {
+        return tokens.token(config.username(), () -> fetchTokenFromServer().flatMap(this::parseToken));
     }
 
     private Mono<String> fetchTokenFromServer() {
@@ -71,7 +72,7 @@ public class NettyDatadisTokenProvider implements DatadisTokenProvider {
                         }));
     }
 
-    Mono<String> updateTokenAndExpiry(String jwtToken) {
+    private Mono<ExpiringToken<String>> parseToken(String jwtToken) {
         String[] splitToken = jwtToken.split("\\.", -1);
         if (splitToken.length != 3) {
             return Mono.error(new TokenProviderException("Invalid JWT token"));
@@ -82,15 +83,10 @@ public class NettyDatadisTokenProvider implements DatadisTokenProvider {
         JsonNode jsonNode;
         try {
             jsonNode = mapper.readTree(body);
-            token = jwtToken;
-            expiryTime = jsonNode.get("exp").asLong();
-            return Mono.just(token);
+            var expiresAt = Instant.ofEpochSecond(jsonNode.get("exp").asLong());
+            return Mono.just(new ExpiringToken<>(jwtToken, expiresAt));
         } catch (JacksonException e) {
             return Mono.error(new TokenProviderException(e));
         }
     }
-
-    public long getExpiryTime() {
-        return expiryTime;
-    }
 }
@@ -0,0 +1,19 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* The permission requests are kept in a table, which is updated whenever a permission event is committed.
+   The view that aggregates the permission events is kept to rebuild and verify the table. */
+ALTER VIEW es_datadis.datadis_permission_request RENAME TO datadis_permission_request_from_events;
+
+CREATE TABLE es_datadis.datadis_permission_request AS
+SELECT *
+FROM es_datadis.datadis_permission_request_from_events;
+
+ALTER TABLE es_datadis.datadis_permission_request
+    ADD PRIMARY KEY (permission_id);
+
+CREATE INDEX IF NOT EXISTS datadis_permission_request_status_created_idx
+    ON es_datadis.datadis_permission_request (status, created);
+
+CREATE INDEX IF NOT EXISTS permission_event_permission_id_idx
+    ON es_datadis.permission_event (permission_id);
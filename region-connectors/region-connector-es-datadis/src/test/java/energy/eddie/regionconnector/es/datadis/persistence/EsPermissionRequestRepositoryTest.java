@@ -9,17 +9,24 @@ import energy.eddie.regionconnector.es.datadis.CimTestConfiguration;
 import energy.eddie.regionconnector.es.datadis.health.DatadisApiHealthIndicator;
 import energy.eddie.regionconnector.es.datadis.permission.events.EsCreatedEvent;
 import energy.eddie.regionconnector.es.datadis.permission.events.EsSimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -42,6 +49,9 @@ class EsPermissionRequestRepositoryTest {
     private EsPermissionRequestRepository permissionRequestRepository;
     @Autowired
     private EsPermissionEventRepository permissionEventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
     @SuppressWarnings("unused")
     @MockitoBean
     private DatadisApiHealthIndicator healthIndicator;
@@ -50,6 +60,16 @@ class EsPermissionRequestRepositoryTest {
     private DataNeedsService dataNeedsService;
 
 
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "es_datadis",
+                                                         "datadis_permission_request",
+                                                         "datadis_permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
+
     @Test
     void testFindStalePermissionRequests_returnsCorrectPermissionRequests() {
         // Given
@@ -57,12 +77,12 @@ class EsPermissionRequestRepositoryTest {
                 Instant.now(Clock.systemUTC()).minus(25, ChronoUnit.HOURS),
                 ZoneOffset.UTC
         );
-        permissionEventRepository.saveAll(List.of(
+        List.of(
                 new EsCreatedEvent("pid", "cid", "dnid", "nif", "mid", lateClock),
                 new EsSimpleEvent("pid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR),
                 new EsCreatedEvent("otherPid", "cid", "dnid", "nif", "mid"),
                 new EsSimpleEvent("otherPid", PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR)
-        ));
+        ).forEach(outbox::commit);
 
         // When
         var res = permissionRequestRepository.findStalePermissionRequests(24);
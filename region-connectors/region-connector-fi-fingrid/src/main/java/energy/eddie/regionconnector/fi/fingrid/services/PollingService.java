@@ -9,7 +9,10 @@ import energy.eddie.dataneeds.needs.ValidatedHistoricalDataDataNeed;
 import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.regionconnector.fi.fingrid.client.FingridApiClient;
 import energy.eddie.regionconnector.fi.fingrid.client.model.CustomerDataResponse;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeries;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesData;
 import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesResponse;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesTransaction;
 import energy.eddie.regionconnector.fi.fingrid.permission.events.SimpleEvent;
 import energy.eddie.regionconnector.fi.fingrid.permission.request.FingridPermissionRequest;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
@@ -26,6 +29,9 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 @Service
@@ -72,21 +78,18 @@ public class PollingService implements CommonPollingService<FingridPermissionReq
         }
         var permissionId = permissionRequest.permissionId();
         LOGGER.info("Polling validated historical data for permission request {}", permissionId);
-        var start = permissionRequest.start().atStartOfDay(ZoneOffset.UTC);
-        var now = LocalDate.now(ZoneOffset.UTC);
-        var yesterday = now.minusDays(1);
-        var end = permissionRequest.end().isAfter(yesterday) ? yesterday : permissionRequest.end();
         getKnownOrRequestMeterEANs(permissionRequest)
-                .flatMap(meteringPointEAN ->
-                                 api.getTimeSeriesData(
-                                         meteringPointEAN,
-                                         permissionRequest.customerIdentification(),
-                                         permissionRequest.latestMeterReading(meteringPointEAN).orElse(start),
-                                         DateTimeUtils.endOfDay(end, ZoneOffset.UTC),
-                                         granularity.name(),
-                                         null
-                                 )
-                )
+                .flatMap(meteringPointEAN -> {
+                    var window = meterWindow(permissionRequest, meteringPointEAN);
+                    return api.getTimeSeriesData(
+                            meteringPointEAN,
+                            permissionRequest.customerIdentification(),
+                            window.start(),
+                            window.end(),
+                            granularity.name(),
+                            null
+                    );
+                })
                 .collectList()
                 .flatMap(resp -> updateGranularityService.updateGranularity(resp, permissionRequest))
                 .subscribe(
@@ -95,6 +98,28 @@ public class PollingService implements CommonPollingService<FingridPermissionReq
                 );
     }
 
+    /**
+     * Polls the permission requests of the same customer together.
+     * Each metering point is requested only once per granularity, from the earliest to the latest date any of the
+     * permission requests needs.
+     * The response is split by the period of each permission request, so that each permission request is only updated
+     * with the meter readings after its own latest meter reading.
+     *
+     * @param activePermissions the permission requests, whose data should be polled
+     */
+    @Override
+    public void pollAllTimeSeriesData(List<FingridPermissionRequest> activePermissions) {
+        var customers = new LinkedHashMap<String, List<FingridPermissionRequest>>();
+        for (var permissionRequest : activePermissions) {
+            if (isInactive(permissionRequest)) {
+                continue;
+            }
+            customers.computeIfAbsent(permissionRequest.customerIdentification(), ignored -> new ArrayList<>())
+                     .add(permissionRequest);
+        }
+        customers.forEach(this::pollCustomer);
+    }
+
     public Mono<List<TimeSeriesResponse>> forcePoll(
             FingridPermissionRequest permissionRequest,
             ZonedDateTime start,
@@ -135,17 +160,98 @@ public class PollingService implements CommonPollingService<FingridPermissionReq
         return null;
     }
 
+    private void pollCustomer(String customerIdentification, List<FingridPermissionRequest> permissionRequests) {
+        // Permission requests without known metering points share the metering points of the customer
+        var customerMeterEANs = customerMeterEANs(customerIdentification).cache();
+        Flux.fromIterable(permissionRequests)
+            .flatMap(permissionRequest -> getKnownOrRequestMeterEANs(permissionRequest, customerMeterEANs)
+                    .map(meteringPointEAN -> meterWindow(permissionRequest, meteringPointEAN))
+                    .collectList()
+                    .map(windows -> new PermissionWindows(permissionRequest, windows))
+                    .doOnError(error -> handleError(permissionRequest, error))
+                    .onErrorComplete())
+            .collectList()
+            .subscribe(permissionWindows -> pollMeters(customerIdentification, permissionWindows));
+    }
+
+    private void pollMeters(String customerIdentification, List<PermissionWindows> permissionWindows) {
+        var periods = new LinkedHashMap<MeterKey, MeterWindow>();
+        for (var windows : permissionWindows) {
+            var granularity = windows.permissionRequest().granularity();
+            for (var window : windows.meterWindows()) {
+                periods.merge(new MeterKey(window.meteringPointEAN(), granularity), window, MeterWindow::union);
+            }
+        }
+        var responses = new HashMap<MeterKey, Mono<TimeSeriesResponse>>();
+        periods.forEach((key, period) -> {
+            LOGGER.atInfo()
+                  .addArgument(key::meteringPointEAN)
+                  .addArgument(period::start)
+                  .addArgument(period::end)
+                  .log("Polling validated historical data for metering point {} from {} to {}");
+            var response = api.getTimeSeriesData(key.meteringPointEAN(),
+                                                 customerIdentification,
+                                                 period.start(),
+                                                 period.end(),
+                                                 key.granularity().name(),
+                                                 null);
+            // Shared by all permission requests of the metering point, so that it is only requested once
+            responses.put(key, response.cache());
+        });
+        for (var windows : permissionWindows) {
+            var permissionRequest = windows.permissionRequest();
+            var granularity = permissionRequest.granularity();
+            LOGGER.info("Polling validated historical data for permission request {}", permissionRequest.permissionId());
+            Flux.fromIterable(windows.meterWindows())
+                .flatMap(window -> responses.getOrDefault(new MeterKey(window.meteringPointEAN(), granularity),
+                                                          Mono.empty())
+                                            .mapNotNull(window::slice))
+                .collectList()
+                .filter(resp -> !resp.isEmpty())
+                .flatMap(resp -> updateGranularityService.updateGranularity(resp, permissionRequest))
+                .subscribe(
+                        energyDataService.publish(permissionRequest),
+                        error -> handleError(permissionRequest, error)
+                );
+        }
+    }
+
     private Flux<String> getKnownOrRequestMeterEANs(FingridPermissionRequest permissionRequest) {
+        return getKnownOrRequestMeterEANs(permissionRequest,
+                                          customerMeterEANs(permissionRequest.customerIdentification()));
+    }
+
+    private Flux<String> getKnownOrRequestMeterEANs(
+            FingridPermissionRequest permissionRequest,
+            Mono<List<String>> customerMeterEANs
+    ) {
         var meters = permissionRequest.meterEANs();
         return meters.isEmpty()
-                ? api.getCustomerData(permissionRequest.customerIdentification())
-                     .doOnSuccess(ignored -> LOGGER.atInfo()
-                                                   .addArgument(permissionRequest::permissionId)
-                                                   .log("Found new metering points for permission request {}"))
-                     .flatMapIterable(res -> res.customerData().transaction().meteringPointEANs())
+                ? customerMeterEANs.doOnSuccess(ignored -> LOGGER.atInfo()
+                                                                 .addArgument(permissionRequest::permissionId)
+                                                                 .log("Found new metering points for permission request {}"))
+                                   .flatMapIterable(meteringPointEANs -> meteringPointEANs)
                 : Flux.fromIterable(meters);
     }
 
+    private Mono<List<String>> customerMeterEANs(String customerIdentification) {
+        return api.getCustomerData(customerIdentification)
+                  .map(res -> res.customerData().transaction().meteringPointEANs());
+    }
+
+    /**
+     * The period of a metering point that still has to be polled for a permission request, which starts at the latest
+     * meter reading, or the start of the permission request, and ends with yesterday at the latest.
+     */
+    private static MeterWindow meterWindow(FingridPermissionRequest permissionRequest, String meteringPointEAN) {
+        var start = permissionRequest.start().atStartOfDay(ZoneOffset.UTC);
+        var yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        var end = permissionRequest.end().isAfter(yesterday) ? yesterday : permissionRequest.end();
+        return new MeterWindow(meteringPointEAN,
+                               permissionRequest.latestMeterReading(meteringPointEAN).orElse(start),
+                               DateTimeUtils.endOfDay(end, ZoneOffset.UTC));
+    }
+
     private static boolean isInactive(FingridPermissionRequest permissionRequest) {
         var now = LocalDate.now(ZoneOffset.UTC);
         return !permissionRequest.start().isBefore(now);
@@ -159,4 +265,58 @@ public class PollingService implements CommonPollingService<FingridPermissionReq
             outbox.commit(new SimpleEvent(permissionId, PermissionProcessStatus.REVOKED));
         }
     }
+
+    private record MeterKey(String meteringPointEAN, Granularity granularity) {}
+
+    private record PermissionWindows(FingridPermissionRequest permissionRequest, List<MeterWindow> meterWindows) {}
+
+    private record MeterWindow(String meteringPointEAN, ZonedDateTime start, ZonedDateTime end) {
+        private MeterWindow union(MeterWindow other) {
+            return new MeterWindow(meteringPointEAN,
+                                   start.isBefore(other.start) ? start : other.start,
+                                   end.isAfter(other.end) ? end : other.end);
+        }
+
+        /**
+         * Removes the observations outside of this window from a response.
+         * Responses without time series, like empty responses, are returned as they are.
+         *
+         * @return the response, or null if there are no observations in this window
+         */
+        @Nullable
+        private TimeSeriesResponse slice(TimeSeriesResponse response) {
+            var transaction = response.data().transaction();
+            var timeSeries = transaction.timeSeries();
+            if (timeSeries == null) {
+                return response;
+            }
+            var slicedTimeSeries = new ArrayList<TimeSeries>(timeSeries.size());
+            for (var series : timeSeries) {
+                var observations = series.observations()
+                                         .stream()
+                                         .filter(observation -> !observation.start().isBefore(start)
+                                                                && observation.start().isBefore(end))
+                                         .toList();
+                if (observations.size() == series.observations().size()) {
+                    slicedTimeSeries.add(series);
+                } else if (!observations.isEmpty()) {
+                    slicedTimeSeries.add(new TimeSeries(series.meteringPointEAN(),
+                                                        series.resolutionDuration(),
+                                                        series.start().isBefore(start) ? start : series.start(),
+                                                        series.end().isAfter(end) ? end : series.end(),
+                                                        series.productType(),
+                                                        series.unitType(),
+                                                        series.readingType(),
+                                                        observations));
+                }
+            }
+            if (slicedTimeSeries.isEmpty()) {
+                return null;
+            }
+            var slicedTransaction = new TimeSeriesTransaction(transaction.reasonCode(),
+                                                              transaction.eventReasons(),
+                                                              slicedTimeSeries);
+            return new TimeSeriesResponse(new TimeSeriesData(response.data().header(), slicedTransaction));
+        }
+    }
 }
@@ -5,15 +5,22 @@ package energy.eddie.regionconnector.fi.fingrid.persistence;
 
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.fi.fingrid.permission.events.SimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -33,14 +40,27 @@ class FiPermissionRequestRepositoryTest {
     @Autowired
     private FiPermissionEventRepository eventRepository;
     @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+    @Autowired
     private FiPermissionRequestRepository permissionRequestRepository;
 
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "fi_fingrid",
+                                                         "permission_request",
+                                                         "permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), eventRepository, projection);
+    }
+
     @Test
     void testFindStalePermissionRequests_findsCorrectPermissionRequests() {
         // Given
         var clock = Clock.fixed(Instant.now(Clock.systemUTC()).minus(2, ChronoUnit.HOURS), ZoneOffset.UTC);
-        eventRepository.saveAndFlush(new SimpleEvent("pid1", PermissionProcessStatus.VALIDATED, clock));
-        eventRepository.saveAndFlush(new SimpleEvent("pid2", PermissionProcessStatus.VALIDATED));
+        outbox.commit(new SimpleEvent("pid1", PermissionProcessStatus.VALIDATED, clock));
+        outbox.commit(new SimpleEvent("pid2", PermissionProcessStatus.VALIDATED));
 
         // When
         var prs = permissionRequestRepository.findStalePermissionRequests(1);
@@ -8,7 +8,12 @@ import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.regionconnector.fi.fingrid.TestResourceProvider;
 import energy.eddie.regionconnector.fi.fingrid.client.FingridApiClient;
+import energy.eddie.regionconnector.fi.fingrid.client.model.Observation;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeries;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesData;
 import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesResponse;
+import energy.eddie.regionconnector.fi.fingrid.client.model.TimeSeriesTransaction;
+import energy.eddie.regionconnector.fi.fingrid.permission.request.FingridPermissionRequest;
 import energy.eddie.regionconnector.fi.fingrid.permission.request.FingridPermissionRequestBuilder;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import energy.eddie.regionconnector.shared.utils.DateTimeUtils;
@@ -26,9 +31,11 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -292,6 +299,84 @@ class PollingServiceTest {
                 .publish(anyList(), any());
     }
 
+    @Test
+    void pollAllTimeSeriesData_requestsMeteringPointOnce_forPermissionRequestsOfSameCustomer() {
+        // Given
+        var now = LocalDate.now(ZoneOffset.UTC);
+        var yesterday = now.minusDays(1);
+        var firstLatestMeterReading = now.minusDays(5).atStartOfDay(ZoneOffset.UTC);
+        var secondLatestMeterReading = now.minusDays(8).atStartOfDay(ZoneOffset.UTC);
+        var first = createPermissionRequest("pid1", Map.of("mid", firstLatestMeterReading));
+        var second = createPermissionRequest("pid2", Map.of("mid", secondLatestMeterReading));
+        var response = createTimeSeriesResponse(secondLatestMeterReading, DateTimeUtils.endOfDay(yesterday, ZoneOffset.UTC));
+        when(api.getTimeSeriesData("mid",
+                                   "cid",
+                                   secondLatestMeterReading,
+                                   DateTimeUtils.endOfDay(yesterday, ZoneOffset.UTC),
+                                   "PT1H",
+                                   null))
+                .thenReturn(Mono.just(response));
+        when(updateGranularityService.updateGranularity(any(), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        var firstPublished = new ArrayList<List<TimeSeriesResponse>>();
+        var secondPublished = new ArrayList<List<TimeSeriesResponse>>();
+        when(energyDataService.publish(first)).thenReturn(firstPublished::add);
+        when(energyDataService.publish(second)).thenReturn(secondPublished::add);
+
+        // When
+        pollingService.pollAllTimeSeriesData(List.of(first, second));
+
+        // Then
+        verify(api).getTimeSeriesData(any(), any(), any(), any(), any(), any());
+        var firstObservations = observations(firstPublished);
+        assertEquals(5 * 24, firstObservations.size());
+        assertEquals(firstLatestMeterReading, firstObservations.getFirst().start());
+        var secondObservations = observations(secondPublished);
+        assertEquals(8 * 24, secondObservations.size());
+        assertEquals(secondLatestMeterReading, secondObservations.getFirst().start());
+    }
+
+    @Test
+    void pollAllTimeSeriesData_requestsCustomerDataOnce_forPermissionRequestsWithoutMeteringPoints() {
+        // Given
+        var first = createPermissionRequest("pid1", Map.of());
+        var second = createPermissionRequest("pid2", Map.of());
+        var customerData = readCustomerDataFromFile(CUSTOMER_DATA_JSON);
+        when(api.getCustomerData("cid")).thenReturn(Mono.just(customerData));
+        var data = new TimeSeriesResponse(new TimeSeriesData(null, new TimeSeriesTransaction(null, null, null)));
+        when(api.getTimeSeriesData(any(), eq("cid"), any(), any(), eq("PT1H"), eq(null)))
+                .thenReturn(Mono.just(data));
+        when(updateGranularityService.updateGranularity(any(), any()))
+                .thenReturn(Mono.just(List.of(data)));
+
+        // When
+        pollingService.pollAllTimeSeriesData(List.of(first, second));
+
+        // Then
+        verify(api).getCustomerData("cid");
+        verify(api).getTimeSeriesData(eq("642502030590623827"), eq("cid"), any(), any(), eq("PT1H"), eq(null));
+        verify(energyDataService).publish(first);
+        verify(energyDataService).publish(second);
+    }
+
+    @Test
+    void pollAllTimeSeriesData_withErrorResponse_handlesErrorForEachPermissionRequest() {
+        // Given
+        var latestMeterReading = LocalDate.now(ZoneOffset.UTC).minusDays(5).atStartOfDay(ZoneOffset.UTC);
+        var first = createPermissionRequest("pid1", Map.of("mid", latestMeterReading));
+        var second = createPermissionRequest("pid2", Map.of("mid", latestMeterReading));
+        when(api.getTimeSeriesData(eq("mid"), eq("cid"), any(), any(), eq("PT1H"), eq(null)))
+                .thenReturn(Mono.error(WebClientResponseException.create(HttpStatus.FORBIDDEN.value(), "", null, null, null)));
+
+        // When
+        pollingService.pollAllTimeSeriesData(List.of(first, second));
+
+        // Then
+        verify(api).getTimeSeriesData(any(), any(), any(), any(), any(), any());
+        verify(outbox, times(2)).commit(any());
+        verify(energyDataService, never()).publish(anyList(), any());
+    }
+
     @Test
     void forcePollValidatedHistoricalData_publishesData() {
         // Given
@@ -391,4 +476,42 @@ class PollingServiceTest {
                 Arguments.of(LocalDate.now(ZoneOffset.UTC).plusDays(1))
         );
     }
-}
\ No newline at end of file
+
+    private static FingridPermissionRequest createPermissionRequest(
+            String permissionId,
+            Map<String, ZonedDateTime> lastMeterReadings
+    ) {
+        var now = LocalDate.now(ZoneOffset.UTC);
+        return new FingridPermissionRequestBuilder().setPermissionId(permissionId)
+                                                    .setConnectionId("cid")
+                                                    .setDataNeedId("dnid")
+                                                    .setStatus(PermissionProcessStatus.ACCEPTED)
+                                                    .setCreated(ZonedDateTime.now(ZoneOffset.UTC))
+                                                    .setStart(now.minusDays(10))
+                                                    .setEnd(now.plusDays(10))
+                                                    .setCustomerIdentification("cid")
+                                                    .setGranularity(Granularity.PT1H)
+                                                    .setLastMeterReadings(lastMeterReadings)
+                                                    .build();
+    }
+
+    private static TimeSeriesResponse createTimeSeriesResponse(ZonedDateTime start, ZonedDateTime end) {
+        var observations = new ArrayList<Observation>();
+        for (var time = start; time.isBefore(end); time = time.plusHours(1)) {
+            observations.add(new Observation(time, BigDecimal.ONE, "OK"));
+        }
+        var timeSeries = new TimeSeries("mid", Granularity.PT1H, start, end, "8716867000030", "kWh", "BN01", observations);
+        return new TimeSeriesResponse(new TimeSeriesData(null, new TimeSeriesTransaction(null, null, List.of(timeSeries))));
+    }
+
+    private static List<Observation> observations(List<List<TimeSeriesResponse>> published) {
+        assertEquals(1, published.size());
+        return published.getFirst()
+                        .getFirst()
+                        .data()
+                        .transaction()
+                        .timeSeries()
+                        .getFirst()
+                        .observations();
+    }
+}
@@ -21,20 +21,27 @@ import energy.eddie.regionconnector.shared.agnostic.JsonRawDataProvider;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
+import energy.eddie.regionconnector.shared.ratelimit.AdaptiveRateLimiter;
+import energy.eddie.regionconnector.shared.ratelimit.RateLimit;
 import energy.eddie.regionconnector.shared.services.CommonFutureDataService;
 import energy.eddie.regionconnector.shared.services.FulfillmentService;
 import energy.eddie.regionconnector.shared.services.MeterReadingPermissionUpdateAndFulfillmentService;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import energy.eddie.regionconnector.shared.services.data.needs.DataNeedCalculationServiceImpl;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import tools.jackson.databind.ObjectMapper;
 
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static energy.eddie.regionconnector.fr.enedis.EnedisRegionConnectorMetadata.REGION_CONNECTOR_ID;
@@ -49,8 +56,30 @@ public class EnedisBeanConfig {
     }
 
     @Bean
-    public WebClient webClient(EnedisConfiguration configuration) {
-        return WebClient.create(configuration.basePath());
+    public AdaptiveRateLimiter rateLimiter(
+            @Value("${region-connector.fr.enedis.rate-limit.requests-per-second:5}") double requestsPerSecond,
+            @Value("${region-connector.fr.enedis.rate-limit.burst:10}") int burst,
+            @Value("${region-connector.fr.enedis.rate-limit.max-concurrency:5}") int maxConcurrency,
+            @Value("${region-connector.fr.enedis.rate-limit.throttling-statuses:429}") Set<Integer> throttlingStatuses
+    ) {
+        return new AdaptiveRateLimiter(REGION_CONNECTOR_ID,
+                                       new RateLimit(requestsPerSecond, burst, maxConcurrency, throttlingStatuses));
+    }
+
+    @Bean
+    public PartitionedBackfill partitionedBackfill(
+            @Value("${region-connector.fr.enedis.backfill.partition-concurrency:2}") int partitionConcurrency,
+            @Value("${region-connector.fr.enedis.backfill.global-concurrency:5}") int globalConcurrency
+    ) {
+        return new PartitionedBackfill(REGION_CONNECTOR_ID, partitionConcurrency, globalConcurrency);
+    }
+
+    @Bean
+    public WebClient webClient(EnedisConfiguration configuration, AdaptiveRateLimiter rateLimiter) {
+        return WebClient.builder()
+                        .baseUrl(configuration.basePath())
+                        .filter(rateLimiter)
+                        .build();
     }
 
     @Bean
@@ -59,8 +88,24 @@ public class EnedisBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, FrPermissionEventRepository permissionEventRepository) {
-        return new Outbox(eventBus, permissionEventRepository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "fr_enedis",
+                                               "enedis_permission_request",
+                                               "enedis_permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            FrPermissionEventRepository permissionEventRepository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, permissionEventRepository, permissionRequestProjection);
     }
 
     @Bean
@@ -14,6 +14,7 @@ import energy.eddie.regionconnector.fr.enedis.tasks.UpdateGranularityTask;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import energy.eddie.regionconnector.shared.services.CommonPollingService;
 import energy.eddie.regionconnector.shared.services.MeterReadingPermissionUpdateAndFulfillmentService;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,8 @@ import reactor.util.retry.RetryBackoffSpec;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import static energy.eddie.api.agnostic.Granularity.P1D;
 import static energy.eddie.api.agnostic.Granularity.PT30M;
@@ -40,19 +43,22 @@ public class PollingService implements CommonPollingService<FrEnedisPermissionRe
     private final Outbox outbox;
     private final UpdateGranularityTask updateGranularityTask;
     private final EnergyDataStreams streams;
+    private final PartitionedBackfill backfill;
 
     public PollingService(
             EnedisMeterReadingApi enedisApi,
             MeterReadingPermissionUpdateAndFulfillmentService meterReadingPermissionUpdateAndFulfillmentService,
             Outbox outbox,
             UpdateGranularityTask updateGranularityTask,
-            EnergyDataStreams streams
+            EnergyDataStreams streams,
+            PartitionedBackfill backfill
     ) {
         this.enedisApi = enedisApi;
         this.meterReadingPermissionUpdateAndFulfillmentService = meterReadingPermissionUpdateAndFulfillmentService;
         this.outbox = outbox;
         this.updateGranularityTask = updateGranularityTask;
         this.streams = streams;
+        this.backfill = backfill;
     }
 
     @Override
@@ -187,26 +193,32 @@ public class PollingService implements CommonPollingService<FrEnedisPermissionRe
         }
     }
 
+    /**
+     * Fetches the batches concurrently, the meter readings are emitted in time order, so that the latest meter reading
+     * of the permission request only advances past batches that were published.
+     */
     private Flux<IdentifiableMeterReading> fetchDataInBatches(
             FrEnedisPermissionRequest permissionRequest,
             LocalDate start,
             LocalDate end
     ) {
-        return calculateBatchDates(start, end)
-                .flatMap(batchStart -> {
-                    // Calculate the end date for this batch, ensuring it's within the overall end date and not in the future
-                    LocalDate batchEnd = batchStart.plusWeeks(1);
-                    batchEnd = batchEnd.isAfter(end) ? end : batchEnd; // Ensure not to exceed the end date
-                    return fetchData(permissionRequest, batchStart, batchEnd);
-                })
-                .onErrorComplete(); // stop the stream if an error occurs
+        return backfill.fetch(calculateBatchDates(start, end), batchStart -> {
+                           // Calculate the end date for this batch, ensuring it's within the overall end date and not in the future
+                           LocalDate batchEnd = batchStart.plusWeeks(1);
+                           batchEnd = batchEnd.isAfter(end) ? end : batchEnd; // Ensure not to exceed the end date
+                           return fetchData(permissionRequest, batchStart, batchEnd);
+                       })
+                       .onErrorComplete(); // stop the stream if an error occurs
     }
 
-    private Flux<LocalDate> calculateBatchDates(LocalDate start, LocalDate end) {
+    private List<LocalDate> calculateBatchDates(LocalDate start, LocalDate end) {
         // the api allows for a maximum of 7 days per request, so we need to split the request into multiple batches
         long daysBetween = ChronoUnit.DAYS.between(start, end);
-        return Flux.range(0, (int) Math.ceil(daysBetween / 7.0))
-                   .map(start::plusWeeks)
-                   .takeWhile(batchStart -> !batchStart.isAfter(end)); // Ensure not to exceed the end date
+        var numOfBatches = (int) Math.ceil(daysBetween / 7.0);
+        var batchStarts = new ArrayList<LocalDate>(numOfBatches);
+        for (var i = 0; i < numOfBatches; i++) {
+            batchStarts.add(start.plusWeeks(i));
+        }
+        return batchStarts;
     }
 }
@@ -0,0 +1,19 @@
+--  SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+--  SPDX-License-Identifier: Apache-2.0
+
+/* The permission requests are kept in a table, which is updated whenever a permission event is committed.
+   The view that aggregates the permission events is kept to rebuild and verify the table. */
+ALTER VIEW fr_enedis.enedis_permission_request RENAME TO enedis_permission_request_from_events;
+
+CREATE TABLE fr_enedis.enedis_permission_request AS
+SELECT *
+FROM fr_enedis.enedis_permission_request_from_events;
+
+ALTER TABLE fr_enedis.enedis_permission_request
+    ADD PRIMARY KEY (permission_id);
+
+CREATE INDEX IF NOT EXISTS enedis_permission_request_status_created_idx
+    ON fr_enedis.enedis_permission_request (status, created);
+
+CREATE INDEX IF NOT EXISTS permission_event_permission_id_idx
+    ON fr_enedis.permission_event (permission_id);
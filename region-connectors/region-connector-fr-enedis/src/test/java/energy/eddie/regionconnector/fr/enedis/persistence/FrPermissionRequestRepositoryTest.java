@@ -8,17 +8,24 @@ import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.regionconnector.fr.enedis.CimTestConfiguration;
 import energy.eddie.regionconnector.fr.enedis.permission.events.FrCreatedEvent;
 import energy.eddie.regionconnector.fr.enedis.permission.events.FrSimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -41,20 +48,33 @@ class FrPermissionRequestRepositoryTest {
     private FrPermissionRequestRepository permissionRequestRepository;
     @Autowired
     private FrPermissionEventRepository permissionEventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
     @SuppressWarnings("unused")
     @MockitoBean
     private DataNeedsService dataNeedsService;
 
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "fr_enedis",
+                                                         "enedis_permission_request",
+                                                         "enedis_permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
+
     @Test
     void testFindTimedOutPermissionRequests_findStalePermissionRequests() {
         // Given
         var fixedClock = Clock.fixed(Instant.now(Clock.systemUTC()).minus(25, ChronoUnit.HOURS), ZoneOffset.UTC);
-        permissionEventRepository.saveAll(List.of(
+        List.of(
                 new FrCreatedEvent("pid", "cid", "dnid", fixedClock),
                 new FrSimpleEvent("pid", PermissionProcessStatus.VALIDATED),
                 new FrCreatedEvent("otherPid", "cid", "dnid"),
                 new FrSimpleEvent("otherPid", PermissionProcessStatus.VALIDATED)
-        ));
+        ).forEach(outbox::commit);
 
         // When
         var res = permissionRequestRepository.findStalePermissionRequests(24);
@@ -17,6 +17,7 @@ import energy.eddie.regionconnector.fr.enedis.tasks.UpdateGranularityTask;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
 import energy.eddie.regionconnector.shared.services.FulfillmentService;
 import energy.eddie.regionconnector.shared.services.MeterReadingPermissionUpdateAndFulfillmentService;
+import energy.eddie.regionconnector.shared.services.PartitionedBackfill;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -46,6 +47,7 @@ class PollingServiceTest {
     private EnedisMeterReadingApi enedisApi;
     @Mock
     private UpdateGranularityTask updateGranularityTask;
+    private final PartitionedBackfill backfill = new PartitionedBackfill("test", 2, 5);
 
     @Test
     void fetchHistoricalMeterReadingsThrowsForbidden_revokesPermissionRequest() {
@@ -57,7 +59,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -92,7 +99,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -137,7 +149,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -171,7 +188,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -199,7 +221,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -232,7 +259,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(2);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(1);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -265,7 +297,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -300,7 +337,12 @@ class PollingServiceTest {
                 (pr, end) -> {}
         );
         EnergyDataStreams streams = new EnergyDataStreams();
-        PollingService pollingService = new PollingService(enedisApi, service, outbox, updateGranularityTask, streams);
+        PollingService pollingService = new PollingService(enedisApi,
+                                                           service,
+                                                           outbox,
+                                                           updateGranularityTask,
+                                                           streams,
+                                                           backfill);
         LocalDate start = LocalDate.now(ZoneOffset.UTC).minusDays(20);
         LocalDate end = LocalDate.now(ZoneOffset.UTC).minusDays(10);
         FrEnedisPermissionRequest request = new EnedisPermissionRequestBuilder()
@@ -6,15 +6,22 @@ package energy.eddie.regionconnector.nl.mijn.aansluiting.persistence;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.nl.mijn.aansluiting.permission.events.NlCreatedEvent;
 import energy.eddie.regionconnector.nl.mijn.aansluiting.permission.events.NlSimpleEvent;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
@@ -33,15 +40,28 @@ class NlPermissionRequestRepositoryTest {
     private NlPermissionRequestRepository permissionRequestRepository;
     @Autowired
     private MijnAansluitingPermissionEventRepository permissionEventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "nl_mijn_aansluiting",
+                                                         "permission_request",
+                                                         "permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
 
     @Test
     void testFindTimedOutPermissionRequests_findTimedOutPermissionRequests() {
         // Given
         var now = ZonedDateTime.now(ZoneOffset.UTC);
-        permissionEventRepository.saveAndFlush(new NlCreatedEvent("pid", "cid", "dnid", now.minusHours(25)));
-        permissionEventRepository.saveAndFlush(new NlSimpleEvent("pid", PermissionProcessStatus.VALIDATED));
-        permissionEventRepository.saveAndFlush(new NlCreatedEvent("otherPid", "cid", "dnid", now));
-        permissionEventRepository.saveAndFlush(new NlSimpleEvent("otherPid", PermissionProcessStatus.VALIDATED));
+        outbox.commit(new NlCreatedEvent("pid", "cid", "dnid", now.minusHours(25)));
+        outbox.commit(new NlSimpleEvent("pid", PermissionProcessStatus.VALIDATED));
+        outbox.commit(new NlCreatedEvent("otherPid", "cid", "dnid", now));
+        outbox.commit(new NlSimpleEvent("otherPid", PermissionProcessStatus.VALIDATED));
 
 
         // When
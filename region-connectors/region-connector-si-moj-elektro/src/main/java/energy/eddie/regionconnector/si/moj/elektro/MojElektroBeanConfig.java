@@ -12,6 +12,7 @@ import energy.eddie.dataneeds.services.DataNeedsService;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBus;
 import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
 import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.ConnectionStatusMessageHandler;
 import energy.eddie.regionconnector.shared.event.sourcing.handlers.integration.PermissionMarketDocumentMessageHandler;
 import energy.eddie.regionconnector.shared.services.data.needs.DataNeedCalculationServiceImpl;
@@ -20,6 +21,8 @@ import energy.eddie.regionconnector.si.moj.elektro.persistence.SiPermissionEvent
 import energy.eddie.regionconnector.si.moj.elektro.persistence.SiPermissionRequestRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.ZoneOffset;
 import java.util.function.Supplier;
@@ -33,8 +36,24 @@ public class MojElektroBeanConfig {
     }
 
     @Bean
-    public Outbox outbox(EventBus eventBus, SiPermissionEventRepository siPermissionEventRepository) {
-        return new Outbox(eventBus, siPermissionEventRepository);
+    public PermissionRequestProjection permissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new PermissionRequestProjection(jdbcTemplate,
+                                               transactionTemplate,
+                                               "si_moj_elektro",
+                                               "permission_request",
+                                               "permission_request_from_events");
+    }
+
+    @Bean
+    public Outbox outbox(
+            EventBus eventBus,
+            SiPermissionEventRepository siPermissionEventRepository,
+            PermissionRequestProjection permissionRequestProjection
+    ) {
+        return new Outbox(eventBus, siPermissionEventRepository, permissionRequestProjection);
     }
 
     @Bean
@@ -15,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.function.Supplier;
 
@@ -35,6 +37,12 @@ class MojElektroBeanConfigTest {
     private PermissionMarketDocumentMessageHandler<MojElektroPermissionRequest> permissionMarketDocumentMessageHandler;
     @MockitoBean
     private DataNeedCalculationService dataNeedCalculationService;
+    @SuppressWarnings("unused")
+    @MockitoBean
+    private JdbcTemplate jdbcTemplate;
+    @SuppressWarnings("unused")
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
     @Autowired
     private Supplier<PermissionEventRepository> permissionEventSupplier;
     @Autowired
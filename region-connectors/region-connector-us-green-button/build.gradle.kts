@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 import net.ltgt.gradle.errorprone.CheckSeverity
@@ -13,6 +13,7 @@ plugins {
     alias(libs.plugins.openapi.generator)
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
 }
 
 group = "energy.eddie"
@@ -146,6 +147,11 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    // report the allocation rate next to the throughput
+    profilers.add("gc")
+}
+
 // disable bootJar task as it needs a main class and region connectors do not have one
 tasks.getByName<BootJar>("bootJar") {
     enabled = false
@@ -0,0 +1,131 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.us.green.button.client;
+
+import com.rometools.rome.io.SyndFeedInput;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a batch subscription with quarter-hourly interval readings the way it was done before, by reading
+ * the response into a string, adding missing content types via a DOM and building the feed with rome, to the
+ * {@link EspiFeedReader}, for a day, a month and a year of interval readings.
+ * Run with {@code ./gradlew :region-connectors:region-connector-us-green-button:jmh}, the gc profiler reports the
+ * allocation rate of both variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EspiFeedParsingBenchmark {
+    private static final long START = 1704067200L;
+    private static final int QUARTER_HOUR = 900;
+
+    @Param({"1", "31", "365"})
+    public int days;
+
+    private final EspiFeedReader reader = new EspiFeedReader();
+    private byte[] document = new byte[0];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        document = batchSubscription(days * 96).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void rome(Blackhole blackhole) throws Exception {
+        var payload = addMissingContentTypes(new String(document, StandardCharsets.UTF_8));
+        blackhole.consume(new SyndFeedInput().build(new StringReader(payload)));
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws Exception {
+        blackhole.consume(reader.read(new ByteArrayInputStream(document)));
+    }
+
+    /**
+     * The transformation that was applied to each payload before it was parsed by rome.
+     */
+    private static String addMissingContentTypes(String payload) throws Exception {
+        var factory = DocumentBuilderFactory.newInstance();
+        factory.setExpandEntityReferences(false);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        var doc = factory.newDocumentBuilder()
+                         .parse(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+        var nodes = (NodeList) XPathFactory.newInstance().newXPath()
+                                           .evaluate("//content", doc, XPathConstants.NODESET);
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element element && element.getAttribute("type").isBlank()) {
+                element.setAttribute("type", "atom+xml");
+            }
+        }
+        var transformerFactory = TransformerFactory.newInstance();
+        transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        var writer = new StringWriter();
+        transformerFactory.newTransformer().transform(new DOMSource(doc), new StreamResult(writer));
+        return writer.toString();
+    }
+
+    private static String batchSubscription(int readings) {
+        var xml = new StringBuilder(readings * 200 + 4_000);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+           .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">")
+           .append("<id>urn:uuid:31a03bbc-5ce2-5cdc-b10d-4f626b106337</id>")
+           .append("<link rel=\"self\" href=\"https://utilityapi.com/DataCustodian/espi/1_1/resource/Batch/Subscription/1\" type=\"espi-feed/Subscription\"/>")
+           .append("<title>Subscription</title>")
+           .append("<updated>2024-09-04T08:02:15.281809Z</updated>");
+        entry(xml,
+              "ReadingType",
+              "https://utilityapi.com/DataCustodian/espi/1_1/resource/ReadingType/1",
+              "<ReadingType xmlns=\"http://naesb.org/espi\"><accumulationBehaviour>4</accumulationBehaviour>"
+              + "<commodity>1</commodity><flowDirection>1</flowDirection><intervalLength>900</intervalLength>"
+              + "<kind>12</kind><powerOfTenMultiplier>-3</powerOfTenMultiplier><uom>72</uom></ReadingType>");
+        var intervalBlock = new StringBuilder(readings * 200 + 200);
+        intervalBlock.append("<IntervalBlock xmlns=\"http://naesb.org/espi\">")
+                     .append("<interval><duration>").append((long) readings * QUARTER_HOUR)
+                     .append("</duration><start>").append(START).append("</start></interval>");
+        for (int i = 0; i < readings; i++) {
+            intervalBlock.append("<IntervalReading><timePeriod><duration>").append(QUARTER_HOUR)
+                         .append("</duration><start>").append(START + (long) i * QUARTER_HOUR)
+                         .append("</start></timePeriod><value>").append(i % 1000)
+                         .append("</value></IntervalReading>");
+        }
+        intervalBlock.append("</IntervalBlock>");
+        entry(xml,
+              "IntervalBlock",
+              "https://utilityapi.com/DataCustodian/espi/1_1/resource/Subscription/1/UsagePoint/1/MeterReading/1/IntervalBlock/000001",
+              intervalBlock.toString());
+        return xml.append("</feed>").toString();
+    }
+
+    private static void entry(StringBuilder xml, String title, String self, String content) {
+        xml.append("<entry>")
+           .append("<id>urn:uuid:").append(title).append("</id>")
+           .append("<link rel=\"self\" href=\"").append(self).append("\" type=\"espi-entry/").append(title).append("\"/>")
+           .append("<published>2024-09-04T08:02:14.896492Z</published>")
+           .append("<updated>2024-09-04T08:02:14.905064Z</updated>")
+           .append("<title>").append(title).append("</title>")
+           // Without type, as sent by the green button API in some cases
+           .append("<content>").append(content).append("</content>")
+           .append("</entry>");
+    }
+}
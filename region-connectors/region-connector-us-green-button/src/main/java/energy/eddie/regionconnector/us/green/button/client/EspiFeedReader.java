@@ -0,0 +1,321 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.us.green.button.client;
+
+import com.rometools.rome.feed.synd.*;
+import jakarta.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.xml.stream.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Reads ESPI Atom feeds with StAX, while the response body is still arriving.
+ * In contrast to reading the whole response into a string and building a DOM for it, only the contents of the entries
+ * are kept in memory.
+ * The feed is mapped to the same structure as rome's {@link com.rometools.rome.io.SyndFeedInput} does for Atom 1.0
+ * feeds, as far as the title, links and contents are concerned.
+ */
+class EspiFeedReader {
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String FEED_TYPE = "atom_1.0";
+    /**
+     * The green button API is missing the type attribute of the content in some cases, without it, the content cannot
+     * be parsed as XML.
+     */
+    private static final String DEFAULT_CONTENT_TYPE = "atom+xml";
+    private static final String DEFAULT_LINK_REL = "alternate";
+    /**
+     * Number of data buffers requested in advance from the response body.
+     */
+    private static final int PREFETCH = 16;
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Reads the feed from the data buffers of a response body.
+     * The buffers are only requested when the reader has consumed the previous ones.
+     *
+     * @param body the response body
+     * @return the feed, or an empty mono if the body is empty
+     */
+    public Mono<SyndFeed> read(Publisher<DataBuffer> body) {
+        return Mono.fromCallable(() -> {
+                       try (var inputStream = DataBufferUtils.subscriberInputStream(body, PREFETCH)) {
+                           return read(inputStream);
+                       }
+                   })
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Reads the feed from the input stream.
+     *
+     * @param inputStream the XML document containing the feed
+     * @return the feed, or null if the input stream is empty
+     * @throws XMLStreamException if the document is not well-formed or not an Atom feed
+     * @throws IOException        if the input stream cannot be read
+     */
+    @Nullable
+    public SyndFeed read(InputStream inputStream) throws XMLStreamException, IOException {
+        var pushbackInputStream = new PushbackInputStream(inputStream, 1);
+        var first = pushbackInputStream.read();
+        if (first == -1) {
+            return null;
+        }
+        pushbackInputStream.unread(first);
+        var reader = INPUT_FACTORY.createXMLStreamReader(pushbackInputStream);
+        try {
+            reader.nextTag();
+            if (!ATOM_NAMESPACE.equals(reader.getNamespaceURI()) || !"feed".equals(reader.getLocalName())) {
+                throw new XMLStreamException("Expected Atom feed, but got " + reader.getName(), reader.getLocation());
+            }
+            return readFeed(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static SyndFeed readFeed(XMLStreamReader reader) throws XMLStreamException {
+        var namespaces = declaredNamespaces(reader, Map.of());
+        var feed = new SyndFeedImpl();
+        feed.setFeedType(FEED_TYPE);
+        var links = new ArrayList<SyndLink>();
+        var entries = new ArrayList<SyndEntry>();
+        while (nextChild(reader)) {
+            if (!ATOM_NAMESPACE.equals(reader.getNamespaceURI())) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "id" -> feed.setUri(readText(reader));
+                case "title" -> feed.setTitle(readText(reader));
+                case "updated" -> feed.setPublishedDate(readDate(reader));
+                case "link" -> links.add(readLink(reader));
+                case "entry" -> entries.add(readEntry(reader, namespaces));
+                default -> skipElement(reader);
+            }
+        }
+        feed.setLinks(links);
+        feed.setEntries(entries);
+        return feed;
+    }
+
+    private static SyndEntry readEntry(XMLStreamReader reader, Map<String, String> namespaces) throws XMLStreamException {
+        var entryNamespaces = declaredNamespaces(reader, namespaces);
+        var entry = new SyndEntryImpl();
+        var links = new ArrayList<SyndLink>();
+        var contents = new ArrayList<SyndContent>();
+        while (nextChild(reader)) {
+            if (!ATOM_NAMESPACE.equals(reader.getNamespaceURI())) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "id" -> entry.setUri(readText(reader));
+                case "title" -> entry.setTitle(readText(reader));
+                case "published" -> entry.setPublishedDate(readDate(reader));
+                case "updated" -> entry.setUpdatedDate(readDate(reader));
+                case "link" -> links.add(readLink(reader));
+                case "content" -> contents.add(readContent(reader, entryNamespaces));
+                default -> skipElement(reader);
+            }
+        }
+        entry.setLinks(links);
+        entry.setContents(contents);
+        return entry;
+    }
+
+    private static SyndLink readLink(XMLStreamReader reader) throws XMLStreamException {
+        var link = new SyndLinkImpl();
+        var rel = reader.getAttributeValue(null, "rel");
+        link.setRel(rel == null ? DEFAULT_LINK_REL : rel);
+        link.setHref(reader.getAttributeValue(null, "href"));
+        link.setType(reader.getAttributeValue(null, "type"));
+        skipElement(reader);
+        return link;
+    }
+
+    private static SyndContent readContent(
+            XMLStreamReader reader,
+            Map<String, String> namespaces
+    ) throws XMLStreamException {
+        var type = reader.getAttributeValue(null, "type");
+        if (type == null || type.isBlank()) {
+            type = DEFAULT_CONTENT_TYPE;
+        }
+        var content = new SyndContentImpl();
+        content.setType(type);
+        if (isXml(type)) {
+            content.setValue(copyChildren(reader, declaredNamespaces(reader, namespaces)));
+        } else {
+            content.setValue(readText(reader));
+        }
+        return content;
+    }
+
+    /**
+     * Copies the child elements of the current element, so they can be unmarshalled on their own.
+     * The namespaces in scope are declared on each of the top level elements.
+     */
+    private static String copyChildren(XMLStreamReader reader, Map<String, String> namespaces) throws XMLStreamException {
+        var stringWriter = new StringWriter();
+        var writer = OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+        int depth = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    writer.writeStartElement(nonNull(reader.getPrefix()),
+                                             reader.getLocalName(),
+                                             nonNull(reader.getNamespaceURI()));
+                    var declarations = depth == 0
+                            ? declaredNamespaces(reader, namespaces)
+                            : declaredNamespaces(reader, Map.of());
+                    for (var declaration : declarations.entrySet()) {
+                        if (declaration.getKey().isEmpty()) {
+                            writer.writeDefaultNamespace(declaration.getValue());
+                        } else {
+                            writer.writeNamespace(declaration.getKey(), declaration.getValue());
+                        }
+                    }
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        var namespace = reader.getAttributeNamespace(i);
+                        if (namespace == null || namespace.isEmpty()) {
+                            writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                        } else {
+                            writer.writeAttribute(nonNull(reader.getAttributePrefix(i)),
+                                                  namespace,
+                                                  reader.getAttributeLocalName(i),
+                                                  reader.getAttributeValue(i));
+                        }
+                    }
+                    depth++;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == 0) {
+                        writer.close();
+                        return stringWriter.toString();
+                    }
+                    writer.writeEndElement();
+                    depth--;
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (depth > 0) {
+                        writer.writeCharacters(reader.getText());
+                    }
+                }
+                default -> {
+                    // Comments and processing instructions are not part of the content
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the reader to the next child element of the current element.
+     *
+     * @return false if the end of the current element was reached
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            var event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document", reader.getLocation());
+    }
+
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        var text = new StringBuilder();
+        int depth = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == 0) {
+                        return text.toString().trim();
+                    }
+                    depth--;
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(reader.getText());
+                default -> {
+                    // Only text is of interest
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static Date readDate(XMLStreamReader reader) throws XMLStreamException {
+        var text = readText(reader);
+        try {
+            return Date.from(OffsetDateTime.parse(text).toInstant());
+        } catch (DateTimeParseException e) {
+            // Same as rome, invalid dates are ignored
+            return null;
+        }
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                }
+                default -> {
+                    // Skipped
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the namespaces declared on the current element to the namespaces in scope, keyed by prefix, where the
+     * default namespace has an empty prefix.
+     */
+    private static Map<String, String> declaredNamespaces(XMLStreamReader reader, Map<String, String> inScope) {
+        var namespaces = new LinkedHashMap<>(inScope);
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            namespaces.put(nonNull(reader.getNamespacePrefix(i)), nonNull(reader.getNamespaceURI(i)));
+        }
+        return namespaces;
+    }
+
+    private static boolean isXml(String type) {
+        return type.equals("xml") || type.equals("xhtml") || type.endsWith("+xml") || type.endsWith("/xml");
+    }
+
+    private static String nonNull(@Nullable String value) {
+        return value == null ? "" : value;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        // Secure factory against XXE
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -1,10 +1,9 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.us.green.button.client;
 
 import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
 import energy.eddie.regionconnector.us.green.button.api.GreenButtonApi;
 import energy.eddie.regionconnector.us.green.button.api.Pages;
 import energy.eddie.regionconnector.us.green.button.client.dtos.MeterListing;
@@ -18,6 +17,7 @@ import jakarta.annotation.Nullable;
 import org.naesb.espi.ServiceStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -28,7 +28,6 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.io.StringReader;
 import java.net.URI;
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -40,8 +39,7 @@ import java.util.Map;
 public class GreenButtonClient implements GreenButtonApi {
     private static final Logger LOGGER = LoggerFactory.getLogger(GreenButtonClient.class);
     private final WebClient webClient;
-    private final SyndFeedInput input = new SyndFeedInput();
-    private final AtomFeedTransformer atomFeedTransformer = new AtomFeedTransformer();
+    private final EspiFeedReader feedReader = new EspiFeedReader();
     private final GreenButtonConfiguration config;
 
     public GreenButtonClient(WebClient webClient, GreenButtonConfiguration config) {
@@ -89,8 +87,7 @@ public class GreenButtonClient implements GreenButtonApi {
                                 .build(authId)
                         )
                         .header("Authorization", bearerToken(accessToken))
-                        .exchangeToMono(response -> response.bodyToMono(String.class))
-                        .flatMap(this::parsePayload);
+                        .exchangeToMono(response -> parsePayload(response.bodyToFlux(DataBuffer.class)));
     }
 
     @Override
@@ -199,8 +196,7 @@ public class GreenButtonClient implements GreenButtonApi {
                                                                   publishedMax,
                                                                   meter));
                     })
-                    .mapNotNull(ResponseWithHeaders::rawResponse)
-                    .flatMap(this::parsePayload)
+                    .mapNotNull(ResponseWithHeaders::feed)
                     .last();
         }
     }
@@ -226,9 +222,9 @@ public class GreenButtonClient implements GreenButtonApi {
                                                .build()
                         )
                         .header("Authorization", bearerToken(accessToken))
-                        .exchangeToMono(response -> response.bodyToMono(String.class)
-                                                            .map(rawResponse -> new ResponseWithHeaders(
-                                                                    rawResponse,
+                        .exchangeToMono(response -> parsePayload(response.bodyToFlux(DataBuffer.class))
+                                                            .map(feed -> new ResponseWithHeaders(
+                                                                    feed,
                                                                     response.headers(),
                                                                     response.statusCode()
                                                             ))
@@ -241,18 +237,15 @@ public class GreenButtonClient implements GreenButtonApi {
         return webClient.get().uri(url).retrieve().bodyToMono(MeterListing.class);
     }
 
-
-    private Mono<SyndFeed> parsePayload(String payload) {
-        try {
-            payload = atomFeedTransformer.transform(payload);
-            SyndFeed feed = input.build(new StringReader(payload));
-            return Mono.just(feed);
-        } catch (Exception e) {
-            LOGGER.error("Got an error while parsing payload\n {}\n", payload, e);
-            return Mono.error(e);
-        }
+    /**
+     * Parses the feed while the response body is arriving, instead of buffering the whole body first, since batch
+     * subscriptions can contain several years of interval data.
+     */
+    private Mono<SyndFeed> parsePayload(Flux<DataBuffer> body) {
+        return feedReader.read(body)
+                         .doOnError(e -> LOGGER.error("Got an error while parsing payload", e));
     }
 
-    private record ResponseWithHeaders(@Nullable String rawResponse, ClientResponse.Headers headers,
+    private record ResponseWithHeaders(@Nullable SyndFeed feed, ClientResponse.Headers headers,
                                        HttpStatusCode status) {}
 }
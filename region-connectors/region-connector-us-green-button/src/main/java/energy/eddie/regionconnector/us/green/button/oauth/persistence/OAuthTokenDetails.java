@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.us.green.button.oauth.persistence;
@@ -66,6 +66,10 @@ public class OAuthTokenDetails {
         return accessTokenValue;
     }
 
+    public Instant accessTokenExpiresAt() {
+        return accessTokenExpiresAt;
+    }
+
     public boolean isValid() {
         Instant now = Instant.now(Clock.systemUTC());
         return accessTokenExpiresAt != null && accessTokenExpiresAt.isAfter(now);
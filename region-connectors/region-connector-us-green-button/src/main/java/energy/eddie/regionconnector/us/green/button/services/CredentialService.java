@@ -1,9 +1,11 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.us.green.button.services;
 
+import energy.eddie.regionconnector.shared.oauth.ExpiringToken;
 import energy.eddie.regionconnector.shared.oauth.NoRefreshTokenException;
+import energy.eddie.regionconnector.shared.oauth.SingleFlightTokenCache;
 import energy.eddie.regionconnector.us.green.button.client.OAuthTokenClientFactory;
 import energy.eddie.regionconnector.us.green.button.config.GreenButtonConfiguration;
 import energy.eddie.regionconnector.us.green.button.config.exceptions.MissingApiTokenException;
@@ -17,18 +19,33 @@ import energy.eddie.regionconnector.us.green.button.oauth.request.AccessTokenWit
 import energy.eddie.regionconnector.us.green.button.oauth.request.AccessTokenWithRefreshTokenRequest;
 import energy.eddie.regionconnector.us.green.button.permission.request.api.UsGreenButtonPermissionRequest;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.io.File;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 
+import static energy.eddie.regionconnector.us.green.button.GreenButtonRegionConnectorMetadata.REGION_CONNECTOR_ID;
+
 @Service
-public class CredentialService {
+public class CredentialService implements ApplicationContextAware {
     private final OAuthTokenRepository repository;
     private final GreenButtonConfiguration config;
     private final OAuthTokenClientFactory factory;
+    /**
+     * Permission requests are polled concurrently, refreshes of the same permission request share a single token
+     * request, so that the refresh token is not used twice.
+     * The stored credentials stay the source of truth, they are refreshed once they expired.
+     */
+    private final SingleFlightTokenCache<String, OAuthTokenDetails> refreshedCredentials = new SingleFlightTokenCache<>(
+            REGION_CONNECTOR_ID,
+            Duration.ZERO,
+            Duration.ZERO
+    );
 
     public CredentialService(
             OAuthTokenRepository repository, GreenButtonConfiguration config,
@@ -39,6 +56,11 @@ public class CredentialService {
         this.factory = factory;
     }
 
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        refreshedCredentials.setApplicationContext(applicationContext);
+    }
+
     @Transactional(Transactional.TxType.REQUIRED)
     public Mono<OAuthTokenDetails> retrieveAccessToken(UsGreenButtonPermissionRequest permissionRequest) {
         var permissionId = permissionRequest.permissionId();
@@ -47,14 +69,23 @@ public class CredentialService {
         if (creds.isValid()) {
             return Mono.just(creds);
         }
-        if (creds.refreshToken() == null) {
+        var refreshToken = creds.refreshToken();
+        if (refreshToken == null) {
             return Mono.error(new NoRefreshTokenException());
         }
+        return refreshedCredentials.token(permissionId, () -> refreshAccessToken(permissionRequest, refreshToken));
+    }
+
+    private Mono<ExpiringToken<OAuthTokenDetails>> refreshAccessToken(
+            UsGreenButtonPermissionRequest permissionRequest,
+            String refreshToken
+    ) {
         var companyId = permissionRequest.dataSourceInformation().permissionAdministratorId();
         try {
             var oAuthTokenClient = factory.create(companyId, permissionRequest.jumpOffUrl().orElseThrow());
-            var res = oAuthTokenClient.accessToken(new AccessTokenWithRefreshTokenRequest(creds.refreshToken()));
-            return res.map(token -> handleAccessTokenResponse(token, permissionId));
+            var res = oAuthTokenClient.accessToken(new AccessTokenWithRefreshTokenRequest(refreshToken));
+            return res.map(token -> handleAccessTokenResponse(token, permissionRequest.permissionId()))
+                      .map(tokenDetails -> new ExpiringToken<>(tokenDetails, tokenDetails.accessTokenExpiresAt()));
         } catch (Exception e) {
             return Mono.error(e);
         }
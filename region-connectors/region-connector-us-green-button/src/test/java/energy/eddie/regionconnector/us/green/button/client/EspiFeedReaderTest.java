@@ -0,0 +1,208 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.us.green.button.client;
+
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndLink;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.SyndFeedOutput;
+import energy.eddie.regionconnector.us.green.button.XmlLoader;
+import energy.eddie.regionconnector.us.green.button.atom.feed.Query;
+import org.junit.jupiter.api.Test;
+import org.naesb.espi.IntervalBlock;
+import org.naesb.espi.IntervalReading;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.xml.sax.InputSource;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EspiFeedReaderTest {
+    private final EspiFeedReader reader = new EspiFeedReader();
+
+    @Test
+    void read_returnsSameEntriesAsRome() throws IOException, XMLStreamException, FeedException {
+        // Given
+        var expected = new SyndFeedInput().build(new InputSource(XmlLoader.xmlStreamFromResource("/xml/batch/Batch.xml")));
+
+        // When
+        var res = reader.read(XmlLoader.xmlStreamFromResource("/xml/batch/Batch.xml"));
+
+        // Then
+        assertNotNull(res);
+        assertAll(
+                () -> assertEquals(expected.getTitle(), res.getTitle()),
+                () -> assertEquals(links(expected.getLinks()), links(res.getLinks())),
+                () -> assertEquals(expected.getEntries().size(), res.getEntries().size())
+        );
+        for (int i = 0; i < expected.getEntries().size(); i++) {
+            var expectedEntry = expected.getEntries().get(i);
+            var entry = res.getEntries().get(i);
+            assertAll(
+                    () -> assertEquals(expectedEntry.getUri(), entry.getUri()),
+                    () -> assertEquals(expectedEntry.getTitle(), entry.getTitle()),
+                    () -> assertEquals(expectedEntry.getPublishedDate(), entry.getPublishedDate()),
+                    () -> assertEquals(expectedEntry.getUpdatedDate(), entry.getUpdatedDate()),
+                    () -> assertEquals(links(expectedEntry.getLinks()), links(entry.getLinks())),
+                    () -> assertEquals(expectedEntry.getContents().getFirst().getType(),
+                                       entry.getContents().getFirst().getType())
+            );
+        }
+    }
+
+    @Test
+    void read_contentsCanBeUnmarshalled() throws IOException, XMLStreamException, FeedException {
+        // Given
+        var marshaller = new Jaxb2Marshaller();
+        marshaller.setPackagesToScan("org.naesb.espi");
+        var expected = new SyndFeedInput().build(new InputSource(XmlLoader.xmlStreamFromResource("/xml/batch/Batch.xml")));
+        var expectedQuery = new Query(expected, marshaller.createUnmarshaller());
+
+        // When
+        var res = reader.read(XmlLoader.xmlStreamFromResource("/xml/batch/Batch.xml"));
+
+        // Then
+        assertNotNull(res);
+        var query = new Query(res, marshaller.createUnmarshaller());
+        var expectedIntervalBlock = intervalBlock(expectedQuery);
+        var intervalBlock = intervalBlock(query);
+        assertNotNull(intervalBlock);
+        assertAll(
+                () -> assertEquals(expectedIntervalBlock.getInterval().getStart(),
+                                   intervalBlock.getInterval().getStart()),
+                () -> assertEquals(values(expectedIntervalBlock.getIntervalReading()),
+                                   values(intervalBlock.getIntervalReading()))
+        );
+    }
+
+    @Test
+    void read_feedCanBeSerialized() throws IOException, XMLStreamException {
+        // Given
+        var feed = reader.read(XmlLoader.xmlStreamFromResource("/xml/batch/Batch.xml"));
+        assertNotNull(feed);
+
+        // When
+        var res = assertDoesNotThrow(() -> new SyndFeedOutput().outputString(feed));
+
+        // Then
+        assertTrue(res.contains("IntervalReading"));
+    }
+
+    @Test
+    void readWithoutTypeOnContent_addsType() throws IOException, XMLStreamException {
+        // Given
+        var xml = XmlLoader.xmlStreamFromResource("/xml/usagepoint/UsagePointWithoutType.xml");
+
+        // When
+        var res = reader.read(xml);
+
+        // Then
+        assertNotNull(res);
+        assertEquals("atom+xml", res.getEntries().getFirst().getContents().getFirst().getType());
+    }
+
+    @Test
+    void readWithJsonContentType_doesNotChangeContentType() throws IOException, XMLStreamException {
+        // Given
+        var xml = XmlLoader.xmlStreamFromResource("/xml/usagepoint/UsagePointWithJsonContentType.xml");
+
+        // When
+        var res = reader.read(xml);
+
+        // Then
+        assertNotNull(res);
+        assertEquals("atom+json", res.getEntries().getFirst().getContents().getFirst().getType());
+    }
+
+    @Test
+    void read_withEmptyInput_returnsNull() throws IOException, XMLStreamException {
+        // Given
+        var xml = new ByteArrayInputStream(new byte[0]);
+
+        // When
+        var res = reader.read(xml);
+
+        // Then
+        assertNull(res);
+    }
+
+    @Test
+    void read_withInvalidPayload_throws() {
+        // Given
+        var xml = XmlLoader.xmlStreamFromResource("/xml/usagepoint/UsagePointWithInvalidPayload.xml");
+
+        // When & Then
+        assertThrows(XMLStreamException.class, () -> reader.read(xml));
+    }
+
+    @Test
+    void read_withDocumentTypeDeclaration_throws() {
+        // Given
+        var xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE foo [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <feed xmlns="http://www.w3.org/2005/Atom"><title>&xxe;</title></feed>
+                """;
+        var inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(XMLStreamException.class, () -> reader.read(inputStream));
+    }
+
+    @Test
+    void read_fromDataBuffers_parsesFeed() {
+        // Given
+        var xml = XmlLoader.xmlFromResource("/xml/batch/Batch.xml").getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> body = DataBufferUtils.readInputStream(() -> new ByteArrayInputStream(xml),
+                                                                DefaultDataBufferFactory.sharedInstance,
+                                                                512);
+
+        // When
+        var res = reader.read(body);
+
+        // Then
+        StepVerifier.create(res)
+                    .assertNext(feed -> assertEquals(5, feed.getEntries().size()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void read_fromEmptyDataBuffers_returnsEmptyMono() {
+        // Given
+        Flux<DataBuffer> body = Flux.empty();
+
+        // When
+        var res = reader.read(body);
+
+        // Then
+        StepVerifier.create(res)
+                    .verifyComplete();
+    }
+
+    private static IntervalBlock intervalBlock(Query query) {
+        SyndEntry entry = query.findAllByTitle("IntervalBlock").getFirst();
+        return query.unmarshal(entry, IntervalBlock.class);
+    }
+
+    private static List<Long> values(List<IntervalReading> readings) {
+        return readings.stream().map(IntervalReading::getValue).toList();
+    }
+
+    private static List<String> links(List<SyndLink> links) {
+        return links.stream()
+                    .map(link -> link.getRel() + " " + link.getHref() + " " + link.getType())
+                    .toList();
+    }
+}
@@ -5,19 +5,26 @@ package energy.eddie.regionconnector.us.green.button.persistence;
 
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import energy.eddie.regionconnector.shared.event.sourcing.EventBusImpl;
+import energy.eddie.regionconnector.shared.event.sourcing.Outbox;
+import energy.eddie.regionconnector.shared.event.sourcing.PermissionRequestProjection;
 import energy.eddie.regionconnector.us.green.button.permission.GreenButtonDataSourceInformation;
 import energy.eddie.regionconnector.us.green.button.permission.events.UsCreatedEvent;
 import energy.eddie.regionconnector.us.green.button.permission.events.UsSimpleEvent;
 import energy.eddie.regionconnector.us.green.button.permission.events.UsValidatedEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -37,21 +44,34 @@ class UsPermissionRequestRepositoryTest {
     private UsPermissionRequestRepository permissionRequestRepository;
     @Autowired
     private UsPermissionEventRepository permissionEventRepository;
+    @Autowired
+    private DataSource dataSource;
+    private Outbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        var projection = new PermissionRequestProjection(new JdbcTemplate(dataSource),
+                                                         TransactionOperations.withoutTransaction(),
+                                                         "us_green_button",
+                                                         "permission_request",
+                                                         "permission_request_from_events");
+        outbox = new Outbox(new EventBusImpl(), permissionEventRepository, projection);
+    }
 
     @Test
     void testNumberOfPermissionRequests() {
         // Given
         var dataSourceInformation = new GreenButtonDataSourceInformation("TEST", "US");
-        permissionEventRepository.saveAndFlush(new UsCreatedEvent("pid",
-                                                                  "cid",
-                                                                  "dnid",
-                                                                  "test",
-                                                                  dataSourceInformation));
-        permissionEventRepository.saveAndFlush(new UsCreatedEvent("otherPid",
-                                                                  "cid",
-                                                                  "dnid",
-                                                                  "test",
-                                                                  dataSourceInformation));
+        outbox.commit(new UsCreatedEvent("pid",
+                                         "cid",
+                                         "dnid",
+                                         "test",
+                                         dataSourceInformation));
+        outbox.commit(new UsCreatedEvent("otherPid",
+                                         "cid",
+                                         "dnid",
+                                         "test",
+                                         dataSourceInformation));
 
 
         // When
@@ -66,20 +86,20 @@ class UsPermissionRequestRepositoryTest {
         // Given
         var now = ZonedDateTime.now(ZoneOffset.UTC);
         var dataSourceInformation = new GreenButtonDataSourceInformation("company", "US");
-        permissionEventRepository.saveAndFlush(new UsCreatedEvent("pid",
-                                                                  "cid",
-                                                                  "dnid",
-                                                                  "",
-                                                                  dataSourceInformation,
-                                                                  now.minusHours(25)));
-        permissionEventRepository.saveAndFlush(new UsSimpleEvent("pid", PermissionProcessStatus.VALIDATED));
-        permissionEventRepository.saveAndFlush(new UsCreatedEvent("otherPid",
-                                                                  "cid",
-                                                                  "dnid",
-                                                                  "",
-                                                                  dataSourceInformation,
-                                                                  now));
-        permissionEventRepository.saveAndFlush(new UsSimpleEvent("otherPid", PermissionProcessStatus.VALIDATED));
+        outbox.commit(new UsCreatedEvent("pid",
+                                         "cid",
+                                         "dnid",
+                                         "",
+                                         dataSourceInformation,
+                                         now.minusHours(25)));
+        outbox.commit(new UsSimpleEvent("pid", PermissionProcessStatus.VALIDATED));
+        outbox.commit(new UsCreatedEvent("otherPid",
+                                         "cid",
+                                         "dnid",
+                                         "",
+                                         dataSourceInformation,
+                                         now));
+        outbox.commit(new UsSimpleEvent("otherPid", PermissionProcessStatus.VALIDATED));
 
 
         // When
@@ -99,10 +119,10 @@ class UsPermissionRequestRepositoryTest {
         var end1 = now.plusDays(2);
         var start2 = now.plusDays(10);
         var end2 = now.plusDays(20);
-        permissionEventRepository.saveAndFlush(new UsValidatedEvent("pid1", start1, end1, Granularity.PT15M, "scope"));
-        permissionEventRepository.saveAndFlush(new UsSimpleEvent("pid1", PermissionProcessStatus.ACCEPTED));
-        permissionEventRepository.saveAndFlush(new UsValidatedEvent("pid2", start2, end2, Granularity.PT15M, "scope"));
-        permissionEventRepository.saveAndFlush(new UsSimpleEvent("pid2", PermissionProcessStatus.ACCEPTED));
+        outbox.commit(new UsValidatedEvent("pid1", start1, end1, Granularity.PT15M, "scope"));
+        outbox.commit(new UsSimpleEvent("pid1", PermissionProcessStatus.ACCEPTED));
+        outbox.commit(new UsValidatedEvent("pid2", start2, end2, Granularity.PT15M, "scope"));
+        outbox.commit(new UsSimpleEvent("pid2", PermissionProcessStatus.ACCEPTED));
 
         // When
         var res = permissionRequestRepository.findActivePermissionRequests();
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024-2025 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.us.green.button.services;
@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.time.Clock;
@@ -123,6 +124,45 @@ class CredentialServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void retrieveExistingInvalidAccessToken_concurrently_refreshesTokenOnce() throws MissingClientIdException, MissingClientSecretException, MissingApiTokenException {
+        // Given
+        var now = Instant.now(Clock.systemUTC());
+        var credentials = new OAuthTokenDetails(
+                "pid",
+                "tokenValue",
+                now,
+                now.minus(10, ChronoUnit.DAYS),
+                "refreshToken",
+                "1111"
+        );
+        when(repository.getReferenceById("pid"))
+                .thenReturn(credentials);
+        when(factory.create("company", "http://localhost"))
+                .thenReturn(tokenApi);
+        Sinks.One<AccessTokenResponse> response = Sinks.one();
+        when(tokenApi.accessToken(any(AccessTokenWithRefreshTokenRequest.class)))
+                .thenReturn(response.asMono());
+        var pr = createPermissionRequest("company");
+        var first = credentialService.retrieveAccessToken(pr).toFuture();
+        var second = credentialService.retrieveAccessToken(pr).toFuture();
+
+        // When
+        response.tryEmitValue(new AccessTokenResponse("accessToken",
+                                                      "newTokenValue",
+                                                      null,
+                                                      10000,
+                                                      "other",
+                                                      "",
+                                                      "",
+                                                      ""));
+
+        // Then
+        assertEquals("newTokenValue", first.join().accessToken());
+        assertEquals("newTokenValue", second.join().accessToken());
+        verify(tokenApi).accessToken(any(AccessTokenWithRefreshTokenRequest.class));
+    }
+
     @Test
     void retrieveExistingInvalidAccessTokenWithoutRefreshToken_emitsError() {
         // Given
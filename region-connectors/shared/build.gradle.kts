@@ -27,11 +27,13 @@ dependencies {
     implementation(project(":data-needs"))
 
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.webclient)
     implementation(libs.spring.boot.starter.validation)
     implementation(libs.spring.boot.starter.data.jpa)
     implementation(libs.spring.boot.security)
 
     implementation(libs.reactor.core)
+    implementation(libs.opentelemetry.sdk.metrics)
     implementation(libs.hibernate.validator)
     implementation(libs.jackson.databind)
     implementation(libs.nimbus.oidc)
@@ -14,6 +14,11 @@ import reactor.core.publisher.Flux;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
+/**
+ * Creates raw data messages from the payloads of a region connector.
+ * If the payload is still available as JSON, as it was received from the metering data administrator or permission
+ * administrator, it is forwarded as it is, otherwise the payload is serialized to JSON.
+ */
 public class JsonRawDataProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonRawDataProvider.class);
     private final String regionConnector;
@@ -38,6 +43,10 @@ public class JsonRawDataProvider {
 
     @Nullable
     private RawDataMessage createRawDataMessage(IdentifiablePayload<?, ?> pair) {
+        var rawPayload = pair.rawPayload();
+        if (rawPayload != null && rawPayload.isJson()) {
+            return RawDataMessageFactory.create(pair.permissionRequest(), rawPayload.asString());
+        }
         try {
             String rawString = objectMapper.writeValueAsString(pair.payload());
             return RawDataMessageFactory.create(pair.permissionRequest(), rawString);
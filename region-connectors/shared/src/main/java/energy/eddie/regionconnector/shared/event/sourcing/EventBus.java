@@ -7,6 +7,8 @@ import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 /**
  * Interface for a simple EventBus implementation.
  * Uses project reactor fluxes to notify subscribers of events.
@@ -20,6 +22,16 @@ public interface EventBus {
      */
     void emit(PermissionEvent event);
 
+    /**
+     * Emit multiple events via the EventBus in the given order.
+     * Every subscriber to an event will get the event.
+     *
+     * @param events events to be emitted
+     */
+    default void emitAll(List<? extends PermissionEvent> events) {
+        events.forEach(this::emit);
+    }
+
     /**
      * Get all events of a specific type.
      *
@@ -5,20 +5,60 @@ package energy.eddie.regionconnector.shared.event.sourcing;
 
 import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.LongCounter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class EventBusImpl implements EventBus, AutoCloseable {
+/**
+ * {@link EventBus} that emits the events synchronously to all subscribers.
+ * Emissions are serialized by a lock, so that concurrent emitters wait for each other instead of busy looping on the
+ * sink.
+ * An emitter that waits longer than five seconds fails.
+ * The lock is reentrant, which allows subscribers to emit events while they handle an event.
+ * If it is a bean, it reports how often emitters had to wait for each other to the {@link OpenTelemetry} bean.
+ */
+public class EventBusImpl implements EventBus, AutoCloseable, ApplicationContextAware {
     private static final Duration BUSY_LOOPING_DURATION = Duration.of(5, ChronoUnit.SECONDS);
     private final Sinks.Many<PermissionEvent> sink = Sinks.many().multicast().directAllOrNothing();
     private final Flux<PermissionEvent> flux = sink.asFlux().share();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile LongCounter contention = contentionCounter(OpenTelemetry.noop());
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        contention = contentionCounter(applicationContext.getBeanProvider(OpenTelemetry.class)
+                                                         .getIfAvailable(OpenTelemetry::noop));
+    }
 
     @Override
     public void emit(PermissionEvent event) {
-        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(BUSY_LOOPING_DURATION));
+        emitAll(List.of(event));
+    }
+
+    /**
+     * Emits the events in the given order, events of other emitters are not interleaved.
+     *
+     * @param events events to be emitted
+     */
+    @Override
+    public void emitAll(List<? extends PermissionEvent> events) {
+        acquireLock();
+        try {
+            for (var event : events) {
+                sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(BUSY_LOOPING_DURATION));
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
@@ -35,4 +75,30 @@ public class EventBusImpl implements EventBus, AutoCloseable {
     public void close() {
         sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
     }
+
+    /**
+     * Waits at most as long as the sink would busy loop, so that a blocked emitter fails like before.
+     */
+    private void acquireLock() {
+        if (lock.tryLock()) {
+            return;
+        }
+        contention.add(1);
+        try {
+            if (lock.tryLock(BUSY_LOOPING_DURATION.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("Could not emit events, another emission did not finish within "
+                                        + BUSY_LOOPING_DURATION);
+    }
+
+    private static LongCounter contentionCounter(OpenTelemetry openTelemetry) {
+        return openTelemetry.getMeter(EventBusImpl.class.getName())
+                            .counterBuilder("region_connector_event_bus_emit_contention")
+                            .setDescription("Emissions that had to wait for another emission to finish")
+                            .build();
+    }
 }
@@ -1,28 +1,62 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.shared.event.sourcing;
 
 import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
 import energy.eddie.api.agnostic.process.model.events.PermissionEventRepository;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.LongHistogram;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implementation of the outbox pattern.
  * First persists the permission event to the event store and then emits it to the {@link EventBus}.
+ * If a {@link PermissionRequestProjection} is given, the permission request of the event is updated in the same
+ * transaction as the event is persisted.
+ * <p>
+ * Multiple events can be committed together with {@link #commitAll(List)}, which persists them in a single transaction
+ * and emits them afterward.
+ * If it is a bean, it reports the sizes of these batches to the {@link OpenTelemetry} bean.
  *
  * @see <a href="https://microservices.io/patterns/data/transactional-outbox.html">Outbox Pattern</a>
  */
-public class Outbox {
+public class Outbox implements ApplicationContextAware {
     private static final Logger LOGGER = LoggerFactory.getLogger(Outbox.class);
 
     private final EventBus eventBus;
     private final PermissionEventRepository repository;
+    @Nullable
+    private final PermissionRequestProjection projection;
+    private volatile LongHistogram batchSize = batchSizeHistogram(OpenTelemetry.noop());
 
     public Outbox(EventBus eventBus, PermissionEventRepository repository) {
+        this(eventBus, repository, null);
+    }
+
+    public Outbox(
+            EventBus eventBus,
+            PermissionEventRepository repository,
+            @Nullable PermissionRequestProjection projection
+    ) {
         this.eventBus = eventBus;
         this.repository = repository;
+        this.projection = projection;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        batchSize = batchSizeHistogram(applicationContext.getBeanProvider(OpenTelemetry.class)
+                                                         .getIfAvailable(OpenTelemetry::noop));
     }
 
     /**
@@ -31,11 +65,84 @@ public class Outbox {
      * @param permissionEvent the event to be persisted and sent
      */
     public void commit(PermissionEvent permissionEvent) {
-        if (repository.saveAndFlush(permissionEvent) != null) {
+        var saved = projection == null
+                ? repository.saveAndFlush(permissionEvent)
+                : projection.save(permissionEvent, repository);
+        if (saved != null) {
             eventBus.emit(permissionEvent);
-        } else if (LOGGER.isErrorEnabled()) {
+        } else {
+            logNotSaved(permissionEvent);
+        }
+    }
+
+    /**
+     * Persist multiple permission events and send them to the event bus in the given order.
+     * If a {@link PermissionRequestProjection} is given, the events are persisted in a single transaction.
+     * Should that transaction fail, including failures at commit time, the events are committed one by one, so that a
+     * single invalid event does not prevent the others from being persisted and sent.
+     * Events are only sent after all of them were persisted.
+     *
+     * @param permissionEvents the events to be persisted and sent
+     */
+    public void commitAll(List<? extends PermissionEvent> permissionEvents) {
+        if (permissionEvents.isEmpty()) {
+            return;
+        }
+        batchSize.record(permissionEvents.size());
+        if (projection == null) {
+            eventBus.emitAll(saveEach(permissionEvents));
+            return;
+        }
+        List<PermissionEvent> saved;
+        try {
+            saved = projection.saveAll(permissionEvents, repository);
+        } catch (DataAccessException | TransactionException e) {
+            LOGGER.warn("Could not save {} events together, saving them one by one", permissionEvents.size(), e);
+            permissionEvents.forEach(this::commitIsolated);
+            return;
+        }
+        if (saved.size() != permissionEvents.size()) {
+            permissionEvents.stream()
+                            .filter(event -> !saved.contains(event))
+                            .forEach(Outbox::logNotSaved);
+        }
+        eventBus.emitAll(saved);
+    }
+
+    private void commitIsolated(PermissionEvent permissionEvent) {
+        try {
+            commit(permissionEvent);
+        } catch (DataAccessException | TransactionException e) {
             LOGGER.error("Could not save event, it was not emitted and might not be repeatable: {}",
-                        permissionEvent.permissionId());
+                         permissionEvent.permissionId(),
+                         e);
+        }
+    }
+
+    private List<PermissionEvent> saveEach(List<? extends PermissionEvent> permissionEvents) {
+        var saved = new ArrayList<PermissionEvent>(permissionEvents.size());
+        for (var permissionEvent : permissionEvents) {
+            if (repository.saveAndFlush(permissionEvent) != null) {
+                saved.add(permissionEvent);
+            } else {
+                logNotSaved(permissionEvent);
+            }
         }
+        return saved;
+    }
+
+    private static void logNotSaved(PermissionEvent permissionEvent) {
+        if (LOGGER.isErrorEnabled()) {
+            LOGGER.error("Could not save event, it was not emitted and might not be repeatable: {}",
+                         permissionEvent.permissionId());
+        }
+    }
+
+    private static LongHistogram batchSizeHistogram(OpenTelemetry openTelemetry) {
+        return openTelemetry.getMeter(Outbox.class.getName())
+                            .histogramBuilder("region_connector_outbox_batch_size")
+                            .setDescription("Number of permission events committed together")
+                            .ofLongs()
+                            .build();
     }
 }
@@ -0,0 +1,252 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.event.sourcing;
+
+import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
+import energy.eddie.api.agnostic.process.model.events.PermissionEventRepository;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains a table with the current state of each permission request of a region connector, so that reading permission
+ * requests does not have to aggregate the whole permission event table.
+ * The table has the same columns as the view that aggregates the permission events into permission requests, and the
+ * row of a permission request is updated from that view whenever the {@link Outbox} commits an event for it.
+ * Since the view is restricted to a single permission ID, the update only reads the events of that permission request.
+ * <p>
+ * The view is kept as the source of truth, the table can be {@link #rebuild() rebuilt} from it and
+ * {@link #findInconsistentPermissionIds() verified} against it.
+ * Both can be done on startup by setting the property {@value STARTUP_ACTION_PROPERTY} to {@code rebuild} or
+ * {@code verify}.
+ */
+public class PermissionRequestProjection implements SmartInitializingSingleton, EnvironmentAware {
+    public static final String STARTUP_ACTION_PROPERTY = "region-connector.permission-request-projection.on-startup";
+    private static final Logger LOGGER = LoggerFactory.getLogger(PermissionRequestProjection.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+    private final String schema;
+    private final String table;
+    private final String qualifiedTable;
+    private final String qualifiedView;
+    @Nullable
+    private volatile String upsertStatement;
+    @Nullable
+    private volatile String columnList;
+    @Nullable
+    private Environment environment;
+
+    /**
+     * @param jdbcTemplate used to update the table, has to use the same data source as the permission event repository
+     * @param transactions used to save an event and update the table in the same transaction
+     * @param schema       the schema of the region connector
+     * @param table        the table containing the permission requests, the primary key has to be the permission ID
+     * @param view         the view, which aggregates the permission events to permission requests
+     */
+    public PermissionRequestProjection(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactions,
+            String schema,
+            String table,
+            String view
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.schema = schema;
+        this.table = table;
+        this.qualifiedTable = schema + "." + table;
+        this.qualifiedView = schema + "." + view;
+    }
+
+    /**
+     * Updates the permission request of the permission ID from its events.
+     * Has to be called in the same transaction that persisted the latest event of the permission request.
+     *
+     * @param permissionId the ID of the permission request that should be updated
+     */
+    public void update(String permissionId) {
+        jdbcTemplate.update(upsertStatement(), permissionId);
+    }
+
+    /**
+     * Replaces the content of the table with the permission requests aggregated by the view.
+     *
+     * @return the number of permission requests in the table
+     */
+    public int rebuild() {
+        var columns = columnList();
+        var rebuilt = transactions.execute(status -> {
+            jdbcTemplate.update("DELETE FROM " + qualifiedTable);
+            return jdbcTemplate.update("INSERT INTO %s (%s) SELECT %s FROM %s"
+                                               .formatted(qualifiedTable, columns, columns, qualifiedView));
+        });
+        return rebuilt == null ? 0 : rebuilt;
+    }
+
+    /**
+     * Compares the table with the permission requests aggregated by the view.
+     *
+     * @return the IDs of the permission requests that are missing in the table, are not in the view or differ in any
+     * column
+     */
+    public List<String> findInconsistentPermissionIds() {
+        return jdbcTemplate.queryForList(
+                """
+                SELECT COALESCE(v.permission_id, t.permission_id)
+                FROM %s v
+                         FULL JOIN %s t ON v.permission_id = t.permission_id
+                WHERE to_jsonb(v) IS DISTINCT FROM to_jsonb(t)
+                """.formatted(qualifiedView, qualifiedTable),
+                String.class
+        );
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var property = environment == null ? null : environment.getProperty(STARTUP_ACTION_PROPERTY);
+        var action = property == null
+                ? StartupAction.NONE
+                : StartupAction.valueOf(property.trim().toUpperCase(Locale.ROOT));
+        try {
+            switch (action) {
+                case REBUILD -> LOGGER.info("Rebuilt {} with {} permission requests", qualifiedTable, rebuild());
+                case VERIFY -> {
+                    var inconsistent = findInconsistentPermissionIds();
+                    if (inconsistent.isEmpty()) {
+                        LOGGER.info("{} is consistent with {}", qualifiedTable, qualifiedView);
+                    } else {
+                        LOGGER.warn("{} differs from {} for {} permission requests: {}",
+                                    qualifiedTable,
+                                    qualifiedView,
+                                    inconsistent.size(),
+                                    inconsistent);
+                    }
+                }
+                case NONE -> LOGGER.debug("No startup action for {}", qualifiedTable);
+            }
+        } catch (DataAccessException e) {
+            LOGGER.error("Could not {} {}", action, qualifiedTable, e);
+        }
+    }
+
+    /**
+     * Saves the event and updates its permission request in the same transaction.
+     * The transaction holds a lock on the permission ID, so that concurrent events of the same permission request are
+     * projected in the order they are committed.
+     */
+    @Nullable
+    PermissionEvent save(PermissionEvent event, PermissionEventRepository repository) {
+        return transactions.execute(status -> {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?), hashtext(?))",
+                                      qualifiedTable,
+                                      event.permissionId());
+            var saved = repository.saveAndFlush(event);
+            if (saved != null) {
+                update(event.permissionId());
+            }
+            return saved;
+        });
+    }
+
+    /**
+     * Saves the events and updates their permission requests in a single transaction.
+     * The events are flushed once after all of them were saved, and the permission requests are updated in one JDBC
+     * batch.
+     * The locks on the permission IDs are acquired in a fixed order, so that concurrent batches cannot deadlock.
+     *
+     * @return the saved events in the order they were passed
+     */
+    List<PermissionEvent> saveAll(List<? extends PermissionEvent> events, PermissionEventRepository repository) {
+        var saved = transactions.execute(status -> {
+            var permissionIds = events.stream()
+                                      .map(PermissionEvent::permissionId)
+                                      .distinct()
+                                      .sorted()
+                                      .toList();
+            for (var permissionId : permissionIds) {
+                jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?), hashtext(?))",
+                                          qualifiedTable,
+                                          permissionId);
+            }
+            var result = new ArrayList<PermissionEvent>(events.size());
+            var last = events.size() - 1;
+            for (var i = 0; i <= last; i++) {
+                var event = events.get(i);
+                var savedEvent = i == last ? repository.saveAndFlush(event) : repository.save(event);
+                if (savedEvent != null) {
+                    result.add(event);
+                }
+            }
+            jdbcTemplate.batchUpdate(upsertStatement(),
+                                     permissionIds.stream()
+                                                  .map(permissionId -> new Object[]{permissionId})
+                                                  .toList());
+            return result;
+        });
+        return saved == null ? List.of() : saved;
+    }
+
+    private String upsertStatement() {
+        var statement = upsertStatement;
+        if (statement == null) {
+            var columns = columns();
+            var updates = columns.stream()
+                                 .filter(column -> !column.equals("permission_id"))
+                                 .map(column -> column + " = EXCLUDED." + column)
+                                 .collect(Collectors.joining(", "));
+            var list = String.join(", ", columns);
+            statement = """
+                        INSERT INTO %s (%s)
+                        SELECT %s FROM %s WHERE permission_id = ?
+                        ON CONFLICT (permission_id) DO UPDATE SET %s
+                        """.formatted(qualifiedTable, list, list, qualifiedView, updates);
+            upsertStatement = statement;
+        }
+        return statement;
+    }
+
+    private String columnList() {
+        var list = columnList;
+        if (list == null) {
+            list = String.join(", ", columns());
+            columnList = list;
+        }
+        return list;
+    }
+
+    private List<String> columns() {
+        var columns = jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_schema = ? AND table_name = ? ORDER BY ordinal_position",
+                String.class,
+                schema,
+                table
+        );
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Permission request table " + qualifiedTable + " does not exist");
+        }
+        return columns;
+    }
+
+    private enum StartupAction {
+        NONE,
+        VERIFY,
+        REBUILD
+    }
+}
@@ -1,4 +1,4 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.shared.jwt;
@@ -6,9 +6,12 @@ package energy.eddie.regionconnector.shared.jwt;
 import com.nimbusds.jwt.SignedJWT;
 
 import java.text.ParseException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Optional;
 
 public final class JwtValidations {
     private JwtValidations() {}
@@ -36,12 +39,22 @@ public final class JwtValidations {
      */
     public static boolean isValidUntil(String jwt, ZonedDateTime zonedDateTime) {
         var instant = zonedDateTime.toInstant();
+        return expiration(jwt).map(expirationDate -> !expirationDate.isBefore(instant))
+                              .orElse(false);
+    }
+
+    /**
+     * Reads the expiration date of a JWT.
+     *
+     * @param jwt the JWT
+     * @return the expiration date, or empty if the JWT cannot be parsed or does not have an expiration date
+     */
+    public static Optional<Instant> expiration(String jwt) {
         try {
-            SignedJWT signedJwt = SignedJWT.parse(jwt);
-            var expirationDate = signedJwt.getJWTClaimsSet().getExpirationTime().toInstant();
-            return !expirationDate.isBefore(instant);
+            var expirationTime = SignedJWT.parse(jwt).getJWTClaimsSet().getExpirationTime();
+            return Optional.ofNullable(expirationTime).map(Date::toInstant);
         } catch (ParseException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
@@ -0,0 +1,15 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.oauth;
+
+import java.time.Instant;
+
+/**
+ * A token of an upstream API together with the time it expires at.
+ *
+ * @param token     the token, for example an access token or the credentials containing it
+ * @param expiresAt the time after which the upstream API does not accept the token anymore
+ * @param <T>       the type of the token
+ */
+public record ExpiringToken<T>(T token, Instant expiresAt) {}
@@ -0,0 +1,244 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.oauth;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the tokens of an upstream API per credential, for example per client ID or refresh token, until shortly before
+ * they expire.
+ * Concurrent calls for the token of the same credential share a single token request, so that there is one token
+ * request per credential and expiry, instead of one per caller that arrives before the new token is there.
+ * Tokens that are about to expire are refreshed in the background, while the current token is still handed out.
+ * Failed token requests are not cached, the next call requests a new token.
+ * <p>
+ * If it is a bean, it reports the token requests and the calls that had to wait for one to the {@link OpenTelemetry}
+ * bean.
+ *
+ * @param <K> the credential a token belongs to
+ * @param <T> the type of the token
+ */
+public class SingleFlightTokenCache<K, T> implements ApplicationContextAware {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingleFlightTokenCache.class);
+    private static final AttributeKey<String> TOKEN_CACHE = AttributeKey.stringKey("token_cache");
+    private static final AttributeKey<Boolean> PROACTIVE = AttributeKey.booleanKey("proactive");
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    /**
+     * Minimum time between two background refreshes of the same token, so that an unavailable upstream API is not
+     * called on every use of the token.
+     */
+    private static final Duration BACKGROUND_REFRESH_RETRY_DELAY = Duration.ofSeconds(10);
+    private final String name;
+    private final Duration expirationMargin;
+    private final Duration refreshAhead;
+    private final Clock clock;
+    private final Map<K, Entry<T>> entries = new ConcurrentHashMap<>();
+    private volatile Metrics metrics;
+
+    /**
+     * @param name             the name of the cache used in the metrics, for example the ID of the region connector
+     * @param expirationMargin tokens that expire within this margin are not handed out anymore, so that they do not
+     *                         expire during a request
+     * @param refreshAhead     tokens that are handed out within this duration before the expiration margin are
+     *                         refreshed in the background
+     */
+    public SingleFlightTokenCache(String name, Duration expirationMargin, Duration refreshAhead) {
+        this(name, expirationMargin, refreshAhead, Clock.systemUTC());
+    }
+
+    SingleFlightTokenCache(String name, Duration expirationMargin, Duration refreshAhead, Clock clock) {
+        if (expirationMargin.isNegative() || refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("Expiration margin and refresh ahead must not be negative");
+        }
+        this.name = name;
+        this.expirationMargin = expirationMargin;
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+        this.metrics = new Metrics(OpenTelemetry.noop().getMeter(SingleFlightTokenCache.class.getName()));
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        var openTelemetry = applicationContext.getBeanProvider(OpenTelemetry.class).getIfAvailable(OpenTelemetry::noop);
+        metrics = new Metrics(openTelemetry.getMeter(SingleFlightTokenCache.class.getName()));
+    }
+
+    /**
+     * Returns the cached token of the credential, or requests a new one if there is no usable token.
+     * The decision is made on subscription.
+     *
+     * @param key     the credential
+     * @param request requests a new token for the credential from the upstream API, only called if no other request
+     *                for the credential is in flight
+     * @return the token
+     */
+    public Mono<T> token(K key, Supplier<? extends Mono<ExpiringToken<T>>> request) {
+        return Mono.defer(() -> lookup(key, request));
+    }
+
+    /**
+     * Removes the token of the credential, for example because the upstream API rejected it.
+     * A token request that is in flight is not cancelled.
+     *
+     * @param key the credential
+     */
+    public void invalidate(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            entry.token = null;
+        }
+    }
+
+    private Mono<T> lookup(K key, Supplier<? extends Mono<ExpiringToken<T>>> request) {
+        while (true) {
+            var entry = entries.computeIfAbsent(key, ignored -> new Entry<>());
+            Mono<T> backgroundRefresh = null;
+            Mono<T> result;
+            boolean newRequest = false;
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                var now = clock.instant();
+                var token = entry.token;
+                if (token != null && now.isBefore(usableUntil(token))) {
+                    if (!now.isBefore(refreshAt(token))
+                        && entry.inFlight == null
+                        && !now.isBefore(entry.nextBackgroundRefresh)) {
+                        entry.nextBackgroundRefresh = now.plus(BACKGROUND_REFRESH_RETRY_DELAY);
+                        backgroundRefresh = startRequest(entry, request, true);
+                    }
+                    result = Mono.just(token.token());
+                } else {
+                    var inFlight = entry.inFlight;
+                    if (inFlight == null) {
+                        inFlight = startRequest(entry, request, false);
+                        newRequest = true;
+                    }
+                    metrics.waits.add(1, Attributes.of(TOKEN_CACHE, name));
+                    result = inFlight;
+                }
+            }
+            // Subscribe outside the lock, since the request might complete synchronously
+            if (backgroundRefresh != null) {
+                backgroundRefresh.subscribe(
+                        ignored -> {},
+                        error -> LOGGER.warn("Background refresh of token of {} failed", name, error)
+                );
+            }
+            if (newRequest) {
+                evictExpired();
+            }
+            return result;
+        }
+    }
+
+    private Mono<T> startRequest(
+            Entry<T> entry,
+            Supplier<? extends Mono<ExpiringToken<T>>> request,
+            boolean proactive
+    ) {
+        var start = System.nanoTime();
+        var inFlight = Mono.defer(request)
+                           .map(token -> {
+                               synchronized (entry) {
+                                   entry.token = token;
+                               }
+                               recordRequest(start, proactive, "success");
+                               return token.token();
+                           })
+                           .doOnError(error -> recordRequest(start, proactive, "failure"))
+                           .doFinally(signal -> {
+                               synchronized (entry) {
+                                   entry.inFlight = null;
+                               }
+                           })
+                           .cache();
+        entry.inFlight = inFlight;
+        return inFlight;
+    }
+
+    private void recordRequest(long start, boolean proactive, String outcome) {
+        var currentMetrics = metrics;
+        var attributes = Attributes.of(TOKEN_CACHE, name, PROACTIVE, proactive, OUTCOME, outcome);
+        currentMetrics.refreshes.add(1, attributes);
+        currentMetrics.refreshDuration.record((System.nanoTime() - start) / 1_000_000.0, attributes);
+    }
+
+    /**
+     * Removes the entries of credentials, whose token expired and which are not refreshed, so that credentials that
+     * are not used anymore, like rotated refresh tokens, do not accumulate.
+     */
+    private void evictExpired() {
+        var now = clock.instant();
+        entries.values().removeIf(entry -> {
+            synchronized (entry) {
+                var token = entry.token;
+                var expired = token == null || !now.isBefore(token.expiresAt());
+                if (expired && entry.inFlight == null) {
+                    entry.evicted = true;
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    private Instant usableUntil(ExpiringToken<T> token) {
+        return token.expiresAt().minus(expirationMargin);
+    }
+
+    private Instant refreshAt(ExpiringToken<T> token) {
+        return usableUntil(token).minus(refreshAhead);
+    }
+
+    private static final class Entry<T> {
+        @Nullable
+        private ExpiringToken<T> token;
+        @Nullable
+        private Mono<T> inFlight;
+        private Instant nextBackgroundRefresh = Instant.MIN;
+        private boolean evicted = false;
+    }
+
+    private static final class Metrics {
+        private final LongCounter refreshes;
+        private final LongCounter waits;
+        private final DoubleHistogram refreshDuration;
+
+        private Metrics(Meter meter) {
+            refreshes = meter.counterBuilder("region_connector_token_refreshes")
+                             .setDescription("Token requests to upstream APIs, per token cache, outcome and whether they were made ahead of expiry")
+                             .build();
+            waits = meter.counterBuilder("region_connector_token_waits")
+                         .setDescription("Calls that had to wait for a token request, because there was no usable token, per token cache")
+                         .build();
+            refreshDuration = meter.histogramBuilder("region_connector_token_refresh_duration")
+                                   .setDescription("Duration of token requests to upstream APIs, per token cache")
+                                   .setUnit("ms")
+                                   .build();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.ratelimit;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the calls of a {@link WebClient} to an upstream API, so that they stay right below the quota of the API
+ * instead of running into it and backing off.
+ * Each endpoint of each upstream host is limited separately by a token bucket and a concurrency limit, see
+ * {@link RateLimitLane}.
+ * Endpoints are identified by the URI template of the request, requests without URI template share the limit of their
+ * host.
+ * If the upstream API throttles a call with one of the throttling statuses of the {@link RateLimit}, by default only
+ * {@code 429 Too Many Requests}, the concurrency limit of the endpoint is lowered and no calls are made until the time
+ * given by the {@code Retry-After} header passed.
+ * <p>
+ * Register it as a filter on the web client builder, for example {@code WebClient.builder().filter(rateLimiter)}.
+ * If it is a bean, it reports the queued, admitted and throttled calls to the {@link OpenTelemetry} bean.
+ */
+public class AdaptiveRateLimiter implements ExchangeFilterFunction, ApplicationContextAware {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+    private static final AttributeKey<String> RATE_LIMITER = AttributeKey.stringKey("rate_limiter");
+    private static final AttributeKey<String> HOST = AttributeKey.stringKey("host");
+    private static final AttributeKey<String> ENDPOINT = AttributeKey.stringKey("endpoint");
+    private final String name;
+    private final RateLimit rateLimit;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoTime;
+    private final Map<Endpoint, RateLimitLane> lanes = new ConcurrentHashMap<>();
+    private volatile Metrics metrics;
+
+    /**
+     * @param name      the name of the rate limiter used in the metrics, for example the ID of the region connector
+     * @param rateLimit the limits of each endpoint
+     */
+    public AdaptiveRateLimiter(String name, RateLimit rateLimit) {
+        this(name, rateLimit, Schedulers.parallel(), System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(String name, RateLimit rateLimit, Scheduler scheduler, LongSupplier nanoTime) {
+        this.name = name;
+        this.rateLimit = rateLimit;
+        this.scheduler = scheduler;
+        this.nanoTime = nanoTime;
+        this.metrics = new Metrics(OpenTelemetry.noop().getMeter(AdaptiveRateLimiter.class.getName()));
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        var openTelemetry = applicationContext.getBeanProvider(OpenTelemetry.class).getIfAvailable(OpenTelemetry::noop);
+        metrics = new Metrics(openTelemetry.getMeter(AdaptiveRateLimiter.class.getName()));
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        var endpoint = new Endpoint(String.valueOf(request.url().getHost()),
+                                    request.attribute(URI_TEMPLATE_ATTRIBUTE).map(Object::toString).orElse(""));
+        var lane = lanes.computeIfAbsent(endpoint, ignored -> new RateLimitLane(rateLimit, scheduler, nanoTime));
+        var attributes = Attributes.of(RATE_LIMITER, name, HOST, endpoint.host(), ENDPOINT, endpoint.template());
+        return lane.acquire()
+                   .flatMap(permit -> {
+                       var currentMetrics = metrics;
+                       if (permit.queued()) {
+                           currentMetrics.queued.add(1, attributes);
+                       }
+                       currentMetrics.admitted.add(1, attributes);
+                       return next.exchange(request)
+                                  .doOnNext(response -> {
+                                      if (isThrottled(response)) {
+                                          currentMetrics.throttled.add(1, attributes);
+                                          var retryAfter = retryAfter(response.headers().asHttpHeaders());
+                                          LOGGER.info("Upstream API throttled calls to {}{}, pausing for {}",
+                                                      endpoint.host(),
+                                                      endpoint.template(),
+                                                      retryAfter);
+                                          permit.release(RateLimitLane.Outcome.THROTTLED, retryAfter);
+                                      } else {
+                                          permit.release(RateLimitLane.Outcome.SUCCESS, Duration.ZERO);
+                                      }
+                                  })
+                                  .doOnError(error -> permit.release(RateLimitLane.Outcome.IGNORED, Duration.ZERO))
+                                  .doOnCancel(() -> permit.release(RateLimitLane.Outcome.IGNORED, Duration.ZERO));
+                   });
+    }
+
+    private boolean isThrottled(ClientResponse response) {
+        return rateLimit.throttlingStatuses().contains(response.statusCode().value());
+    }
+
+    /**
+     * Reads the {@code Retry-After} header, which contains either the seconds to wait or the date after which calls
+     * can be made again.
+     */
+    private Duration retryAfter(HttpHeaders headers) {
+        var value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        return parseRetryAfter(value, Instant.now()).orElse(rateLimit.defaultRetryAfter());
+    }
+
+    static Optional<Duration> parseRetryAfter(@Nullable String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException ignored) {
+            // Not a number of seconds, try the HTTP date format
+        }
+        try {
+            var until = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            var duration = Duration.between(now, until);
+            return Optional.of(duration.isNegative() ? Duration.ZERO : duration);
+        } catch (DateTimeParseException e) {
+            LOGGER.debug("Could not parse Retry-After header '{}'", value, e);
+            return Optional.empty();
+        }
+    }
+
+    private record Endpoint(String host, String template) {}
+
+    private final class Metrics {
+        private final LongCounter queued;
+        private final LongCounter admitted;
+        private final LongCounter throttled;
+
+        private Metrics(Meter meter) {
+            queued = meter.counterBuilder("region_connector_rate_limit_queued")
+                          .setDescription("Calls to upstream APIs that had to wait before they were admitted, per endpoint")
+                          .build();
+            admitted = meter.counterBuilder("region_connector_rate_limit_admitted")
+                            .setDescription("Calls to upstream APIs that were admitted, per endpoint")
+                            .build();
+            throttled = meter.counterBuilder("region_connector_rate_limit_throttled")
+                             .setDescription("Calls to upstream APIs that were throttled by the upstream API, per endpoint")
+                             .build();
+            meter.gaugeBuilder("region_connector_rate_limit_waiting")
+                 .setDescription("Calls to upstream APIs that are currently waiting to be admitted, per endpoint")
+                 .ofLongs()
+                 .buildWithCallback(measurement -> lanes.forEach(
+                         (endpoint, lane) -> measurement.record(
+                                 lane.waiting(),
+                                 Attributes.of(RATE_LIMITER, name, HOST, endpoint.host(), ENDPOINT, endpoint.template())
+                         )
+                 ));
+        }
+    }
+}
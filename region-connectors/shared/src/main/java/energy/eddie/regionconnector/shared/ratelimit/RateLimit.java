@@ -0,0 +1,53 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.ratelimit;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * The limits of the calls to a single endpoint of an upstream host.
+ *
+ * @param requestsPerSecond the sustained rate of calls, should be right below the quota of the upstream API
+ * @param burst             how many calls can be made at once after the endpoint was idle
+ * @param maxConcurrency    the maximum number of calls in progress at the same time, the actual limit is lowered
+ *                          whenever the upstream API throttles calls and raised again with every successful call
+ * @param defaultRetryAfter  how long calls are paused after the upstream API throttled a call without a
+ *                           {@code Retry-After} header
+ * @param throttlingStatuses the HTTP status codes with which the upstream API throttles calls, usually only
+ *                           {@code 429 Too Many Requests}
+ */
+public record RateLimit(
+        double requestsPerSecond,
+        int burst,
+        int maxConcurrency,
+        Duration defaultRetryAfter,
+        Set<Integer> throttlingStatuses
+) {
+    public static final Set<Integer> TOO_MANY_REQUESTS = Set.of(429);
+
+    public RateLimit {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second have to be positive, but was " + requestsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst has to be at least 1, but was " + burst);
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency has to be at least 1, but was " + maxConcurrency);
+        }
+        if (defaultRetryAfter.isNegative()) {
+            throw new IllegalArgumentException("Default retry after must not be negative, but was " + defaultRetryAfter);
+        }
+        throttlingStatuses = Set.copyOf(throttlingStatuses);
+    }
+
+    public RateLimit(double requestsPerSecond, int burst, int maxConcurrency) {
+        this(requestsPerSecond, burst, maxConcurrency, TOO_MANY_REQUESTS);
+    }
+
+    public RateLimit(double requestsPerSecond, int burst, int maxConcurrency, Set<Integer> throttlingStatuses) {
+        this(requestsPerSecond, burst, maxConcurrency, Duration.ofSeconds(1), throttlingStatuses);
+    }
+}
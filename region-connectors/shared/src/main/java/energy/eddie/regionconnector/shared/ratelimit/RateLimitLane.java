@@ -0,0 +1,209 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.ratelimit;
+
+import jakarta.annotation.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits the calls to a single endpoint of an upstream host.
+ * A call is admitted if a token is available in the token bucket, fewer calls than the concurrency limit are in
+ * progress and the upstream API did not ask to pause.
+ * The concurrency limit follows the additive increase, multiplicative decrease scheme, it is increased by one per
+ * limit of successful calls and halved for every throttled call.
+ * Calls that cannot be admitted wait in the order they arrived.
+ */
+final class RateLimitLane {
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private final RateLimit rateLimit;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoTime;
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private double tokens;
+    private long refilledAt;
+    private long pausedUntil;
+    private double concurrencyLimit;
+    private int inProgress = 0;
+    private boolean drainScheduled = false;
+
+    RateLimitLane(RateLimit rateLimit, Scheduler scheduler, LongSupplier nanoTime) {
+        this.rateLimit = rateLimit;
+        this.scheduler = scheduler;
+        this.nanoTime = nanoTime;
+        this.tokens = rateLimit.burst();
+        this.refilledAt = nanoTime.getAsLong();
+        this.pausedUntil = refilledAt;
+        this.concurrencyLimit = rateLimit.maxConcurrency();
+    }
+
+    /**
+     * Waits until the call can be made.
+     * The permit has to be released once the call finished.
+     */
+    Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            var waiter = new Waiter(sink);
+            sink.onCancel(() -> cancel(waiter));
+            synchronized (this) {
+                waiter.queued = !waiting.isEmpty() || !canAdmit(nanoTime.getAsLong());
+                waiting.add(waiter);
+            }
+            drain();
+        });
+    }
+
+    synchronized int waiting() {
+        return waiting.size();
+    }
+
+    synchronized double concurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit admitted;
+        synchronized (this) {
+            if (waiting.remove(waiter)) {
+                return;
+            }
+            admitted = waiter.permit;
+        }
+        if (admitted != null) {
+            admitted.release(Outcome.IGNORED, Duration.ZERO);
+        }
+    }
+
+    private void drain() {
+        List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            var now = nanoTime.getAsLong();
+            while (!waiting.isEmpty() && canAdmit(now)) {
+                tokens -= 1;
+                inProgress++;
+                var waiter = waiting.poll();
+                waiter.permit = new Permit(waiter.queued);
+                admitted.add(waiter);
+            }
+            scheduleDrain(now);
+        }
+        for (var waiter : admitted) {
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    private boolean canAdmit(long now) {
+        refill(now);
+        return now >= pausedUntil && tokens >= 1 && inProgress < (int) concurrencyLimit;
+    }
+
+    private void refill(long now) {
+        var elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(rateLimit.burst(), tokens + elapsed / NANOS_PER_SECOND * rateLimit.requestsPerSecond());
+            refilledAt = now;
+        }
+    }
+
+    /**
+     * Drains the waiting calls again, once they can be admitted because of time passing.
+     * If the concurrency limit is reached, the waiting calls are drained when a call finishes.
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void scheduleDrain(long now) {
+        if (waiting.isEmpty() || drainScheduled || inProgress >= (int) concurrencyLimit) {
+            return;
+        }
+        long delay;
+        if (now < pausedUntil) {
+            delay = pausedUntil - now;
+        } else {
+            delay = (long) Math.ceil((1 - tokens) / rateLimit.requestsPerSecond() * NANOS_PER_SECOND);
+        }
+        drainScheduled = true;
+        scheduler.schedule(() -> {
+            synchronized (this) {
+                drainScheduled = false;
+            }
+            drain();
+        }, Math.max(delay, 1), TimeUnit.NANOSECONDS);
+    }
+
+    private void release(Outcome outcome, Duration retryAfter) {
+        synchronized (this) {
+            inProgress--;
+            switch (outcome) {
+                case SUCCESS -> concurrencyLimit = Math.min(rateLimit.maxConcurrency(),
+                                                            concurrencyLimit + 1 / concurrencyLimit);
+                case THROTTLED -> {
+                    concurrencyLimit = Math.max(1, concurrencyLimit * DECREASE_FACTOR);
+                    pausedUntil = Math.max(pausedUntil, nanoTime.getAsLong() + retryAfter.toNanos());
+                }
+                case IGNORED -> {
+                    // Failures that are not caused by the upstream API limits do not change the limits
+                }
+            }
+        }
+        drain();
+    }
+
+    enum Outcome {
+        SUCCESS,
+        THROTTLED,
+        IGNORED
+    }
+
+    /**
+     * Allows a single call, has to be released once the call finished.
+     */
+    final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private final boolean queued;
+
+        private Permit(boolean queued) {
+            this.queued = queued;
+        }
+
+        /**
+         * If the call had to wait before it was admitted.
+         */
+        boolean queued() {
+            return queued;
+        }
+
+        /**
+         * Releases the permit, only the first release has an effect.
+         *
+         * @param outcome    the outcome of the call
+         * @param retryAfter how long calls should be paused, if the call was throttled
+         */
+        void release(Outcome outcome, Duration retryAfter) {
+            if (released.compareAndSet(false, true)) {
+                RateLimitLane.this.release(outcome, retryAfter);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private boolean queued;
+        @Nullable
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
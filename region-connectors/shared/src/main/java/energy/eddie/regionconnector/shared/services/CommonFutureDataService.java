@@ -6,27 +6,61 @@ package energy.eddie.regionconnector.shared.services;
 import energy.eddie.api.agnostic.data.needs.DataNeedCalculationService;
 import energy.eddie.api.agnostic.data.needs.ValidatedHistoricalDataDataNeedResult;
 import energy.eddie.api.agnostic.process.model.MeterReadingPermissionRequest;
+import energy.eddie.api.agnostic.process.model.persistence.PagedStatusPermissionRequestRepository;
 import energy.eddie.api.agnostic.process.model.persistence.StatusPermissionRequestRepository;
 import energy.eddie.api.v0.RegionConnectorMetadata;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The intent of this class is to abstract the Future Data polling procedure of each individual Region Connector.
+ * <p>
+ * Each scheduled run reads the accepted permission requests in pages, if the repository is a
+ * {@link PagedStatusPermissionRequestRepository}, and checks up to {@link FutureDataPollingConfiguration#concurrency()}
+ * permission requests at the same time.
+ * The permission requests of a page that need to be fetched are handed to the polling service together.
+ * A failure only affects its own permission request.
+ * Runs are executed outside the scheduler thread, a run that is started while the previous one is still in progress is
+ * skipped or queued, depending on {@link FutureDataPollingConfiguration#overlappingRuns()}.
+ * Polling services may fetch the data asynchronously, so a run can end before all of its polls have completed.
+ * The configuration is read from the environment, see {@link FutureDataPollingConfiguration}.
  *
  * @param <T> The region connectors PermissionRequest
  */
-public class CommonFutureDataService<T extends MeterReadingPermissionRequest> {
+public class CommonFutureDataService<T extends MeterReadingPermissionRequest> implements ApplicationContextAware {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommonFutureDataService.class);
+    private static final AttributeKey<String> REGION_CONNECTOR = AttributeKey.stringKey("region_connector");
+    private static final AttributeKey<String> STAGE = AttributeKey.stringKey("stage");
+    private static final AttributeKey<String> ACTION = AttributeKey.stringKey("action");
     private final CommonPollingService<T> pollingService;
     private final StatusPermissionRequestRepository<T> repository;
     private final RegionConnectorMetadata metadata;
     private final DataNeedCalculationService calculationService;
+    private final Attributes attributes;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean queued = new AtomicBoolean(false);
+    private final AtomicLong backlog = new AtomicLong();
+    private volatile FutureDataPollingConfiguration configuration = FutureDataPollingConfiguration.DEFAULT;
+    private volatile Metrics metrics;
 
     @SuppressWarnings("FutureReturnValueIgnored")
     public CommonFutureDataService(
@@ -41,39 +75,197 @@ public class CommonFutureDataService<T extends MeterReadingPermissionRequest> {
         this.repository = repository;
         this.metadata = metadata;
         this.calculationService = calculationService;
+        this.attributes = Attributes.of(REGION_CONNECTOR, metadata.id());
+        this.metrics = new Metrics(OpenTelemetry.noop().getMeter(CommonFutureDataService.class.getName()));
 
-        taskScheduler.schedule(this::fetchMeterData,
+        taskScheduler.schedule(this::scheduleRun,
                                new CronTrigger(cronExpression, TimeZone.getTimeZone(metadata.timeZone())));
     }
 
+    /**
+     * Reads the configuration from the environment and reports the metrics to the {@link OpenTelemetry} bean, if there
+     * is one.
+     */
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        configuration = FutureDataPollingConfiguration.of(applicationContext.getEnvironment(), metadata.id());
+        var openTelemetry = applicationContext.getBeanProvider(OpenTelemetry.class).getIfAvailable(OpenTelemetry::noop);
+        metrics = new Metrics(openTelemetry.getMeter(CommonFutureDataService.class.getName()));
+    }
+
     /**
      * This method is used to fetch Future Data for a Region Connector.
      * All active PermissionRequests are fetched from the StatusPermissionRequestRepository.
-     * The status of each PermissionRequest is verified, and if needed, polling of FutureData takes place.
+     * The status of each PermissionRequest is verified, and the PermissionRequests that need to be fetched are polled
+     * together, so that the polling service can batch them.
+     * Returns after the run is finished, or immediately if another run is in progress.
      */
     public void fetchMeterData() {
+        if (!tryStartRun()) {
+            return;
+        }
+        do {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        } while (queued.compareAndSet(true, false) && running.compareAndSet(false, true));
+    }
+
+    private void scheduleRun() {
+        Schedulers.boundedElastic().schedule(this::fetchMeterData);
+    }
+
+    private boolean tryStartRun() {
+        if (running.compareAndSet(false, true)) {
+            return true;
+        }
+        var overlappingRuns = configuration.overlappingRuns();
+        metrics.overlappingRuns.add(1, attributes.toBuilder().put(ACTION, overlappingRuns.name()).build());
+        if (overlappingRuns == FutureDataPollingConfiguration.OverlappingRuns.SKIP) {
+            LOGGER.atWarn()
+                  .addArgument(metadata::id)
+                  .log("{}: Skipping future data run, since the previous run is still in progress");
+            return false;
+        }
+        LOGGER.atInfo()
+              .addArgument(metadata::id)
+              .log("{}: Queuing future data run, since the previous run is still in progress");
+        queued.set(true);
+        // The previous run might have finished before the run was queued
+        if (running.compareAndSet(false, true)) {
+            queued.set(false);
+            return true;
+        }
+        return false;
+    }
+
+    private void run() {
         LOGGER.atInfo()
               .addArgument(metadata::id)
               .log("{}: Polling future data");
-        var activePermissions = repository.findByStatus(PermissionProcessStatus.ACCEPTED);
-        for (var activePermission : activePermissions) {
-            if (!(calculationService.calculate(activePermission.dataNeedId()) instanceof ValidatedHistoricalDataDataNeedResult)) {
+        var config = configuration;
+        var start = System.nanoTime();
+        try {
+            pages(config.pageSize())
+                    .concatMap(page -> pollPage(page, config.concurrency()))
+                    .blockLast();
+        } catch (RuntimeException e) {
+            metrics.failures.add(1, attributes.toBuilder().put(STAGE, "load").build());
+            LOGGER.atError()
+                  .addArgument(metadata::id)
+                  .setCause(e)
+                  .log("{}: Could not load permission requests for future data");
+        } finally {
+            metrics.runDuration.record((System.nanoTime() - start) / 1e9, attributes);
+        }
+    }
+
+    private Flux<List<T>> pages(int pageSize) {
+        if (repository instanceof PagedStatusPermissionRequestRepository<T> pagedRepository) {
+            return Flux.<List<T>, String>generate(
+                    () -> "",
+                    (after, sink) -> {
+                        var page = pagedRepository.findPageByStatus(PermissionProcessStatus.ACCEPTED, after, pageSize);
+                        if (!page.isEmpty()) {
+                            sink.next(page);
+                        }
+                        if (page.size() < pageSize) {
+                            sink.complete();
+                            return after;
+                        }
+                        return page.getLast().permissionId();
+                    }
+            );
+        }
+        return Flux.defer(() -> Flux.fromIterable(repository.findByStatus(PermissionProcessStatus.ACCEPTED)))
+                   .buffer(pageSize);
+    }
+
+    private Mono<Void> pollPage(List<T> page, int concurrency) {
+        backlog.addAndGet(page.size());
+        return Flux.fromIterable(page)
+                   .distinct(MeterReadingPermissionRequest::permissionId)
+                   .flatMapSequential(permissionRequest -> Mono.fromCallable(() -> needsToBeFetched(permissionRequest))
+                                                               .subscribeOn(Schedulers.boundedElastic())
+                                                               .filter(Boolean::booleanValue)
+                                                               .map(ignored -> permissionRequest),
+                                      concurrency)
+                   .collectList()
+                   .doOnNext(this::poll)
+                   .doFinally(ignored -> backlog.addAndGet(-page.size()))
+                   .then();
+    }
+
+    private boolean needsToBeFetched(T permissionRequest) {
+        try {
+            if (!(calculationService.calculate(permissionRequest.dataNeedId()) instanceof ValidatedHistoricalDataDataNeedResult)) {
                 LOGGER.atInfo()
                       .addArgument(metadata::id)
-                      .addArgument(activePermission::permissionId)
+                      .addArgument(permissionRequest::permissionId)
                       .log("{}: Cannot fetch validated historical data for permission request {}, since it's not the correct data need");
-            } else if (pollingService.isActiveAndNeedsToBeFetched(activePermission)) {
+                return false;
+            }
+            if (pollingService.isActiveAndNeedsToBeFetched(permissionRequest)) {
                 LOGGER.atInfo()
                       .addArgument(metadata::id)
-                      .addArgument(activePermission::permissionId)
+                      .addArgument(permissionRequest::permissionId)
                       .log("{}: Fetching energy data for permission request {}");
-                pollingService.pollTimeSeriesData(activePermission);
-            } else {
-                LOGGER.atInfo()
-                      .addArgument(metadata::id)
-                      .addArgument(activePermission::permissionId)
-                      .log("{}: permission request {} not active or does not need to be fetched");
+                return true;
             }
+            LOGGER.atInfo()
+                  .addArgument(metadata::id)
+                  .addArgument(permissionRequest::permissionId)
+                  .log("{}: permission request {} not active or does not need to be fetched");
+            return false;
+        } catch (RuntimeException e) {
+            metrics.failures.add(1, attributes.toBuilder().put(STAGE, "check").build());
+            LOGGER.atWarn()
+                  .addArgument(metadata::id)
+                  .addArgument(permissionRequest::permissionId)
+                  .setCause(e)
+                  .log("{}: Could not check if permission request {} needs to be fetched");
+            return false;
+        }
+    }
+
+    private void poll(List<T> permissionRequests) {
+        if (permissionRequests.isEmpty()) {
+            return;
+        }
+        try {
+            pollingService.pollAllTimeSeriesData(permissionRequests);
+        } catch (RuntimeException e) {
+            metrics.failures.add(permissionRequests.size(), attributes.toBuilder().put(STAGE, "poll").build());
+            LOGGER.atWarn()
+                  .addArgument(metadata::id)
+                  .addArgument(permissionRequests::size)
+                  .setCause(e)
+                  .log("{}: Could not poll future data for {} permission requests");
+        }
+    }
+
+    private final class Metrics {
+        private final DoubleHistogram runDuration;
+        private final LongCounter failures;
+        private final LongCounter overlappingRuns;
+
+        private Metrics(Meter meter) {
+            runDuration = meter.histogramBuilder("region_connector_future_data_run_duration")
+                               .setDescription("Duration of the future data runs per region connector")
+                               .setUnit("s")
+                               .build();
+            failures = meter.counterBuilder("region_connector_future_data_failures")
+                            .setDescription("Permission requests that could not be checked or polled per region connector and stage")
+                            .build();
+            overlappingRuns = meter.counterBuilder("region_connector_future_data_overlapping_runs")
+                                   .setDescription("Future data runs that were started while the previous run was still in progress, per region connector and action")
+                                   .build();
+            meter.gaugeBuilder("region_connector_future_data_backlog")
+                 .setDescription("Permission requests loaded by the current future data run that were not checked or polled yet")
+                 .ofLongs()
+                 .buildWithCallback(measurement -> measurement.record(backlog.get(), attributes));
         }
     }
 }
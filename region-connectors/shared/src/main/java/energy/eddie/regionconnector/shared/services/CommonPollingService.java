@@ -1,8 +1,10 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.shared.services;
 
+import java.util.List;
+
 public interface CommonPollingService<T> {
 
     /**
@@ -11,6 +13,16 @@ public interface CommonPollingService<T> {
      */
     void pollTimeSeriesData(T activePermission);
 
+    /**
+     * Polls future meter readings for all active permission requests of a polling run.
+     * Region connectors, whose API can return the meter readings of multiple permission requests at once, can override
+     * this method to batch their requests.
+     * @param activePermissions The permission requests that data needs to be polled for.
+     */
+    default void pollAllTimeSeriesData(List<T> activePermissions) {
+        activePermissions.forEach(this::pollTimeSeriesData);
+    }
+
     /**
      * Checks, if a permission request is currently active and needs to fetch data.
      * @param permissionRequest The permission request whose status needs to be checked.
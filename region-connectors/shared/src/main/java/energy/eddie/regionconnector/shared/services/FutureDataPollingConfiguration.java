@@ -0,0 +1,71 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.services;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Configures how the {@link CommonFutureDataService} of a region connector polls future data.
+ * Each value can be set for all region connectors with {@code region-connector.future-data.<name>} and overridden for
+ * a single region connector with {@code region-connector.future-data.<region-connector-id>.<name>}, for example
+ * {@code region-connector.future-data.dk-energinet.concurrency=8}.
+ *
+ * @param concurrency     how many permission requests are checked at the same time
+ * @param pageSize        how many permission requests are loaded from the database at once
+ * @param overlappingRuns what happens if a run is started, while the previous run is still in progress
+ */
+public record FutureDataPollingConfiguration(int concurrency, int pageSize, OverlappingRuns overlappingRuns) {
+    public static final String PROPERTY_PREFIX = "region-connector.future-data.";
+    public static final FutureDataPollingConfiguration DEFAULT = new FutureDataPollingConfiguration(4,
+                                                                                                    500,
+                                                                                                    OverlappingRuns.SKIP);
+
+    public FutureDataPollingConfiguration {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency has to be at least 1, but was " + concurrency);
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size has to be at least 1, but was " + pageSize);
+        }
+    }
+
+    /**
+     * Reads the configuration of the region connector from the environment, missing values are taken from
+     * {@link #DEFAULT}.
+     */
+    public static FutureDataPollingConfiguration of(Environment environment, String regionConnectorId) {
+        return new FutureDataPollingConfiguration(
+                property(environment, regionConnectorId, "concurrency", Integer.class, DEFAULT.concurrency()),
+                property(environment, regionConnectorId, "page-size", Integer.class, DEFAULT.pageSize()),
+                property(environment,
+                         regionConnectorId,
+                         "overlapping-runs",
+                         OverlappingRuns.class,
+                         DEFAULT.overlappingRuns())
+        );
+    }
+
+    private static <T> T property(
+            Environment environment,
+            String regionConnectorId,
+            String name,
+            Class<T> type,
+            T defaultValue
+    ) {
+        var global = environment.getProperty(PROPERTY_PREFIX + name, type, defaultValue);
+        return environment.getProperty(PROPERTY_PREFIX + regionConnectorId + "." + name, type, global);
+    }
+
+    public enum OverlappingRuns {
+        /**
+         * The new run is dropped, the permission requests are polled by the next scheduled run.
+         */
+        SKIP,
+        /**
+         * The new run is started as soon as the previous run finished.
+         * Multiple runs started during the same run are combined into one.
+         */
+        QUEUE
+    }
+}
@@ -0,0 +1,209 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.services;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Fetches the partitions of a historical backfill, like the time windows an upstream API restricts requests to,
+ * concurrently.
+ * At most {@code partitionConcurrency} partitions of one backfill, and at most {@code globalConcurrency} partitions of
+ * all backfills of the region connector are fetched at the same time, further partitions wait in the order they
+ * arrived.
+ * The results are emitted in the order of the partitions, regardless of the order in which the partitions complete.
+ * Progress that is derived from the published data, like the latest meter reading of a permission request, therefore
+ * only advances past partitions whose data was published, so that a restarted backfill resumes after the last
+ * published partition, instead of fetching the whole history again.
+ * <p>
+ * If it is a bean, it reports the fetched partitions and the partitions that had to wait to the {@link OpenTelemetry}
+ * bean.
+ */
+public class PartitionedBackfill implements ApplicationContextAware {
+    private static final AttributeKey<String> BACKFILL = AttributeKey.stringKey("backfill");
+    private final String name;
+    private final int partitionConcurrency;
+    private final int globalConcurrency;
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private int inProgress = 0;
+    private volatile Metrics metrics;
+
+    /**
+     * @param name                 the name of the backfill used in the metrics, for example the ID of the region
+     *                             connector
+     * @param partitionConcurrency the maximum number of partitions of a single backfill fetched at the same time
+     * @param globalConcurrency    the maximum number of partitions of all backfills fetched at the same time
+     */
+    public PartitionedBackfill(String name, int partitionConcurrency, int globalConcurrency) {
+        if (partitionConcurrency < 1 || globalConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.name = name;
+        this.partitionConcurrency = partitionConcurrency;
+        this.globalConcurrency = globalConcurrency;
+        this.metrics = new Metrics(OpenTelemetry.noop().getMeter(PartitionedBackfill.class.getName()));
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        var openTelemetry = applicationContext.getBeanProvider(OpenTelemetry.class).getIfAvailable(OpenTelemetry::noop);
+        metrics = new Metrics(openTelemetry.getMeter(PartitionedBackfill.class.getName()));
+    }
+
+    /**
+     * Fetches the partitions concurrently and emits their results in the order of the partitions.
+     * An error of a partition cancels the other partitions of the backfill.
+     *
+     * @param partitions the partitions in the order their results should be emitted
+     * @param fetcher    fetches a single partition, only called once the partition may be fetched
+     * @param <P>        the type of the partitions
+     * @param <R>        the type of the results
+     * @return the results of all partitions
+     */
+    public <P, R> Flux<R> fetch(List<P> partitions, Function<? super P, ? extends Publisher<R>> fetcher) {
+        return fetch(partitions, fetcher, null);
+    }
+
+    /**
+     * Fetches the partitions concurrently and emits their results in the order of the partitions.
+     * Failed partitions are retried according to the retry specification, partitions do not occupy a slot while they
+     * wait for their next attempt.
+     *
+     * @param partitions the partitions in the order their results should be emitted
+     * @param fetcher    fetches a single partition, only called once the partition may be fetched
+     * @param retry      decides whether and when failed partitions are fetched again
+     * @param <P>        the type of the partitions
+     * @param <R>        the type of the results
+     * @return the results of all partitions
+     */
+    public <P, R> Flux<R> fetch(
+            List<P> partitions,
+            Function<? super P, ? extends Publisher<R>> fetcher,
+            @Nullable Retry retry
+    ) {
+        return Flux.fromIterable(partitions)
+                   .flatMapSequential(partition -> {
+                       var attempt = Flux.usingWhen(acquire(),
+                                                    permit -> fetcher.apply(partition),
+                                                    permit -> Mono.fromRunnable(permit::release));
+                       return retry == null ? attempt : attempt.retryWhen(retry);
+                   }, partitionConcurrency);
+    }
+
+    synchronized int inProgress() {
+        return inProgress;
+    }
+
+    synchronized int waiting() {
+        return waiting.size();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            var waiter = new Waiter(sink);
+            sink.onCancel(() -> cancel(waiter));
+            boolean admitted;
+            synchronized (this) {
+                admitted = waiting.isEmpty() && inProgress < globalConcurrency;
+                if (admitted) {
+                    inProgress++;
+                    waiter.permit = new Permit();
+                } else {
+                    waiting.add(waiter);
+                }
+            }
+            var attributes = Attributes.of(BACKFILL, name);
+            if (!admitted) {
+                metrics.waits.add(1, attributes);
+                return;
+            }
+            metrics.partitions.add(1, attributes);
+            sink.success(waiter.permit);
+        });
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit admitted;
+        synchronized (this) {
+            if (waiting.remove(waiter)) {
+                return;
+            }
+            admitted = waiter.permit;
+        }
+        if (admitted != null) {
+            admitted.release();
+        }
+    }
+
+    /**
+     * Hands the slot of a finished partition to the next waiting partition, or frees it if no partition is waiting.
+     */
+    private void release() {
+        Waiter next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                inProgress--;
+                return;
+            }
+            next.permit = new Permit();
+        }
+        metrics.partitions.add(1, Attributes.of(BACKFILL, name));
+        next.sink.success(next.permit);
+    }
+
+    /**
+     * Allows fetching a single partition, only the first release has an effect.
+     */
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                PartitionedBackfill.this.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        @Nullable
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    private static final class Metrics {
+        private final LongCounter partitions;
+        private final LongCounter waits;
+
+        private Metrics(Meter meter) {
+            partitions = meter.counterBuilder("region_connector_backfill_partitions")
+                              .setDescription("Partitions of historical backfills that were fetched, per backfill")
+                              .build();
+            waits = meter.counterBuilder("region_connector_backfill_waits")
+                         .setDescription("Partitions of historical backfills that had to wait, because the global concurrency limit was reached, per backfill")
+                         .build();
+        }
+    }
+}
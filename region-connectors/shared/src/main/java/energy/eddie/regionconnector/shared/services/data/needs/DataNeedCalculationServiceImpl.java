@@ -28,22 +28,33 @@ import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link DataNeedCalculationService} that can be customized to fit the requirements of the region connector.
+ * <p>
+ * The results are memoized per data need, reference date and current date, since the strategies only depend on the
+ * dates. The reference date is taken in the time zone of the reference datetime, which is part of the key as well, since
+ * the strategies calculate the dates in that time zone.
+ * A memoized result is only reused for the same data need instance, so changes to a data need are picked up as soon as
+ * the {@link DataNeedsService} returns a new instance for it.
  */
 @Transactional(value = Transactional.TxType.REQUIRED)
 public class DataNeedCalculationServiceImpl implements DataNeedCalculationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(DataNeedCalculationServiceImpl.class);
+    private static final int MAX_MEMOIZED_CALCULATIONS = 1024;
     private final DataNeedsService dataNeedsService;
     private final RegionConnectorMetadata regionConnectorMetadata;
     private final PermissionTimeframeStrategy strategy;
     private final EnergyDataTimeframeStrategy energyDataTimeframeStrategy;
     private final DataNeedRuleSet dataNeedRuleSet;
+    private final Map<CalculationKey, MemoizedCalculation> calculations = new ConcurrentHashMap<>();
 
     /**
      * Uses {@link PermissionEndIsEnergyDataEndStrategy} for the {@link PermissionTimeframeStrategy} and {@link DefaultEnergyDataTimeframeStrategy} for the {@link EnergyDataTimeframeStrategy}.
@@ -96,6 +107,23 @@ public class DataNeedCalculationServiceImpl implements DataNeedCalculationServic
 
     @Override
     public DataNeedCalculationResult calculate(DataNeed dataNeed, ZonedDateTime referenceDateTime) {
+        var key = new CalculationKey(dataNeed.id(),
+                                     referenceDateTime.toLocalDate(),
+                                     referenceDateTime.getZone().normalized(),
+                                     LocalDate.now(ZoneOffset.UTC));
+        var memoized = calculations.get(key);
+        if (memoized != null && memoized.dataNeed() == dataNeed) {
+            return memoized.result();
+        }
+        var result = calculateUncached(dataNeed, referenceDateTime);
+        if (calculations.size() >= MAX_MEMOIZED_CALCULATIONS) {
+            calculations.clear();
+        }
+        calculations.put(key, new MemoizedCalculation(dataNeed, result));
+        return result;
+    }
+
+    private DataNeedCalculationResult calculateUncached(DataNeed dataNeed, ZonedDateTime referenceDateTime) {
         if (!dataNeed.isEnabled()) {
             return new DataNeedNotSupportedResult("Data need is disabled");
         }
@@ -308,4 +336,8 @@ public class DataNeedCalculationServiceImpl implements DataNeedCalculationServic
 
         return new DataNeedNotSupportedResult("Energy type is not supported");
     }
+
+    private record CalculationKey(String dataNeedId, LocalDate referenceDate, ZoneId zone, LocalDate today) {}
+
+    private record MemoizedCalculation(DataNeed dataNeed, DataNeedCalculationResult result) {}
 }
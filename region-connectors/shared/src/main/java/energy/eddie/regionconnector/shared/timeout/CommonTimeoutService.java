@@ -4,6 +4,7 @@
 package energy.eddie.regionconnector.shared.timeout;
 
 
+import energy.eddie.api.agnostic.process.model.events.PermissionEvent;
 import energy.eddie.api.agnostic.process.model.persistence.StalePermissionRequestRepository;
 import energy.eddie.api.v0.RegionConnectorMetadata;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
@@ -12,8 +13,12 @@ import energy.eddie.regionconnector.shared.event.sourcing.PermissionEventFactory
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class CommonTimeoutService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommonTimeoutService.class);
+    private static final int EVENTS_PER_COMMIT = 200;
     private final StalePermissionRequestRepository<?> repository;
     private final PermissionEventFactory factory;
     private final Outbox outbox;
@@ -39,6 +44,7 @@ public class CommonTimeoutService {
      * Depending on the status of the permission request, different events are emitted.
      * If the permission request has the status {@code VALIDATED} an event with the status {@code SENT_TO_PERMISSION_ADMINISTRATOR} and another event with the status {@code TIMED_OUT} are emitted.
      * If the permission request has the status {@code SENT_TO_PERMISSION_ADMINISTRATOR} only the timed-out event is emitted.
+     * The events are committed in batches.
      */
     @Timeout
     public void timeout() {
@@ -50,6 +56,7 @@ public class CommonTimeoutService {
               .addArgument(permissionRequests::size)
               .addArgument(duration)
               .log("{}: Found {} permission requests that have been stale for the last {} hours, starting timeout.");
+        List<PermissionEvent> events = new ArrayList<>();
         for (var pr : permissionRequests) {
             var permissionId = pr.permissionId();
             LOGGER.atInfo()
@@ -57,9 +64,14 @@ public class CommonTimeoutService {
                   .addArgument(permissionId)
                   .log("{}: Timing out permission request {}");
             if (pr.status() == PermissionProcessStatus.VALIDATED) {
-                outbox.commit(factory.create(permissionId, PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+                events.add(factory.create(permissionId, PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+            }
+            events.add(factory.create(permissionId, PermissionProcessStatus.TIMED_OUT));
+            if (events.size() >= EVENTS_PER_COMMIT) {
+                outbox.commitAll(events);
+                events = new ArrayList<>();
             }
-            outbox.commit(factory.create(permissionId, PermissionProcessStatus.TIMED_OUT));
         }
+        outbox.commitAll(events);
     }
 }
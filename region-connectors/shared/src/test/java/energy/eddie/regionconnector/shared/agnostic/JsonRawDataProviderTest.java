@@ -4,6 +4,7 @@
 package energy.eddie.regionconnector.shared.agnostic;
 
 import energy.eddie.api.agnostic.IdentifiablePayload;
+import energy.eddie.api.agnostic.RawPayload;
 import energy.eddie.api.agnostic.process.model.PermissionRequest;
 import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import energy.eddie.regionconnector.shared.permission.requests.SimplePermissionRequest;
@@ -12,6 +13,8 @@ import reactor.test.StepVerifier;
 import reactor.test.publisher.TestPublisher;
 import tools.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class JsonRawDataProviderTest {
@@ -45,6 +48,52 @@ class JsonRawDataProviderTest {
                     .verifyComplete();
     }
 
+    @Test
+    void rawDataProvider_forwardsJsonRawPayload() {
+        // Given
+        TestPublisher<IdentifiablePayload<PermissionRequest, String>> publisher = TestPublisher.create();
+        //noinspection ReactiveStreamsUnusedPublisher
+        var provider = new JsonRawDataProvider("at-eda", objectMapper, publisher.flux());
+        var pr = new SimplePermissionRequest("pid", "cid", "dnid", PermissionProcessStatus.ACCEPTED);
+        var body = "{ \"value\": 1 }".getBytes(StandardCharsets.UTF_8);
+        var payload = new IdentifiableRawPayload(pr, "parsed", new RawPayload(body, "application/json;charset=UTF-8"));
+
+        // Then
+        StepVerifier.create(provider.getRawDataStream())
+                    .then(() -> {
+                        publisher.next(payload);
+                        publisher.complete();
+                    })
+                    // When
+                    .assertNext(res -> assertEquals("{ \"value\": 1 }", res.rawPayload()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void rawDataProvider_serializesPayload_forNonJsonRawPayload() {
+        // Given
+        TestPublisher<IdentifiablePayload<PermissionRequest, String>> publisher = TestPublisher.create();
+        //noinspection ReactiveStreamsUnusedPublisher
+        var provider = new JsonRawDataProvider("at-eda", objectMapper, publisher.flux());
+        var pr = new SimplePermissionRequest("pid", "cid", "dnid", PermissionProcessStatus.ACCEPTED);
+        var body = "<value>1</value>".getBytes(StandardCharsets.UTF_8);
+        var payload = new IdentifiableRawPayload(pr, "parsed", new RawPayload(body, "application/xml"));
+
+        // Then
+        StepVerifier.create(provider.getRawDataStream())
+                    .then(() -> {
+                        publisher.next(payload);
+                        publisher.complete();
+                    })
+                    // When
+                    .assertNext(res -> assertEquals("\"parsed\"", res.rawPayload()))
+                    .verifyComplete();
+    }
+
     private record IdentifiableStringPayload(PermissionRequest permissionRequest,
                                              String payload) implements IdentifiablePayload<PermissionRequest, String> {}
-}
\ No newline at end of file
+
+    private record IdentifiableRawPayload(PermissionRequest permissionRequest,
+                                          String payload,
+                                          RawPayload rawPayload) implements IdentifiablePayload<PermissionRequest, String> {}
+}
@@ -8,6 +8,11 @@ import energy.eddie.cim.agnostic.PermissionProcessStatus;
 import org.junit.jupiter.api.Test;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
 @SuppressWarnings("resource")
@@ -78,4 +83,72 @@ class EventBusImplTest {
                 .expectNext(created)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEmitAll_emitsEventsInOrder() {
+        // given
+        EventBusImpl eventBus = new EventBusImpl();
+        PermissionEvent created = new TestEvent("pid", PermissionProcessStatus.CREATED);
+        PermissionEvent validated = new TestEvent("pid", PermissionProcessStatus.VALIDATED);
+
+        // when
+        StepVerifier.Step<PermissionEvent> step = StepVerifier.create(eventBus.filteredFlux(PermissionEvent.class))
+                .then(() -> {
+                          eventBus.emitAll(List.of(created, validated));
+                          eventBus.close();
+                      }
+                );
+
+        // then
+        step
+                .expectNext(created, validated)
+                .verifyComplete();
+    }
+
+    @Test
+    void testEmit_fromConcurrentThreads_emitsAllEvents() throws InterruptedException {
+        // given
+        EventBusImpl eventBus = new EventBusImpl();
+        var received = new AtomicInteger();
+        eventBus.filteredFlux(PermissionEvent.class).subscribe(ignored -> received.incrementAndGet());
+        var threads = new ArrayList<Thread>();
+
+        // when
+        for (var i = 0; i < 4; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (var j = 0; j < 250; j++) {
+                    eventBus.emit(new TestEvent("pid", PermissionProcessStatus.CREATED));
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(1000, received.get());
+    }
+
+    @Test
+    void testEmit_fromSubscriber_emitsEvent() {
+        // given
+        EventBusImpl eventBus = new EventBusImpl();
+        PermissionEvent created = new TestEvent("pid", PermissionProcessStatus.CREATED);
+        PermissionEvent validated = new TestEvent("pid", PermissionProcessStatus.VALIDATED);
+        eventBus.filteredFlux(PermissionProcessStatus.CREATED).subscribe(ignored -> eventBus.emit(validated));
+
+        // when
+        StepVerifier.Step<PermissionEvent> step = StepVerifier.create(
+                        eventBus.filteredFlux(PermissionProcessStatus.VALIDATED))
+                .then(() -> {
+                          eventBus.emit(created);
+                          eventBus.close();
+                      }
+                );
+
+        // then
+        step
+                .expectNext(validated)
+                .verifyComplete();
+    }
+}
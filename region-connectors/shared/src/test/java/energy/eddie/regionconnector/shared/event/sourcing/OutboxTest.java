@@ -10,6 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 
@@ -47,4 +51,107 @@ class OutboxTest {
         // Then
         verify(eventBus).emit(event);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCommitEvent_withProjection_savesEventViaProjection() {
+        // Given
+        PermissionEvent event = new TestEvent("pid", PermissionProcessStatus.CREATED);
+        var projection = mock(PermissionRequestProjection.class);
+        when(projection.save(event, eventRepository)).thenReturn(event);
+        Outbox outbox = new Outbox(eventBus, eventRepository, projection);
+
+        // When
+        outbox.commit(event);
+
+        // Then
+        verify(eventRepository, never()).saveAndFlush(event);
+        verify(eventBus).emit(event);
+    }
+
+    @Test
+    void testCommitAll_withoutProjection_emitsSavedEventsInOrder() {
+        // Given
+        PermissionEvent first = new TestEvent("pid1", PermissionProcessStatus.CREATED);
+        PermissionEvent second = new TestEvent("pid2", PermissionProcessStatus.CREATED);
+        PermissionEvent third = new TestEvent("pid3", PermissionProcessStatus.CREATED);
+        when(eventRepository.saveAndFlush(any()))
+                .thenAnswer(i -> i.getArgument(0) == second ? null : i.getArgument(0));
+        Outbox outbox = new Outbox(eventBus, eventRepository);
+
+        // When
+        outbox.commitAll(List.of(first, second, third));
+
+        // Then
+        verify(eventBus).emitAll(List.of(first, third));
+    }
+
+    @Test
+    void testCommitAll_withProjection_savesEventsTogether() {
+        // Given
+        PermissionEvent first = new TestEvent("pid1", PermissionProcessStatus.CREATED);
+        PermissionEvent second = new TestEvent("pid2", PermissionProcessStatus.CREATED);
+        var events = List.of(first, second);
+        var projection = mock(PermissionRequestProjection.class);
+        when(projection.saveAll(events, eventRepository)).thenReturn(events);
+        Outbox outbox = new Outbox(eventBus, eventRepository, projection);
+
+        // When
+        outbox.commitAll(events);
+
+        // Then
+        verify(eventBus).emitAll(events);
+        verify(projection, never()).save(any(), any());
+    }
+
+    @Test
+    void testCommitAll_whenBatchFails_commitsEventsOneByOne() {
+        // Given
+        PermissionEvent first = new TestEvent("pid1", PermissionProcessStatus.CREATED);
+        PermissionEvent second = new TestEvent("pid2", PermissionProcessStatus.CREATED);
+        var events = List.of(first, second);
+        var projection = mock(PermissionRequestProjection.class);
+        when(projection.saveAll(events, eventRepository)).thenThrow(new DataIntegrityViolationException("invalid"));
+        when(projection.save(first, eventRepository)).thenThrow(new DataIntegrityViolationException("invalid"));
+        when(projection.save(second, eventRepository)).thenReturn(second);
+        Outbox outbox = new Outbox(eventBus, eventRepository, projection);
+
+        // When
+        outbox.commitAll(events);
+
+        // Then
+        verify(eventBus, never()).emit(first);
+        verify(eventBus).emit(second);
+    }
+
+    @Test
+    void testCommitAll_whenBatchFailsOnCommit_commitsEventsOneByOne() {
+        // Given
+        PermissionEvent first = new TestEvent("pid1", PermissionProcessStatus.CREATED);
+        PermissionEvent second = new TestEvent("pid2", PermissionProcessStatus.CREATED);
+        var events = List.of(first, second);
+        var projection = mock(PermissionRequestProjection.class);
+        when(projection.saveAll(events, eventRepository)).thenThrow(new TransactionSystemException("commit failed"));
+        when(projection.save(first, eventRepository)).thenThrow(new TransactionSystemException("commit failed"));
+        when(projection.save(second, eventRepository)).thenReturn(second);
+        Outbox outbox = new Outbox(eventBus, eventRepository, projection);
+
+        // When
+        outbox.commitAll(events);
+
+        // Then
+        verify(eventBus, never()).emit(first);
+        verify(eventBus).emit(second);
+    }
+
+    @Test
+    void testCommitAll_withoutEvents_doesNothing() {
+        // Given
+        Outbox outbox = new Outbox(eventBus, eventRepository);
+
+        // When
+        outbox.commitAll(List.of());
+
+        // Then
+        verifyNoInteractions(eventBus, eventRepository);
+    }
+}
@@ -1,13 +1,16 @@
-// SPDX-FileCopyrightText: 2024 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-FileCopyrightText: 2024-2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
 // SPDX-License-Identifier: Apache-2.0
 
 package energy.eddie.regionconnector.shared.jwt;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -39,4 +42,28 @@ class JwtValidationsTest {
         // Then
         assertFalse(res);
     }
-}
\ No newline at end of file
+
+    @Test
+    void expiration_returnsExpirationDate() {
+        // Given
+        var expected = Instant.ofEpochSecond(5516239022L);
+
+        // When
+        var res = JwtValidations.expiration(VALID_REFRESH_TOKEN);
+
+        // Then
+        assertEquals(Optional.of(expected), res);
+    }
+
+    @Test
+    void expiration_withoutJwt_returnsEmpty() {
+        // Given
+        var jwt = "not a jwt";
+
+        // When
+        var res = JwtValidations.expiration(jwt);
+
+        // Then
+        assertEquals(Optional.empty(), res);
+    }
+}
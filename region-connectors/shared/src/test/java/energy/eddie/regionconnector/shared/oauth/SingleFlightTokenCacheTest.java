@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.oauth;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingleFlightTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private final SingleFlightTokenCache<String, String> cache = new SingleFlightTokenCache<>(
+            "test",
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(5),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @Test
+    void token_withConcurrentCalls_requestsTokenOnce() {
+        // Given
+        var calls = new AtomicInteger();
+        Sinks.One<ExpiringToken<String>> response = Sinks.one();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        };
+        var first = cache.token("client", request).toFuture();
+        var second = cache.token("client", request).toFuture();
+
+        // When
+        response.tryEmitValue(new ExpiringToken<>("token", NOW.plus(Duration.ofHours(1))));
+
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals("token", first.join());
+        assertEquals("token", second.join());
+    }
+
+    @Test
+    void token_withValidToken_returnsCachedToken() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> Mono.fromSupplier(
+                () -> new ExpiringToken<>("token-" + calls.incrementAndGet(), NOW.plus(Duration.ofHours(1)))
+        );
+        cache.token("client", request).block();
+
+        // When
+        var res = cache.token("client", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token-1")
+                    .verifyComplete();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void token_withDifferentCredentials_requestsTokenPerCredential() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> Mono.fromSupplier(
+                () -> new ExpiringToken<>("token-" + calls.incrementAndGet(), NOW.plus(Duration.ofHours(1)))
+        );
+        cache.token("client-1", request).block();
+
+        // When
+        var res = cache.token("client-2", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token-2")
+                    .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void token_withTokenAboutToExpire_returnsTokenAndRefreshesInBackground() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> Mono.fromSupplier(
+                () -> new ExpiringToken<>("token-" + calls.incrementAndGet(), NOW.plus(Duration.ofMinutes(3)))
+        );
+        cache.token("client", request).block();
+
+        // When
+        var res = cache.token("client", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token-1")
+                    .verifyComplete();
+        assertEquals(2, calls.get());
+        StepVerifier.create(cache.token("client", request))
+                    .expectNext("token-2")
+                    .verifyComplete();
+    }
+
+    @Test
+    void token_withFailingBackgroundRefresh_doesNotRetryImmediately() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> {
+            if (calls.incrementAndGet() == 1) {
+                return Mono.just(new ExpiringToken<>("token", NOW.plus(Duration.ofMinutes(3))));
+            }
+            return Mono.error(new IllegalStateException("unavailable"));
+        };
+        cache.token("client", request).block();
+        cache.token("client", request).block();
+
+        // When
+        var res = cache.token("client", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token")
+                    .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void token_withExpiredToken_requestsNewToken() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> Mono.fromSupplier(
+                () -> new ExpiringToken<>("token-" + calls.incrementAndGet(), NOW.plus(Duration.ofSeconds(30)))
+        );
+        cache.token("client", request).block();
+
+        // When
+        var res = cache.token("client", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token-2")
+                    .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void token_withFailedRequest_doesNotCacheError() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> {
+            if (calls.incrementAndGet() == 1) {
+                return Mono.error(new IllegalStateException("unavailable"));
+            }
+            return Mono.just(new ExpiringToken<>("token", NOW.plus(Duration.ofHours(1))));
+        };
+        StepVerifier.create(cache.token("client", request))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+
+        // When
+        var res = cache.token("client", request);
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("token")
+                    .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void invalidate_removesToken() {
+        // Given
+        var calls = new AtomicInteger();
+        Supplier<Mono<ExpiringToken<String>>> request = () -> Mono.fromSupplier(
+                () -> new ExpiringToken<>("token-" + calls.incrementAndGet(), NOW.plus(Duration.ofHours(1)))
+        );
+        cache.token("client", request).block();
+
+        // When
+        cache.invalidate("client");
+
+        // Then
+        StepVerifier.create(cache.token("client", request))
+                    .expectNext("token-2")
+                    .verifyComplete();
+    }
+}
@@ -0,0 +1,194 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveRateLimiterTest {
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(
+            "test",
+            new RateLimit(100, 100, 4),
+            scheduler,
+            () -> scheduler.now(TimeUnit.NANOSECONDS)
+    );
+
+    @Test
+    void filter_pausesCallsToEndpoint_untilRetryAfterPassed() {
+        // Given
+        var calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                                           .header(HttpHeaders.RETRY_AFTER, "5")
+                                           .build());
+        };
+        rateLimiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // When
+        rateLimiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // Then
+        assertEquals(1, calls.get());
+        scheduler.advanceTimeBy(Duration.ofSeconds(5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void filter_doesNotPauseOtherHosts_whenEndpointIsThrottled() {
+        // Given
+        var calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build());
+        };
+        rateLimiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // When
+        rateLimiter.filter(request("https://example.com/api"), next).subscribe();
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void filter_doesNotPauseCalls_onServiceUnavailable() {
+        // Given
+        var calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                                           .header(HttpHeaders.RETRY_AFTER, "5")
+                                           .build());
+        };
+        rateLimiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // When
+        rateLimiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void filter_pausesCalls_onConfiguredThrottlingStatus() {
+        // Given
+        var limiter = new AdaptiveRateLimiter("test",
+                                              new RateLimit(100, 100, 4, Set.of(429, 503)),
+                                              scheduler,
+                                              () -> scheduler.now(TimeUnit.NANOSECONDS));
+        var calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                                           .header(HttpHeaders.RETRY_AFTER, "5")
+                                           .build());
+        };
+        limiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // When
+        limiter.filter(request("https://localhost/api"), next).subscribe();
+
+        // Then
+        assertEquals(1, calls.get());
+        scheduler.advanceTimeBy(Duration.ofSeconds(5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void filter_releasesPermit_whenCallFails() {
+        // Given
+        var limiter = new AdaptiveRateLimiter("test",
+                                              new RateLimit(100, 100, 1),
+                                              scheduler,
+                                              () -> scheduler.now(TimeUnit.NANOSECONDS));
+        var calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("connection refused"));
+        };
+        limiter.filter(request("https://localhost/api"), next).subscribe(ignored -> {}, ignored -> {});
+
+        // When
+        limiter.filter(request("https://localhost/api"), next).subscribe(ignored -> {}, ignored -> {});
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void parseRetryAfter_parsesSeconds() {
+        // Given
+        var now = Instant.now();
+
+        // When
+        var res = AdaptiveRateLimiter.parseRetryAfter("120", now);
+
+        // Then
+        assertEquals(Optional.of(Duration.ofMinutes(2)), res);
+    }
+
+    @Test
+    void parseRetryAfter_parsesHttpDate() {
+        // Given
+        var now = Instant.parse("2026-01-01T12:00:00Z");
+
+        // When
+        var res = AdaptiveRateLimiter.parseRetryAfter("Thu, 01 Jan 2026 12:00:30 GMT", now);
+
+        // Then
+        assertEquals(Optional.of(Duration.ofSeconds(30)), res);
+    }
+
+    @Test
+    void parseRetryAfter_returnsZero_forDateInThePast() {
+        // Given
+        var now = Instant.parse("2026-01-01T12:00:00Z");
+
+        // When
+        var res = AdaptiveRateLimiter.parseRetryAfter("Thu, 01 Jan 2026 11:00:00 GMT", now);
+
+        // Then
+        assertEquals(Optional.of(Duration.ZERO), res);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"soon", " "})
+    void parseRetryAfter_returnsEmpty_forInvalidValues(String value) {
+        // Given
+        var now = Instant.now();
+
+        // When
+        var res = AdaptiveRateLimiter.parseRetryAfter(value, now);
+
+        // Then
+        assertEquals(Optional.empty(), res);
+    }
+
+    private static ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitLaneTest {
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final List<RateLimitLane.Permit> permits = new ArrayList<>();
+
+    @Test
+    void acquire_admitsBurstImmediately_andFurtherCallsAtTheRate() {
+        // Given
+        var lane = lane(new RateLimit(2, 2, 10));
+
+        // When
+        acquire(lane, 3);
+
+        // Then
+        assertEquals(2, permits.size());
+        scheduler.advanceTimeBy(Duration.ofMillis(499));
+        assertEquals(2, permits.size());
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+        assertEquals(3, permits.size());
+        assertTrue(permits.getLast().queued());
+    }
+
+    @Test
+    void acquire_waitsForFinishedCall_ifConcurrencyLimitIsReached() {
+        // Given
+        var lane = lane(new RateLimit(100, 100, 2));
+        acquire(lane, 3);
+
+        // When
+        permits.getFirst().release(RateLimitLane.Outcome.SUCCESS, Duration.ZERO);
+
+        // Then
+        assertEquals(3, permits.size());
+    }
+
+    @Test
+    void release_throttled_halvesConcurrencyLimitAndPauses() {
+        // Given
+        var lane = lane(new RateLimit(100, 100, 4));
+        acquire(lane, 1);
+
+        // When
+        permits.getFirst().release(RateLimitLane.Outcome.THROTTLED, Duration.ofSeconds(5));
+        acquire(lane, 1);
+
+        // Then
+        assertEquals(2, lane.concurrencyLimit());
+        assertEquals(1, permits.size());
+        scheduler.advanceTimeBy(Duration.ofSeconds(5));
+        assertEquals(2, permits.size());
+    }
+
+    @Test
+    void release_success_increasesConcurrencyLimitAdditively() {
+        // Given
+        var lane = lane(new RateLimit(100, 100, 4));
+        acquire(lane, 1);
+        permits.getFirst().release(RateLimitLane.Outcome.THROTTLED, Duration.ZERO);
+        acquire(lane, 2);
+
+        // When
+        permits.get(1).release(RateLimitLane.Outcome.SUCCESS, Duration.ZERO);
+        permits.get(2).release(RateLimitLane.Outcome.SUCCESS, Duration.ZERO);
+
+        // Then
+        assertEquals(2.9, lane.concurrencyLimit(), 1e-9);
+    }
+
+    @Test
+    void acquire_cancelledCall_doesNotTakeAPermit() {
+        // Given
+        var lane = lane(new RateLimit(100, 100, 1));
+        acquire(lane, 1);
+        Disposable waiting = lane.acquire().subscribe(permits::add);
+
+        // When
+        waiting.dispose();
+        permits.getFirst().release(RateLimitLane.Outcome.SUCCESS, Duration.ZERO);
+        acquire(lane, 1);
+
+        // Then
+        assertAll(
+                () -> assertEquals(0, lane.waiting()),
+                () -> assertEquals(2, permits.size())
+        );
+    }
+
+    private RateLimitLane lane(RateLimit rateLimit) {
+        return new RateLimitLane(rateLimit, scheduler, () -> scheduler.now(TimeUnit.NANOSECONDS));
+    }
+
+    private void acquire(RateLimitLane lane, int calls) {
+        for (var i = 0; i < calls; i++) {
+            lane.acquire().subscribe(permits::add);
+        }
+    }
+}
@@ -6,6 +6,7 @@ package energy.eddie.regionconnector.shared.services;
 import energy.eddie.api.agnostic.Granularity;
 import energy.eddie.api.agnostic.data.needs.*;
 import energy.eddie.api.agnostic.process.model.MeterReadingPermissionRequest;
+import energy.eddie.api.agnostic.process.model.persistence.PagedStatusPermissionRequestRepository;
 import energy.eddie.api.agnostic.process.model.persistence.StatusPermissionRequestRepository;
 import energy.eddie.api.v0.RegionConnectorMetadata;
 import energy.eddie.cim.agnostic.DataSourceInformation;
@@ -16,6 +17,7 @@ import energy.eddie.dataneeds.needs.ValidatedHistoricalDataDataNeed;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
@@ -24,9 +26,11 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 
 import static org.mockito.Mockito.*;
 
@@ -34,7 +38,8 @@ import static org.mockito.Mockito.*;
 class CommonFutureDataServiceTest {
     @Mock
     private RegionConnectorMetadata metadata;
-    @Mock
+    // Calls the default implementation of pollAllTimeSeriesData, which polls each permission request
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private CommonPollingService<MeterReadingPermissionRequest> pollingService;
     @Mock
     private StatusPermissionRequestRepository<MeterReadingPermissionRequest> repository;
@@ -70,10 +75,12 @@ class CommonFutureDataServiceTest {
     void fetchMeterReadings_invokesPollingService_forActivePermissionsThatNeedToBePolled() {
         // Given
         LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
-        var validPr1 = createPermissionRequest(today.minusDays(1),
+        var validPr1 = createPermissionRequest("pID1",
+                                               today.minusDays(1),
                                                today,
                                                Optional.empty()); //Permission: start = yesterday, end = today, no latest meter reading
-        var validPr2 = createPermissionRequest(today.minusDays(2),
+        var validPr2 = createPermissionRequest("pID2",
+                                               today.minusDays(2),
                                                today,
                                                Optional.of(today.minusDays(1))); //Permission: start = 2 days ago, end = today, latest meter reading = yesterday
         when(repository.findByStatus(PermissionProcessStatus.ACCEPTED))
@@ -88,6 +95,7 @@ class CommonFutureDataServiceTest {
 
         // Then
         verify(repository).findByStatus(PermissionProcessStatus.ACCEPTED);
+        verify(pollingService).pollAllTimeSeriesData(List.of(validPr1, validPr2));
         verify(pollingService).pollTimeSeriesData(validPr1);
         verify(pollingService).pollTimeSeriesData(validPr2);
     }
@@ -95,10 +103,12 @@ class CommonFutureDataServiceTest {
     @Test
     void fetchMeterReadings_doesNotInvokePollingService_IfPermissionIsActiveButDoesNotNeedToBeFetched() {
         LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
-        var invalidPr1 = createPermissionRequest(today.minusDays(1),
+        var invalidPr1 = createPermissionRequest("pID1",
+                                                 today.minusDays(1),
                                                  today.plusDays(1),
                                                  Optional.of(today)); //Permission: start = yesterday, end = tomorrow, latest meter reading = today, data is already up to date
-        var invalidPr2 = createPermissionRequest(today.plusDays(1),
+        var invalidPr2 = createPermissionRequest("pID2",
+                                                 today.plusDays(1),
                                                  today.plusDays(2),
                                                  Optional.empty()); //Permission: start = tomorrow, end = day after tomorrow, inactive
         // Given
@@ -122,7 +132,8 @@ class CommonFutureDataServiceTest {
     void fetchMeterReadings_doesNotInvokePollingService_forPermissionRequestWithWrongDataNeed() {
         // Given
         LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
-        var validPr = createPermissionRequest(today.minusDays(1),
+        var validPr = createPermissionRequest("pID",
+                                              today.minusDays(1),
                                               today,
                                               Optional.empty()); //Permission: start = yesterday, end = today, no latest meter reading
         when(repository.findByStatus(PermissionProcessStatus.ACCEPTED))
@@ -138,6 +149,113 @@ class CommonFutureDataServiceTest {
         verify(pollingService, never()).pollTimeSeriesData(any());
     }
 
+    @Test
+    void fetchMeterReadings_checksDuplicatePermissionRequestOnlyOnce() {
+        // Given
+        LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
+        var pr = createPermissionRequest("pID", today.minusDays(1), today, Optional.empty());
+        when(repository.findByStatus(PermissionProcessStatus.ACCEPTED)).thenReturn(List.of(pr, pr));
+        when(pollingService.isActiveAndNeedsToBeFetched(pr)).thenReturn(true);
+        when(calculationService.calculate("dnID")).thenReturn(createValidatedHistoricalDataNeedResult());
+
+        // When
+        service.fetchMeterData();
+
+        // Then
+        verify(pollingService).isActiveAndNeedsToBeFetched(pr);
+        verify(pollingService).pollAllTimeSeriesData(List.of(pr));
+    }
+
+    @Test
+    void fetchMeterReadings_pollsOtherPermissionRequests_ifCheckFails() {
+        // Given
+        LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
+        var failingPr = createPermissionRequest("pID1", today.minusDays(1), today, Optional.empty());
+        var validPr = createPermissionRequest("pID2", today.minusDays(1), today, Optional.empty());
+        when(repository.findByStatus(PermissionProcessStatus.ACCEPTED)).thenReturn(List.of(failingPr, validPr));
+        when(pollingService.isActiveAndNeedsToBeFetched(failingPr)).thenThrow(new IllegalStateException("Failure"));
+        when(pollingService.isActiveAndNeedsToBeFetched(validPr)).thenReturn(true);
+        when(calculationService.calculate("dnID")).thenReturn(createValidatedHistoricalDataNeedResult());
+
+        // When
+        service.fetchMeterData();
+
+        // Then
+        verify(pollingService).pollAllTimeSeriesData(List.of(validPr));
+        verify(pollingService, never()).pollTimeSeriesData(failingPr);
+    }
+
+    @Test
+    void fetchMeterReadings_readsPagedRepositoryInPages() {
+        // Given
+        LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
+        var prs = new ArrayList<MeterReadingPermissionRequest>();
+        for (var i = 0; i < 501; i++) {
+            prs.add(createPermissionRequest("pID%03d".formatted(i), today.minusDays(1), today, Optional.empty()));
+        }
+        var pagedRepository = new PagedStatusPermissionRequestRepository<MeterReadingPermissionRequest>() {
+            @Override
+            public List<MeterReadingPermissionRequest> findPageByStatus(
+                    PermissionProcessStatus status,
+                    String afterPermissionId,
+                    int limit
+            ) {
+                return prs.stream()
+                          .filter(pr -> pr.permissionId().compareTo(afterPermissionId) > 0)
+                          .limit(limit)
+                          .toList();
+            }
+
+            @Override
+            public List<MeterReadingPermissionRequest> findByStatus(PermissionProcessStatus status) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        var pagedService = new CommonFutureDataService<>(pollingService,
+                                                         pagedRepository,
+                                                         "0 0 17 * * *",
+                                                         metadata,
+                                                         new SimpleAsyncTaskScheduler(),
+                                                         calculationService);
+        when(pollingService.isActiveAndNeedsToBeFetched(any())).thenReturn(true);
+        when(calculationService.calculate("dnID")).thenReturn(createValidatedHistoricalDataNeedResult());
+
+        // When
+        pagedService.fetchMeterData();
+
+        // Then
+        verify(pollingService).pollAllTimeSeriesData(prs.subList(0, 500));
+        verify(pollingService).pollAllTimeSeriesData(List.of(prs.getLast()));
+    }
+
+    @Test
+    void fetchMeterReadings_skipsRun_whilePreviousRunIsInProgress() throws InterruptedException {
+        // Given
+        LocalDate today = LocalDate.now(ZoneId.of("Europe/Brussels"));
+        var pr = createPermissionRequest("pID", today.minusDays(1), today, Optional.empty());
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(repository.findByStatus(PermissionProcessStatus.ACCEPTED)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of(pr);
+        });
+        when(pollingService.isActiveAndNeedsToBeFetched(pr)).thenReturn(true);
+        when(calculationService.calculate("dnID")).thenReturn(createValidatedHistoricalDataNeedResult());
+        var firstRun = new Thread(service::fetchMeterData);
+        firstRun.start();
+        started.await();
+
+        // When
+        service.fetchMeterData();
+        release.countDown();
+        firstRun.join();
+
+        // Then
+        verify(repository).findByStatus(PermissionProcessStatus.ACCEPTED);
+        verify(pollingService).pollAllTimeSeriesData(List.of(pr));
+    }
+
     private static ValidatedHistoricalDataDataNeedResult createValidatedHistoricalDataNeedResult() {
         var today = LocalDate.now(ZoneOffset.UTC);
         var dataNeed = new ValidatedHistoricalDataDataNeed(new RelativeDuration(null, null, null),
@@ -151,6 +269,7 @@ class CommonFutureDataServiceTest {
     }
 
     private static MeterReadingPermissionRequest createPermissionRequest(
+            String permissionId,
             LocalDate startDate,
             LocalDate endDate,
             @SuppressWarnings("OptionalUsedAsFieldOrParameterType") Optional<LocalDate> latestMeterReading
@@ -159,7 +278,7 @@ class CommonFutureDataServiceTest {
 
             @Override
             public String permissionId() {
-                return "pID";
+                return permissionId;
             }
 
             @Override
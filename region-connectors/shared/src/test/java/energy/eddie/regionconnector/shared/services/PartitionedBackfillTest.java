@@ -0,0 +1,133 @@
+// SPDX-FileCopyrightText: 2026 The EDDIE Developers <eddie.developers@fh-hagenberg.at>
+// SPDX-License-Identifier: Apache-2.0
+
+package energy.eddie.regionconnector.shared.services;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PartitionedBackfillTest {
+    private final Map<Integer, Sinks.One<String>> responses = new ConcurrentHashMap<>();
+
+    @Test
+    void fetch_emitsResultsInOrderOfPartitions() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 3, 10);
+        var results = new ArrayList<String>();
+        backfill.fetch(List.of(1, 2, 3), this::response)
+                .subscribe(results::add);
+
+        // When
+        complete(3);
+        complete(2);
+        complete(1);
+
+        // Then
+        assertEquals(List.of("partition-1", "partition-2", "partition-3"), results);
+    }
+
+    @Test
+    void fetch_limitsPartitionsOfBackfill() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 2, 10);
+
+        // When
+        backfill.fetch(List.of(1, 2, 3, 4), this::response)
+                .subscribe();
+
+        // Then
+        assertEquals(2, responses.size());
+        complete(1);
+        assertEquals(3, responses.size());
+    }
+
+    @Test
+    void fetch_limitsPartitionsOfAllBackfills() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 2, 2);
+        backfill.fetch(List.of(1, 2), this::response)
+                .subscribe();
+
+        // When
+        backfill.fetch(List.of(3, 4), this::response)
+                .subscribe();
+
+        // Then
+        assertEquals(2, responses.size());
+        assertEquals(2, backfill.waiting());
+        complete(2);
+        assertEquals(3, responses.size());
+        assertEquals(2, backfill.inProgress());
+    }
+
+    @Test
+    void fetch_releasesSlot_whenCancelled() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 2, 2);
+        var subscription = backfill.fetch(List.of(1, 2), this::response)
+                                   .subscribe();
+
+        // When
+        subscription.dispose();
+
+        // Then
+        assertEquals(0, backfill.inProgress());
+    }
+
+    @Test
+    void fetch_retriesFailedPartition() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 2, 2);
+        var attempts = new AtomicInteger();
+
+        // When
+        var res = backfill.fetch(
+                List.of(1),
+                partition -> attempts.incrementAndGet() == 1
+                        ? Mono.<String>error(new IllegalStateException("unavailable"))
+                        : Mono.just("partition-" + partition),
+                Retry.max(1)
+        );
+
+        // Then
+        StepVerifier.create(res)
+                    .expectNext("partition-1")
+                    .verifyComplete();
+        assertEquals(2, attempts.get());
+        assertEquals(0, backfill.inProgress());
+    }
+
+    @Test
+    void fetch_withFailingPartition_emitsError() {
+        // Given
+        var backfill = new PartitionedBackfill("test", 2, 2);
+
+        // When
+        var res = backfill.fetch(List.of(1, 2), partition -> Mono.<String>error(new IllegalStateException("unavailable")));
+
+        // Then
+        StepVerifier.create(res)
+                    .expectError(IllegalStateException.class)
+                    .verify();
+        assertEquals(0, backfill.inProgress());
+    }
+
+    private Mono<String> response(int partition) {
+        return responses.computeIfAbsent(partition, ignored -> Sinks.one()).asMono();
+    }
+
+    private void complete(int partition) {
+        responses.get(partition).tryEmitValue("partition-" + partition);
+    }
+}
@@ -29,12 +29,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 
+import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static energy.eddie.dataneeds.rules.DataNeedRule.AccountingPointDataNeedRule;
@@ -221,6 +224,93 @@ class DataNeedCalculationServiceImplTest {
         assertInstanceOf(DataNeedNotSupportedResult.class, res);
     }
 
+    @Test
+    void givenSameDataNeedAndReferenceDate_calculate_returnsMemoizedResult() {
+        // Given
+        var value = new ValidatedHistoricalDataDataNeed(
+                new RelativeDuration(Period.ofDays(-10), Period.ofDays(-1), null),
+                EnergyType.ELECTRICITY,
+                Granularity.PT15M,
+                Granularity.P1D
+        );
+        var calculations = new AtomicInteger();
+        var calculationService = new DataNeedCalculationServiceImpl(
+                dataNeedsService,
+                metadata,
+                new PermissionEndIsEnergyDataEndStrategy(),
+                (dn, dt) -> {
+                    calculations.incrementAndGet();
+                    return new Timeframe(dt.toLocalDate().minusDays(10), dt.toLocalDate().minusDays(1));
+                },
+                () -> List.of(new ValidatedHistoricalDataDataNeedRule(
+                        EnergyType.ELECTRICITY,
+                        List.of(Granularity.PT15M, Granularity.P1D)
+                ))
+        );
+        var first = calculationService.calculate(value);
+
+        // When
+        var res = calculationService.calculate(value);
+
+        // Then
+        assertSame(first, res);
+        assertEquals(1, calculations.get());
+    }
+
+    @Test
+    void givenSameInstantInDifferentTimeZones_calculate_recalculatesResult() {
+        // Given
+        var value = new ValidatedHistoricalDataDataNeed(
+                new RelativeDuration(Period.ofDays(-10), Period.ofDays(-1), null),
+                EnergyType.ELECTRICITY,
+                Granularity.PT15M,
+                Granularity.P1D
+        );
+        var calculations = new AtomicInteger();
+        var calculationService = new DataNeedCalculationServiceImpl(
+                dataNeedsService,
+                metadata,
+                new PermissionEndIsEnergyDataEndStrategy(),
+                (dn, dt) -> {
+                    calculations.incrementAndGet();
+                    return new Timeframe(dt.toLocalDate().minusDays(10), dt.toLocalDate().minusDays(1));
+                },
+                () -> List.of(new ValidatedHistoricalDataDataNeedRule(
+                        EnergyType.ELECTRICITY,
+                        List.of(Granularity.PT15M, Granularity.P1D)
+                ))
+        );
+        var utc = ZonedDateTime.now(ZoneOffset.UTC).with(LocalTime.of(23, 30));
+        calculationService.calculate(value, utc);
+
+        // When
+        calculationService.calculate(value, utc.withZoneSameInstant(ZoneId.of("Europe/Vienna")));
+
+        // Then
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void givenNewDataNeedInstance_calculate_recalculatesResult() {
+        // Given
+        when(dataNeedsService.findById("dnid"))
+                .thenReturn(Optional.of(accountingPointDataNeed))
+                .thenReturn(Optional.of(new AccountingPointDataNeed()));
+        when(accountingPointDataNeed.isEnabled()).thenReturn(false);
+        var calculationService = new DataNeedCalculationServiceImpl(
+                dataNeedsService,
+                metadata,
+                () -> List.of(new AccountingPointDataNeedRule())
+        );
+        calculationService.calculate("dnid");
+
+        // When
+        var res = calculationService.calculate("dnid");
+
+        // Then
+        assertInstanceOf(AccountingPointDataNeedResult.class, res);
+    }
+
     @Test
     void givenValidatedHistoricalDataDataNeed_withUnsupportedGranularities_returnsUnsupportedDataNeedResult() {
         // Given
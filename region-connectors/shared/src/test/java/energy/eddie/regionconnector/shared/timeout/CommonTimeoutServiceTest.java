@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -40,7 +41,7 @@ class CommonTimeoutServiceTest {
     @InjectMocks
     private CommonTimeoutService timeoutService;
     @Captor
-    private ArgumentCaptor<PermissionEvent> eventCaptor;
+    private ArgumentCaptor<List<PermissionEvent>> eventCaptor;
 
     @Test
     void testTimeout_emitsSentToPAEventAndTimeoutEvents_whenPermissionRequestHasStatusValidated() {
@@ -59,14 +60,16 @@ class CommonTimeoutServiceTest {
         timeoutService.timeout();
 
         // Then
-        verify(outbox, times(2)).commit(eventCaptor.capture());
-        var res1 = eventCaptor.getValue();
+        verify(outbox).commitAll(eventCaptor.capture());
+        var events = eventCaptor.getValue();
+        assertEquals(2, events.size());
+        var res1 = events.getLast();
         assertAll(
                 () -> assertEquals("pid", res1.permissionId()),
                 () -> assertEquals(PermissionProcessStatus.TIMED_OUT, res1.status())
         );
 
-        var res2 = eventCaptor.getAllValues().getFirst();
+        var res2 = events.getFirst();
         assertAll(
                 () -> assertEquals("pid", res2.permissionId()),
                 () -> assertEquals(PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR, res2.status())
@@ -89,11 +92,38 @@ class CommonTimeoutServiceTest {
         timeoutService.timeout();
 
         // Then
-        verify(outbox, times(1)).commit(eventCaptor.capture());
-        var res = eventCaptor.getValue();
+        verify(outbox).commitAll(eventCaptor.capture());
+        var res = eventCaptor.getValue().getFirst();
         assertAll(
                 () -> assertEquals("pid", res.permissionId()),
                 () -> assertEquals(PermissionProcessStatus.TIMED_OUT, res.status())
         );
     }
+
+    @Test
+    void testTimeout_commitsEventsInBatches() {
+        // Given
+        var prs = new ArrayList<PermissionRequest>();
+        for (var i = 0; i < 250; i++) {
+            prs.add(new SimplePermissionRequest("pid" + i,
+                                                "cid",
+                                                "dnid",
+                                                PermissionProcessStatus.SENT_TO_PERMISSION_ADMINISTRATOR));
+        }
+        when(repository.findStalePermissionRequests(168))
+                .thenReturn(prs);
+        when(factory.create(any(), any()))
+                .thenReturn(new TestEvent("pid", PermissionProcessStatus.TIMED_OUT));
+
+        // When
+        timeoutService.timeout();
+
+        // Then
+        verify(outbox, times(2)).commitAll(eventCaptor.capture());
+        assertAll(
+                () -> assertEquals(200, eventCaptor.getAllValues().getFirst().size()),
+                () -> assertEquals(50, eventCaptor.getAllValues().getLast().size())
+        );
+        verify(outbox, never()).commit(any());
+    }
 }
\ No newline at end of file